@@ -1,14 +1,36 @@
 package dev.vpendischuk.mapper.json;
 
 import dev.vpendischuk.mapper.Mapper;
+import dev.vpendischuk.mapper.json.binding.JsonArrayIterator;
+import dev.vpendischuk.mapper.json.binding.JsonBinder;
+import dev.vpendischuk.mapper.json.binding.JsonLinesSpliterator;
+import dev.vpendischuk.mapper.json.binding.JsonSerializer;
+import dev.vpendischuk.mapper.json.binding.NonBlockingJsonBinder;
+import dev.vpendischuk.mapper.json.enums.MapperFeature;
 import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
 import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
-import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.util.DefaultJsonParser;
 import dev.vpendischuk.mapper.json.util.DefaultJsonReader;
+import dev.vpendischuk.mapper.json.util.JsonParser;
 import dev.vpendischuk.mapper.json.util.JsonReader;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
+import dev.vpendischuk.mapper.json.util.MappedFileJsonReader;
+import dev.vpendischuk.mapper.json.util.StringJsonWriter;
+import dev.vpendischuk.mapper.json.util.StructuralIndexJsonReader;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+import dev.vpendischuk.mapper.json.util.Utf8JsonWriter;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides an implementation of the {@code Mapper} interface
@@ -26,11 +48,25 @@ import java.nio.charset.StandardCharsets;
  *
  * // does not maintain references
  * JsonMapper jsonMapper2 = new JsonMapper(false);
+ *
+ * // maintains references, reads files by mapping them into memory
+ * JsonMapper jsonMapper3 = new JsonMapper(true, MapperFeature.MEMORY_MAPPED_FILES);
+ *
+ * // does not maintain references, indexes the input before parsing it
+ * JsonMapper jsonMapper4 = new JsonMapper(false, MapperFeature.STRUCTURAL_INDEX);
+ *
+ * // does not maintain references, binds arrays of objects in parallel
+ * JsonMapper jsonMapper5 = new JsonMapper(false, MapperFeature.PARALLEL_ARRAYS);
+ *
+ * // does not maintain references, writes properties in declaration order
+ * JsonMapper jsonMapper6 = new JsonMapper(false, MapperFeature.DECLARATION_ORDER);
  * </pre>
  */
 public class JsonMapper implements Mapper {
     // Flags which denotes if references should be maintained.
     private final boolean retainIdentity;
+    // Optional features enabled for the mapper.
+    private final Set<MapperFeature> features;
 
     /**
      * Initializes a new {@code JsonMapper} instance with specified settings.
@@ -49,7 +85,28 @@ public class JsonMapper implements Mapper {
      *                       should be maintained for objects.
      */
     public JsonMapper(boolean retainIdentity) {
+        this(retainIdentity, new MapperFeature[0]);
+    }
+
+    /**
+     * Initializes a new {@code JsonMapper} instance with specified settings and optional features.
+     * <p>
+     * Initialization example:
+     *
+     * <pre>
+     * // maintains references, reads files by mapping them into memory
+     * JsonMapper jsonMapper = new JsonMapper(true, MapperFeature.MEMORY_MAPPED_FILES);
+     * </pre>
+     *
+     * @param retainIdentity flag that denotes if reference equality
+     *                       should be maintained for objects.
+     * @param features optional features enabled for the mapper.
+     * @see MapperFeature
+     */
+    public JsonMapper(boolean retainIdentity, MapperFeature... features) {
         this.retainIdentity = retainIdentity;
+        this.features = EnumSet.noneOf(MapperFeature.class);
+        this.features.addAll(Arrays.asList(features));
     }
 
     /**
@@ -91,14 +148,18 @@ public class JsonMapper implements Mapper {
      */
     @Override
     public <T> T readFromString(Class<T> clazz, String input) throws JsonReadException {
-        JsonReader reader = new DefaultJsonReader(input, retainIdentity);
-        JsonObject readObject = new JsonObject(reader);
-        return readObject.toValue(clazz);
+        if (bindsArraysInParallel()) {
+            return createBinder(input.getBytes(StandardCharsets.UTF_8)).readObject(clazz);
+        }
+
+        return new JsonBinder(createReader(input)).readObject(clazz);
     }
 
     /**
      * Reads {@code clazz} instance from specified {@code inputStream} JSON
      *   input stream and returns the read instance.
+     * <p>
+     * The stream data is expected to be UTF-8 encoded.
      *
      * <p>
      * Note: Class represented by the {@code clazz} parameter must have
@@ -137,15 +198,157 @@ public class JsonMapper implements Mapper {
      */
     @Override
     public <T> T read(Class<T> clazz, InputStream inputStream) throws JsonReadException, IOException {
-        JsonReader reader = new DefaultJsonReader(new InputStreamReader(inputStream), retainIdentity);
-        JsonObject readObject = new JsonObject(reader);
+        JsonBinder binder = readsFully()
+                ? createBinder(inputStream.readAllBytes())
+                : new JsonBinder(new Utf8JsonReader(inputStream, retainIdentity));
+        T readObject = binder.readObject(clazz);
         inputStream.close();
-        return readObject.toValue(clazz);
+        return readObject;
+    }
+
+    /**
+     * Reads a JSON array of {@code clazz} instances from the {@code inputStream}
+     *   JSON input stream and returns the read instances.
+     * <p>
+     * The stream data is expected to be UTF-8 encoded. If the {@code PARALLEL_ARRAYS}
+     *   feature is enabled, the elements are bound in parallel and keep their order.
+     * <p>
+     * Call example:
+     *
+     * <pre>
+     * JsonMapper jsonMapper = new JsonMapper(false, MapperFeature.PARALLEL_ARRAYS);
+     * List&lt;Foo&gt; restored = jsonMapper.readArray(Foo.class, new FileInputStream("/dir/file"));
+     * </pre>
+     *
+     * @param clazz class of the array elements.
+     * @param inputStream input stream that provides a JSON array of {@code clazz} instances.
+     * @param <T> type of the returned instances.
+     * @return list of the {@code clazz} instances in the order of the array.
+     * @throws JsonReadException if the JSON could not be read or JSON model was invalid.
+     * @throws IOException on input/output error.
+     */
+    public <T> List<T> readArray(Class<T> clazz, InputStream inputStream) throws JsonReadException, IOException {
+        JsonBinder binder = readsFully()
+                ? createBinder(inputStream.readAllBytes())
+                : new JsonBinder(new Utf8JsonReader(inputStream, retainIdentity));
+        List<T> readObjects = binder.readArray(clazz);
+        inputStream.close();
+        return readObjects;
+    }
+
+    /**
+     * Reads {@code clazz} instances from the {@code inputStream} input stream of newline-delimited
+     *   JSON (NDJSON, JSON Lines), where every line holds a JSON representation of an instance.
+     * <p>
+     * The returned stream is lazy: the input is read incrementally in batches of lines
+     *   as the instances are consumed. A parallel stream binds the batches of lines on
+     *   its workers, keeping the order of the lines if it is required by the operations;
+     *   if reference equality is maintained, the lines are bound sequentially.
+     *   The stream data is expected to be UTF-8 encoded. Closing the returned stream
+     *   closes the {@code inputStream}.
+     * <p>
+     * Call example:
+     *
+     * <pre>
+     * JsonMapper jsonMapper = new JsonMapper(false);
+     * try (Stream&lt;Foo&gt; foos = jsonMapper.readLines(Foo.class, new FileInputStream("/dir/log.ndjson"))) {
+     *     long count = foos.parallel().filter(foo -&gt; foo.name != null).count();
+     * }
+     * </pre>
+     *
+     * @param clazz class, the instances of which are saved in the lines.
+     * @param inputStream input stream that provides the lines.
+     * @param <T> type of the returned instances.
+     * @return stream of the {@code clazz} instances in the order of the lines.
+     */
+    public <T> Stream<T> readLines(Class<T> clazz, InputStream inputStream) {
+        JsonLinesSpliterator<T> spliterator = new JsonLinesSpliterator<>(clazz, inputStream, retainIdentity);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Returns an iterator over the {@code clazz} instances of a root-level JSON array
+     *   read from the {@code inputStream} JSON input stream.
+     * <p>
+     * Every element is bound when it is requested by the iterator, so the memory used
+     *   does not depend on the amount of elements. The stream data is expected to be
+     *   UTF-8 encoded. Closing the returned iterator closes the {@code inputStream}.
+     * <p>
+     * Call example:
+     *
+     * <pre>
+     * JsonMapper jsonMapper = new JsonMapper(false);
+     * try (JsonArrayIterator&lt;Foo&gt; foos = jsonMapper.iterate(Foo.class, new FileInputStream("/dir/file"))) {
+     *     while (foos.hasNext()) {
+     *         System.out.println(foos.next().name);
+     *     }
+     * }
+     * </pre>
+     *
+     * @param clazz class of the array elements.
+     * @param inputStream input stream that provides a JSON array of {@code clazz} instances.
+     * @param <T> type of the returned instances.
+     * @return iterator over the {@code clazz} instances in the order of the array.
+     */
+    public <T> JsonArrayIterator<T> iterate(Class<T> clazz, InputStream inputStream) {
+        return new JsonArrayIterator<>(clazz, inputStream, retainIdentity);
+    }
+
+    /**
+     * Reads only the specified {@code properties} of a {@code clazz} instance from
+     *   the {@code inputStream} JSON input stream and returns the read instance.
+     * <p>
+     * Values of other keys are skipped without being parsed, and the stream is
+     *   not read any further as soon as every requested property was read.
+     *   Properties that were not read keep the values set by the parameterless constructor
+     *   of a class, or get {@code null}, zero or {@code false} in a record.
+     *   Object references are not restored. The stream data is expected to be UTF-8 encoded.
+     * <p>
+     * Call example:
+     *
+     * <pre>
+     * &#64;Exported
+     * Class Header {
+     *     public String route;
+     *     public long id;
+     *     public List&lt;Item&gt; body;
+     *
+     *     public Header() { }
+     * }
+     *
+     * JsonMapper jsonMapper = new JsonMapper(false);
+     * Header header = jsonMapper.readProjected(Header.class, stream, Set.of("route", "id"));
+     * </pre>
+     *
+     * @param clazz class, the instance of which is saved in the JSON.
+     * @param inputStream input stream that provides a JSON representation of a {@code clazz} instance.
+     * @param properties JSON keys of the properties that are read.
+     * @param <T> type of the returned instance.
+     * @return {@code clazz} instance with the requested properties read from the stream.
+     * @throws JsonReadException if the JSON could not be read.
+     * @throws JsonMappingException if a requested key does not denote a property of the class
+     *                              or the properties could not be bound.
+     * @throws IOException on input/output error.
+     */
+    public <T> T readProjected(Class<T> clazz, InputStream inputStream, Set<String> properties)
+            throws JsonReadException, JsonMappingException, IOException {
+        JsonReader reader = new Utf8JsonReader(inputStream, retainIdentity);
+        T readObject = new JsonBinder(reader).readProjected(clazz, properties);
+        inputStream.close();
+        return readObject;
     }
 
     /**
      * Reads {@code clazz} instance from specified {@code file} file that contains
      *   a JSON data string and returns the read instance.
+     * <p>
+     * The file data is expected to be UTF-8 encoded.
+     * <p>
+     * If the {@code PARALLEL_ARRAYS} feature is enabled and identity is not retained,
+     *   the file is read fully, indexed and its arrays of objects are bound in parallel.
+     *   Otherwise, if the {@code MEMORY_MAPPED_FILES} feature is enabled, the file is mapped
+     *   into memory and parsed directly from the mapped regions. Otherwise, if the
+     *   {@code STRUCTURAL_INDEX} feature is enabled, the file is read fully and indexed.
      *
      * <p>
      * Note: Class represented by the {@code clazz} parameter must have
@@ -181,11 +384,140 @@ public class JsonMapper implements Mapper {
      */
     @Override
     public <T> T read(Class<T> clazz, File file) throws JsonReadException, IOException {
-        FileReader fileReader = new FileReader(file);
-        JsonReader reader = new DefaultJsonReader(fileReader, retainIdentity);
-        JsonObject readObject = new JsonObject(reader);
-        fileReader.close();
-        return readObject.toValue(clazz);
+        if (features.contains(MapperFeature.MEMORY_MAPPED_FILES) && !bindsArraysInParallel()) {
+            try (MappedFileJsonReader reader = new MappedFileJsonReader(file, retainIdentity)) {
+                return new JsonBinder(reader).readObject(clazz);
+            }
+        }
+
+        if (readsFully()) {
+            return createBinder(Files.readAllBytes(file.toPath())).readObject(clazz);
+        }
+
+        try (FileInputStream fileStream = new FileInputStream(file)) {
+            JsonReader reader = new Utf8JsonReader(fileStream, retainIdentity);
+            return new JsonBinder(reader).readObject(clazz);
+        }
+    }
+
+    /**
+     * Creates a pull parser that reads tokens of the specified {@code input} JSON string.
+     * <p>
+     * Call example:
+     *
+     * <pre>
+     * JsonMapper jsonMapper = new JsonMapper(false);
+     * JsonParser parser = jsonMapper.createParser("{\"ids\":[1, 2, 3]}");
+     * long sum = 0;
+     * for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+     *     if (token == JsonToken.VALUE_NUMBER) {
+     *         sum += parser.getLong();
+     *     }
+     * }
+     * </pre>
+     *
+     * @param input JSON string.
+     * @return parser that reads the tokens of the {@code input}.
+     * @see JsonParser
+     */
+    public JsonParser createParser(String input) {
+        return new DefaultJsonParser(createReader(input));
+    }
+
+    /**
+     * Creates a pull parser that reads tokens of the UTF-8 encoded JSON
+     *   received from the specified {@code inputStream} input stream.
+     * <p>
+     * The stream is not closed by the parser.
+     *
+     * @param inputStream input stream that provides the JSON data.
+     * @return parser that reads the tokens of the JSON data.
+     * @see JsonParser
+     */
+    public JsonParser createParser(InputStream inputStream) {
+        return new DefaultJsonParser(new Utf8JsonReader(inputStream, retainIdentity));
+    }
+
+    /**
+     * Creates a non-blocking binder that reads {@code clazz} instances from UTF-8 encoded
+     *   JSON objects supplied in chunks, passing every object to the {@code consumer}
+     *   as soon as its last byte is received.
+     * <p>
+     * Call example:
+     *
+     * <pre>
+     * JsonMapper jsonMapper = new JsonMapper(false);
+     * NonBlockingJsonBinder&lt;Foo&gt; binder = jsonMapper.createNonBlockingBinder(Foo.class, foos::add);
+     * binder.feed("{\"name\":\"Ja".getBytes(StandardCharsets.UTF_8));
+     * binder.feed("son\"}".getBytes(StandardCharsets.UTF_8)); // foos now contains the object
+     * binder.endOfInput();
+     * </pre>
+     *
+     * @param clazz class, the instances of which are saved in the JSON.
+     * @param consumer consumer that receives the read instances.
+     * @param <T> type of the read instances.
+     * @return the binder.
+     * @see NonBlockingJsonBinder
+     */
+    public <T> NonBlockingJsonBinder<T> createNonBlockingBinder(Class<T> clazz, Consumer<? super T> consumer) {
+        return new NonBlockingJsonBinder<>(clazz, retainIdentity, consumer);
+    }
+
+    /**
+     * Checks if arrays of objects are bound in parallel.
+     *
+     * @return {@code true} if the {@code PARALLEL_ARRAYS} feature is enabled and identity is not retained.
+     */
+    private boolean bindsArraysInParallel() {
+        return features.contains(MapperFeature.PARALLEL_ARRAYS) && !retainIdentity;
+    }
+
+    /**
+     * Checks if the input is read fully before being parsed.
+     *
+     * @return {@code true} if the input is indexed before being parsed.
+     */
+    private boolean readsFully() {
+        return features.contains(MapperFeature.STRUCTURAL_INDEX) || bindsArraysInParallel();
+    }
+
+    /**
+     * Creates a binder of the specified UTF-8 encoded JSON data that is read fully,
+     *   binding arrays in parallel if the {@code PARALLEL_ARRAYS} feature is enabled.
+     *
+     * @param data UTF-8 encoded JSON data.
+     * @return the binder.
+     */
+    private JsonBinder createBinder(byte[] data) {
+        StructuralIndexJsonReader reader = new StructuralIndexJsonReader(data, retainIdentity);
+
+        return bindsArraysInParallel() ? new JsonBinder(reader, ForkJoinPool.commonPool()) : new JsonBinder(reader);
+    }
+
+    /**
+     * Creates a reader of the specified {@code input} JSON string that
+     *   is selected according to the enabled features.
+     *
+     * @param input JSON string.
+     * @return the reader.
+     */
+    private JsonReader createReader(String input) {
+        if (features.contains(MapperFeature.STRUCTURAL_INDEX)) {
+            return new StructuralIndexJsonReader(input.getBytes(StandardCharsets.UTF_8), retainIdentity);
+        }
+
+        return new DefaultJsonReader(input, retainIdentity);
+    }
+
+    /**
+     * Creates a serializer that writes to the specified writer,
+     *   writing properties in declaration order if the {@code DECLARATION_ORDER} feature is enabled.
+     *
+     * @param writer the writer.
+     * @return the serializer.
+     */
+    private JsonSerializer createSerializer(JsonWriter writer) {
+        return new JsonSerializer(writer, retainIdentity, features.contains(MapperFeature.DECLARATION_ORDER));
     }
 
     /**
@@ -226,9 +558,18 @@ public class JsonMapper implements Mapper {
      */
     @Override
     public String writeToString(Object object) throws JsonMappingException {
-        JsonObject jsonObject = new JsonObject(object, retainIdentity);
+        // The text is collected in a pooled buffer, which is reused by the next call on the thread.
+        StringJsonWriter writer = new StringJsonWriter();
 
-        return jsonObject.toString();
+        try {
+            createSerializer(writer).writeObject(object);
+            return writer.toString();
+        } catch (IOException ex) {
+            // A string writer does not throw, the exception is only declared by the interface.
+            throw new UncheckedIOException(ex);
+        } finally {
+            writer.close();
+        }
     }
 
     /**
@@ -241,6 +582,12 @@ public class JsonMapper implements Mapper {
      *   and also must not be a parameterized type or a non-static inner class.
      * </p>
      * <p>
+     * The JSON is written to the stream while the object graph is walked, without building a model first.
+     *   If the object cannot be marshalled, for example because of a reference cycle
+     *   or a property of an unsupported type, the text written before the error remains in the stream.
+     *   The stream is closed in any case.
+     * </p>
+     * <p>
      * Call example:
      *
      * <pre>
@@ -271,10 +618,14 @@ public class JsonMapper implements Mapper {
      */
     @Override
     public void write(Object object, OutputStream outputStream) throws IOException, JsonMappingException {
-        JsonObject jsonObject = new JsonObject(object, retainIdentity);
-        byte[] data = jsonObject.toString().getBytes(StandardCharsets.UTF_8);
-        outputStream.write(data);
-        outputStream.close();
+        // The object graph is encoded into the stream as it is walked, without building a model.
+        JsonWriter writer = new Utf8JsonWriter(outputStream);
+
+        try {
+            createSerializer(writer).writeObject(object);
+        } finally {
+            writer.close();
+        }
     }
 
     /**
@@ -287,6 +638,10 @@ public class JsonMapper implements Mapper {
      *   and also must not be a parameterized type or a non-static inner class.
      * </p>
      * <p>
+     * If the object cannot be marshalled, the file holds the text written before the error,
+     *   as with {@link #write(Object, OutputStream)}.
+     * </p>
+     * <p>
      * Call example:
      *
      * <pre>
@@ -317,8 +672,8 @@ public class JsonMapper implements Mapper {
      */
     @Override
     public void write(Object object, File file) throws IOException, JsonMappingException {
-        FileOutputStream output = new FileOutputStream(file, false);
-        write(object, output);
-        output.close();
+        try (FileOutputStream output = new FileOutputStream(file, false)) {
+            write(object, output);
+        }
     }
 }
@@ -0,0 +1,430 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.DateFormat;
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.annotations.PropertyName;
+import dev.vpendischuk.mapper.json.annotations.enums.UnknownPropertiesPolicy;
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Describes how JSON properties are bound to an {@link Exported} class:
+ *   the JSON key of every field or record component, its type and
+ *   the constructors used to instantiate the class.
+ * <p>
+ * Plans are built once per class via reflection and cached, so binding
+ *   an object only requires a key lookup per property.
+ */
+final class BindingPlan {
+    // Cache of plans built for classes.
+    private static final ClassValue<BindingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return new BindingPlan(type);
+        }
+    };
+
+    // Class the plan is built for.
+    private final Class<?> type;
+    // Flag that denotes if the class is a record.
+    private final boolean isRecord;
+    // Flag that denotes if the unknown properties policy is set to ignore.
+    private final boolean tolerateUnknown;
+    // Properties of the class in declaration order.
+    private final Property[] properties;
+    // 'JSON key' - 'property' map.
+    private final Map<String, Property> propertiesByKey;
+    // Parameterless constructor of a class (null for records).
+    private final Constructor<?> defaultConstructor;
+    // Constructors of a record (null for classes).
+    private final RecordConstructor[] recordConstructors;
+    // Canonical constructor of a record, which takes all components in order (null for classes).
+    private final RecordConstructor canonicalConstructor;
+
+    /**
+     * Represents a field or a record component bound to a JSON key.
+     */
+    static final class Property {
+        // Index of the property in the plan.
+        final int index;
+        // Name of the field or the component.
+        final String name;
+        // Class of the property value.
+        final Class<?> type;
+        // Generic type of the property value.
+        final Type genericType;
+        // Date format of a datetime property (null if not specified).
+        final String dateFormat;
+        // The field set by the binder (null for record components).
+        final Field field;
+        // Flag that denotes if the field is reset to null when its key is missing and unknown properties are ignored.
+        final boolean resetWhenMissing;
+
+        /**
+         * Initializes a new {@link Property} instance.
+         *
+         * @param index index of the property in the plan.
+         * @param name name of the field or the component.
+         * @param type class of the property value.
+         * @param genericType generic type of the property value.
+         * @param dateFormat date format of a datetime property.
+         * @param field the field set by the binder or {@code null} for record components.
+         * @param resetWhenMissing flag that denotes if the field is reset to null when its key is missing.
+         */
+        Property(int index, String name, Class<?> type, Type genericType, String dateFormat,
+                 Field field, boolean resetWhenMissing) {
+            this.index = index;
+            this.name = name;
+            this.type = type;
+            this.genericType = genericType;
+            this.dateFormat = dateFormat;
+            this.field = field;
+            this.resetWhenMissing = resetWhenMissing;
+        }
+    }
+
+    /**
+     * Represents a record constructor with its parameters resolved to property indexes.
+     */
+    static final class RecordConstructor {
+        // The constructor.
+        final Constructor<?> constructor;
+        // Indexes of the properties passed as parameters (-1 for parameters that are not components).
+        final int[] parameterIndexes;
+        // Names of the parameters.
+        final String[] parameterNames;
+        // Types of the parameters.
+        final Class<?>[] parameterTypes;
+
+        /**
+         * Initializes a new {@link RecordConstructor} instance.
+         *
+         * @param constructor the constructor.
+         * @param propertiesByName 'component name' - 'property' map.
+         */
+        RecordConstructor(Constructor<?> constructor, Map<String, Property> propertiesByName) {
+            this.constructor = constructor;
+            Parameter[] parameters = constructor.getParameters();
+            parameterIndexes = new int[parameters.length];
+            parameterNames = new String[parameters.length];
+            parameterTypes = constructor.getParameterTypes();
+
+            for (int i = 0; i < parameters.length; ++i) {
+                parameterNames[i] = parameters[i].getName();
+                Property property = propertiesByName.get(parameterNames[i]);
+                parameterIndexes[i] = property == null ? -1 : property.index;
+            }
+        }
+    }
+
+    /**
+     * Returns the cached plan for the specified class, building it on first use.
+     *
+     * @param type the class.
+     * @return the binding plan.
+     * @throws JsonMappingException if the class cannot be bound.
+     */
+    static BindingPlan of(Class<?> type) throws JsonMappingException {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Builds a new {@link BindingPlan} instance for the specified class.
+     *
+     * @param type the class.
+     * @throws JsonMappingException if the class cannot be bound.
+     */
+    private BindingPlan(Class<?> type) throws JsonMappingException {
+        checkClassSupport(type);
+
+        this.type = type;
+        isRecord = type.isRecord();
+        tolerateUnknown =
+                type.getAnnotation(Exported.class).unknownPropertiesPolicy() == UnknownPropertiesPolicy.IGNORE;
+        propertiesByKey = new HashMap<>();
+
+        if (isRecord) {
+            properties = recordProperties(type);
+            defaultConstructor = null;
+
+            Map<String, Property> propertiesByName = new HashMap<>();
+            for (final Property property : properties) {
+                propertiesByName.put(property.name, property);
+            }
+
+            Constructor<?>[] constructors = type.getDeclaredConstructors();
+            recordConstructors = new RecordConstructor[constructors.length];
+            RecordConstructor canonical = null;
+            for (int i = 0; i < constructors.length; ++i) {
+                constructors[i].setAccessible(true);
+                recordConstructors[i] = new RecordConstructor(constructors[i], propertiesByName);
+
+                if (isCanonical(recordConstructors[i])) {
+                    canonical = recordConstructors[i];
+                }
+            }
+            canonicalConstructor = canonical;
+        } else {
+            properties = classProperties(type);
+            recordConstructors = null;
+            canonicalConstructor = null;
+
+            try {
+                defaultConstructor = type.getConstructor();
+                defaultConstructor.trySetAccessible();
+            } catch (NoSuchMethodException ex) {
+                throw new JsonMappingException("[JSON Object Error] Object type invalid: " +
+                        "Class " + type.getName() + " parameterless constructor not found.");
+            }
+        }
+    }
+
+    /**
+     * Checks if a record constructor takes all components of the record in declaration order.
+     *
+     * @param recordConstructor the constructor.
+     * @return {@code true} if the constructor is canonical.
+     */
+    private boolean isCanonical(RecordConstructor recordConstructor) {
+        if (recordConstructor.parameterIndexes.length != properties.length) {
+            return false;
+        }
+
+        for (int i = 0; i < properties.length; ++i) {
+            if (recordConstructor.parameterTypes[i] != properties[i].type) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if the class is supported for unmarshalling.
+     *
+     * @param type the checked class.
+     * @throws JsonMappingException if the class is unsupported or invalid.
+     */
+    private static void checkClassSupport(Class<?> type) throws JsonMappingException {
+        if (!type.isAnnotationPresent(Exported.class)) {
+            throw new JsonMappingException("[JSON Object Error] Object type invalid: " +
+                    "Exported annotation not found.");
+        }
+
+        if (type.getTypeParameters().length != 0) {
+            throw new JsonMappingException("[JSON Object Error] Object type invalid: " +
+                    "Generic types are not supported.");
+        }
+
+        if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
+            throw new JsonMappingException("[JSON Object Error] Object type invalid: " +
+                    "Non-static inner classes are not supported.");
+        }
+    }
+
+    /**
+     * Builds the properties of a class from its declared non-static fields.
+     *
+     * @param type the class.
+     * @return the properties in declaration order.
+     * @throws JsonMappingException if a property name duplicates the name of another field.
+     */
+    private Property[] classProperties(Class<?> type) throws JsonMappingException {
+        List<Property> propertyList = new ArrayList<>();
+        boolean isPublicClass = Modifier.isPublic(type.getModifiers());
+
+        for (final Field field : type.getDeclaredFields()) {
+            String key = field.getName();
+
+            if (field.isAnnotationPresent(PropertyName.class)) {
+                key = field.getAnnotation(PropertyName.class).value();
+
+                try {
+                    if (!type.getDeclaredField(key).equals(field)) {
+                        throw new JsonMappingException("[JSON Object Error] Illegal property naming: " +
+                                "Field " + field.getName() + " annotation name duplicates the name of another field.");
+                    }
+                } catch (NoSuchFieldException ignored) { }
+            }
+
+            if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+
+            // Only fields that are accessible without suppressing access checks are reset.
+            int modifiers = field.getModifiers();
+            boolean resetWhenMissing = isPublicClass && Modifier.isPublic(modifiers) &&
+                    !Modifier.isFinal(modifiers) && !field.getType().isPrimitive();
+
+            field.trySetAccessible();
+            String dateFormat = field.isAnnotationPresent(DateFormat.class) ?
+                    field.getAnnotation(DateFormat.class).value() : null;
+
+            Property property = new Property(propertyList.size(), field.getName(), field.getType(),
+                    field.getGenericType(), dateFormat, field, resetWhenMissing);
+            propertyList.add(property);
+            propertiesByKey.put(key, property);
+        }
+
+        return propertyList.toArray(new Property[0]);
+    }
+
+    /**
+     * Builds the properties of a record from its components.
+     *
+     * @param type the record class.
+     * @return the properties in declaration order.
+     * @throws JsonMappingException if a property name duplicates the name of another component.
+     */
+    private Property[] recordProperties(Class<?> type) throws JsonMappingException {
+        RecordComponent[] components = type.getRecordComponents();
+        Property[] recordProperties = new Property[components.length];
+
+        for (int i = 0; i < components.length; ++i) {
+            RecordComponent component = components[i];
+            String key = component.getName();
+
+            if (component.isAnnotationPresent(PropertyName.class)) {
+                key = component.getAnnotation(PropertyName.class).value();
+
+                for (final RecordComponent other : components) {
+                    if (other.getName().equals(key) && !other.equals(component)) {
+                        throw new JsonMappingException("[JSON Object Error] Illegal property naming: " +
+                                "Field " + component.getName() + " annotation name duplicates the name of another field.");
+                    }
+                }
+            }
+
+            String dateFormat = component.isAnnotationPresent(DateFormat.class) ?
+                    component.getAnnotation(DateFormat.class).value() : null;
+
+            recordProperties[i] = new Property(i, component.getName(), component.getType(),
+                    component.getGenericType(), dateFormat, null, false);
+            propertiesByKey.put(key, recordProperties[i]);
+        }
+
+        return recordProperties;
+    }
+
+    /**
+     * Returns the class the plan is built for.
+     *
+     * @return the class.
+     */
+    Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Checks if the class is a record.
+     *
+     * @return {@code true} if the class is a record.
+     */
+    boolean isRecord() {
+        return isRecord;
+    }
+
+    /**
+     * Checks if missing properties are tolerated.
+     *
+     * @return {@code true} if the unknown properties policy is set to ignore.
+     */
+    boolean tolerateUnknown() {
+        return tolerateUnknown;
+    }
+
+    /**
+     * Returns the properties of the class in declaration order.
+     *
+     * @return the properties.
+     */
+    Property[] properties() {
+        return properties;
+    }
+
+    /**
+     * Returns the JSON keys of the properties.
+     *
+     * @return the keys.
+     */
+    Set<String> keys() {
+        return propertiesByKey.keySet();
+    }
+
+    /**
+     * Returns the property bound to specified JSON key.
+     *
+     * @param key the JSON key.
+     * @return the property or {@code null} if the key is unknown.
+     */
+    Property property(String key) {
+        return propertiesByKey.get(key);
+    }
+
+    /**
+     * Instantiates a class via its parameterless constructor.
+     *
+     * @return the new instance.
+     * @throws JsonMappingException if the instance could not be created.
+     */
+    Object newInstance() throws JsonMappingException {
+        try {
+            return defaultConstructor.newInstance();
+        } catch (InvocationTargetException | InstantiationException | IllegalAccessException ex) {
+            throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                    "Could not instantiate object of class " + type + ".", ex);
+        }
+    }
+
+    /**
+     * Selects the record constructor that is valid for the present properties:
+     *   the last declared constructor, all parameters of which are present,
+     *   or any constructor if missing properties are tolerated.
+     *
+     * @param present flags that denote which properties are present in the JSON.
+     * @param keyCount total amount of keys of the object, including the reference keys.
+     * @return the selected constructor.
+     * @throws JsonMappingException if a valid constructor could not be found.
+     */
+    RecordConstructor recordConstructor(boolean[] present, int keyCount) throws JsonMappingException {
+        RecordConstructor selected = null;
+
+        for (final RecordConstructor recordConstructor : recordConstructors) {
+            if (recordConstructor.parameterIndexes.length == 0 && keyCount != 0) {
+                continue;
+            }
+
+            boolean isValidConstructor = true;
+            if (!tolerateUnknown) {
+                for (final int index : recordConstructor.parameterIndexes) {
+                    if (index < 0 || !present[index]) {
+                        isValidConstructor = false;
+                        break;
+                    }
+                }
+            }
+
+            if (isValidConstructor) {
+                selected = recordConstructor;
+            }
+        }
+
+        if (selected == null) {
+            throw new JsonMappingException("[JSON Object Error] Object model invalid: " +
+                    "Record class " + type.getName() + " constructor not found for presented arguments.");
+        }
+
+        return selected;
+    }
+
+    /**
+     * Returns the canonical constructor of a record, which takes all components in declaration order.
+     *
+     * @return the canonical constructor or {@code null} for classes.
+     */
+    RecordConstructor canonicalConstructor() {
+        return canonicalConstructor;
+    }
+}
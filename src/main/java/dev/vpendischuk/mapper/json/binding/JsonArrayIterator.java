@@ -0,0 +1,145 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.DefaultJsonParser;
+import dev.vpendischuk.mapper.json.util.JsonParser;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the elements of a root-level JSON array of {@link Exported} objects
+ *   read from a stream of UTF-8 encoded bytes.
+ * <p>
+ * The stream is read incrementally: every element is bound when it is requested,
+ *   so only the element that is currently read is kept in memory, regardless of
+ *   the length of the array. Nested arrays cannot be assigned to the element class
+ *   and are omitted.
+ * <p>
+ * Usage example:
+ * <pre>
+ * try (JsonArrayIterator&lt;Foo&gt; foos = new JsonArrayIterator&lt;&gt;(Foo.class, stream, false)) {
+ *     while (foos.hasNext()) {
+ *         handle(foos.next());
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> type of the bound elements.
+ */
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+    // Class of the bound elements.
+    private final Class<T> elementClass;
+    // Stream the array is read from.
+    private final InputStream inputStream;
+    // Parser used to read the JSON tokens.
+    private final JsonParser parser;
+    // Binder used to bind the elements.
+    private final JsonBinder binder;
+    // Flag that denotes if the opening bracket of the array was read.
+    private boolean started;
+    // Flag that denotes if the closing bracket of the array was read.
+    private boolean finished;
+    // Token that starts the next element (null if it was not read yet).
+    private JsonToken nextToken;
+
+    /**
+     * Initializes a new {@link JsonArrayIterator} instance that reads the array from the specified stream.
+     *
+     * @param elementClass class of the bound elements.
+     * @param inputStream stream that provides a UTF-8 encoded JSON array.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    public JsonArrayIterator(Class<T> elementClass, InputStream inputStream, boolean retainIdentity) {
+        Utf8JsonReader reader = new Utf8JsonReader(inputStream, retainIdentity);
+
+        this.elementClass = elementClass;
+        this.inputStream = inputStream;
+        parser = new DefaultJsonParser(reader);
+        binder = new JsonBinder(parser, reader.getReferenceResolver());
+        started = false;
+        finished = false;
+        nextToken = null;
+    }
+
+    /**
+     * Checks if the array has more elements, reading the first token of the next element.
+     *
+     * @return {@code true} if the array has more elements.
+     * @throws JsonReadException if the array could not be read.
+     */
+    @Override
+    public boolean hasNext() throws JsonReadException {
+        if (finished) {
+            return false;
+        }
+
+        if (nextToken != null) {
+            return true;
+        }
+
+        if (!started) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw parser.syntaxError("[JSON Array Error] Syntax error: no array delimiter bracket found.");
+            }
+            started = true;
+        }
+
+        JsonToken token = parser.nextToken();
+        while (token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            token = parser.nextToken();
+        }
+
+        if (token == null) {
+            throw parser.syntaxError("[JSON Array Error] Syntax error: no closing bracket found.");
+        }
+
+        if (token == JsonToken.END_ARRAY) {
+            finished = true;
+            if (parser.nextToken() != null) {
+                throw parser.syntaxError("[JSON Array Error] Syntax error: unexpected data after the array.");
+            }
+            return false;
+        }
+
+        nextToken = token;
+        return true;
+    }
+
+    /**
+     * Binds the next element of the array.
+     *
+     * @return the element, which is {@code null} for JSON {@code null} values.
+     * @throws NoSuchElementException if the array has no more elements.
+     * @throws JsonReadException if the element could not be read.
+     * @throws JsonMappingException if the element could not be bound to the class.
+     */
+    @Override
+    public T next() throws JsonReadException, JsonMappingException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        JsonToken token = nextToken;
+        nextToken = null;
+        return elementClass.cast(binder.bindValue(token, elementClass));
+    }
+
+    /**
+     * Closes the stream the array is read from.
+     *
+     * @throws IOException if the stream could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+}
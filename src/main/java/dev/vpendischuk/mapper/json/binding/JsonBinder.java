@@ -0,0 +1,770 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.exceptions.InvalidTimeFormatException;
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.types.JsonValue;
+import dev.vpendischuk.mapper.json.types.TypeResolver;
+import dev.vpendischuk.mapper.json.util.DefaultJsonParser;
+import dev.vpendischuk.mapper.json.util.JsonMapReferenceResolver;
+import dev.vpendischuk.mapper.json.util.JsonParser;
+import dev.vpendischuk.mapper.json.util.JsonReader;
+import dev.vpendischuk.mapper.json.util.StructuralIndexJsonReader;
+import dev.vpendischuk.mapper.json.util.SymbolTable;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Binds JSON data directly to instances of {@link Exported} classes.
+ * <p>
+ * Values are read from a {@link JsonParser} token by token and are assigned
+ *   to fields or collected as record constructor arguments as soon as they are read,
+ *   without constructing a {@link dev.vpendischuk.mapper.json.types.JsonObject} model.
+ * <p>
+ * Follows the same rules as {@link dev.vpendischuk.mapper.json.types.JsonObject#toValue(Class)}:
+ *   property names, date formats, unknown properties policies and object references
+ *   are handled the same way.
+ * <p>
+ * If a binder is created over a {@link StructuralIndexJsonReader} with a {@link ForkJoinPool},
+ *   arrays of objects are bound in parallel: the element limits are found in the structural
+ *   index, the elements are split into chunks of about {@value #PARALLEL_CHUNK_SIZE} bytes,
+ *   and every chunk is bound by a separate task of the pool. The elements keep their order.
+ *   Arrays are bound sequentially if reference equality is maintained.
+ * <p>
+ * Usage example:
+ * <pre>
+ * JsonBinder binder = new JsonBinder(new DefaultJsonReader("{\"name\":\"Jason\"}", true));
+ * Foo restored = binder.readObject(Foo.class);
+ *
+ * JsonBinder parallelBinder = new JsonBinder(new StructuralIndexJsonReader(data, false), ForkJoinPool.commonPool());
+ * List&lt;Foo&gt; foos = parallelBinder.readArray(Foo.class);
+ * </pre>
+ */
+public class JsonBinder {
+    // Default values of primitive types.
+    private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = Map.of(
+            boolean.class, false,
+            char.class, '\0',
+            byte.class, (byte) 0,
+            short.class, (short) 0,
+            int.class, 0,
+            long.class, 0L,
+            float.class, 0.0f,
+            double.class, 0.0);
+
+    // Approximate amount of bytes of array elements bound by a single parallel task.
+    static final int PARALLEL_CHUNK_SIZE = 64 * 1024;
+
+    // Parser used to read the JSON tokens.
+    private final JsonParser parser;
+    // Reference resolver used to restore object references.
+    private final JsonMapReferenceResolver mapReferenceResolver;
+    // Plans, the keys of which were added to the symbol table of the parser.
+    private final Set<BindingPlan> seededPlans;
+    // Reader used to find the elements of arrays bound in parallel (null if arrays are bound sequentially).
+    private final StructuralIndexJsonReader indexedReader;
+    // Pool that binds the chunks of arrays (null if arrays are bound sequentially).
+    private final ForkJoinPool pool;
+
+    /**
+     * Initializes a new {@link JsonBinder} instance that reads JSON via specified reader.
+     *
+     * @param reader reader used to obtain the JSON data.
+     */
+    public JsonBinder(JsonReader reader) {
+        this(new DefaultJsonParser(reader), reader.getReferenceResolver());
+    }
+
+    /**
+     * Initializes a new {@link JsonBinder} instance that reads JSON via specified reader
+     *   and binds arrays of objects in parallel on specified pool.
+     *
+     * @param reader reader used to obtain the JSON data.
+     * @param pool pool used to bind the chunks of arrays.
+     */
+    public JsonBinder(StructuralIndexJsonReader reader, ForkJoinPool pool) {
+        this(new DefaultJsonParser(reader), reader.getReferenceResolver(),
+                reader.getIdentityRetainFlag() ? null : reader, pool);
+    }
+
+    /**
+     * Initializes a new {@link JsonBinder} instance that reads tokens from specified parser.
+     *
+     * @param parser parser used to read the JSON tokens.
+     * @param mapReferenceResolver reference resolver used to restore object references.
+     */
+    public JsonBinder(JsonParser parser, JsonMapReferenceResolver mapReferenceResolver) {
+        this(parser, mapReferenceResolver, null, null);
+    }
+
+    /**
+     * Initializes a new {@link JsonBinder} instance with specified parameters.
+     *
+     * @param parser parser used to read the JSON tokens.
+     * @param mapReferenceResolver reference resolver used to restore object references.
+     * @param indexedReader reader used to find the elements of arrays or {@code null} for sequential binding.
+     * @param pool pool used to bind the chunks of arrays.
+     */
+    private JsonBinder(JsonParser parser, JsonMapReferenceResolver mapReferenceResolver,
+                       StructuralIndexJsonReader indexedReader, ForkJoinPool pool) {
+        this.parser = parser;
+        this.mapReferenceResolver = mapReferenceResolver;
+        this.indexedReader = indexedReader;
+        this.pool = pool;
+        seededPlans = new HashSet<>();
+    }
+
+    /**
+     * Reads the next JSON object and binds it to a new {@code objectClass} instance.
+     *
+     * @param objectClass class of the object.
+     * @param <T> type of the object.
+     * @return the read object.
+     * @throws JsonReadException if JSON could not be read successfully.
+     * @throws JsonMappingException if the object could not be bound to the class.
+     */
+    public <T> T readObject(Class<T> objectClass) throws JsonReadException, JsonMappingException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw parser.syntaxError("[JSON Object Error] Syntax error: no object delimiter bracket found.");
+        }
+
+        return objectClass.cast(bindObject(BindingPlan.of(objectClass)));
+    }
+
+    /**
+     * Reads the next JSON object of a sequence of concatenated objects
+     *   and binds it to a new {@code objectClass} instance.
+     *
+     * @param objectClass class of the object.
+     * @param <T> type of the object.
+     * @return the read object or {@code null} if the end of data was reached.
+     * @throws JsonReadException if JSON could not be read successfully.
+     * @throws JsonMappingException if the object could not be bound to the class.
+     */
+    public <T> T readNextObject(Class<T> objectClass) throws JsonReadException, JsonMappingException {
+        JsonToken token = parser.nextToken();
+
+        if (token == null) {
+            return null;
+        }
+
+        if (token != JsonToken.START_OBJECT) {
+            throw parser.syntaxError("[JSON Object Error] Syntax error: no object delimiter bracket found.");
+        }
+
+        return objectClass.cast(bindObject(BindingPlan.of(objectClass)));
+    }
+
+    /**
+     * Reads the next JSON array and binds its elements to instances of {@code elementClass}.
+     * <p>
+     * Nested arrays cannot be assigned to the element class and are omitted.
+     *
+     * @param elementClass class of the elements.
+     * @param <T> type of the elements.
+     * @return list of the read elements in the order of the array.
+     * @throws JsonReadException if JSON could not be read successfully.
+     * @throws JsonMappingException if an element could not be bound to the class.
+     */
+    public <T> List<T> readArray(Class<T> elementClass) throws JsonReadException, JsonMappingException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw parser.syntaxError("[JSON Array Error] Syntax error: no array delimiter bracket found.");
+        }
+
+        List<T> elements = new ArrayList<>();
+        for (final Object element : bindElements(elementClass, new ArrayList<>())) {
+            elements.add(elementClass.cast(element));
+        }
+
+        return elements;
+    }
+
+    /**
+     * Reads the next JSON object and binds only the specified properties of it
+     *   to a new {@code objectClass} instance.
+     * <p>
+     * Values of other keys are skipped without being parsed, and reading stops
+     *   as soon as every requested property was read, so the rest of the input
+     *   is neither consumed nor validated. Properties that were not read keep
+     *   the values set by the parameterless constructor of a class, or get
+     *   {@code null}, zero or {@code false} in a record. Object references are not restored.
+     *
+     * @param objectClass class of the object.
+     * @param keys JSON keys of the bound properties.
+     * @param <T> type of the object.
+     * @return the read object.
+     * @throws JsonReadException if JSON could not be read successfully.
+     * @throws JsonMappingException if a key does not denote a property of the class
+     *                              or the object could not be bound to the class.
+     */
+    public <T> T readProjected(Class<T> objectClass, Set<String> keys) throws JsonReadException, JsonMappingException {
+        BindingPlan plan = BindingPlan.of(objectClass);
+        BindingPlan.Property[] properties = plan.properties();
+        boolean[] requested = new boolean[properties.length];
+
+        for (final String key : keys) {
+            BindingPlan.Property property = plan.property(key);
+            if (property == null) {
+                throw new JsonMappingException("[JSON Object Error] Object model invalid: " +
+                        "Property " + key + " not found in class " + objectClass.getName() + ".");
+            }
+            requested[property.index] = true;
+        }
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw parser.syntaxError("[JSON Object Error] Syntax error: no object delimiter bracket found.");
+        }
+
+        seedSymbols(plan);
+        Object[] values = new Object[properties.length];
+        boolean[] present = new boolean[properties.length];
+        int remaining = keys.size();
+
+        while (remaining > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getText();
+            BindingPlan.Property property = plan.property(key);
+
+            if (property == null || !requested[property.index]) {
+                parser.skipValue();
+                continue;
+            }
+
+            if (present[property.index]) {
+                throw parser.syntaxError("[JSON Object Error] Syntax error: duplicate key " + key + ".");
+            }
+
+            present[property.index] = true;
+            values[property.index] = bindProperty(parser.nextToken(), property);
+            remaining--;
+        }
+
+        if (plan.isRecord()) {
+            BindingPlan.RecordConstructor canonicalConstructor = plan.canonicalConstructor();
+            Object[] arguments = new Object[properties.length];
+            for (int i = 0; i < properties.length; ++i) {
+                arguments[i] = values[i] == null ? defaultValue(properties[i].type) : values[i];
+            }
+
+            try {
+                return objectClass.cast(canonicalConstructor.constructor.newInstance(arguments));
+            } catch (InvocationTargetException | InstantiationException |
+                     IllegalAccessException | IllegalArgumentException ex) {
+                throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                        "Could not instantiate object of class " + plan.type() + ".", ex);
+            }
+        }
+
+        Object object = plan.newInstance();
+        for (final BindingPlan.Property property : properties) {
+            if (present[property.index]) {
+                setField(property, object, values[property.index]);
+            }
+        }
+
+        return objectClass.cast(object);
+    }
+
+    /**
+     * Adds the keys of a plan to the symbol table of the parser when the plan is used first.
+     * <p>
+     * The keys become the canonical field names, so they are neither allocated nor rehashed.
+     *
+     * @param plan the binding plan.
+     */
+    private void seedSymbols(BindingPlan plan) {
+        if (seededPlans.add(plan)) {
+            SymbolTable symbols = parser.getSymbolTable();
+            for (final String key : plan.keys()) {
+                symbols.add(key);
+            }
+        }
+    }
+
+    /**
+     * Binds the object that starts at the current {@code START_OBJECT} token.
+     *
+     * @param plan binding plan of the object's class.
+     * @return the bound object.
+     * @throws JsonMappingException if the object could not be bound.
+     */
+    private Object bindObject(BindingPlan plan) throws JsonMappingException {
+        seedSymbols(plan);
+
+        BindingPlan.Property[] properties = plan.properties();
+        boolean isRecord = plan.isRecord();
+
+        Object object = isRecord ? null : plan.newInstance();
+        Object[] recordValues = isRecord ? new Object[properties.length] : null;
+        boolean[] present = new boolean[properties.length];
+        int keyCount = 0;
+        String reference = null;
+        boolean idRead = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getText();
+            BindingPlan.Property property = plan.property(key);
+
+            if (property == null && !key.equals("$ref") && !key.equals("$id")) {
+                // Unknown properties are skipped without being parsed.
+                parser.skipValue();
+                continue;
+            }
+
+            JsonToken token = parser.nextToken();
+
+            if (property != null) {
+                if (present[property.index]) {
+                    throw parser.syntaxError("[JSON Object Error] Syntax error: duplicate key " + key + ".");
+                }
+
+                present[property.index] = true;
+                keyCount++;
+
+                Object value = bindProperty(token, property);
+                if (isRecord) {
+                    recordValues[property.index] = value;
+                } else {
+                    setField(property, object, value);
+                }
+            } else {
+                boolean isReference = key.equals("$ref");
+                if (isReference ? reference != null : idRead) {
+                    throw parser.syntaxError("[JSON Object Error] Syntax error: duplicate key " + key + ".");
+                }
+
+                keyCount++;
+                if (isReference) {
+                    if (token != JsonToken.VALUE_STRING) {
+                        throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                                "Reference value must be a string.");
+                    }
+                    reference = parser.getText();
+                } else {
+                    idRead = true;
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (isRecord) {
+            object = constructRecord(plan, recordValues, present, keyCount);
+        } else {
+            checkMissingFields(plan, object, present);
+        }
+
+        // If model references a value - initialize it with a reference.
+        if (reference != null) {
+            UUID id = UUID.nameUUIDFromBytes(reference.getBytes());
+            Object referencedObject = mapReferenceResolver.getObjectReference(id);
+
+            if (referencedObject == null) {
+                mapReferenceResolver.registerObjectReference(id, new AtomicReference<>(object));
+            } else {
+                object = referencedObject;
+            }
+        }
+
+        return plan.type().cast(object);
+    }
+
+    /**
+     * Checks that every field of a class was present in the JSON,
+     *   resetting the missing ones if missing properties are tolerated.
+     *
+     * @param plan binding plan of the class.
+     * @param object the bound object.
+     * @param present flags that denote which properties were present.
+     * @throws JsonMappingException if a field was missing and the unknown properties policy is set to fail.
+     */
+    private void checkMissingFields(BindingPlan plan, Object object, boolean[] present) throws JsonMappingException {
+        for (final BindingPlan.Property property : plan.properties()) {
+            if (present[property.index]) {
+                continue;
+            }
+
+            if (!plan.tolerateUnknown()) {
+                throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                        "Value for field " + property.name + " was null.");
+            }
+
+            if (property.resetWhenMissing) {
+                setField(property, object, null);
+            }
+        }
+    }
+
+    /**
+     * Instantiates a record from the bound component values.
+     *
+     * @param plan binding plan of the record.
+     * @param recordValues values of the components.
+     * @param present flags that denote which components were present.
+     * @param keyCount total amount of keys of the object.
+     * @return the record instance.
+     * @throws JsonMappingException if the record could not be instantiated.
+     */
+    private Object constructRecord(BindingPlan plan, Object[] recordValues, boolean[] present, int keyCount)
+            throws JsonMappingException {
+        BindingPlan.RecordConstructor recordConstructor = plan.recordConstructor(present, keyCount);
+
+        if (!plan.tolerateUnknown()) {
+            for (final BindingPlan.Property property : plan.properties()) {
+                if (!present[property.index]) {
+                    throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                            "Value for field " + property.name + " was null.");
+                }
+            }
+        }
+
+        int[] parameterIndexes = recordConstructor.parameterIndexes;
+        Object[] arguments = new Object[parameterIndexes.length];
+
+        for (int i = 0; i < parameterIndexes.length; ++i) {
+            Object argument = parameterIndexes[i] < 0 ? null : recordValues[parameterIndexes[i]];
+
+            if (argument == null) {
+                if (!plan.tolerateUnknown()) {
+                    throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                            "Value of record component " + recordConstructor.parameterNames[i] + " was null.");
+                }
+
+                argument = defaultValue(recordConstructor.parameterTypes[i]);
+            }
+
+            arguments[i] = argument;
+        }
+
+        try {
+            return recordConstructor.constructor.newInstance(arguments);
+        } catch (InvocationTargetException | InstantiationException |
+                 IllegalAccessException | IllegalArgumentException ex) {
+            throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                    "Could not instantiate object of class " + plan.type() + ".", ex);
+        }
+    }
+
+    /**
+     * Sets the value of a field, ignoring inaccessible fields.
+     *
+     * @param property the property that describes the field.
+     * @param object the object that owns the field.
+     * @param value the value.
+     * @throws JsonMappingException if the value cannot be assigned to the field.
+     */
+    private static void setField(BindingPlan.Property property, Object object, Object value)
+            throws JsonMappingException {
+        if (value == null && property.type.isPrimitive()) {
+            throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                    "Value for field " + property.name + " was null.");
+        }
+
+        try {
+            property.field.set(object, value);
+        } catch (IllegalAccessException ignored) {
+        } catch (IllegalArgumentException ex) {
+            throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                    "Field type mismatch for " + property.name + ".", ex);
+        }
+    }
+
+    /**
+     * Returns the default value of the specified type: zero or {@code false} for primitives
+     *   and {@code null} for reference types.
+     *
+     * @param type the type.
+     * @return the default value.
+     */
+    private static Object defaultValue(Class<?> type) {
+        return PRIMITIVE_DEFAULTS.get(type);
+    }
+
+    /**
+     * Returns the constant of the specified enum class with the specified name.
+     *
+     * @param enumClass the enum class.
+     * @param name name of the constant.
+     * @return the constant.
+     * @throws IllegalArgumentException if the class has no constant with the name.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object enumConstant(Class<?> enumClass, String name) {
+        return Enum.valueOf(enumClass.asSubclass(Enum.class), name);
+    }
+
+    /**
+     * Binds the value that starts at the current token to a property.
+     *
+     * @param token the current token.
+     * @param property the property.
+     * @return the bound value.
+     * @throws JsonMappingException if the value cannot be bound to the property.
+     */
+    private Object bindProperty(JsonToken token, BindingPlan.Property property) throws JsonMappingException {
+        Class<?> valueClass = property.type;
+
+        if (Collection.class.isAssignableFrom(valueClass)) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                        "Field type mismatch for " + property.name + " - expected array.");
+            }
+
+            return bindCollection(valueClass, property);
+        } else if (valueClass.isEnum()) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                        "Field type mismatch for " + property.name + " - expected enum.");
+            }
+
+            return enumConstant(valueClass, parser.getText());
+        } else if (TypeResolver.isLocalTime(valueClass) ||
+                TypeResolver.isLocalDate(valueClass) ||
+                TypeResolver.isLocalDateTime(valueClass)) {
+            if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NUMBER) {
+                String expectedType = TypeResolver.isLocalTime(valueClass) ? "time" :
+                        TypeResolver.isLocalDate(valueClass) ? "date" : "datetime";
+                throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                        "Type mismatch - expected " + expectedType + ".");
+            }
+
+            return parseDateTime(valueClass, property.dateFormat);
+        } else {
+            return bindValue(token, valueClass);
+        }
+    }
+
+    /**
+     * Parses the text of the current token as a datetime value.
+     *
+     * @param valueClass class of the datetime value.
+     * @param dateFormat the date format or {@code null} for the ISO format.
+     * @return the parsed value.
+     * @throws InvalidTimeFormatException on invalid date format.
+     */
+    private Object parseDateTime(Class<?> valueClass, String dateFormat) throws InvalidTimeFormatException {
+        return JsonValue.parseDateTime(parser.getText(), valueClass, dateFormat);
+    }
+
+    /**
+     * Binds the array that starts at the current token to a collection.
+     *
+     * @param collectionClass class of the collection.
+     * @param property the property the collection is bound to.
+     * @return the bound collection.
+     * @throws JsonMappingException if the elements cannot be bound.
+     */
+    private Collection<Object> bindCollection(Class<?> collectionClass, BindingPlan.Property property)
+            throws JsonMappingException {
+        if (!(property.genericType instanceof ParameterizedType collectionType) ||
+                !(collectionType.getActualTypeArguments()[0] instanceof Class<?>)) {
+            throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                    "Collection type of " + property.name + " is not supported.");
+        }
+
+        Class<?> contentClass = TypeResolver.resolveCollectionType(collectionType);
+        Collection<Object> values = Set.class.isAssignableFrom(collectionClass) ? new HashSet<>() : new ArrayList<>();
+
+        return bindElements(contentClass, values);
+    }
+
+    /**
+     * Binds the elements of the array that starts at the current {@code START_ARRAY} token,
+     *   in parallel if the binder has a pool and the elements are objects.
+     *
+     * @param contentClass class of the elements.
+     * @param values collection the elements are added to.
+     * @return the {@code values} collection.
+     * @throws JsonMappingException if the elements cannot be bound.
+     */
+    private Collection<Object> bindElements(Class<?> contentClass, Collection<Object> values)
+            throws JsonMappingException {
+        if (indexedReader != null && contentClass.isAnnotationPresent(Exported.class)) {
+            int[] separators = indexedReader.findArraySeparators();
+
+            if (separators != null) {
+                bindChunks(contentClass, separators, values);
+                parser.nextToken();
+                return values;
+            }
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_ARRAY) {
+                // Nested arrays cannot be assigned to the element class and are omitted.
+                parser.skipChildren();
+                continue;
+            }
+
+            values.add(bindValue(token, contentClass));
+        }
+
+        return values;
+    }
+
+    /**
+     * Splits the elements of an array into chunks and binds them on the pool.
+     * <p>
+     * The last chunk is bound by the calling thread while the others are processed by the pool.
+     *
+     * @param contentClass class of the elements.
+     * @param separators offsets of the array brackets and of the commas between the elements.
+     * @param values collection the elements are added to in the order of the array.
+     * @throws JsonMappingException if the elements cannot be bound.
+     */
+    private void bindChunks(Class<?> contentClass, int[] separators, Collection<Object> values)
+            throws JsonMappingException {
+        List<ForkJoinTask<List<Object>>> tasks = new ArrayList<>();
+        int last = separators.length - 1;
+        int first = 0;
+
+        while (first < last) {
+            int next = first + 1;
+            while (next < last && separators[next] - separators[first] < PARALLEL_CHUNK_SIZE) {
+                next++;
+            }
+
+            if (next == last) {
+                List<Object> tail = bindChunk(contentClass, separators, first, next);
+                for (final ForkJoinTask<List<Object>> task : tasks) {
+                    values.addAll(task.join());
+                }
+                values.addAll(tail);
+                return;
+            }
+
+            int chunkFirst = first;
+            int chunkLast = next;
+            tasks.add(pool.submit(() -> bindChunk(contentClass, separators, chunkFirst, chunkLast)));
+            first = next;
+        }
+    }
+
+    /**
+     * Binds the elements between two separators of an array with a separate reader.
+     *
+     * @param contentClass class of the elements.
+     * @param separators offsets of the array brackets and of the commas between the elements.
+     * @param first index of the separator before the first element of the chunk.
+     * @param last index of the separator after the last element of the chunk.
+     * @return list of the bound elements.
+     * @throws JsonMappingException if the elements cannot be bound.
+     */
+    private List<Object> bindChunk(Class<?> contentClass, int[] separators, int first, int last)
+            throws JsonMappingException {
+        JsonReader reader = indexedReader.createPartReader(separators[first] + 1, separators[last]);
+        JsonBinder binder = new JsonBinder(reader);
+        List<Object> elements = new ArrayList<>(last - first);
+
+        for (int i = first; i < last; ++i) {
+            if (i != first && reader.nextCharacterTrimmed() != ',') {
+                throw reader.syntaxError("[JSON Array Error] Syntax error: expected ']' or a comma.");
+            }
+
+            JsonToken token = binder.parser.nextToken();
+            if (token == null) {
+                // Only the range after the last comma may be empty, if the array ends with it.
+                if (i == separators.length - 2) {
+                    break;
+                }
+                throw reader.syntaxError("[JSON Array Error] Syntax error: no value provided.");
+            }
+
+            if (token == JsonToken.START_ARRAY) {
+                // Nested arrays cannot be assigned to the element class and are omitted.
+                binder.parser.skipChildren();
+                continue;
+            }
+
+            elements.add(binder.bindValue(token, contentClass));
+        }
+
+        if (reader.nextCharacterTrimmed() != 0) {
+            throw reader.syntaxError("[JSON Array Error] Syntax error: expected ']' or a comma.");
+        }
+
+        return elements;
+    }
+
+    /**
+     * Binds the value that starts at the current token to an instance of specified class.
+     *
+     * @param token the current token.
+     * @param valueClass class of the value.
+     * @return the bound value.
+     * @throws JsonMappingException if the value cannot be bound to the class.
+     */
+    Object bindValue(JsonToken token, Class<?> valueClass) throws JsonMappingException {
+        return switch (token) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> bindString(valueClass);
+            case VALUE_NUMBER -> bindNumber(valueClass);
+            case VALUE_TRUE, VALUE_FALSE -> {
+                if (!valueClass.equals(Boolean.class) && !valueClass.equals(boolean.class)) {
+                    throw new JsonMappingException("[JSON Number Error] " +
+                            "Boolean value could not be mapped to class " + valueClass + ".");
+                }
+                yield token == JsonToken.VALUE_TRUE;
+            }
+            case START_OBJECT -> bindObject(BindingPlan.of(valueClass));
+            case START_ARRAY -> throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                    "Type mismatch - array cannot be mapped to " + valueClass + ".");
+            default -> throw parser.syntaxError("[JSON Object Error] Syntax error: unexpected token " + token + ".");
+        };
+    }
+
+    /**
+     * Binds the current string token to an instance of specified class.
+     *
+     * @param valueClass class of the value.
+     * @return the bound value.
+     * @throws JsonMappingException if a string cannot be bound to the class.
+     */
+    private Object bindString(Class<?> valueClass) throws JsonMappingException {
+        if (String.class.isAssignableFrom(valueClass)) {
+            return parser.getText();
+        } else if (Character.class.isAssignableFrom(valueClass) || valueClass.equals(char.class)) {
+            return parser.getText().charAt(0);
+        }
+
+        throw new JsonMappingException("[JSON String Error] " +
+                "Type mismatch: Text cannot be mapped to " + valueClass + " class.");
+    }
+
+    /**
+     * Binds the current number token to an instance of specified numerical class.
+     *
+     * @param valueClass class of the value.
+     * @return the bound value.
+     * @throws JsonMappingException if a number cannot be bound to the class.
+     */
+    private Object bindNumber(Class<?> valueClass) throws JsonMappingException {
+        if (Double.class.isAssignableFrom(valueClass) || valueClass.equals(double.class)) {
+            return parser.getDouble();
+        }
+        if (Float.class.isAssignableFrom(valueClass) || valueClass.equals(float.class)) {
+            return (float) parser.getDouble();
+        }
+        if (Long.class.isAssignableFrom(valueClass) || valueClass.equals(long.class)) {
+            return parser.getLong();
+        }
+        if (Integer.class.isAssignableFrom(valueClass) || valueClass.equals(int.class)) {
+            return (int) parser.getLong();
+        }
+        if (Short.class.isAssignableFrom(valueClass) || valueClass.equals(short.class)) {
+            return (short) parser.getLong();
+        }
+        if (Byte.class.isAssignableFrom(valueClass) || valueClass.equals(byte.class)) {
+            return (byte) parser.getLong();
+        }
+
+        throw new JsonMappingException("[JSON Number Error] " +
+                "Value could not be mapped to class " + valueClass + ".");
+    }
+}
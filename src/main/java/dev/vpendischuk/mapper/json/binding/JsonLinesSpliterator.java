@@ -0,0 +1,376 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.DefaultJsonMapReferenceResolver;
+import dev.vpendischuk.mapper.json.util.DefaultJsonParser;
+import dev.vpendischuk.mapper.json.util.JsonMapReferenceResolver;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the objects of newline-delimited JSON (NDJSON, JSON Lines)
+ *   read from a stream of UTF-8 encoded bytes: every line holds an instance of an {@link Exported} class.
+ * <p>
+ * The stream is read incrementally in batches of whole lines. Lines of a batch are bound
+ *   by a single {@link JsonBinder}, so readers, parsers and symbol tables are shared by many lines.
+ *   When a stream is processed in parallel, every split takes the next batch of lines,
+ *   which is then bound by the worker that processes the split. The batches grow with every split,
+ *   so that long inputs are divided into a limited amount of tasks.
+ * <p>
+ * If reference equality is maintained, a single reference resolver is used for all lines
+ *   and the spliterator is not split, so that references are resolved in the order of the lines.
+ * <p>
+ * Usage example:
+ * <pre>
+ * JsonLinesSpliterator&lt;Event&gt; spliterator = new JsonLinesSpliterator&lt;&gt;(Event.class, stream, false);
+ * try (Stream&lt;Event&gt; events = StreamSupport.stream(spliterator, true).onClose(spliterator::close)) {
+ *     events.forEach(event -&gt; handle(event));
+ * }
+ * </pre>
+ *
+ * @param <T> type of the bound objects.
+ */
+public class JsonLinesSpliterator<T> implements Spliterator<T> {
+    // Approximate size of a batch of lines read for sequential processing and the growth of split batches.
+    static final int BATCH_SIZE = 64 * 1024;
+    // Maximal size of a batch of lines taken by a split, unless a single line is longer.
+    static final int MAX_BATCH_SIZE = 16 * 1024 * 1024;
+
+    // Class of the bound objects.
+    private final Class<T> objectClass;
+    // Flag that denotes if reference equality is maintained.
+    private final boolean retainIdentity;
+    // Reference resolver shared by the lines if reference equality is maintained (null otherwise).
+    private final JsonMapReferenceResolver mapReferenceResolver;
+    // Stream the lines are read from (null if the spliterator covers a single batch).
+    private final InputStream inputStream;
+    // Buffer that stores the bytes read from the stream that were not taken by a batch yet.
+    private byte[] buffer;
+    // Amount of bytes stored in the buffer.
+    private int bufferLength;
+    // Flag that denotes if the end of the stream was reached.
+    private boolean endOfInput;
+    // Size of the batch taken by the next split.
+    private int splitSize;
+    // Amount of bytes of the stream taken by batches.
+    private long takenBytes;
+    // Amount of line breaks in the batches taken from the stream.
+    private long takenLines;
+    // Current batch of lines (null if no batch is being read).
+    private byte[] batch;
+    // Offset of the first byte of the current batch in the stream.
+    private long batchOffset;
+    // Amount of line breaks in the stream before the current batch.
+    private long batchLines;
+    // Reader of the current batch.
+    private Utf8JsonReader reader;
+    // Binder of the current batch.
+    private JsonBinder binder;
+
+    /**
+     * Initializes a new {@link JsonLinesSpliterator} instance that reads lines from the specified stream.
+     *
+     * @param objectClass class of the bound objects.
+     * @param inputStream stream that provides UTF-8 encoded lines.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    public JsonLinesSpliterator(Class<T> objectClass, InputStream inputStream, boolean retainIdentity) {
+        this(objectClass, retainIdentity, retainIdentity ? new DefaultJsonMapReferenceResolver() : null,
+                inputStream, null, 0, 0);
+    }
+
+    /**
+     * Initializes a new {@link JsonLinesSpliterator} instance with specified parameters.
+     *
+     * @param objectClass class of the bound objects.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @param mapReferenceResolver resolver shared by the lines or {@code null}.
+     * @param inputStream stream that provides the lines or {@code null} if only the {@code batch} is read.
+     * @param batch batch of lines that is read first or {@code null}.
+     * @param batchOffset offset of the first byte of the {@code batch} in the stream.
+     * @param batchLines amount of line breaks in the stream before the {@code batch}.
+     */
+    private JsonLinesSpliterator(Class<T> objectClass, boolean retainIdentity,
+                                 JsonMapReferenceResolver mapReferenceResolver, InputStream inputStream, byte[] batch,
+                                 long batchOffset, long batchLines) {
+        this.objectClass = objectClass;
+        this.retainIdentity = retainIdentity;
+        this.mapReferenceResolver = mapReferenceResolver;
+        this.inputStream = inputStream;
+        buffer = inputStream == null ? null : new byte[BATCH_SIZE];
+        bufferLength = 0;
+        endOfInput = inputStream == null;
+        splitSize = BATCH_SIZE;
+        takenBytes = 0;
+        takenLines = 0;
+        startBatch(batch, batchOffset, batchLines);
+    }
+
+    /**
+     * Binds the next line and passes the object to the specified action.
+     *
+     * @param action action that receives the object.
+     * @return {@code false} if no lines remain.
+     * @throws JsonReadException if a line could not be read.
+     * @throws JsonMappingException if an object could not be bound.
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) throws JsonReadException, JsonMappingException {
+        for (;;) {
+            if (batch != null) {
+                T object = readLine();
+                if (object != null) {
+                    action.accept(object);
+                    return true;
+                }
+            }
+
+            long offset = takenBytes;
+            long lines = takenLines;
+            startBatch(nextBatch(BATCH_SIZE), offset, lines);
+            if (batch == null) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Splits off a spliterator that binds the next batch of lines.
+     * <p>
+     * The spliterator is only split before it starts binding lines itself,
+     *   so that the split batch always precedes the remaining lines.
+     *
+     * @return the spliterator of the next batch or {@code null} if the spliterator cannot be split.
+     * @throws JsonReadException if the lines could not be read.
+     */
+    @Override
+    public Spliterator<T> trySplit() throws JsonReadException {
+        if (retainIdentity || inputStream == null || batch != null) {
+            return null;
+        }
+
+        long offset = takenBytes;
+        long lines = takenLines;
+        byte[] splitBatch = nextBatch(splitSize);
+        if (splitBatch == null) {
+            return null;
+        }
+
+        splitSize = Math.min(splitSize + BATCH_SIZE, MAX_BATCH_SIZE);
+        return new JsonLinesSpliterator<>(objectClass, false, null, null, splitBatch, offset, lines);
+    }
+
+    /**
+     * Returns the estimated amount of remaining objects, which is unknown.
+     *
+     * @return {@link Long#MAX_VALUE}.
+     */
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the characteristics of the spliterator.
+     *
+     * @return {@link #ORDERED} and {@link #NONNULL}.
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * Closes the stream the lines are read from.
+     *
+     * @throws UncheckedIOException if the stream could not be closed.
+     */
+    public void close() {
+        if (inputStream == null) {
+            return;
+        }
+
+        try {
+            inputStream.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Starts reading the specified batch of lines.
+     *
+     * @param nextBatch the batch or {@code null} if no lines remain.
+     * @param offset offset of the first byte of the batch in the stream.
+     * @param lines amount of line breaks in the stream before the batch.
+     */
+    private void startBatch(byte[] nextBatch, long offset, long lines) {
+        batch = nextBatch;
+        batchOffset = offset;
+        batchLines = lines;
+
+        if (batch == null) {
+            reader = null;
+            binder = null;
+            return;
+        }
+
+        // Offsets of the reader are counted from the start of the stream, so that syntax errors are reported there.
+        reader = Utf8JsonReader.continuing(batch, batchOffset, batchLines, retainIdentity);
+        binder = new JsonBinder(new DefaultJsonParser(reader),
+                mapReferenceResolver == null ? reader.getReferenceResolver() : mapReferenceResolver);
+    }
+
+    /**
+     * Binds the object of the next non-blank line of the current batch.
+     *
+     * @return the object or {@code null} if the batch has no more lines.
+     * @throws JsonReadException if the line does not hold exactly one object.
+     * @throws JsonMappingException if the object could not be bound.
+     */
+    private T readLine() throws JsonReadException, JsonMappingException {
+        if (reader.nextCharacterTrimmed() == 0) {
+            return null;
+        }
+
+        reader.moveBack();
+        int start = (int) (reader.getReadOffset() - batchOffset);
+        T object = binder.readNextObject(objectClass);
+        int end = (int) (reader.getReadOffset() - batchOffset);
+
+        // Lines are split without parsing, so an object must not span several lines.
+        for (int i = start; i < end; ++i) {
+            if (batch[i] == '\n') {
+                throw reader.syntaxError("[JSON Lines Error] Syntax error: line break inside of an object.");
+            }
+        }
+
+        char readChar;
+        do {
+            readChar = reader.nextCharacter();
+        } while (readChar == ' ' || readChar == '\t' || readChar == '\r');
+
+        if (readChar != '\n' && readChar != 0) {
+            throw reader.syntaxError("[JSON Lines Error] Syntax error: expected a line break after an object.");
+        }
+
+        return object;
+    }
+
+    /**
+     * Takes the next batch of whole lines from the stream.
+     * <p>
+     * The batch ends with the last line break within its size, or with the first line break
+     *   after it if the first line of the batch is longer than the size.
+     *
+     * @param size approximate size of the batch.
+     * @return the batch or {@code null} if the end of the stream was reached.
+     * @throws JsonReadException if the stream could not be read.
+     */
+    private byte[] nextBatch(int size) throws JsonReadException {
+        while (bufferLength < size && fillBuffer()) { }
+
+        int end = lastLineBreak(Math.min(bufferLength, size));
+        int searched = Math.min(bufferLength, size);
+
+        while (end < 0) {
+            end = firstLineBreak(searched);
+            searched = bufferLength;
+
+            if (end < 0 && !fillBuffer()) {
+                end = bufferLength - 1;
+                break;
+            }
+        }
+
+        if (end < 0) {
+            return null;
+        }
+
+        byte[] batch = Arrays.copyOf(buffer, end + 1);
+        bufferLength -= end + 1;
+        System.arraycopy(buffer, end + 1, buffer, 0, bufferLength);
+
+        takenBytes += batch.length;
+        for (byte readByte : batch) {
+            if (readByte == '\n') {
+                ++takenLines;
+            }
+        }
+
+        return batch;
+    }
+
+    /**
+     * Finds the last line break among the specified amount of first buffered bytes.
+     *
+     * @param length amount of bytes searched.
+     * @return index of the line break or {@code -1} if there is none.
+     */
+    private int lastLineBreak(int length) {
+        for (int i = length - 1; i >= 0; --i) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the first line break among the buffered bytes that start at the specified index.
+     *
+     * @param from index of the first searched byte.
+     * @return index of the line break or {@code -1} if there is none.
+     */
+    private int firstLineBreak(int from) {
+        for (int i = from; i < bufferLength; ++i) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Reads the next block of bytes from the stream into the buffer, growing it if it is full.
+     *
+     * @return {@code true} if any bytes were read, {@code false} if the end of the stream was reached.
+     * @throws JsonReadException if the stream could not be read.
+     */
+    private boolean fillBuffer() throws JsonReadException {
+        if (endOfInput) {
+            return false;
+        }
+
+        if (bufferLength == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        int readCount;
+        try {
+            do {
+                readCount = inputStream.read(buffer, bufferLength, buffer.length - bufferLength);
+            } while (readCount == 0);
+        } catch (IOException ex) {
+            throw new JsonReadException("[JSON Reader Error] Could not read from source.", ex);
+        }
+
+        if (readCount < 0) {
+            endOfInput = true;
+            return false;
+        }
+
+        bufferLength += readCount;
+        return true;
+    }
+}
@@ -0,0 +1,391 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.exceptions.CyclicReferenceException;
+import dev.vpendischuk.mapper.json.exceptions.InvalidTimeFormatException;
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.types.JsonNumber;
+import dev.vpendischuk.mapper.json.types.JsonSupportedTypeClassifier;
+import dev.vpendischuk.mapper.json.types.enums.SupportedType;
+import dev.vpendischuk.mapper.json.util.EncodedText;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Writes instances of {@link Exported} classes directly as JSON.
+ * <p>
+ * The object graph is walked via cached {@link SerializationPlan}s and every value is passed
+ *   to a {@link JsonWriter} as soon as it is read, without constructing
+ *   a {@link dev.vpendischuk.mapper.json.types.JsonObject} model.
+ * <p>
+ * Produces the same text as the {@code toString} method of the model of an object:
+ *   keys are sorted, and null handling policies, property names and date formats are applied
+ *   the same way. Alternatively, properties can be written in declaration order,
+ *   with the {@code "$ref"} property written first. If reference equality is maintained, the graph is walked twice:
+ *   the first walk finds the objects that are written more than once, and the second walk
+ *   writes a {@code "$ref"} property with a unique ID into every occurrence of such objects.
+ * <p>
+ * The text is written while the graph is walked, so if an error occurs, a part of the text
+ *   may already have been passed to the writer.
+ * <p>
+ * Usage example:
+ * <pre>
+ * try (JsonWriter writer = new Utf8JsonWriter(outputStream)) {
+ *     new JsonSerializer(writer, false).writeObject(foo);
+ * }
+ * </pre>
+ */
+public class JsonSerializer {
+    // Cache of the type categories of the classes of collection elements.
+    private static final ClassValue<SupportedType> ELEMENT_TYPES = new ClassValue<>() {
+        @Override
+        protected SupportedType computeValue(Class<?> type) {
+            return JsonSupportedTypeClassifier.classifyType(type);
+        }
+    };
+
+    // Quoted reference key followed by a colon.
+    private static final EncodedText REFERENCE_KEY =
+            new EncodedText("\"" + SerializationPlan.REFERENCE_KEY + "\":");
+
+    // Writer the JSON is written to.
+    private final JsonWriter writer;
+    // Flag that denotes if object reference equality should be maintained.
+    private final boolean retainIdentity;
+    // Flag that denotes if properties are written in declaration order instead of being sorted by keys.
+    private final boolean inDeclarationOrder;
+    // Objects that are currently being written, used to detect reference cycles.
+    private Object[] ancestors;
+    // Amount of objects that are currently being written.
+    private int depth;
+    // 'Object' - 'amount of occurrences' map filled by the first walk (null if identity is not retained).
+    private final Map<Object, Integer> occurrences;
+    // 'Object' - 'unique ID' map of the objects that are written more than once (null if identity is not retained).
+    private final Map<Object, String> referenceIds;
+
+    /**
+     * Initializes a new {@link JsonSerializer} instance that writes JSON via specified writer.
+     *
+     * @param writer writer used to output the JSON.
+     * @param retainIdentity flag that denotes if reference equality should be maintained.
+     */
+    public JsonSerializer(JsonWriter writer, boolean retainIdentity) {
+        this(writer, retainIdentity, false);
+    }
+
+    /**
+     * Initializes a new {@link JsonSerializer} instance that writes JSON via specified writer
+     *   with the properties of objects in the specified order.
+     *
+     * @param writer writer used to output the JSON.
+     * @param retainIdentity flag that denotes if reference equality should be maintained.
+     * @param inDeclarationOrder flag that denotes if properties are written in declaration order
+     *                           instead of being sorted by keys.
+     */
+    public JsonSerializer(JsonWriter writer, boolean retainIdentity, boolean inDeclarationOrder) {
+        this.writer = writer;
+        this.retainIdentity = retainIdentity;
+        this.inDeclarationOrder = inDeclarationOrder;
+        ancestors = new Object[16];
+        depth = 0;
+        occurrences = retainIdentity ? new IdentityHashMap<>() : null;
+        referenceIds = retainIdentity ? new IdentityHashMap<>() : null;
+    }
+
+    /**
+     * Writes the specified object as a JSON object.
+     *
+     * @param object the object; its class must be {@link Exported}.
+     * @throws JsonMappingException if the object or one of the objects it references cannot be written.
+     * @throws InvalidTimeFormatException if the time format of a property was invalid.
+     * @throws CyclicReferenceException if the object graph contains a reference cycle.
+     * @throws IOException if the text could not be written.
+     */
+    public void writeObject(Object object)
+            throws JsonMappingException, InvalidTimeFormatException, CyclicReferenceException, IOException {
+        if (object == null) {
+            throw new JsonMappingException("[JSON Object Error] Object invalid: " +
+                    "Exported object was null.");
+        }
+
+        SerializationPlan plan = SerializationPlan.of(object.getClass());
+
+        try {
+            if (retainIdentity) {
+                countObjects(plan, object);
+
+                for (final Map.Entry<Object, Integer> entry : occurrences.entrySet()) {
+                    if (entry.getValue() > 1) {
+                        referenceIds.put(entry.getKey(), UUID.randomUUID().toString());
+                    }
+                }
+                occurrences.clear();
+            }
+
+            writeObject(plan, object);
+        } finally {
+            Arrays.fill(ancestors, 0, depth, null);
+            depth = 0;
+
+            if (retainIdentity) {
+                occurrences.clear();
+                referenceIds.clear();
+            }
+        }
+    }
+
+    /**
+     * Counts the occurrences of the objects referenced by the specified object.
+     * <p>
+     * An object is walked until it is found twice: every object it references
+     *   is written twice as well, so further occurrences do not change the result.
+     *
+     * @param plan plan of the object class.
+     * @param object the object.
+     */
+    private void countObjects(SerializationPlan plan, Object object) {
+        enter(object);
+
+        for (final SerializationPlan.Property property : plan.properties(false)) {
+            if (property.type != SupportedType.EXPORTED && property.type != SupportedType.LIST
+                    && property.type != SupportedType.SET) {
+                continue;
+            }
+
+            Object value = property.value(object);
+            if (value == null || value == SerializationPlan.ABSENT) {
+                continue;
+            }
+
+            if (property.type == SupportedType.EXPORTED) {
+                countObject(value);
+            } else {
+                countElements((Collection<?>) value);
+            }
+        }
+
+        leave();
+    }
+
+    /**
+     * Counts an occurrence of the specified object and walks it if it was not found twice before.
+     *
+     * @param object the object.
+     */
+    private void countObject(Object object) {
+        SerializationPlan plan = SerializationPlan.of(object.getClass());
+
+        if (occurrences.merge(object, 1, Integer::sum) <= 2) {
+            countObjects(plan, object);
+        }
+    }
+
+    /**
+     * Counts the occurrences of the objects contained in the specified collection.
+     *
+     * @param collection the collection.
+     */
+    private void countElements(Collection<?> collection) {
+        for (final Object element : collection) {
+            if (element == null) {
+                continue;
+            }
+
+            switch (ELEMENT_TYPES.get(element.getClass())) {
+                case EXPORTED -> countObject(element);
+                case LIST, SET -> countElements((Collection<?>) element);
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * Writes the specified object as a JSON object.
+     *
+     * @param plan plan of the object class.
+     * @param object the object.
+     * @throws IOException if the text could not be written.
+     */
+    private void writeObject(SerializationPlan plan, Object object) throws IOException {
+        enter(object);
+
+        String referenceId = referenceIds == null || referenceIds.isEmpty() ? null : referenceIds.get(object);
+        SerializationPlan.Property[] properties = plan.properties(inDeclarationOrder);
+        int referenceIndex = plan.referenceIndex(inDeclarationOrder);
+        boolean includeNull = plan.includeNull();
+        boolean isFirst = true;
+        boolean isKeyWritten = false;
+
+        writer.write('{');
+
+        for (int i = 0; i < properties.length; ++i) {
+            if (referenceId != null && i == referenceIndex) {
+                writeKey(REFERENCE_KEY, isFirst);
+                writer.writeString(referenceId);
+                isFirst = false;
+            }
+
+            SerializationPlan.Property property = properties[i];
+
+            // Only the last declared property that has a value is written under a shared key.
+            if (!property.sharesKey) {
+                isKeyWritten = false;
+            }
+            if (isKeyWritten || (referenceId != null && property.isReferenceKey)) {
+                continue;
+            }
+
+            // Primitive fields always have a value, which is written without boxing.
+            if (property.isPrimitiveField) {
+                writeKey(property.encodedKey, isFirst);
+                isFirst = false;
+                isKeyWritten = true;
+                property.writePrimitive(object, writer);
+                continue;
+            }
+
+            Object value = property.value(object);
+            if (value == SerializationPlan.ABSENT || (value == null && !includeNull)
+                    || (value != null && property.type == SupportedType.NOT_SUPPORTED)) {
+                continue;
+            }
+
+            writeKey(property.encodedKey, isFirst);
+            isFirst = false;
+            isKeyWritten = true;
+
+            if (value == null) {
+                writer.write("null");
+                continue;
+            }
+
+            switch (property.type) {
+                case EXPORTED -> writeNestedObject(value);
+                case LIST, SET -> writeElements((Collection<?>) value, includeNull);
+                case TIME, DATE, DATETIME -> writer.writeString(property.format(value));
+                default -> writeScalar(property.type, value);
+            }
+        }
+
+        if (referenceId != null && referenceIndex == properties.length) {
+            writeKey(REFERENCE_KEY, isFirst);
+            writer.writeString(referenceId);
+        }
+
+        writer.write('}');
+
+        leave();
+    }
+
+    /**
+     * Writes the specified object referenced by another object.
+     *
+     * @param object the object.
+     * @throws IOException if the text could not be written.
+     */
+    private void writeNestedObject(Object object) throws IOException {
+        writeObject(SerializationPlan.of(object.getClass()), object);
+    }
+
+    /**
+     * Writes the specified collection as a JSON array, skipping the elements of unsupported types.
+     *
+     * @param collection the collection.
+     * @param includeNull flag that denotes if null elements are written.
+     * @throws IOException if the text could not be written.
+     */
+    private void writeElements(Collection<?> collection, boolean includeNull) throws IOException {
+        boolean isFirst = true;
+
+        writer.write('[');
+
+        for (final Object element : collection) {
+            SupportedType type = element == null ? null : ELEMENT_TYPES.get(element.getClass());
+            if (element == null ? !includeNull : type == SupportedType.NOT_SUPPORTED) {
+                continue;
+            }
+
+            // Comma separator.
+            if (!isFirst) {
+                writer.write(',');
+            }
+            isFirst = false;
+
+            if (element == null) {
+                writer.write("null");
+                continue;
+            }
+
+            switch (type) {
+                case EXPORTED -> writeNestedObject(element);
+                case LIST, SET -> writeElements((Collection<?>) element, includeNull);
+                case TIME, DATE, DATETIME -> writer.writeString(element.toString());
+                default -> writeScalar(type, element);
+            }
+        }
+
+        writer.write(']');
+    }
+
+    /**
+     * Writes the specified number, character, boolean, string or enum value.
+     *
+     * @param type type category of the value.
+     * @param value the value.
+     * @throws IOException if the text could not be written.
+     */
+    private void writeScalar(SupportedType type, Object value) throws IOException {
+        switch (type) {
+            case NUMBER -> JsonNumber.write((Number) value, writer);
+            case BOOLEAN -> writer.write(value.toString());
+            default -> writer.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Writes the specified encoded key, preceded by a comma unless it is the first key.
+     *
+     * @param key the quoted key followed by a colon.
+     * @param isFirst flag that denotes if the key is the first key of the object.
+     * @throws IOException if the text could not be written.
+     */
+    private void writeKey(EncodedText key, boolean isFirst) throws IOException {
+        if (!isFirst) {
+            writer.write(',');
+        }
+
+        writer.write(key);
+    }
+
+    /**
+     * Registers the specified object as one of the objects that are currently being written.
+     * <p>
+     * The objects are kept in a stack that is searched linearly,
+     *   as object graphs are rarely deep enough for a hash set to be faster.
+     *
+     * @param object the object.
+     * @throws CyclicReferenceException if the object is already being written.
+     */
+    private void enter(Object object) throws CyclicReferenceException {
+        for (int i = 0; i < depth; ++i) {
+            if (ancestors[i] == object) {
+                throw new CyclicReferenceException("[JSON Reference Resolver Error] " +
+                        "Reference cycle detected in object model tree.");
+            }
+        }
+
+        if (depth == ancestors.length) {
+            ancestors = Arrays.copyOf(ancestors, depth * 2);
+        }
+        ancestors[depth++] = object;
+    }
+
+    /**
+     * Unregisters the object that was registered last.
+     */
+    private void leave() {
+        ancestors[--depth] = null;
+    }
+}
@@ -0,0 +1,199 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.NonBlockingJsonParser;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Binds a sequence of top-level JSON objects, received in chunks of UTF-8 encoded bytes,
+ *   to instances of an {@link Exported} class without blocking.
+ * <p>
+ * Chunks are scanned by a {@link NonBlockingJsonParser}; only the bytes of the
+ *   top-level object that is currently incomplete are retained. Objects completed by a chunk
+ *   are bound by a {@link JsonBinder} and passed to the consumer in order once the parser has
+ *   consumed the chunk, so an exception thrown by the binding or by the consumer leaves the binder
+ *   usable: the objects that were not delivered yet are delivered by the next call
+ *   to {@link #feed(ByteBuffer)} or {@link #endOfInput()}. A syntax error, on the other hand,
+ *   rejects the whole input, and every later call throws a {@link JsonReadException}.
+ * <p>
+ * Usage example:
+ * <pre>
+ * NonBlockingJsonBinder&lt;Foo&gt; binder = new NonBlockingJsonBinder&lt;&gt;(Foo.class, false, foo -&gt; handle(foo));
+ * // on every read from a channel
+ * buffer.flip();
+ * binder.feed(buffer);
+ * buffer.clear();
+ * // when the channel is closed
+ * binder.endOfInput();
+ * </pre>
+ *
+ * @param <T> type of the bound objects.
+ */
+public class NonBlockingJsonBinder<T> {
+    // Initial capacity of the buffer that stores the bytes of the current object.
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    // Class of the bound objects.
+    private final Class<T> objectClass;
+    // Flag that denotes if reference equality is maintained.
+    private final boolean retainIdentity;
+    // Consumer that receives the bound objects.
+    private final Consumer<? super T> consumer;
+    // Parser used to find the limits of the top-level objects.
+    private final NonBlockingJsonParser parser;
+    // Buffer that stores the retained input bytes.
+    private byte[] buffer;
+    // Amount of bytes stored in the buffer.
+    private int bufferLength;
+    // Offset of the first byte of the buffer in the input.
+    private long bufferOffset;
+    // Offset of the first byte of the current top-level object in the input (-1 if none is open).
+    private long objectOffset;
+    // Offsets and lengths of the complete top-level objects that were not delivered yet.
+    private final Queue<long[]> completeObjects;
+    // Flag that denotes if the input was rejected by a syntax error.
+    private boolean failed;
+
+    /**
+     * Initializes a new {@link NonBlockingJsonBinder} instance with specified parameters.
+     *
+     * @param objectClass class of the bound objects.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @param consumer consumer that receives the bound objects.
+     */
+    public NonBlockingJsonBinder(Class<T> objectClass, boolean retainIdentity, Consumer<? super T> consumer) {
+        this.objectClass = objectClass;
+        this.retainIdentity = retainIdentity;
+        this.consumer = consumer;
+        parser = new NonBlockingJsonParser(this::onToken);
+        buffer = new byte[INITIAL_BUFFER_SIZE];
+        bufferLength = 0;
+        bufferOffset = 0;
+        objectOffset = -1;
+        completeObjects = new ArrayDeque<>();
+        failed = false;
+    }
+
+    /**
+     * Consumes all remaining bytes of the specified chunk, binding every top-level object completed by them.
+     *
+     * @param chunk next chunk of the input.
+     * @throws JsonReadException if a syntax error was detected.
+     * @throws JsonMappingException if an object could not be bound.
+     */
+    public void feed(ByteBuffer chunk) throws JsonReadException, JsonMappingException {
+        ensureNotFailed();
+        int length = chunk.remaining();
+
+        if (bufferLength + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(bufferLength + length, buffer.length * 2));
+        }
+        chunk.get(chunk.position(), buffer, bufferLength, length);
+        bufferLength += length;
+
+        try {
+            parser.feed(chunk);
+        } catch (JsonReadException e) {
+            failed = true;
+            throw e;
+        }
+
+        deliverObjects();
+    }
+
+    /**
+     * Consumes all bytes of the specified array.
+     *
+     * @param data next chunk of the input.
+     * @throws JsonReadException if a syntax error was detected.
+     * @throws JsonMappingException if an object could not be bound.
+     */
+    public void feed(byte[] data) throws JsonReadException, JsonMappingException {
+        feed(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Reports the end of input.
+     *
+     * @throws JsonReadException if the input ended inside of an object.
+     * @throws JsonMappingException if an object that was not delivered yet could not be bound.
+     */
+    public void endOfInput() throws JsonReadException, JsonMappingException {
+        ensureNotFailed();
+        deliverObjects();
+
+        try {
+            parser.endOfInput();
+        } catch (JsonReadException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Binds the complete objects that were not delivered yet and passes them to the consumer,
+     *   then drops the retained bytes that are no longer needed.
+     *
+     * @throws JsonMappingException if an object could not be bound.
+     */
+    private void deliverObjects() throws JsonMappingException {
+        try {
+            long[] range;
+            // An object is removed before it is bound so that a failing one is not delivered again.
+            while ((range = completeObjects.poll()) != null) {
+                JsonBinder binder = new JsonBinder(new Utf8JsonReader(
+                        buffer, (int) (range[0] - bufferOffset), (int) range[1], retainIdentity));
+                consumer.accept(binder.readObject(objectClass));
+            }
+        } finally {
+            // Dropping the bytes that precede the first retained object.
+            long[] next = completeObjects.peek();
+            long keepFrom = next != null ? next[0] : objectOffset >= 0 ? objectOffset : bufferOffset + bufferLength;
+            int dropped = (int) (keepFrom - bufferOffset);
+            if (dropped > 0) {
+                System.arraycopy(buffer, dropped, buffer, 0, bufferLength - dropped);
+                bufferLength -= dropped;
+                bufferOffset = keepFrom;
+            }
+        }
+    }
+
+    /**
+     * Checks that the input was not rejected by a syntax error.
+     *
+     * @throws JsonReadException if the input was rejected.
+     */
+    private void ensureNotFailed() throws JsonReadException {
+        if (failed) {
+            throw new JsonReadException("[JSON Parser Error] Input was already rejected by a syntax error.");
+        }
+    }
+
+    /**
+     * Tracks the limits of the top-level objects and queues them once they are complete.
+     *
+     * @param token the read token.
+     * @param text the token text.
+     */
+    private void onToken(JsonToken token, String text) {
+        int depth = parser.getDepth();
+
+        if (depth == 1 && token == JsonToken.START_OBJECT) {
+            objectOffset = parser.getTokenOffset();
+        } else if (depth == 0 && token == JsonToken.END_OBJECT) {
+            completeObjects.add(new long[] {objectOffset, parser.getTokenOffset() + 1 - objectOffset});
+            objectOffset = -1;
+        } else if (depth == 0 || (depth == 1 && token == JsonToken.START_ARRAY)) {
+            throw parser.syntaxError("[JSON Object Error] Syntax error: no object delimiter bracket found.");
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.DateFormat;
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.annotations.Ignored;
+import dev.vpendischuk.mapper.json.annotations.PropertyName;
+import dev.vpendischuk.mapper.json.annotations.enums.NullHandling;
+import dev.vpendischuk.mapper.json.exceptions.InvalidTimeFormatException;
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.types.JsonNumber;
+import dev.vpendischuk.mapper.json.types.JsonSupportedTypeClassifier;
+import dev.vpendischuk.mapper.json.types.enums.SupportedType;
+import dev.vpendischuk.mapper.json.util.EncodedText;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
+import dev.vpendischuk.mapper.json.util.StringJsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.*;
+
+/**
+ * Describes how an {@link Exported} class is written as a JSON object:
+ *   the JSON key, the type category and the accessor of every field or record component
+ *   that is included in the output.
+ * <p>
+ * Follows the same rules as the {@link dev.vpendischuk.mapper.json.types.JsonObject} model of an object:
+ *   the properties are sorted by their keys, and if several properties share a key,
+ *   the last declared one that has a value is written.
+ *   The properties are also available in declaration order, in which the groups of properties
+ *   that share a key are placed at the position of their first declared property.
+ * <p>
+ * Plans are built once per class via reflection and cached, together with the encoded
+ *   {@code "key":} prefixes of the properties, so writing an object neither sorts nor encodes keys.
+ */
+final class SerializationPlan {
+    // Key of the service property that holds the unique ID of an object written more than once.
+    static final String REFERENCE_KEY = "$ref";
+
+    // Value returned for properties that could not be accessed.
+    static final Object ABSENT = new Object();
+
+    // Cache of plans built for classes.
+    private static final ClassValue<SerializationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected SerializationPlan computeValue(Class<?> type) {
+            return new SerializationPlan(type);
+        }
+    };
+
+    // Flag that denotes if null values are written.
+    private final boolean includeNull;
+    // Properties of the class sorted by their keys.
+    private final Property[] properties;
+    // Properties of the class in declaration order.
+    private final Property[] declaredProperties;
+    // Index of the first property, the key of which does not precede the reference key.
+    private final int referenceIndex;
+
+    /**
+     * Represents a field or a record component written under a JSON key.
+     */
+    static final class Property {
+        // JSON key of the property.
+        final String key;
+        // Quoted key of the property followed by a colon.
+        final EncodedText encodedKey;
+        // Type category of the declared class of the property.
+        final SupportedType type;
+        // Flag that denotes if the property shares its key with the previous property.
+        final boolean sharesKey;
+        // Flag that denotes if the property is replaced by the reference key.
+        final boolean isReferenceKey;
+        // Flag that denotes if the property is a field of a primitive number or boolean type.
+        final boolean isPrimitiveField;
+        // Index of the property in declaration order.
+        private final int index;
+        // Date format of a datetime property (null if not specified).
+        private final String dateFormat;
+        // The field read by the serializer (null for record components).
+        private final Field field;
+        // Accessor of the record component (null for fields).
+        private final Method accessor;
+        // Formatter created from the date format on first use.
+        private DateTimeFormatter formatter;
+
+        /**
+         * Initializes a new {@link Property} instance.
+         *
+         * @param key JSON key of the property.
+         * @param type declared class of the property.
+         * @param index index of the property in declaration order.
+         * @param dateFormat date format of a datetime property.
+         * @param field the field or {@code null} for record components.
+         * @param accessor accessor of the record component or {@code null} for fields.
+         */
+        private Property(String key, Class<?> type, int index, String dateFormat, Field field, Method accessor) {
+            this(key, JsonSupportedTypeClassifier.classifyType(type), false, index, dateFormat, field, accessor);
+        }
+
+        /**
+         * Initializes a new {@link Property} instance.
+         *
+         * @param key JSON key of the property.
+         * @param type type category of the declared class of the property.
+         * @param sharesKey flag that denotes if the property shares its key with the previous property.
+         * @param index index of the property in declaration order.
+         * @param dateFormat date format of a datetime property.
+         * @param field the field or {@code null} for record components.
+         * @param accessor accessor of the record component or {@code null} for fields.
+         */
+        private Property(String key, SupportedType type, boolean sharesKey, int index, String dateFormat,
+                         Field field, Method accessor) {
+            this.key = key;
+            this.encodedKey = encodeKey(key);
+            this.type = type;
+            this.sharesKey = sharesKey;
+            this.isReferenceKey = key.equals(REFERENCE_KEY);
+            this.isPrimitiveField = field != null && field.getType().isPrimitive() && field.getType() != char.class;
+            this.index = index;
+            this.dateFormat = dateFormat;
+            this.field = field;
+            this.accessor = accessor;
+        }
+
+        /**
+         * Encodes the specified key as an escaped JSON string followed by a colon.
+         *
+         * @param key the key.
+         * @return the encoded key.
+         */
+        private static EncodedText encodeKey(String key) {
+            StringJsonWriter writer = new StringJsonWriter();
+
+            try {
+                writer.writeString(key);
+                writer.write(':');
+                return new EncodedText(writer.toString());
+            } finally {
+                writer.close();
+            }
+        }
+
+        /**
+         * Reads the value of the property from the specified object.
+         *
+         * @param object the object.
+         * @return the value or {@link #ABSENT} if it could not be read.
+         */
+        Object value(Object object) {
+            try {
+                return field != null ? field.get(object) : accessor.invoke(object);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                return ABSENT;
+            }
+        }
+
+        /**
+         * Writes the value of a primitive field of the specified object without boxing it.
+         *
+         * @param object the object.
+         * @param writer the writer.
+         * @throws JsonMappingException if the value is not finite or the field could not be read.
+         * @throws IOException if the text could not be written.
+         */
+        void writePrimitive(Object object, JsonWriter writer) throws JsonMappingException, IOException {
+            Class<?> fieldType = field.getType();
+
+            try {
+                if (fieldType == double.class) {
+                    JsonNumber.write(field.getDouble(object), writer);
+                } else if (fieldType == float.class) {
+                    JsonNumber.write(field.getFloat(object), writer);
+                } else if (fieldType == boolean.class) {
+                    writer.write(field.getBoolean(object) ? "true" : "false");
+                } else {
+                    writer.writeNumber(field.getLong(object));
+                }
+            } catch (IllegalAccessException ex) {
+                // Fields are made accessible when the plan is built.
+                throw new JsonMappingException("[JSON Object Error] Object mapping error: " +
+                        "Field " + field.getName() + " could not be read.", ex);
+            }
+        }
+
+        /**
+         * Formats the specified datetime value with the date format of the property
+         *   or as by its {@code toString} method if the property has no date format.
+         *
+         * @param value the datetime value.
+         * @return text representation of the value.
+         * @throws InvalidTimeFormatException if the value cannot be formatted with the date format.
+         */
+        String format(Object value) throws InvalidTimeFormatException {
+            if (dateFormat == null) {
+                return value.toString();
+            }
+
+            if (formatter == null) {
+                formatter = DateTimeFormatter.ofPattern(dateFormat);
+            }
+
+            try {
+                return formatter.format((TemporalAccessor) value);
+            } catch (UnsupportedTemporalTypeException ex) {
+                throw new InvalidTimeFormatException("[JSON Object Error] Field " + key +
+                        " date format invalid.", ex);
+            }
+        }
+
+        /**
+         * Returns a copy of the property that shares its key with the previous property.
+         *
+         * @return the copy.
+         */
+        private Property sharingKey() {
+            return new Property(key, type, true, index, dateFormat, field, accessor);
+        }
+    }
+
+    /**
+     * Returns the cached plan for the specified class, building it on first use.
+     *
+     * @param type the class.
+     * @return the serialization plan.
+     * @throws JsonMappingException if the class cannot be written.
+     */
+    static SerializationPlan of(Class<?> type) throws JsonMappingException {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Builds a new {@link SerializationPlan} instance for the specified class.
+     *
+     * @param type the class.
+     * @throws JsonMappingException if the class cannot be written.
+     */
+    private SerializationPlan(Class<?> type) throws JsonMappingException {
+        checkClassSupport(type);
+
+        includeNull = type.getAnnotation(Exported.class).nullHandling() == NullHandling.INCLUDE;
+
+        Property[] declared = type.isRecord() ? recordProperties(type) : classProperties(type);
+
+        // Sorting by key; properties that share a key are ordered from the last declared one.
+        Arrays.sort(declared, Comparator.comparing((Property property) -> property.key)
+                .thenComparing(property -> -property.index));
+
+        properties = new Property[declared.length];
+        int index = declared.length;
+        for (int i = 0; i < declared.length; ++i) {
+            boolean sharesKey = i > 0 && declared[i].key.equals(declared[i - 1].key);
+            properties[i] = sharesKey ? declared[i].sharingKey() : declared[i];
+
+            if (index == declared.length && declared[i].key.compareTo(REFERENCE_KEY) >= 0) {
+                index = i;
+            }
+        }
+        referenceIndex = index;
+
+        // Groups of properties that share a key are ordered by their first declared property.
+        Map<String, Integer> firstIndices = new HashMap<>();
+        for (final Property property : properties) {
+            firstIndices.merge(property.key, property.index, Math::min);
+        }
+
+        declaredProperties = properties.clone();
+        Arrays.sort(declaredProperties, Comparator.comparing((Property property) -> firstIndices.get(property.key))
+                .thenComparing(property -> -property.index));
+    }
+
+    /**
+     * Checks if the class is supported for marshalling.
+     *
+     * @param type the checked class.
+     * @throws JsonMappingException if the class is unsupported or invalid.
+     */
+    private static void checkClassSupport(Class<?> type) throws JsonMappingException {
+        if (!type.isAnnotationPresent(Exported.class)) {
+            throw new JsonMappingException("[JSON Object Error] Object type invalid: " +
+                    "Exported annotation not found.");
+        }
+
+        if (type.getTypeParameters().length != 0) {
+            throw new JsonMappingException("[JSON Object Error] Object type invalid: " +
+                    "Generic types are not supported.");
+        }
+
+        if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
+            throw new JsonMappingException("[JSON Object Error] Object type invalid: " +
+                    "Non-static inner classes are not supported.");
+        }
+
+        if (!type.isRecord()) {
+            try {
+                type.getConstructor();
+            } catch (NoSuchMethodException ex) {
+                throw new JsonMappingException("[JSON Object Error] Object type invalid: " +
+                        "Parameterless constructor not found.", ex);
+            }
+        }
+    }
+
+    /**
+     * Builds the properties of a class from its declared non-static fields that are not {@link Ignored}.
+     *
+     * @param type the class.
+     * @return the properties in declaration order.
+     * @throws JsonMappingException if a property name duplicates the name of another field.
+     */
+    private static Property[] classProperties(Class<?> type) throws JsonMappingException {
+        List<Property> propertyList = new ArrayList<>();
+
+        for (final Field field : type.getDeclaredFields()) {
+            if (field.isSynthetic() || Modifier.isStatic(field.getModifiers()) ||
+                    field.isAnnotationPresent(Ignored.class)) {
+                continue;
+            }
+
+            String key = field.getName();
+
+            if (field.isAnnotationPresent(PropertyName.class)) {
+                key = field.getAnnotation(PropertyName.class).value();
+
+                try {
+                    if (!type.getDeclaredField(key).equals(field)) {
+                        throw new JsonMappingException("[JSON Object Error] Illegal property naming: " +
+                                "Field " + field.getName() + " annotation name duplicates the name of another field.");
+                    }
+                } catch (NoSuchFieldException ignored) { }
+            }
+
+            field.setAccessible(true);
+            String dateFormat = field.isAnnotationPresent(DateFormat.class) ?
+                    field.getAnnotation(DateFormat.class).value() : null;
+
+            propertyList.add(new Property(key, field.getType(), propertyList.size(), dateFormat, field, null));
+        }
+
+        return propertyList.toArray(new Property[0]);
+    }
+
+    /**
+     * Builds the properties of a record from its components that are not {@link Ignored}.
+     *
+     * @param type the record class.
+     * @return the properties in declaration order.
+     * @throws JsonMappingException if a property name duplicates the name of a component.
+     */
+    private static Property[] recordProperties(Class<?> type) throws JsonMappingException {
+        RecordComponent[] components = type.getRecordComponents();
+        List<Property> propertyList = new ArrayList<>();
+
+        for (final RecordComponent component : components) {
+            if (component.isAnnotationPresent(Ignored.class)) {
+                continue;
+            }
+
+            String key = component.getName();
+
+            if (component.isAnnotationPresent(PropertyName.class)) {
+                key = component.getAnnotation(PropertyName.class).value();
+
+                for (final RecordComponent other : components) {
+                    if (other.getName().equals(key)) {
+                        throw new JsonMappingException("[JSON Object Error] Illegal property naming: " +
+                                "Component " + component.getName() + " annotation name " +
+                                "duplicates the name of another component.");
+                    }
+                }
+            }
+
+            Method accessor = component.getAccessor();
+            accessor.setAccessible(true);
+            String dateFormat = component.isAnnotationPresent(DateFormat.class) ?
+                    component.getAnnotation(DateFormat.class).value() : null;
+
+            propertyList.add(new Property(key, component.getType(), propertyList.size(), dateFormat,
+                    null, accessor));
+        }
+
+        return propertyList.toArray(new Property[0]);
+    }
+
+    /**
+     * Checks if null values are written.
+     *
+     * @return {@code true} if the null handling policy is set to include.
+     */
+    boolean includeNull() {
+        return includeNull;
+    }
+
+    /**
+     * Returns the properties of the class sorted by their keys or in declaration order.
+     * <p>
+     * In both orders, properties that share a key follow each other, starting from the last declared one.
+     *
+     * @param inDeclarationOrder flag that denotes if the properties are returned in declaration order.
+     * @return the properties.
+     */
+    Property[] properties(boolean inDeclarationOrder) {
+        return inDeclarationOrder ? declaredProperties : properties;
+    }
+
+    /**
+     * Returns the position of the reference key among the properties in the specified order.
+     *
+     * @param inDeclarationOrder flag that denotes if the properties are in declaration order.
+     * @return index of the first property, the key of which does not precede the reference key,
+     *         or {@code 0} in declaration order, where the reference key is written first.
+     */
+    int referenceIndex(boolean inDeclarationOrder) {
+        return inDeclarationOrder ? 0 : referenceIndex;
+    }
+}
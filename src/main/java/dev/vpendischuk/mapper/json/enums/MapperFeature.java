@@ -0,0 +1,24 @@
+package dev.vpendischuk.mapper.json.enums;
+
+/**
+ * Enumeration of optional features that can be enabled
+ *   for a {@code JsonMapper} instance:
+ * <ul>
+ *     <li>{@code MEMORY_MAPPED_FILES} - files are read by mapping them into memory
+ *       instead of streaming them through heap buffers.</li>
+ *     <li>{@code STRUCTURAL_INDEX} - input is read fully and parsed in two stages:
+ *       the structural characters are indexed first, then the index is walked
+ *       to read the values.</li>
+ *     <li>{@code PARALLEL_ARRAYS} - input is read fully and indexed, and arrays of objects
+ *       are split into chunks that are bound in parallel on the common fork-join pool;
+ *       has no effect if reference equality is maintained.</li>
+ *     <li>{@code DECLARATION_ORDER} - properties of objects are written in declaration order
+ *       instead of being sorted by keys; the {@code "$ref"} property is written first.</li>
+ * </ul>
+ */
+public enum MapperFeature {
+    MEMORY_MAPPED_FILES,
+    STRUCTURAL_INDEX,
+    PARALLEL_ARRAYS,
+    DECLARATION_ORDER
+}
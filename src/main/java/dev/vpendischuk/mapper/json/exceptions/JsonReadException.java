@@ -3,8 +3,18 @@ package dev.vpendischuk.mapper.json.exceptions;
 /**
  * Exception that is raised if a syntax error was detected when reading
  *   JSON for unmarshalling.
+ * <p>
+ * Syntax errors detected by a reader carry the position of the error in the input:
+ *   its offset and the line and column numbers (counted from one).
  */
 public class JsonReadException extends Error {
+    // Offset of the error in the input (-1 if the position is unknown).
+    private final long offset;
+    // Number of the line of the error (-1 if the position is unknown).
+    private final long line;
+    // Number of the column of the error (-1 if the position is unknown).
+    private final long column;
+
     /**
      * Initializes a new {@code JsonReadException} instance
      *   with a specified message.
@@ -13,6 +23,9 @@ public class JsonReadException extends Error {
      */
     public JsonReadException(final String message) {
         super(message);
+        offset = -1;
+        line = -1;
+        column = -1;
     }
 
     /**
@@ -24,5 +37,67 @@ public class JsonReadException extends Error {
      */
     public JsonReadException(final String message, final Throwable cause) {
         super(message, cause);
+        offset = -1;
+        line = -1;
+        column = -1;
+    }
+
+    /**
+     * Initializes a new {@code JsonReadException} instance
+     *   with a specified message and position of the error, which is appended to the message.
+     *
+     * @param message the message text.
+     * @param offset offset of the error in the input.
+     * @param line number of the line of the error.
+     * @param column number of the column of the error.
+     */
+    public JsonReadException(final String message, final long offset, final long line, final long column) {
+        super(withPosition(message, offset, line, column));
+        this.offset = offset;
+        this.line = line;
+        this.column = column;
+    }
+
+    /**
+     * Appends the position of an error to the message text.
+     *
+     * @param message the message text.
+     * @param offset offset of the error in the input.
+     * @param line number of the line of the error.
+     * @param column number of the column of the error.
+     * @return the message text with the position.
+     */
+    private static String withPosition(final String message, final long offset, final long line, final long column) {
+        String text = message.endsWith(".") ? message.substring(0, message.length() - 1) : message;
+        return text + " at line " + line + ", column " + column + " (offset " + offset + ").";
+    }
+
+    /**
+     * Returns the offset of the error in the input, counted in the units
+     *   of the input (characters or bytes).
+     *
+     * @return the offset or {@code -1} if the position is unknown.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of the line of the error, counted from one.
+     *
+     * @return the line number or {@code -1} if the position is unknown.
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * Returns the number of the column of the error, counted from one in the units
+     *   of the input (characters or bytes).
+     *
+     * @return the column number or {@code -1} if the position is unknown.
+     */
+    public long getColumn() {
+        return column;
     }
 }
@@ -5,7 +5,9 @@ import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
 import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
 import dev.vpendischuk.mapper.json.types.enums.SupportedType;
 import dev.vpendischuk.mapper.json.util.JsonMapReferenceResolver;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -62,13 +64,13 @@ public final class JsonArray extends JsonValue {
         this(jsonReader.getReferenceResolver(), jsonReader.getIdentityRetainFlag());
 
         if (jsonReader.nextCharacterTrimmed() != '[') {
-            throw new JsonReadException("[JSON Array Error] Syntax error: no array delimiter bracket found.");
+            throw jsonReader.syntaxError("[JSON Array Error] Syntax error: no array delimiter bracket found.");
         }
 
         char readChar = jsonReader.nextCharacterTrimmed();
 
         if (readChar == 0) {
-            throw new JsonReadException("[JSON Array Error] Syntax error: expected ']' or a comma.");
+            throw jsonReader.syntaxError("[JSON Array Error] Syntax error: expected ']' or a comma.");
         }
 
         // While the array is not closed.
@@ -77,7 +79,7 @@ public final class JsonArray extends JsonValue {
             for (;;) {
                 if (jsonReader.nextCharacterTrimmed() == ',') {
                     // If a comma was encountered without a value.
-                    throw new JsonReadException("[JSON Array Error] Syntax error: no value provided.");
+                    throw jsonReader.syntaxError("[JSON Array Error] Syntax error: no value provided.");
                 } else {
                     // Reading the next JsonValue from JSON.
                     jsonReader.moveBack();
@@ -92,7 +94,7 @@ public final class JsonArray extends JsonValue {
 
                         // Unexpected EOF.
                         if (readChar == 0) {
-                            throw new JsonReadException("[JSON Array Error] Syntax error: expected ']' or a comma.");
+                            throw jsonReader.syntaxError("[JSON Array Error] Syntax error: expected ']' or a comma.");
                         }
 
                         // If array is closed - stop reading.
@@ -106,7 +108,7 @@ public final class JsonArray extends JsonValue {
                         return;
                     }
                     // Unexpected char between the objects.
-                    default -> throw new JsonReadException("[JSON Array Error] Syntax error: expected ']' or a comma.");
+                    default -> throw jsonReader.syntaxError("[JSON Array Error] Syntax error: expected ']' or a comma.");
                 }
             }
         }
@@ -158,15 +160,8 @@ public final class JsonArray extends JsonValue {
             SupportedType typeClassifier = JsonSupportedTypeClassifier.classifyType(entryClass);
 
             switch (typeClassifier) {
-                case NUMBER -> {
-                    if (Double.class.isAssignableFrom(entryClass)) {
-                        // If entry is a floating-point number value.
-                        this.collection.add(new JsonNumber((Double) entry));
-                    } else {
-                        // If entry is an integer value.
-                        this.collection.add(new JsonNumber((Long) entry));
-                    }
-                }
+                // If entry is a numerical value.
+                case NUMBER -> this.collection.add(JsonNumber.valueOf((Number) entry));
                 // If entry is a character.
                 case CHARACTER -> this.collection.add(new JsonString((Character) entry));
                 // If entry is a boolean value.
@@ -209,29 +204,35 @@ public final class JsonArray extends JsonValue {
      */
     @Override
     public String toString() {
-        StringBuilder stringBuilder = new StringBuilder();
+        return writeToString();
+    }
 
-        stringBuilder.append('[');
+    /**
+     * Writes the JSON representation of the array to the specified writer, element by element.
+     *
+     * @param writer the writer.
+     * @throws IOException if the text could not be written.
+     */
+    @Override
+    public void writeTo(JsonWriter writer) throws IOException {
+        writer.write('[');
 
-        // Saving collection contents representation to a string.
-        Object[] contentArray = collection.toArray();
-        for (int i = 0; i < contentArray.length; ++i) {
-            // Appending JsonValue string representation.
-            if (!Objects.isNull(contentArray[i])) {
-                stringBuilder.append(contentArray[i].toString());
-            } else {
-                stringBuilder.append("null");
+        boolean first = true;
+        for (JsonValue value : collection) {
+            // Comma separator.
+            if (!first) {
+                writer.write(',');
             }
+            first = false;
 
-            // Comma separator.
-            if (i != contentArray.length - 1) {
-                stringBuilder.append(',');
+            if (!Objects.isNull(value)) {
+                value.writeTo(writer);
+            } else {
+                writer.write("null");
             }
         }
 
-        stringBuilder.append(']');
-
-        return stringBuilder.toString();
+        writer.write(']');
     }
 
     /**
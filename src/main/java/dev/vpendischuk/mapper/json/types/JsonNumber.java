@@ -1,60 +1,276 @@
 package dev.vpendischuk.mapper.json.types;
 
 import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.util.DoubleFormatter;
+import dev.vpendischuk.mapper.json.util.DoubleParser;
+import dev.vpendischuk.mapper.json.util.JsonNumberLexer;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
 
+import java.io.IOException;
 import java.math.BigDecimal;
-import java.util.Objects;
+import java.math.BigInteger;
 
 /**
  * Represents a generic number value in a JSON object model.
  * <p>
- * <b>Warning:</b> cannot wrap a value that cannot be wrapped in a {@link BigDecimal} wrapper.
+ * Integers that fit in a {@code long} and floating-point values are stored as primitives:
+ *   floating-point values are written as the shortest decimal that is parsed back to the same value.
+ *   A {@link BigDecimal} is only stored for values that no primitive represents exactly,
+ *   such as read numbers with more than 15 significant digits, and for read numbers whose text
+ *   differs from that of the closest double, such as {@code 0.10} or {@code 1e2},
+ *   so that they are written back unchanged.
+ * <p>
+ * <b>Warning:</b> cannot wrap a value that cannot be wrapped in a {@link BigDecimal} wrapper,
+ *   such as {@code NaN} and infinities.
  */
 public final class JsonNumber extends JsonValue {
-    // Wrapped numerical value.
-    private final BigDecimal value;
+    // The greatest amount of significant decimal digits that a double always represents exactly.
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    // The least magnitude of a double that is written in plain notation.
+    private static final double MIN_PLAIN_DOUBLE = 1e-3;
+    // The least magnitude of a double that is written in scientific notation.
+    private static final double MAX_PLAIN_DOUBLE = 1e7;
+
+    /**
+     * Kinds of the wrapped values.
+     */
+    private enum Kind {
+        NULL, LONG, DOUBLE, FLOAT, DECIMAL
+    }
+
+    // Kind of the wrapped value.
+    private final Kind kind;
+    // Wrapped long value or bits of the wrapped floating-point value (as a double).
+    private final long bits;
+    // Wrapped exact value (null unless the kind is DECIMAL).
+    private final BigDecimal decimal;
 
     /**
      * Initializes a new {@code JsonNumber} instance
      *   from specified string that represents a value.
      *
      * @param string string representation of a numeric value.
+     * @throws NumberFormatException if the string does not represent a number.
+     */
+    public JsonNumber(String string) throws NumberFormatException {
+        this(string == null ? null : new JsonNumberLexer().lex(string));
+    }
+
+    /**
+     * Initializes a new {@code JsonNumber} instance from the number read by specified lexer,
+     *   choosing the most compact kind that represents the number exactly and writes it back unchanged.
+     *
+     * @param lexer lexer that read the number or {@code null} for a null value.
+     * @throws NumberFormatException if the characters read by the lexer do not form a number.
      */
-    public JsonNumber(String string) {
-        // Parsing the string to obtain the numeric value to wrap.
-        if (string == null) {
-            this.value = null;
+    public JsonNumber(JsonNumberLexer lexer) throws NumberFormatException {
+        if (lexer == null) {
+            kind = Kind.NULL;
+            bits = 0;
+            decimal = null;
+            return;
+        }
+
+        if (lexer.isLong()) {
+            kind = Kind.LONG;
+            bits = lexer.longValue();
+            decimal = null;
+            return;
+        }
+
+        double value = lexer.doubleValue();
+        int digits = lexer.significantDigits();
+
+        // A double is written as the shortest plain decimal in this range, which is the text itself
+        // if it is short enough and has no redundant zeros.
+        double magnitude = Math.abs(value);
+        if (digits <= MAX_DOUBLE_DIGITS && lexer.isPlainDecimal()
+                && (value == 0 ? digits == 0 : magnitude >= MIN_PLAIN_DOUBLE && magnitude < MAX_PLAIN_DOUBLE)) {
+            kind = Kind.DOUBLE;
+            bits = Double.doubleToRawLongBits(value);
+            decimal = null;
         } else {
-            this.value = new BigDecimal(string);
+            kind = Kind.DECIMAL;
+            bits = 0;
+            decimal = lexer.decimalValue();
         }
     }
 
+    /**
+     * Initializes a new {@code JsonNumber} instance that wraps specified exact value.
+     *
+     * @param value exact numerical value.
+     */
+    public JsonNumber(BigDecimal value) {
+        kind = value == null ? Kind.NULL : Kind.DECIMAL;
+        bits = 0;
+        decimal = value;
+    }
+
     /**
      * Initializes a new {@code JsonNumber} instance from
      *   specified {@code Double} representation of the value.
      *
      * @param value {@code Double} representation of a numerical value.
+     * @throws JsonMappingException if the value is not finite.
      */
-    public JsonNumber(Double value) {
-        if (value == null) {
-            this.value = null;
-        } else {
-            this.value = BigDecimal.valueOf(value);
+    public JsonNumber(Double value) throws JsonMappingException {
+        if (value != null && !Double.isFinite(value)) {
+            throw new JsonMappingException("[JSON Number Error] " +
+                    "Value " + value + " cannot be represented in JSON.");
         }
+
+        kind = value == null ? Kind.NULL : Kind.DOUBLE;
+        bits = value == null ? 0 : Double.doubleToRawLongBits(value);
+        decimal = null;
     }
 
     /**
      * Initializes a new {@code JsonNumber} instance from
-     *   specified {@code Double} representation of the value.
+     *   specified {@code Float} representation of the value.
      *
-     * @param value {@code Double} representation of a numerical value.
+     * @param value {@code Float} representation of a numerical value.
+     * @throws JsonMappingException if the value is not finite.
+     */
+    public JsonNumber(Float value) throws JsonMappingException {
+        if (value != null && !Float.isFinite(value)) {
+            throw new JsonMappingException("[JSON Number Error] " +
+                    "Value " + value + " cannot be represented in JSON.");
+        }
+
+        kind = value == null ? Kind.NULL : Kind.FLOAT;
+        bits = value == null ? 0 : Double.doubleToRawLongBits(value);
+        decimal = null;
+    }
+
+    /**
+     * Initializes a new {@code JsonNumber} instance from
+     *   specified {@code Long} representation of the value.
+     *
+     * @param value {@code Long} representation of a numerical value.
      */
     public JsonNumber(Long value) {
-        if (value == null) {
-            this.value = null;
+        kind = value == null ? Kind.NULL : Kind.LONG;
+        bits = value == null ? 0 : value;
+        decimal = null;
+    }
+
+    /**
+     * Creates a {@code JsonNumber} instance that wraps specified value of any numerical class.
+     * <p>
+     * Floating-point values keep their precision, {@link BigDecimal} and {@link BigInteger} values
+     *   are wrapped exactly and other values are wrapped as {@code long} values.
+     *
+     * @param value the value.
+     * @return the number.
+     * @throws JsonMappingException if the value is not finite.
+     */
+    public static JsonNumber valueOf(Number value) throws JsonMappingException {
+        if (value instanceof Double doubleValue) {
+            return new JsonNumber(doubleValue);
+        }
+        if (value instanceof Float floatValue) {
+            return new JsonNumber(floatValue);
+        }
+        if (value instanceof BigDecimal decimalValue) {
+            return new JsonNumber(decimalValue);
+        }
+        if (value instanceof BigInteger integerValue) {
+            return integerValue.bitLength() < 64
+                    ? new JsonNumber(integerValue.longValue())
+                    : new JsonNumber(new BigDecimal(integerValue));
+        }
+
+        return new JsonNumber(value == null ? null : value.longValue());
+    }
+
+    /**
+     * Writes the JSON representation of specified value of any numerical class to the specified writer,
+     *   exactly as {@code valueOf(value).writeTo(writer)} does, without creating the wrapper.
+     *
+     * @param value the value.
+     * @param writer the writer.
+     * @throws JsonMappingException if the value is not finite.
+     * @throws IOException if the text could not be written.
+     */
+    public static void write(Number value, JsonWriter writer) throws JsonMappingException, IOException {
+        if (value instanceof Double doubleValue) {
+            write(doubleValue.doubleValue(), writer);
+        } else if (value instanceof Float floatValue) {
+            write(floatValue.floatValue(), writer);
+        } else if (value instanceof BigDecimal || value instanceof BigInteger integerValue
+                && integerValue.bitLength() >= 64) {
+            // A big integer has the same representation as a decimal with the zero scale.
+            writer.write(value.toString());
+        } else if (value == null) {
+            writer.write("null");
         } else {
-            this.value = BigDecimal.valueOf(value);
+            writer.writeNumber(value.longValue());
+        }
+    }
+
+    /**
+     * Writes the JSON representation of specified {@code double} value to the specified writer.
+     *
+     * @param value the value.
+     * @param writer the writer.
+     * @throws JsonMappingException if the value is not finite.
+     * @throws IOException if the text could not be written.
+     */
+    public static void write(double value, JsonWriter writer) throws JsonMappingException, IOException {
+        if (!Double.isFinite(value)) {
+            throw new JsonMappingException("[JSON Number Error] " +
+                    "Value " + value + " cannot be represented in JSON.");
+        }
+
+        writer.writeNumber(value);
+    }
+
+    /**
+     * Writes the JSON representation of specified {@code float} value to the specified writer.
+     *
+     * @param value the value.
+     * @param writer the writer.
+     * @throws JsonMappingException if the value is not finite.
+     * @throws IOException if the text could not be written.
+     */
+    public static void write(float value, JsonWriter writer) throws JsonMappingException, IOException {
+        if (!Float.isFinite(value)) {
+            throw new JsonMappingException("[JSON Number Error] " +
+                    "Value " + value + " cannot be represented in JSON.");
         }
+
+        writer.writeNumber(value);
+    }
+
+    /**
+     * Returns the wrapped value converted to a {@code long}, as by a narrowing primitive conversion.
+     *
+     * @return the value.
+     * @throws JsonMappingException if the number wraps a null value.
+     */
+    public long longValue() throws JsonMappingException {
+        return switch (kind) {
+            case LONG -> bits;
+            case DOUBLE, FLOAT -> (long) Double.longBitsToDouble(bits);
+            case DECIMAL -> decimal.longValue();
+            case NULL -> throw nullValueError();
+        };
+    }
+
+    /**
+     * Returns the closest {@code double} to the wrapped value.
+     *
+     * @return the value.
+     * @throws JsonMappingException if the number wraps a null value.
+     */
+    public double doubleValue() throws JsonMappingException {
+        return switch (kind) {
+            case LONG -> bits;
+            case DOUBLE, FLOAT -> Double.longBitsToDouble(bits);
+            case DECIMAL -> DoubleParser.parse(decimal);
+            case NULL -> throw nullValueError();
+        };
     }
 
     /**
@@ -70,22 +286,22 @@ public final class JsonNumber extends JsonValue {
     @Override
     public <T> Object toValue(Class<T> objectClass) throws JsonMappingException {
         if (Double.class.isAssignableFrom(objectClass) || objectClass.equals(double.class)) {
-            return value.doubleValue();
+            return doubleValue();
         }
         if (Float.class.isAssignableFrom(objectClass) || objectClass.equals(float.class)) {
-            return value.floatValue();
+            return floatValue();
         }
         if (Long.class.isAssignableFrom(objectClass) || objectClass.equals(long.class)) {
-            return value.longValue();
+            return longValue();
         }
         if (Integer.class.isAssignableFrom(objectClass) || objectClass.equals(int.class)) {
-            return value.intValue();
+            return (int) longValue();
         }
         if (Short.class.isAssignableFrom(objectClass) || objectClass.equals(short.class)) {
-            return value.shortValue();
+            return (short) longValue();
         }
         if (Byte.class.isAssignableFrom(objectClass) || objectClass.equals(byte.class)) {
-            return value.byteValue();
+            return (byte) longValue();
         }
 
         throw new JsonMappingException("[JSON Number Error] " +
@@ -99,10 +315,54 @@ public final class JsonNumber extends JsonValue {
      */
     @Override
     public String toString() {
-        if (Objects.isNull(value)) {
-            return "null";
+        return switch (kind) {
+            case LONG -> Long.toString(bits);
+            case DOUBLE -> DoubleFormatter.toString(Double.longBitsToDouble(bits));
+            case FLOAT -> DoubleFormatter.toString((float) Double.longBitsToDouble(bits));
+            case DECIMAL -> decimal.toString();
+            case NULL -> "null";
+        };
+    }
+
+    /**
+     * Writes the JSON representation of the numerical value to the specified writer
+     *   without creating an intermediate string for primitive values.
+     *
+     * @param writer the writer.
+     * @throws IOException if the text could not be written.
+     */
+    @Override
+    public void writeTo(JsonWriter writer) throws IOException {
+        switch (kind) {
+            case LONG -> writer.writeNumber(bits);
+            case DOUBLE -> writer.writeNumber(Double.longBitsToDouble(bits));
+            case FLOAT -> writer.writeNumber((float) Double.longBitsToDouble(bits));
+            case DECIMAL -> writer.write(decimal.toString());
+            case NULL -> writer.write("null");
         }
+    }
+
+    /**
+     * Returns the closest {@code float} to the wrapped value.
+     *
+     * @return the value.
+     * @throws JsonMappingException if the number wraps a null value.
+     */
+    private float floatValue() throws JsonMappingException {
+        return switch (kind) {
+            case LONG -> (float) bits;
+            case DOUBLE, FLOAT -> (float) Double.longBitsToDouble(bits);
+            case DECIMAL -> decimal.floatValue();
+            case NULL -> throw nullValueError();
+        };
+    }
 
-        return value.toString();
+    /**
+     * Creates an exception for a conversion of a null value.
+     *
+     * @return the exception.
+     */
+    private static JsonMappingException nullValueError() {
+        return new JsonMappingException("[JSON Number Error] Null value cannot be converted to a number.");
     }
 }
@@ -12,6 +12,7 @@ import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
 import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
 import dev.vpendischuk.mapper.json.types.enums.SupportedType;
 
+import java.io.IOException;
 import java.lang.reflect.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,6 +21,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Represents an object value in the JSON object model.
@@ -57,6 +59,20 @@ public class JsonObject extends JsonValue {
      * @throws JsonReadException if JSON could not be read successfully.
      */
     public JsonObject(JsonReader jsonReader) throws JsonReadException {
+        this(jsonReader, JsonReader::nextValue);
+    }
+
+    /**
+     * Initializes a new {@link JsonObject} instance as a model of an object
+     *   read from input stream via the {@code jsonReader} reader, reading
+     *   the values of the fields with the specified function.
+     *
+     * @param jsonReader a {@link JsonReader} instance.
+     * @param valueReader function that reads the next field value from the reader.
+     * @throws JsonReadException if JSON could not be read successfully.
+     */
+    protected JsonObject(JsonReader jsonReader, Function<JsonReader, JsonValue> valueReader)
+            throws JsonReadException {
         // Initializing with reader parameters.
         this(jsonReader.getReferenceResolver(), jsonReader.getIdentityRetainFlag());
 
@@ -65,7 +81,7 @@ public class JsonObject extends JsonValue {
 
         // Syntax check.
         if (jsonReader.nextCharacterTrimmed() != '{') {
-            throw new JsonReadException("[JSON Object Error] Syntax error: no object delimiter bracket found.");
+            throw jsonReader.syntaxError("[JSON Object Error] Syntax error: no object delimiter bracket found.");
         }
 
         for (;;) {
@@ -74,14 +90,14 @@ public class JsonObject extends JsonValue {
 
             switch (readChar) {
                 // EOF check.
-                case 0 -> throw new JsonReadException("[JSON Object Error] Syntax error: unexpected end of file.");
+                case 0 -> throw jsonReader.syntaxError("[JSON Object Error] Syntax error: unexpected end of file.");
                 case '}' -> {
                     return;
                 }
                 case '{', '[' -> {
                     // Syntax check.
                     if (previousChar == '{') {
-                        throw new JsonReadException("[JSON Object Error] Syntax error: no object/array key found.");
+                        throw jsonReader.syntaxError("[JSON Object Error] Syntax error: no object/array key found.");
                     }
                 }
                 default -> {
@@ -92,7 +108,7 @@ public class JsonObject extends JsonValue {
 
                     // Syntax check.
                     if (!keyJsonValue.isJsonString()) {
-                        throw new JsonReadException("[JSON Object Error] Syntax error: invalid key type.");
+                        throw jsonReader.syntaxError("[JSON Object Error] Syntax error: invalid key type.");
                     }
 
                     // Obtaining the key.
@@ -103,19 +119,19 @@ public class JsonObject extends JsonValue {
             // Syntax check.
             readChar = jsonReader.nextCharacterTrimmed();
             if (readChar != ':') {
-                throw new JsonReadException("[JSON Object Error] " +
+                throw jsonReader.syntaxError("[JSON Object Error] " +
                         "Syntax error: no expected ':' after the key " + keyValue + ".");
             }
 
             if (!Objects.isNull(keyValue)) {
                 // Duplicate check.
                 if (modelMap.containsKey(keyValue)) {
-                    throw new JsonReadException("[JSON Object Error] " +
+                    throw jsonReader.syntaxError("[JSON Object Error] " +
                             "Syntax error: duplicate key " + keyValue + ".");
                 }
 
                 // Reading the field value and saving the pair in the model.
-                JsonValue value = jsonReader.nextValue();
+                JsonValue value = valueReader.apply(jsonReader);
                 if (value != null) {
                     modelMap.put(keyValue, value);
                 }
@@ -136,7 +152,7 @@ public class JsonObject extends JsonValue {
                     return;
                 }
                 // Syntax error detected - invalid character after a value.
-                default -> throw new JsonReadException("[JSON Object Error] Syntax error: expected a '}' or a comma.");
+                default -> throw jsonReader.syntaxError("[JSON Object Error] Syntax error: expected a '}' or a comma.");
             }
         }
     }
@@ -408,16 +424,8 @@ public class JsonObject extends JsonValue {
             }
 
             switch (valueTypeClassification) {
-                case NUMBER -> {
-                    // If value is a numerical value.
-                    if (Double.class.isAssignableFrom(valueClass)) {
-                        // If entry is a floating-point number value.
-                        modelMap.put(keyName, new JsonNumber(((Number)value).doubleValue()));
-                    } else {
-                        // If entry is an integer number value.
-                        modelMap.put(keyName, new JsonNumber(((Number)value).longValue()));
-                    }
-                }
+                // If value is a numerical value.
+                case NUMBER -> modelMap.put(keyName, JsonNumber.valueOf((Number) value));
                 // If value is a character.
                 case CHARACTER -> modelMap.put(keyName, new JsonString((Character) value));
                 // If value is a boolean value.
@@ -488,6 +496,16 @@ public class JsonObject extends JsonValue {
         }
     }
 
+    /**
+     * Returns the model of the value stored under the specified key.
+     *
+     * @param key the key.
+     * @return the value model or {@code null} if the object has no such key.
+     */
+    public JsonValue getValue(String key) {
+        return modelMap.get(key);
+    }
+
     /**
      * Returns a JSON representation of the object
      *   represented by the {@code JsonObject} instance.
@@ -496,32 +514,33 @@ public class JsonObject extends JsonValue {
      */
     @Override
     public String toString() {
-        StringBuilder stringBuilder = new StringBuilder();
+        return writeToString();
+    }
 
-        stringBuilder.append('{');
+    /**
+     * Writes the JSON representation of the object to the specified writer, property by property.
+     *
+     * @param writer the writer.
+     * @throws IOException if the text could not be written.
+     */
+    @Override
+    public void writeTo(JsonWriter writer) throws IOException {
+        writer.write('{');
 
-        int index = 0;
-        // Appending each value's string representation.
+        boolean first = true;
         for (final Map.Entry<String, JsonValue> entry : modelMap.entrySet()) {
-            stringBuilder.append('\"');
-            if (!Objects.isNull(entry)) {
-                stringBuilder.append(entry.getKey());
-            } else {
-                stringBuilder.append("null");
+            // Comma separator.
+            if (!first) {
+                writer.write(',');
             }
-            stringBuilder.append("\":");
-            stringBuilder.append(entry.getValue().toString());
+            first = false;
 
-            if (index != modelMap.entrySet().size() - 1) {
-                stringBuilder.append(',');
-            }
-
-            index++;
+            writer.writeString(entry.getKey());
+            writer.write(':');
+            entry.getValue().writeTo(writer);
         }
 
-        stringBuilder.append('}');
-
-        return stringBuilder.toString();
+        writer.write('}');
     }
 
     /**
@@ -719,7 +738,7 @@ public class JsonObject extends JsonValue {
 
         // Parsing the model.
         for (final String requiredFieldName : classFieldNames) {
-            JsonValue value = modelMap.get(requiredFieldName);
+            JsonValue value = getValue(requiredFieldName);
 
             try {
                 Field field = objectClass.getDeclaredField(requiredFieldName);
@@ -767,7 +786,7 @@ public class JsonObject extends JsonValue {
 
         // If model references a value - initialize it with a reference.
         if (modelMap.containsKey("$ref") && !objectClass.isRecord()) {
-            UUID id = UUID.nameUUIDFromBytes(((JsonString) modelMap.get("$ref")).getContent().getBytes());
+            UUID id = UUID.nameUUIDFromBytes(((JsonString) getValue("$ref")).getContent().getBytes());
             T referencedObject = objectClass.cast(mapReferenceResolver.getObjectReference(id));
 
             if (referencedObject == null) {
@@ -797,7 +816,7 @@ public class JsonObject extends JsonValue {
                 object = objectClass.cast(instance);
 
                 if (modelMap.containsKey("$ref")) {
-                    UUID id = UUID.nameUUIDFromBytes(((JsonString) modelMap.get("$ref")).getContent().getBytes());
+                    UUID id = UUID.nameUUIDFromBytes(((JsonString) getValue("$ref")).getContent().getBytes());
                     T referencedObject = objectClass.cast(mapReferenceResolver.getObjectReference(id));
 
                     if (referencedObject == null) {
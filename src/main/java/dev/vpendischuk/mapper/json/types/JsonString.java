@@ -1,6 +1,9 @@
 package dev.vpendischuk.mapper.json.types;
 
 import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
+
+import java.io.IOException;
 
 /**
  * Represents a string value in the JSON object model.
@@ -16,14 +19,8 @@ public final class JsonString extends JsonValue {
      * @param content JSON string value content.
      */
     public JsonString(String content) {
-        // Replacing escape sequences with their implicit text codes
-        // to avoid them when printing a JSON representation.
-        this.content = String.valueOf(content)
-                .replace("\n", "\\n")
-                .replace("\t", "\\t")
-                .replace("\f", "\\f")
-                .replace("\b", "\\b")
-                .replace("\r", "\\r");
+        // The content is stored as it is: it is only escaped when the string is written.
+        this.content = String.valueOf(content);
     }
 
     /**
@@ -33,14 +30,7 @@ public final class JsonString extends JsonValue {
      * @param content JSON string value content as a character.
      */
     public JsonString(Character content) {
-        // Replacing escape sequences with their implicit text codes
-        // to avoid them when printing a JSON representation.
-        this.content = String.valueOf(content)
-                .replace("\n", "\\n")
-                .replace("\t", "\\t")
-                .replace("\f", "\\f")
-                .replace("\b", "\\b")
-                .replace("\r", "\\r");
+        this.content = String.valueOf(content);
     }
 
     /**
@@ -70,18 +60,24 @@ public final class JsonString extends JsonValue {
     }
 
     /**
-     * Returns the JSON string representation of the {@code JsonString} value.
+     * Returns the JSON string representation of the {@code JsonString} value:
+     *   the quoted content with the quotes, backslashes and control characters escaped.
      *
      * @return JSON string representation.
      */
     @Override
     public String toString() {
-        if (content.equals("null")) {
-            return content;
-        }
-
-        char quote = content.contains("\"") ? '\'' : '\"';
+        return writeToString();
+    }
 
-        return quote + content + quote;
+    /**
+     * Writes the JSON string representation of the {@code JsonString} value to the specified writer.
+     *
+     * @param writer the writer.
+     * @throws IOException if the text could not be written.
+     */
+    @Override
+    public void writeTo(JsonWriter writer) throws IOException {
+        writer.writeString(content);
     }
 }
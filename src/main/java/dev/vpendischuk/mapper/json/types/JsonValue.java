@@ -4,7 +4,11 @@ import dev.vpendischuk.mapper.json.exceptions.InvalidTimeFormatException;
 import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
 import dev.vpendischuk.mapper.json.util.DateFormatValidator;
 import dev.vpendischuk.mapper.json.util.DefaultDateFormatValidator;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
+import dev.vpendischuk.mapper.json.util.StringJsonWriter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -48,6 +52,39 @@ public abstract class JsonValue {
      */
     public abstract <T> Object toValue(Class<T> objectClass) throws JsonMappingException;
 
+    /**
+     * Writes the JSON representation of the value to the specified writer.
+     * <p>
+     * Writes the same text as {@link #toString()}; composite values write their elements
+     *   one by one instead of building the whole text in memory.
+     *
+     * @param writer the writer.
+     * @throws IOException if the text could not be written.
+     */
+    public void writeTo(JsonWriter writer) throws IOException {
+        writer.write(toString());
+    }
+
+    /**
+     * Collects the text written by {@link #writeTo(JsonWriter)} into a string;
+     *   used by composite values to implement {@link #toString()}.
+     *
+     * @return JSON representation of the value.
+     */
+    final String writeToString() {
+        StringJsonWriter writer = new StringJsonWriter();
+
+        try {
+            writeTo(writer);
+            return writer.toString();
+        } catch (IOException exception) {
+            // A string writer does not throw, the exception is only declared by the interface.
+            throw new UncheckedIOException(exception);
+        } finally {
+            writer.close();
+        }
+    }
+
     /**
      * Converts the value represented by a string into a {@link JsonValue} instance
      *   if it doesn't represent an object or a collection.
@@ -112,6 +149,24 @@ public abstract class JsonValue {
             valueContent = value.toString();
         }
 
+        return parseDateTime(valueContent, valueClass, dateFormat);
+    }
+
+    /**
+     * Parses the datetime value represented by the {@code valueContent} string in accordance
+     *   to the specified {@code valueClass} temporal class of the value and the date format.
+     *
+     * @param valueContent string representation of the value.
+     * @param valueClass class of the datetime value ({@code LocalTime}, {@code LocalDate} or {@code LocalDateTime}).
+     * @param dateFormat date format used for parsing data or {@code null} for the ISO format.
+     * @return parsed datetime object.
+     * @throws InvalidTimeFormatException on invalid date format.
+     */
+    public static Object parseDateTime(String valueContent, Class<?> valueClass, String dateFormat)
+            throws InvalidTimeFormatException {
+        boolean isTime = TypeResolver.isLocalTime(valueClass);
+        boolean isDate = TypeResolver.isLocalDate(valueClass);
+
         if (!Objects.isNull(dateFormat)) {
             DateFormatValidator validator = new DefaultDateFormatValidator(dateFormat);
 
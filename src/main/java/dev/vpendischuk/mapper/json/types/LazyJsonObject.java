@@ -0,0 +1,250 @@
+package dev.vpendischuk.mapper.json.types;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.DefaultJsonReader;
+import dev.vpendischuk.mapper.json.util.JsonReader;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Represents an object value in the JSON object model, the fields of which
+ *   are parsed on demand.
+ * <p>
+ * When the object is read, the values of its fields are only skipped, and their ranges
+ *   in the source data are recorded. A value is parsed when it is first requested
+ *   via {@link #getValue(String)}, {@link #toValue(Class)} or {@link #toString()};
+ *   nested objects are lazy as well. Syntax errors inside of a value that is never
+ *   requested are not detected, except for mismatched brackets.
+ * <p>
+ * Reference resolution depends on a resolver shared by the whole model,
+ *   so if reference equality is maintained, the values are parsed eagerly.
+ * <p>
+ * Initialization example:
+ * <pre>
+ * byte[] data = Files.readAllBytes(Path.of("/dir/file"));
+ * JsonObject model = new LazyJsonObject(data, false);
+ * // only the "header" value is parsed
+ * Header header = (Header) model.getValue("header").toValue(Header.class);
+ * </pre>
+ */
+public class LazyJsonObject extends JsonObject {
+    /**
+     * Initializes a new {@link LazyJsonObject} instance as a model of an object
+     *   read from UTF-8 encoded data.
+     *
+     * @param data array that stores UTF-8 encoded JSON data.
+     * @param retainIdentity flag that denotes if reference equality should be maintained.
+     * @throws JsonReadException if JSON could not be read successfully.
+     */
+    public LazyJsonObject(byte[] data, boolean retainIdentity) throws JsonReadException {
+        this(data, 0, data.length, retainIdentity);
+    }
+
+    /**
+     * Initializes a new {@link LazyJsonObject} instance as a model of an object
+     *   read from UTF-8 encoded data.
+     *
+     * @param data array that stores UTF-8 encoded JSON data.
+     * @param offset index of the first byte of the data in the array.
+     * @param length amount of data bytes.
+     * @param retainIdentity flag that denotes if reference equality should be maintained.
+     * @throws JsonReadException if JSON could not be read successfully.
+     */
+    public LazyJsonObject(byte[] data, int offset, int length, boolean retainIdentity) throws JsonReadException {
+        this(new Utf8JsonReader(data, offset, length, retainIdentity), new ByteSource(data, offset));
+    }
+
+    /**
+     * Initializes a new {@link LazyJsonObject} instance as a model of an object
+     *   read from a string.
+     *
+     * @param string string which stores the JSON data.
+     * @param retainIdentity flag that denotes if reference equality should be maintained.
+     * @throws JsonReadException if JSON could not be read successfully.
+     */
+    public LazyJsonObject(String string, boolean retainIdentity) throws JsonReadException {
+        this(new DefaultJsonReader(string, retainIdentity), new StringSource(string, 0));
+    }
+
+    /**
+     * Initializes a new {@link LazyJsonObject} instance as a model of an object
+     *   read via the {@code jsonReader} reader from the specified source.
+     *
+     * @param jsonReader reader positioned at the start of the object.
+     * @param source source of the data read by the reader.
+     * @throws JsonReadException if JSON could not be read successfully.
+     */
+    private LazyJsonObject(JsonReader jsonReader, Source source) throws JsonReadException {
+        super(jsonReader, jsonReader.getIdentityRetainFlag() ? JsonReader::nextValue : memberReader(source));
+    }
+
+    /**
+     * Returns the function that skips the next field value and records its range.
+     *
+     * @param source source of the data read by the reader.
+     * @return the function.
+     */
+    private static Function<JsonReader, JsonValue> memberReader(Source source) {
+        return reader -> {
+            long start = reader.getReadOffset();
+            reader.skipValue();
+            return new LazyValue(source, (int) start, (int) reader.getReadOffset());
+        };
+    }
+
+    /**
+     * Returns the model of the value stored under the specified key,
+     *   parsing the value if it was not requested before.
+     *
+     * @param key the key.
+     * @return the value model or {@code null} if the object has no such key.
+     * @throws JsonReadException if the value could not be parsed.
+     */
+    @Override
+    public JsonValue getValue(String key) throws JsonReadException {
+        JsonValue value = super.getValue(key);
+
+        if (value instanceof LazyValue lazyValue) {
+            return lazyValue.value();
+        }
+
+        return value;
+    }
+
+    /**
+     * Data that the values of a lazy object are parsed from.
+     */
+    private interface Source {
+        /**
+         * Parses the value stored in the specified range of the data.
+         *
+         * @param start offset of the range start, relative to the data read by the object.
+         * @param end offset of the range end, relative to the data read by the object.
+         * @return the value model.
+         * @throws JsonReadException if the value could not be parsed.
+         */
+        JsonValue parse(int start, int end) throws JsonReadException;
+    }
+
+    /**
+     * Source of UTF-8 encoded data stored in an array.
+     *
+     * @param data array that stores the data.
+     * @param offset index of the first byte read by the object.
+     */
+    private record ByteSource(byte[] data, int offset) implements Source {
+        @Override
+        public JsonValue parse(int start, int end) throws JsonReadException {
+            JsonReader reader = new Utf8JsonReader(data, offset + start, end - start, false);
+
+            if (reader.nextCharacterTrimmed() == '{') {
+                reader.moveBack();
+                return new LazyJsonObject(reader, new ByteSource(data, offset + start));
+            }
+
+            reader.moveBack();
+            return reader.nextValue();
+        }
+    }
+
+    /**
+     * Source of data stored in a string.
+     *
+     * @param string string that stores the data.
+     * @param offset index of the first character read by the object.
+     */
+    private record StringSource(String string, int offset) implements Source {
+        @Override
+        public JsonValue parse(int start, int end) throws JsonReadException {
+            JsonReader reader = new DefaultJsonReader(string.substring(offset + start, offset + end), false);
+
+            if (reader.nextCharacterTrimmed() == '{') {
+                reader.moveBack();
+                return new LazyJsonObject(reader, new StringSource(string, offset + start));
+            }
+
+            reader.moveBack();
+            return reader.nextValue();
+        }
+    }
+
+    /**
+     * Placeholder of a field value that was not parsed yet.
+     */
+    private static final class LazyValue extends JsonValue {
+        // Source of the value data.
+        private final Source source;
+        // Offset of the value start in the source.
+        private final int start;
+        // Offset of the value end in the source.
+        private final int end;
+        // Parsed value (null until the value is requested).
+        private JsonValue value;
+
+        /**
+         * Initializes a new {@link LazyValue} instance for the specified range.
+         *
+         * @param source source of the value data.
+         * @param start offset of the value start in the source.
+         * @param end offset of the value end in the source.
+         */
+        private LazyValue(Source source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+            value = null;
+        }
+
+        /**
+         * Returns the parsed value, parsing it on the first call.
+         *
+         * @return the value model.
+         * @throws JsonReadException if the value could not be parsed.
+         */
+        private JsonValue value() throws JsonReadException {
+            if (value == null) {
+                value = source.parse(start, end);
+            }
+
+            return value;
+        }
+
+        /**
+         * Converts the parsed value into the {@code objectClass} instance.
+         *
+         * @param objectClass class that the value will be cast to.
+         * @param <T> type of the converted value (inferred from the {@code objectClass} class).
+         * @return the converted value.
+         * @throws JsonMappingException if the conversion wasn't valid.
+         */
+        @Override
+        public <T> Object toValue(Class<T> objectClass) throws JsonMappingException {
+            return value().toValue(objectClass);
+        }
+
+        /**
+         * Returns a JSON representation of the parsed value.
+         *
+         * @return JSON representation of the value.
+         */
+        @Override
+        public String toString() {
+            return value().toString();
+        }
+
+        /**
+         * Writes a JSON representation of the parsed value to the specified writer.
+         *
+         * @param writer the writer.
+         * @throws IOException if the text could not be written.
+         */
+        @Override
+        public void writeTo(JsonWriter writer) throws IOException {
+            value().writeTo(writer);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.types.JsonArray;
+import dev.vpendischuk.mapper.json.types.JsonNumber;
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.types.JsonString;
+import dev.vpendischuk.mapper.json.types.JsonValue;
+
+import java.util.Arrays;
+
+/**
+ * Base class for {@link JsonReader} implementations that contains
+ *   the parsing logic shared by the readers, independent of the
+ *   representation of the data source (characters or bytes).
+ * <p>
+ * Implementations are responsible for obtaining single characters,
+ *   stepping back and reading string contents.
+ */
+public abstract class AbstractJsonReader implements JsonReader {
+    // Characters that terminate an unquoted literal value.
+    private static final String LITERAL_TERMINATORS = ",:]}/\\\"[{;=#";
+    // Initial capacity of the stack of the containers being skipped.
+    private static final int INITIAL_SKIP_STACK_SIZE = 16;
+
+    // Reference resolver used by JSON reader to generate
+    //   JSON values while retaining identity.
+    private final JsonMapReferenceResolver mapReferenceResolver;
+    // Flag that denotes if reference equality is maintained.
+    private final boolean retainIdentity;
+    // Flag that denotes if the end of file was reached by the reader.
+    protected boolean eofReached;
+    // Types of the containers being skipped: true for objects, false for arrays.
+    private boolean[] skipStack;
+    // Lexer of the numbers read as values (null until the first number is read).
+    private JsonNumberLexer numberLexer;
+
+    /**
+     * Initializes the reader state shared by all implementations.
+     *
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    protected AbstractJsonReader(boolean retainIdentity) {
+        this.retainIdentity = retainIdentity;
+        eofReached = false;
+        mapReferenceResolver = new DefaultJsonMapReferenceResolver();
+        skipStack = null;
+        numberLexer = null;
+    }
+
+    /**
+     * Obtains the next character in the JSON, disregarding the whitespaces.
+     *
+     * @return the next character in the JSON, disregarding the whitespaces.
+     */
+    @Override
+    public char nextCharacterTrimmed() {
+        for (;;) {
+            char readChar = nextCharacter();
+            if (readChar == 0 || readChar > ' ') {
+                return readChar;
+            }
+        }
+    }
+
+    /**
+     * Returns the next value parsed from a JSON.
+     *
+     * @return {@link JsonValue} parsed from the next text value in the JSON.
+     */
+    @Override
+    public JsonValue nextValue() throws JsonReadException {
+        char readChar = nextCharacterTrimmed();
+        String valueString;
+
+        switch (readChar) {
+            case '\'':
+            case '\"':
+                return new JsonString(nextStringContent(readChar));
+            case '{':
+                moveBack();
+                return new JsonObject(this);
+            case '[':
+                moveBack();
+                return new JsonArray(this);
+        }
+
+        if (JsonNumberLexer.isNumberStart(readChar)) {
+            return nextNumber(readChar);
+        }
+
+        StringBuilder stringBuilder = new StringBuilder();
+        while (readChar >= ' ' && LITERAL_TERMINATORS.indexOf(readChar) < 0) {
+            stringBuilder.append(readChar);
+            readChar = nextCharacter();
+        }
+
+        if (!eofReached) {
+            moveBack();
+        }
+
+        valueString = stringBuilder.toString();
+
+        if (valueString.isEmpty()) {
+            throw syntaxError("[JSON Reader Error] Syntax error: missing value.");
+        }
+        return JsonValue.stringToPrimitiveJsonValue(valueString);
+    }
+
+    /**
+     * Reads a number that starts with the specified character.
+     * <p>
+     * Integers are accumulated by the lexer without creating intermediate strings,
+     *   and numbers are only stored as decimals if no primitive represents them exactly.
+     *
+     * @param readChar the first character of the number.
+     * @return the number value.
+     * @throws JsonReadException if the characters do not form a number.
+     */
+    private JsonValue nextNumber(char readChar) throws JsonReadException {
+        if (numberLexer == null) {
+            numberLexer = new JsonNumberLexer();
+        }
+
+        numberLexer.start();
+        while (readChar >= ' ' && LITERAL_TERMINATORS.indexOf(readChar) < 0) {
+            numberLexer.append(readChar);
+            readChar = nextCharacter();
+        }
+
+        if (!eofReached) {
+            moveBack();
+        }
+
+        try {
+            return new JsonNumber(numberLexer);
+        } catch (NumberFormatException ex) {
+            throw syntaxError("[JSON Reader Error] Syntax error: invalid number " + numberLexer + ".");
+        }
+    }
+
+    /**
+     * Skips the next value without parsing it: brackets are matched and strings
+     *   are passed over, but no values are created.
+     * <p>
+     * Only the limits of the value are checked, so syntax errors inside of
+     *   a skipped object or array (e.g. a missing colon) are not detected.
+     *
+     * @throws JsonReadException if the value is missing, its brackets do not match
+     *                           or the end of data was reached inside of it.
+     */
+    @Override
+    public void skipValue() throws JsonReadException {
+        char readChar = nextCharacterTrimmed();
+
+        switch (readChar) {
+            case '\'', '\"' -> skipStringContent(readChar);
+            case '{', '[' -> skipContainer(readChar == '{');
+            default -> {
+                boolean isEmpty = true;
+                while (readChar >= ' ' && LITERAL_TERMINATORS.indexOf(readChar) < 0) {
+                    isEmpty = false;
+                    readChar = nextCharacter();
+                }
+
+                if (!eofReached) {
+                    moveBack();
+                }
+
+                if (isEmpty) {
+                    throw syntaxError("[JSON Reader Error] Syntax error: missing value.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Skips the contents of the container that was opened by the previously read character.
+     *
+     * @param isObject flag that denotes if the container is an object.
+     * @throws JsonReadException if the brackets do not match or the end of data was reached.
+     */
+    private void skipContainer(boolean isObject) throws JsonReadException {
+        if (skipStack == null) {
+            skipStack = new boolean[INITIAL_SKIP_STACK_SIZE];
+        }
+
+        int depth = 0;
+        skipStack[depth++] = isObject;
+        // Flag that denotes if the next character starts a value, so a single quote starts a string.
+        boolean valueStart = true;
+
+        while (depth > 0) {
+            char readChar = nextCharacter();
+
+            switch (readChar) {
+                case 0 -> throw syntaxError("[JSON Reader Error] Syntax error: unexpected end of file.");
+                case '\"' -> {
+                    skipStringContent(readChar);
+                    valueStart = false;
+                }
+                case '{', '[' -> {
+                    if (depth == skipStack.length) {
+                        skipStack = Arrays.copyOf(skipStack, depth * 2);
+                    }
+                    skipStack[depth++] = readChar == '{';
+                    valueStart = true;
+                }
+                case '}', ']' -> {
+                    if (skipStack[--depth] != (readChar == '}')) {
+                        throw syntaxError("[JSON Reader Error] Syntax error: mismatched bracket.");
+                    }
+                    valueStart = false;
+                }
+                case ',', ':' -> valueStart = true;
+                default -> {
+                    if (readChar == '\'' && valueStart) {
+                        skipStringContent(readChar);
+                        valueStart = false;
+                    } else if (readChar > ' ') {
+                        valueStart = false;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Skips the contents of the string that starts at the current read position,
+     *   consuming the closing quote.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @throws JsonReadException if the string is not terminated.
+     */
+    protected void skipStringContent(char quote) throws JsonReadException {
+        for (;;) {
+            char readChar = nextCharacter();
+
+            if (readChar == quote) {
+                return;
+            }
+
+            switch (readChar) {
+                case 0, '\n', '\r' -> throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
+                case '\\' -> {
+                    if (nextCharacter() == 0) {
+                        throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
+                    }
+                }
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * Creates an exception that reports a syntax error at the current read position.
+     * <p>
+     * The line and column of the position are computed only when the exception is created,
+     *   so reading does not keep track of them.
+     *
+     * @param message the message text.
+     * @return the exception with the position of the error.
+     */
+    @Override
+    public JsonReadException syntaxError(String message) {
+        return new JsonReadException(message, getReadOffset(), currentLine(), currentColumn());
+    }
+
+    /**
+     * Computes the number of the line of the previously read character.
+     *
+     * @return the line number, counted from one.
+     */
+    protected abstract long currentLine();
+
+    /**
+     * Computes the number of the column of the previously read character.
+     *
+     * @return the column number, counted from one ({@code 0} if no character was read).
+     */
+    protected abstract long currentColumn();
+
+    /**
+     * Returns the reference resolver registered for used by the reader.
+     *
+     * @return the reference resolver.
+     */
+    @Override
+    public JsonMapReferenceResolver getReferenceResolver() {
+        return mapReferenceResolver;
+    }
+
+    /**
+     * Returns the reader's identity retention flag.
+     *
+     * @return the reader's identity retention {@code boolean} flag.
+     */
+    @Override
+    public boolean getIdentityRetainFlag() {
+        return retainIdentity;
+    }
+}
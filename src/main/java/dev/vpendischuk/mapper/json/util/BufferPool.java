@@ -0,0 +1,96 @@
+package dev.vpendischuk.mapper.json.util;
+
+/**
+ * Thread-local pool of the buffers used by {@link JsonWriter} implementations.
+ * <p>
+ * Every thread keeps at most one byte buffer and one character buffer. A buffer is removed
+ *   from the pool while it is borrowed, so nested writers on the same thread get new buffers.
+ *   Buffers that grew larger than {@value #MAX_RETAINED_SIZE} elements are not returned to the pool,
+ *   so that a single large document does not keep a large buffer alive; the next writer
+ *   starts with a buffer of the default size again.
+ * <p>
+ * Usage example:
+ * <pre>
+ * char[] buffer = BufferPool.borrowChars();
+ * try {
+ *     // use the buffer
+ * } finally {
+ *     BufferPool.release(buffer);
+ * }
+ * </pre>
+ */
+public final class BufferPool {
+    // Size of the buffers created by the pool.
+    public static final int DEFAULT_SIZE = 8192;
+    // Greatest size of a buffer that is returned to the pool.
+    public static final int MAX_RETAINED_SIZE = 256 * 1024;
+
+    // Pools of the threads.
+    private static final ThreadLocal<BufferPool> POOLS = ThreadLocal.withInitial(BufferPool::new);
+
+    // Pooled byte buffer (null if it is borrowed or was dropped).
+    private byte[] bytes;
+    // Pooled character buffer (null if it is borrowed or was dropped).
+    private char[] chars;
+
+    /**
+     * Initializes a new empty {@link BufferPool} instance.
+     */
+    private BufferPool() { }
+
+    /**
+     * Borrows the byte buffer of the current thread or creates a new one if it is borrowed.
+     *
+     * @return a buffer of at least {@value #DEFAULT_SIZE} bytes.
+     */
+    public static byte[] borrowBytes() {
+        BufferPool pool = POOLS.get();
+        byte[] buffer = pool.bytes;
+
+        if (buffer == null) {
+            return new byte[DEFAULT_SIZE];
+        }
+
+        pool.bytes = null;
+        return buffer;
+    }
+
+    /**
+     * Borrows the character buffer of the current thread or creates a new one if it is borrowed.
+     *
+     * @return a buffer of at least {@value #DEFAULT_SIZE} characters.
+     */
+    public static char[] borrowChars() {
+        BufferPool pool = POOLS.get();
+        char[] buffer = pool.chars;
+
+        if (buffer == null) {
+            return new char[DEFAULT_SIZE];
+        }
+
+        pool.chars = null;
+        return buffer;
+    }
+
+    /**
+     * Returns a byte buffer to the pool of the current thread unless it is oversized.
+     *
+     * @param buffer the buffer; must not be used after it is returned.
+     */
+    public static void release(byte[] buffer) {
+        if (buffer.length >= DEFAULT_SIZE && buffer.length <= MAX_RETAINED_SIZE) {
+            POOLS.get().bytes = buffer;
+        }
+    }
+
+    /**
+     * Returns a character buffer to the pool of the current thread unless it is oversized.
+     *
+     * @param buffer the buffer; must not be used after it is returned.
+     */
+    public static void release(char[] buffer) {
+        if (buffer.length >= DEFAULT_SIZE && buffer.length <= MAX_RETAINED_SIZE) {
+            POOLS.get().chars = buffer;
+        }
+    }
+}
@@ -0,0 +1,599 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * The default implementation of the {@link JsonParser} interface
+ *   that reads tokens from a {@link JsonReader}.
+ * <p>
+ * Accepts the same syntax as the {@link dev.vpendischuk.mapper.json.types.JsonObject}
+ *   and {@link dev.vpendischuk.mapper.json.types.JsonArray} readers: single-quoted strings,
+ *   trailing commas and unquoted string literals are allowed.
+ * <p>
+ * Numbers and literals are collected in reusable buffers and are only
+ *   converted when one of the typed accessors is called; digits of integers are
+ *   accumulated by a {@link JsonNumberLexer} as they are read. Reading a document
+ *   token by token requires memory proportional to its nesting depth only.
+ *   Field names are canonicalized by a {@link SymbolTable}, so repeated names
+ *   are not allocated again.
+ * <p>
+ * Initialization examples:
+ * <pre>
+ * // From string
+ * JsonParser parser = new DefaultJsonParser(new DefaultJsonReader("[1, 2, 3]", false));
+ *
+ * // From file
+ * JsonParser parser = new DefaultJsonParser(new Utf8JsonReader(new FileInputStream("/dir/file"), false));
+ * </pre>
+ */
+public class DefaultJsonParser implements JsonParser {
+    // Initial capacity of the container stack.
+    private static final int INITIAL_STACK_SIZE = 16;
+    // Characters that terminate an unquoted literal value.
+    private static final String LITERAL_TERMINATORS = ",:]}/\\\"[{;=#";
+
+    // Reader used to obtain the JSON characters.
+    private final JsonReader reader;
+    // Table used to canonicalize field names.
+    private final SymbolTable symbols;
+    // Buffer that stores the text of the last read literal.
+    private final StringBuilder literal;
+    // Lexer that stores the last read number.
+    private final JsonNumberLexer number;
+    // Types of the open containers: true for objects, false for arrays.
+    private boolean[] objectStack;
+    // Names of the last read fields of the open containers.
+    private String[] nameStack;
+    // Amount of open containers.
+    private int depth;
+    // Flag that denotes if a value was read in the current container and a separator is expected.
+    private boolean valueRead;
+    // Flag that denotes if a field name was read in the current object and its value is expected.
+    private boolean nameRead;
+    // The token that was read last.
+    private JsonToken currentToken;
+    // Text of the last read string or field name.
+    private String text;
+
+    /**
+     * Initializes a new {@link DefaultJsonParser} instance that reads tokens via specified reader.
+     *
+     * @param reader reader used to obtain the JSON data.
+     */
+    public DefaultJsonParser(JsonReader reader) {
+        this(reader, new SymbolTable());
+    }
+
+    /**
+     * Initializes a new {@link DefaultJsonParser} instance that reads tokens via specified reader
+     *   and canonicalizes field names via specified symbol table.
+     *
+     * @param reader reader used to obtain the JSON data.
+     * @param symbols table used to canonicalize field names.
+     */
+    public DefaultJsonParser(JsonReader reader, SymbolTable symbols) {
+        this.reader = reader;
+        this.symbols = symbols;
+        literal = new StringBuilder();
+        number = new JsonNumberLexer();
+        objectStack = new boolean[INITIAL_STACK_SIZE];
+        nameStack = new String[INITIAL_STACK_SIZE];
+        depth = 0;
+        valueRead = false;
+        nameRead = false;
+        currentToken = null;
+        text = null;
+    }
+
+    /**
+     * Reads the next token from the JSON.
+     * <p>
+     * Values that follow a complete top-level value are returned as well,
+     *   so a sequence of concatenated documents can be read by a single parser.
+     *
+     * @return the next token or {@code null} if the end of data was reached.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    @Override
+    public JsonToken nextToken() throws JsonReadException {
+        char readChar = reader.nextCharacterTrimmed();
+
+        if (depth == 0) {
+            if (readChar == 0) {
+                currentToken = null;
+                return null;
+            }
+
+            return readValue(readChar);
+        }
+
+        if (readChar == 0) {
+            throw reader.syntaxError("[JSON Parser Error] Syntax error: unexpected end of file.");
+        }
+
+        return objectStack[depth - 1] ? nextObjectToken(readChar) : nextArrayToken(readChar);
+    }
+
+    /**
+     * Reads the next token inside of an object.
+     *
+     * @param readChar the first non-whitespace character of the token.
+     * @return the read token.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    private JsonToken nextObjectToken(char readChar) throws JsonReadException {
+        if (nameRead) {
+            return readValue(readChar);
+        }
+
+        if (valueRead) {
+            if (readChar == '}') {
+                return endContainer(JsonToken.END_OBJECT);
+            }
+
+            if (readChar != ',') {
+                throw reader.syntaxError("[JSON Parser Error] Syntax error: expected a '}' or a comma.");
+            }
+
+            readChar = nextCharacterInContainer();
+        }
+
+        if (readChar == '}') {
+            return endContainer(JsonToken.END_OBJECT);
+        }
+
+        return readFieldName(readChar);
+    }
+
+    /**
+     * Reads the next token inside of an array.
+     *
+     * @param readChar the first non-whitespace character of the token.
+     * @return the read token.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    private JsonToken nextArrayToken(char readChar) throws JsonReadException {
+        if (valueRead) {
+            if (readChar == ']') {
+                return endContainer(JsonToken.END_ARRAY);
+            }
+
+            if (readChar != ',') {
+                throw reader.syntaxError("[JSON Parser Error] Syntax error: expected ']' or a comma.");
+            }
+
+            readChar = nextCharacterInContainer();
+        }
+
+        if (readChar == ']') {
+            return endContainer(JsonToken.END_ARRAY);
+        }
+
+        if (readChar == ',') {
+            throw reader.syntaxError("[JSON Parser Error] Syntax error: no value provided.");
+        }
+
+        return readValue(readChar);
+    }
+
+    /**
+     * Obtains the next non-whitespace character inside of a container.
+     *
+     * @return the read character.
+     * @throws JsonReadException if the end of data was reached.
+     */
+    private char nextCharacterInContainer() throws JsonReadException {
+        char readChar = reader.nextCharacterTrimmed();
+
+        if (readChar == 0) {
+            throw reader.syntaxError("[JSON Parser Error] Syntax error: unexpected end of file.");
+        }
+
+        return readChar;
+    }
+
+    /**
+     * Reads a field name and the following colon.
+     *
+     * @param readChar the first character of the name.
+     * @return the {@code FIELD_NAME} token.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    private JsonToken readFieldName(char readChar) throws JsonReadException {
+        String name;
+
+        if (readChar == '\"' || readChar == '\'') {
+            name = reader.nextStringContent(readChar, symbols);
+        } else if (readLiteral(readChar) == JsonToken.VALUE_STRING) {
+            name = symbols.add(literal.toString());
+        } else {
+            throw reader.syntaxError("[JSON Parser Error] Syntax error: invalid key type.");
+        }
+
+        if (reader.nextCharacterTrimmed() != ':') {
+            throw reader.syntaxError("[JSON Parser Error] " +
+                    "Syntax error: no expected ':' after the key " + name + ".");
+        }
+
+        nameStack[depth - 1] = name;
+        nameRead = true;
+        valueRead = false;
+        text = name;
+        currentToken = JsonToken.FIELD_NAME;
+        return currentToken;
+    }
+
+    /**
+     * Reads a value that starts with the specified character.
+     *
+     * @param readChar the first character of the value.
+     * @return the read token.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    private JsonToken readValue(char readChar) throws JsonReadException {
+        nameRead = false;
+        valueRead = true;
+
+        switch (readChar) {
+            case '\"', '\'' -> {
+                text = reader.nextStringContent(readChar);
+                currentToken = JsonToken.VALUE_STRING;
+            }
+            case '{' -> {
+                pushContainer(true);
+                currentToken = JsonToken.START_OBJECT;
+            }
+            case '[' -> {
+                pushContainer(false);
+                currentToken = JsonToken.START_ARRAY;
+            }
+            default -> {
+                currentToken = readLiteral(readChar);
+                if (currentToken == JsonToken.VALUE_STRING) {
+                    text = literal.toString();
+                }
+            }
+        }
+
+        return currentToken;
+    }
+
+    /**
+     * Reads an unquoted literal into the literal buffer and determines its token type.
+     *
+     * @param readChar the first character of the literal.
+     * @return the token type of the literal.
+     * @throws JsonReadException if the literal is empty.
+     */
+    private JsonToken readLiteral(char readChar) throws JsonReadException {
+        if (JsonNumberLexer.isNumberStart(readChar)) {
+            return readNumber(readChar);
+        }
+
+        literal.setLength(0);
+
+        while (readChar >= ' ' && LITERAL_TERMINATORS.indexOf(readChar) < 0) {
+            literal.append(readChar);
+            readChar = reader.nextCharacter();
+        }
+
+        if (readChar != 0) {
+            reader.moveBack();
+        }
+
+        if (literal.length() == 0) {
+            throw reader.syntaxError("[JSON Parser Error] Syntax error: missing value.");
+        }
+
+        if (literalEquals("true")) {
+            return JsonToken.VALUE_TRUE;
+        } else if (literalEquals("false")) {
+            return JsonToken.VALUE_FALSE;
+        } else if (literalEquals("null")) {
+            return JsonToken.VALUE_NULL;
+        }
+
+        return JsonToken.VALUE_STRING;
+    }
+
+    /**
+     * Reads a number into the number lexer.
+     *
+     * @param readChar the first character of the number.
+     * @return the {@code VALUE_NUMBER} token type.
+     */
+    private JsonToken readNumber(char readChar) {
+        number.start();
+
+        while (readChar >= ' ' && LITERAL_TERMINATORS.indexOf(readChar) < 0) {
+            number.append(readChar);
+            readChar = reader.nextCharacter();
+        }
+
+        if (readChar != 0) {
+            reader.moveBack();
+        }
+
+        return JsonToken.VALUE_NUMBER;
+    }
+
+    /**
+     * Checks if the literal buffer contains specified lowercase word, ignoring the case.
+     *
+     * @param word the lowercase word.
+     * @return {@code true} if the literal is equal to the word.
+     */
+    private boolean literalEquals(String word) {
+        if (literal.length() != word.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < word.length(); ++i) {
+            if (Character.toLowerCase(literal.charAt(i)) != word.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Opens a new container.
+     *
+     * @param isObject flag that denotes if the container is an object.
+     */
+    private void pushContainer(boolean isObject) {
+        if (depth == objectStack.length) {
+            objectStack = Arrays.copyOf(objectStack, depth * 2);
+            nameStack = Arrays.copyOf(nameStack, depth * 2);
+        }
+
+        objectStack[depth] = isObject;
+        nameStack[depth] = null;
+        depth++;
+        valueRead = false;
+    }
+
+    /**
+     * Closes the current container.
+     *
+     * @param token the token that closes the container.
+     * @return the {@code token}.
+     */
+    private JsonToken endContainer(JsonToken token) {
+        depth--;
+        nameRead = false;
+        valueRead = true;
+        currentToken = token;
+        return token;
+    }
+
+    /**
+     * Returns the token that was read last.
+     *
+     * @return the current token or {@code null} if no token was read or the end of data was reached.
+     */
+    @Override
+    public JsonToken currentToken() {
+        return currentToken;
+    }
+
+    /**
+     * Returns the name of the field that the current token belongs to.
+     *
+     * @return the field name or {@code null} if the current token is not inside an object.
+     */
+    @Override
+    public String getCurrentName() {
+        // An opened container belongs to the field of the enclosing one.
+        int index = currentToken == JsonToken.START_OBJECT || currentToken == JsonToken.START_ARRAY
+                ? depth - 2
+                : depth - 1;
+
+        if (index < 0 || !objectStack[index]) {
+            return null;
+        }
+
+        return nameStack[index];
+    }
+
+    /**
+     * Skips the value of the current {@code FIELD_NAME} token without reading its tokens.
+     *
+     * @throws JsonReadException if the current token is not a field name or the value is invalid.
+     */
+    @Override
+    public void skipValue() throws JsonReadException {
+        if (currentToken != JsonToken.FIELD_NAME || !nameRead) {
+            throw syntaxError("[JSON Parser Error] Current token " + currentToken + " is not a field name.");
+        }
+
+        reader.skipValue();
+        nameRead = false;
+        valueRead = true;
+    }
+
+    /**
+     * Returns the table used to canonicalize field names.
+     *
+     * @return the symbol table.
+     */
+    @Override
+    public SymbolTable getSymbolTable() {
+        return symbols;
+    }
+
+    /**
+     * Creates an exception that reports a syntax error at the current read position.
+     *
+     * @param message the message text.
+     * @return the exception with the position of the error.
+     */
+    @Override
+    public JsonReadException syntaxError(String message) {
+        return reader.syntaxError(message);
+    }
+
+    /**
+     * Returns the amount of objects and arrays that are currently open.
+     *
+     * @return the nesting depth of the current token.
+     */
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the text of the current token.
+     *
+     * @return the text of the current token or {@code null} if there is no current token.
+     */
+    @Override
+    public String getText() {
+        if (currentToken == null) {
+            return null;
+        }
+
+        return switch (currentToken) {
+            case FIELD_NAME, VALUE_STRING -> text;
+            case VALUE_NUMBER -> number.toString();
+            case VALUE_TRUE, VALUE_FALSE, VALUE_NULL -> literal.toString();
+            case START_OBJECT -> "{";
+            case END_OBJECT -> "}";
+            case START_ARRAY -> "[";
+            case END_ARRAY -> "]";
+        };
+    }
+
+    /**
+     * Returns the value of the current {@code VALUE_NUMBER} token as a {@code long}.
+     *
+     * @return the numeric value.
+     * @throws JsonReadException if the current token is not a valid number.
+     */
+    @Override
+    public long getLong() throws JsonReadException {
+        checkNumberToken();
+
+        if (number.isLong()) {
+            return number.longValue();
+        }
+
+        // Fractional, exponential or out of range values.
+        return getDecimal().longValue();
+    }
+
+    /**
+     * Returns the value of the current {@code VALUE_NUMBER} token as an {@code int}.
+     *
+     * @return the numeric value.
+     * @throws JsonReadException if the current token is not a valid number or does not fit in an {@code int}.
+     */
+    @Override
+    public int getInt() throws JsonReadException {
+        long value = getLong();
+
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw syntaxError("[JSON Parser Error] Number " + number + " is out of int range.");
+        }
+
+        return (int) value;
+    }
+
+    /**
+     * Returns the value of the current {@code VALUE_NUMBER} token as a {@code double}.
+     *
+     * @return the numeric value.
+     * @throws JsonReadException if the current token is not a valid number.
+     */
+    @Override
+    public double getDouble() throws JsonReadException {
+        checkNumberToken();
+
+        try {
+            return number.doubleValue();
+        } catch (NumberFormatException ex) {
+            throw invalidNumberError(ex);
+        }
+    }
+
+    /**
+     * Returns the exact value of the current {@code VALUE_NUMBER} token.
+     *
+     * @return the numeric value.
+     * @throws JsonReadException if the current token is not a valid number.
+     */
+    @Override
+    public BigDecimal getDecimal() throws JsonReadException {
+        checkNumberToken();
+
+        try {
+            return number.decimalValue();
+        } catch (NumberFormatException ex) {
+            throw invalidNumberError(ex);
+        }
+    }
+
+    /**
+     * Returns the value of the current {@code VALUE_TRUE} or {@code VALUE_FALSE} token.
+     *
+     * @return the boolean value.
+     * @throws JsonReadException if the current token is not a boolean literal.
+     */
+    @Override
+    public boolean getBoolean() throws JsonReadException {
+        if (currentToken == JsonToken.VALUE_TRUE) {
+            return true;
+        } else if (currentToken == JsonToken.VALUE_FALSE) {
+            return false;
+        }
+
+        throw syntaxError("[JSON Parser Error] Current token " + currentToken + " is not a boolean.");
+    }
+
+    /**
+     * Creates an exception that reports the current number token as invalid at the current read position.
+     *
+     * @param cause the exception thrown by the conversion of the number.
+     * @return the exception with the position of the error.
+     */
+    private JsonReadException invalidNumberError(NumberFormatException cause) {
+        JsonReadException exception = syntaxError("[JSON Parser Error] Invalid number " + number + ".");
+        exception.initCause(cause);
+
+        return exception;
+    }
+
+    /**
+     * Checks if the current token is a number.
+     *
+     * @throws JsonReadException if the current token is not a number.
+     */
+    private void checkNumberToken() throws JsonReadException {
+        if (currentToken != JsonToken.VALUE_NUMBER) {
+            throw syntaxError("[JSON Parser Error] Current token " + currentToken + " is not a number.");
+        }
+    }
+
+    /**
+     * Skips all tokens of the object or array that was opened by the current token.
+     *
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    @Override
+    public void skipChildren() throws JsonReadException {
+        if (currentToken != JsonToken.START_OBJECT && currentToken != JsonToken.START_ARRAY) {
+            return;
+        }
+
+        int targetDepth = depth - 1;
+        while (depth > targetDepth) {
+            nextToken();
+        }
+    }
+}
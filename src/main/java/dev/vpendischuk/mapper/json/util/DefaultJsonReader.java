@@ -1,20 +1,23 @@
 package dev.vpendischuk.mapper.json.util;
 
 import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
-import dev.vpendischuk.mapper.json.types.JsonArray;
-import dev.vpendischuk.mapper.json.types.JsonObject;
-import dev.vpendischuk.mapper.json.types.JsonString;
-import dev.vpendischuk.mapper.json.types.JsonValue;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
 
 /**
  * The default implementation of the {@link JsonReader} interface
  *   that is used by the {@link dev.vpendischuk.mapper.json.JsonMapper}
  *   to read JSON data from input streams and strings.
  * <p>
+ * Characters are obtained from the source reader in large blocks and stored
+ *   in an internal window, so a single character is read by an index increment
+ *   rather than by a call to the source reader.
+ * <p>
+ * Only the offset of the window in the input is tracked while reading; the line and
+ *   column of a syntax error are computed from the window when the error is raised.
+ *   Line breaks of the data that leaves the window are counted once per refill.
+ * <p>
  * Initialization examples:
  * <pre>
  * String data = "{\"name\":\"Jason\"}";
@@ -25,24 +28,28 @@ import java.io.StringReader;
  * JsonReader reader = new DefaultJsonReader(new FileReader("/dir/file"), false);
  * </pre>
  */
-public class DefaultJsonReader implements JsonReader {
-    // Reference resolver used by JSON reader to generate
-    //   JSON values while retaining identity.
-    private final JsonMapReferenceResolver mapReferenceResolver;
-    // Reader used to get data.
+public class DefaultJsonReader extends AbstractJsonReader {
+    // Default size of the character window.
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    // Minimal size of the character window - one character is always kept for stepping back.
+    private static final int MIN_BUFFER_SIZE = 2;
+
+    // Reader used to get data (null if the whole input is stored in the window).
     private final Reader reader;
-    // Flag that denotes if reference equality is maintained.
-    private final boolean retainIdentity;
-    // Flag that denotes if the end of file was reached by the reader.
-    private boolean eofReached;
+    // Window of characters obtained from the reader.
+    private final char[] buffer;
+    // Index of the next character to be read from the window.
+    private int bufferPosition;
+    // Amount of valid characters stored in the window.
+    private int bufferLimit;
     // Flag that denotes if the previous character has to be returned next.
     private boolean steppedBack;
-    // Flag that denotes the current position of read on the line.
-    private long currentCharPos;
-    // Flag that denotes the current position of read in the stream.
-    private long currentReadIndex;
-    // Amount of characters read on previous line.
-    private long readOnPrevLine;
+    // Offset of the first character of the window in the input.
+    private long bufferOffset;
+    // Amount of line breaks in the input before the window.
+    private long discardedLines;
+    // Amount of characters after the last line break in the input before the window.
+    private long discardedColumn;
     // Previously read character.
     private char previousChar;
 
@@ -53,15 +60,19 @@ public class DefaultJsonReader implements JsonReader {
      * @param retainIdentity flag that denotes if reference equality is maintained.
      */
     public DefaultJsonReader(Reader reader, boolean retainIdentity) {
-        this.reader = reader;
-        eofReached = false;
-        steppedBack = false;
-        currentCharPos = 1;
-        currentReadIndex = 0;
-        readOnPrevLine = 0;
-        previousChar = 0;
-        this.retainIdentity = retainIdentity;
-        mapReferenceResolver = new DefaultJsonMapReferenceResolver();
+        this(reader, retainIdentity, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Initializes a new {@link DefaultJsonReader} instance with specified parameters.
+     *
+     * @param reader reader used to obtain data from the input stream.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @param bufferSize size of the character window refilled from the {@code reader}
+     *                   (at least two characters are always used).
+     */
+    public DefaultJsonReader(Reader reader, boolean retainIdentity, int bufferSize) {
+        this(reader, new char[Math.max(bufferSize, MIN_BUFFER_SIZE)], 0, retainIdentity);
     }
 
     /**
@@ -71,142 +82,148 @@ public class DefaultJsonReader implements JsonReader {
      * @param retainIdentity flag that denotes if reference equality is maintained.
      */
     public DefaultJsonReader(String string, boolean retainIdentity) {
-        this(new StringReader(string), retainIdentity);
+        // The whole string is used as a window, so no refills are ever needed.
+        this(null, string.toCharArray(), string.length(), retainIdentity);
     }
 
     /**
-     * Obtains the next character in the JSON, disregarding the whitespaces.
+     * Initializes a new {@link DefaultJsonReader} instance with specified window.
      *
-     * @return the next character in the JSON, disregarding the whitespaces.
+     * @param reader reader used to refill the window or {@code null} if the window holds all data.
+     * @param buffer the character window.
+     * @param bufferLimit amount of valid characters initially stored in the window.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
      */
-    @Override
-    public char nextCharacterTrimmed() {
-        for (;;) {
-            char readChar = nextCharacter();
-            if (readChar == 0 || readChar > ' ') {
-                return readChar;
-            }
-        }
+    private DefaultJsonReader(Reader reader, char[] buffer, int bufferLimit, boolean retainIdentity) {
+        super(retainIdentity);
+        this.reader = reader;
+        this.buffer = buffer;
+        this.bufferLimit = bufferLimit;
+        bufferPosition = 0;
+        steppedBack = false;
+        bufferOffset = 0;
+        discardedLines = 0;
+        discardedColumn = 0;
+        previousChar = 0;
     }
 
     /**
      * Obtains the next character in the JSON.
      *
-     * @return the next character in the JSON.
+     * @return the next character in the JSON or {@code 0} if the end of data was reached.
+     * @throws JsonReadException if the data could not be read from the source.
      */
-    private char nextCharacter() throws JsonReadException {
-        int readChar;
-        if (steppedBack) {
-            readChar = previousChar;
-            steppedBack = false;
-        } else {
-            try {
-                readChar = reader.read();
-            } catch (IOException ex) {
-                throw new JsonReadException("[JSON Reader Error] Could not read from source.", ex);
-            }
+    @Override
+    public char nextCharacter() throws JsonReadException {
+        if (bufferPosition >= bufferLimit && !fillBuffer()) {
+            eofReached = true;
+            return 0;
         }
 
-        if (readChar <= 0) {
+        char readChar = buffer[bufferPosition++];
+        steppedBack = false;
+
+        if (readChar == 0) {
             eofReached = true;
             return 0;
         }
 
-        movePositionForward(readChar);
-        previousChar = (char) readChar;
-        return previousChar;
+        previousChar = readChar;
+        return readChar;
     }
 
     /**
-     * Moves the read position forward in the stream.
+     * Refills the character window with the next block of data from the reader.
+     * <p>
+     * The last character of the current window is moved to its start,
+     *   so that it is still possible to step back after the refill.
      *
-     * @param readChar code of the character that was read before the move.
+     * @return {@code true} if any characters were read, {@code false} if the end of data was reached.
+     * @throws JsonReadException if the data could not be read from the reader.
      */
-    private void movePositionForward(int readChar) {
-        if (readChar > 0) {
-            currentReadIndex++;
-            if (readChar == '\r') {
-                readOnPrevLine = currentCharPos;
-                currentCharPos = 0;
-            } else if (readChar == '\n') {
-                if (previousChar != '\r') {
-                    readOnPrevLine = currentCharPos;
-                }
-                currentCharPos = 0;
-            } else {
-                currentCharPos++;
-            }
+    private boolean fillBuffer() throws JsonReadException {
+        if (reader == null) {
+            return false;
         }
-    }
 
-    /**
-     * Moves the read position backwards in the stream.
-     */
-    private void movePositionBackward() {
-        currentReadIndex--;
-        if (previousChar == '\r' || previousChar == '\n') {
-            currentCharPos = readOnPrevLine;
-        } else if (currentCharPos > 0) {
-            currentCharPos--;
+        int kept = 0;
+        if (bufferLimit > 0) {
+            discard(bufferLimit - 1);
+            buffer[0] = buffer[bufferLimit - 1];
+            kept = 1;
         }
-    }
 
-    /**
-     * Returns the next value parsed from a JSON.
-     *
-     * @return {@link JsonValue} parsed from the next text value in the JSON.
-     */
-    @Override
-    public JsonValue nextValue() throws JsonReadException {
-        char readChar = nextCharacterTrimmed();
-        String valueString;
-
-        switch (readChar) {
-            case '\'':
-            case '\"':
-                return nextString(readChar);
-            case '{':
-                moveBack();
-                return new JsonObject(this);
-            case '[':
-                moveBack();
-                return new JsonArray(this);
+        int readCount;
+        try {
+            do {
+                readCount = reader.read(buffer, kept, buffer.length - kept);
+            } while (readCount == 0);
+        } catch (IOException ex) {
+            throw new JsonReadException("[JSON Reader Error] Could not read from source.", ex);
         }
 
-        StringBuilder stringBuilder = new StringBuilder();
-        while (readChar >= ' ' && ",:]}/\\\"[{;=#".indexOf(readChar) < 0) {
-            stringBuilder.append(readChar);
-            readChar = nextCharacter();
+        bufferPosition = kept;
+        if (readCount < 0) {
+            bufferLimit = kept;
+            return false;
         }
 
-        if (!eofReached) {
-            moveBack();
-        }
+        bufferLimit = kept + readCount;
+        return true;
+    }
 
-        valueString = stringBuilder.toString();
+    /**
+     * Counts the line breaks among the specified amount of first characters of the window,
+     *   which are removed from it by a refill.
+     *
+     * @param length amount of the removed characters.
+     */
+    private void discard(int length) {
+        int lineBreaks = 0;
+        int lastBreak = -1;
 
-        if (valueString.isEmpty()) {
-            throw new JsonReadException("[JSON Reader Error] Syntax error: missing value.");
+        for (int i = 0; i < length; ++i) {
+            if (buffer[i] == '\n') {
+                lineBreaks++;
+                lastBreak = i;
+            }
         }
-        return JsonValue.stringToPrimitiveJsonValue(valueString);
+
+        discardedLines += lineBreaks;
+        discardedColumn = lastBreak < 0 ? discardedColumn + length : length - lastBreak - 1;
+        bufferOffset += length;
     }
 
     /**
-     * Returns the next string in the JSON data (relative to the current read position).
+     * Reads the contents of the string that starts at the current read position,
+     *   resolving the escape sequences and consuming the closing quote.
+     * <p>
+     * A string without escapes that is stored in the window is created from the window
+     *   directly. Otherwise, runs of characters without escapes are appended in bulk.
      *
      * @param quote character used to denote a quote - limits of the string value.
-     * @return the next string in the JSON data.
+     * @return the string contents.
      * @throws JsonReadException if a syntax error was detected.
      */
-    private JsonString nextString(char quote) throws JsonReadException {
-        char readChar;
+    @Override
+    public String nextStringContent(char quote) throws JsonReadException {
+        int end = findStringRunEnd(quote);
+
+        if (end < bufferLimit && buffer[end] == quote) {
+            String content = new String(buffer, bufferPosition, end - bufferPosition);
+            completeString(end, quote);
+            return content;
+        }
 
-        StringBuilder stringBuilder = new StringBuilder();
+        StringBuilder stringBuilder = new StringBuilder(Math.max(end - bufferPosition, 16) * 2);
 
         for (;;) {
-            readChar = nextCharacter();
+            stringBuilder.append(buffer, bufferPosition, end - bufferPosition);
+            bufferPosition = end;
+
+            char readChar = nextCharacter();
             switch (readChar) {
-                case '\n', '\r' -> throw new JsonReadException("[JSON Reader Error] Syntax error: no string terminator.");
+                case 0, '\n', '\r' -> throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
                 case '\\' -> {
                     // Writing escape sequences to string.
                     readChar = nextCharacter();
@@ -217,20 +234,109 @@ public class DefaultJsonReader implements JsonReader {
                         case 'b' -> stringBuilder.append('\b');
                         case 't' -> stringBuilder.append('\t');
                         case '"', '\'', '\\', '/' -> stringBuilder.append(readChar);
-                        default -> throw new JsonReadException("[JSON Reader Error] Syntax error: illegal escape.");
+                        case 'u' -> stringBuilder.append(nextUnicodeEscape());
+                        default -> throw syntaxError("[JSON Reader Error] Syntax error: illegal escape.");
                     }
                 }
                 default -> {
                     if (readChar == quote) {
                         // On string end.
-                        return new JsonString(stringBuilder.toString());
+                        return stringBuilder.toString();
                     }
 
-                    // Appending string's characters.
+                    // The run was cut by the end of the window.
                     stringBuilder.append(readChar);
                 }
             }
+
+            end = findStringRunEnd(quote);
+        }
+    }
+
+    /**
+     * Reads the four hexadecimal digits of a unicode escape sequence.
+     *
+     * @return the escaped character.
+     * @throws JsonReadException if a character is not a hexadecimal digit.
+     */
+    private char nextUnicodeEscape() throws JsonReadException {
+        int value = 0;
+
+        for (int i = 0; i < 4; ++i) {
+            int digit = JsonEscapes.hexValue(nextCharacter());
+            if (digit < 0) {
+                throw syntaxError("[JSON Reader Error] Syntax error: illegal unicode escape.");
+            }
+
+            value = value << 4 | digit;
         }
+
+        return (char) value;
+    }
+
+    /**
+     * Reads the contents of the string that starts at the current read position
+     *   and returns their canonical instance from the specified symbol table.
+     * <p>
+     * A string that is stored in the window and contains no escapes is matched
+     *   against the table in place; other strings are read as usual.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @param symbols table of canonical field names.
+     * @return the canonical string contents.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    @Override
+    public String nextStringContent(char quote, SymbolTable symbols) throws JsonReadException {
+        int end = findStringRunEnd(quote);
+
+        if (end >= bufferLimit || buffer[end] != quote) {
+            return symbols.add(nextStringContent(quote));
+        }
+
+        int length = end - bufferPosition;
+        String symbol = symbols.lookup(buffer, bufferPosition, length);
+        if (symbol == null) {
+            symbol = symbols.add(new String(buffer, bufferPosition, length));
+        }
+
+        completeString(end, quote);
+        return symbol;
+    }
+
+    /**
+     * Finds the end of the run of string characters that starts at the current read position
+     *   and needs no special handling.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @return index of the first character of the window that ends the run
+     *         (a quote, a backslash, a line break or a zero character) or the window limit.
+     */
+    private int findStringRunEnd(char quote) {
+        int end = bufferPosition;
+
+        while (end < bufferLimit) {
+            char readChar = buffer[end];
+            if (readChar == quote || readChar == '\\' || readChar == '\n' || readChar == '\r' || readChar == 0) {
+                break;
+            }
+            end++;
+        }
+
+        return end;
+    }
+
+    /**
+     * Moves the read position past the closing quote of a string
+     *   and makes the quote the previously read character.
+     *
+     * @param closingQuote index of the closing quote in the window.
+     * @param quote character used to denote a quote.
+     */
+    private void completeString(int closingQuote, char quote) {
+        bufferPosition = closingQuote + 1;
+        previousChar = quote;
+        steppedBack = false;
     }
 
     /**
@@ -251,32 +357,56 @@ public class DefaultJsonReader implements JsonReader {
      */
     @Override
     public void moveBack() throws JsonReadException {
-        if (steppedBack || currentReadIndex <= 0) {
+        if (steppedBack || bufferPosition <= 0) {
             throw new JsonReadException("[JSON Reader Error] Unable to move back.");
         }
 
-        movePositionBackward();
+        bufferPosition--;
         steppedBack = true;
         eofReached = false;
     }
 
     /**
-     * Returns the reference resolver registered for used by the reader.
+     * Returns the offset of the next character to be read from the start of the data.
      *
-     * @return the reference resolver.
+     * @return the read offset in characters.
      */
     @Override
-    public JsonMapReferenceResolver getReferenceResolver() {
-        return mapReferenceResolver;
+    public long getReadOffset() {
+        return bufferOffset + bufferPosition;
     }
 
     /**
-     * Returns the reader's identity retention flag.
+     * Computes the number of the line of the previously read character.
      *
-     * @return the reader's identity retention {@code boolean} flag.
+     * @return the line number, counted from one.
      */
     @Override
-    public boolean getIdentityRetainFlag() {
-        return retainIdentity;
+    protected long currentLine() {
+        long lines = discardedLines;
+
+        for (int i = 0; i < bufferPosition - 1; ++i) {
+            if (buffer[i] == '\n') {
+                lines++;
+            }
+        }
+
+        return lines + 1;
+    }
+
+    /**
+     * Computes the number of the column of the previously read character.
+     *
+     * @return the column number, counted from one ({@code 0} if no character was read).
+     */
+    @Override
+    protected long currentColumn() {
+        for (int i = bufferPosition - 2; i >= 0; --i) {
+            if (buffer[i] == '\n') {
+                return bufferPosition - 1 - i;
+            }
+        }
+
+        return discardedColumn + bufferPosition;
     }
 }
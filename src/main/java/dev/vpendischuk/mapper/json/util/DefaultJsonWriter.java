@@ -0,0 +1,291 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Default implementation of the {@link JsonWriter} interface that writes JSON characters to a {@link Writer}.
+ * <p>
+ * Characters are collected in an internal buffer, which is written to the writer when it is full.
+ * <p>
+ * Usage example:
+ * <pre>
+ * StringWriter output = new StringWriter();
+ * try (JsonWriter writer = new DefaultJsonWriter(output)) {
+ *     jsonValue.writeTo(writer);
+ * }
+ * String json = output.toString();
+ * </pre>
+ */
+public class DefaultJsonWriter implements JsonWriter {
+    // Default size of the buffer.
+    private static final int BUFFER_SIZE = 4096;
+
+    // Writer the data is written to.
+    private final Writer writer;
+    // Buffer that stores the characters that were not written to the writer yet.
+    private final char[] buffer;
+    // Buffer used to format floating-point numbers.
+    private final byte[] numberBuffer;
+    // Amount of characters stored in the buffer.
+    private int position;
+
+    /**
+     * Initializes a new {@link DefaultJsonWriter} instance that writes to the specified writer.
+     *
+     * @param writer the writer.
+     */
+    public DefaultJsonWriter(Writer writer) {
+        this(writer, BUFFER_SIZE);
+    }
+
+    /**
+     * Initializes a new {@link DefaultJsonWriter} instance that writes to the specified writer
+     *   with a buffer of the specified size.
+     *
+     * @param writer the writer.
+     * @param bufferSize size of the buffer, at least {@link DoubleFormatter#MAX_LENGTH} characters.
+     */
+    public DefaultJsonWriter(Writer writer, int bufferSize) {
+        this.writer = writer;
+        buffer = new char[Math.max(bufferSize, DoubleFormatter.MAX_LENGTH)];
+        numberBuffer = new byte[DoubleFormatter.MAX_LENGTH];
+        position = 0;
+    }
+
+    /**
+     * Writes the specified character.
+     *
+     * @param character the character; surrogates are only written as parts of strings.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    @Override
+    public void write(char character) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+
+        buffer[position++] = character;
+    }
+
+    /**
+     * Writes the specified text as it is, without quotes or escaping.
+     * <p>
+     * Text that does not fit in the buffer is passed to the writer directly.
+     *
+     * @param text the text.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    @Override
+    public void write(String text) throws IOException {
+        int length = text.length();
+
+        if (length > buffer.length - position) {
+            flushBuffer();
+
+            if (length > buffer.length) {
+                writer.write(text);
+                return;
+            }
+        }
+
+        text.getChars(0, length, buffer, position);
+        position += length;
+    }
+
+    /**
+     * Writes the specified text as a quoted JSON string, escaping the characters
+     *   that cannot be written as they are according to RFC 8259.
+     * <p>
+     * Runs of characters that are not escaped are copied in bulk.
+     *
+     * @param text the text.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    @Override
+    public void writeString(String text) throws IOException {
+        int length = text.length();
+
+        write('\"');
+
+        int start = 0;
+        for (int i = 0; i < length; ++i) {
+            char escape = JsonEscapes.escapeOf(text.charAt(i));
+            if (escape == 0) {
+                continue;
+            }
+
+            writeRun(text, start, i);
+            writeEscape(text.charAt(i), escape);
+            start = i + 1;
+        }
+
+        writeRun(text, start, length);
+
+        write('\"');
+    }
+
+    /**
+     * Writes the specified pre-encoded text as it is, without quotes or escaping.
+     * <p>
+     * Text that does not fit in the buffer is passed to the writer directly.
+     *
+     * @param text the text.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    @Override
+    public void write(EncodedText text) throws IOException {
+        char[] chars = text.chars();
+
+        if (chars.length > buffer.length - position) {
+            flushBuffer();
+
+            if (chars.length > buffer.length) {
+                writer.write(chars);
+                return;
+            }
+        }
+
+        System.arraycopy(chars, 0, buffer, position, chars.length);
+        position += chars.length;
+    }
+
+    /**
+     * Writes the decimal representation of the specified integer.
+     *
+     * @param value the value.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    @Override
+    public void writeNumber(long value) throws IOException {
+        if (value >= 0 && value < 10) {
+            write((char) ('0' + value));
+        } else {
+            write(Long.toString(value));
+        }
+    }
+
+    /**
+     * Writes the shortest decimal that is parsed back to the specified value.
+     *
+     * @param value the value.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    @Override
+    public void writeNumber(double value) throws IOException {
+        writeAscii(DoubleFormatter.write(value, numberBuffer, 0));
+    }
+
+    /**
+     * Writes the shortest decimal that is parsed back to the specified value.
+     *
+     * @param value the value.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    @Override
+    public void writeNumber(float value) throws IOException {
+        writeAscii(DoubleFormatter.write(value, numberBuffer, 0));
+    }
+
+    /**
+     * Writes the buffered characters to the writer and flushes the writer.
+     *
+     * @throws IOException if the data could not be written to the writer.
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        writer.flush();
+    }
+
+    /**
+     * Writes the buffered characters to the writer and closes the writer.
+     *
+     * @throws IOException if the data could not be written or the writer could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes the specified part of the text as it is.
+     * <p>
+     * A part that does not fit in the buffer is passed to the writer directly.
+     *
+     * @param text the text.
+     * @param start index of the first character of the part.
+     * @param end index that follows the last character of the part.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    private void writeRun(String text, int start, int end) throws IOException {
+        int length = end - start;
+
+        if (length > buffer.length - position) {
+            flushBuffer();
+
+            if (length > buffer.length) {
+                writer.write(text, start, length);
+                return;
+            }
+        }
+
+        text.getChars(start, end, buffer, position);
+        position += length;
+    }
+
+    /**
+     * Writes the escape sequence of the specified character.
+     *
+     * @param character the character.
+     * @param escape the character that follows the backslash or {@link JsonEscapes#UNICODE}.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    private void writeEscape(char character, char escape) throws IOException {
+        if (buffer.length - position < 6) {
+            flushBuffer();
+        }
+
+        buffer[position++] = '\\';
+        buffer[position++] = escape;
+
+        if (escape == JsonEscapes.UNICODE) {
+            buffer[position++] = '0';
+            buffer[position++] = '0';
+            buffer[position++] = JsonEscapes.HEX_DIGITS[character >> 4];
+            buffer[position++] = JsonEscapes.HEX_DIGITS[character & 0xF];
+        }
+    }
+
+    /**
+     * Writes the specified amount of first ASCII characters of the number buffer.
+     *
+     * @param length the amount of characters.
+     * @throws IOException if the data could not be written to the writer.
+     */
+    private void writeAscii(int length) throws IOException {
+        if (length > buffer.length - position) {
+            flushBuffer();
+        }
+
+        for (int i = 0; i < length; ++i) {
+            buffer[position++] = (char) numberBuffer[i];
+        }
+    }
+
+    /**
+     * Writes the buffered characters to the writer.
+     *
+     * @throws IOException if the data could not be written to the writer.
+     */
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            writer.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
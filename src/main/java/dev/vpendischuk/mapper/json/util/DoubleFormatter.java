@@ -0,0 +1,507 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formatter of {@code double} and {@code float} values into the shortest decimal text
+ *   that is parsed back to the same value.
+ * <p>
+ * The decimal is computed with the Schubfach algorithm: the rounding interval of the value is scaled
+ *   by a 126-bit approximation of a power of ten, so that the shortest decimal in the interval is found
+ *   with a few multiplications and no arbitrary-precision arithmetic. Among the shortest decimals
+ *   the one closest to the value is chosen.
+ * <p>
+ * The text is laid out as by {@link Double#toString(double)}: values from {@code 1e-3} (inclusive)
+ *   to {@code 1e7} (exclusive) are written in plain notation and others in scientific notation,
+ *   always with at least one digit after the decimal point ({@code 5.0}, {@code 0.001}, {@code 1.0E-4}).
+ * <p>
+ * Usage example:
+ * <pre>
+ * byte[] buffer = new byte[DoubleFormatter.MAX_LENGTH];
+ * int end = DoubleFormatter.write(0.1 + 0.2, buffer, 0);
+ * </pre>
+ */
+public final class DoubleFormatter {
+    /**
+     * The greatest amount of characters written for a single value.
+     */
+    public static final int MAX_LENGTH = 24;
+
+    // Amount of bits of the significand of a double, including the hidden bit.
+    private static final int DOUBLE_PRECISION = 53;
+    // The least binary exponent of a double.
+    private static final int DOUBLE_MIN_EXPONENT = -1074;
+    // The hidden bit of the significand of a normal double.
+    private static final long DOUBLE_HIDDEN_BIT = 1L << 52;
+    // Subnormal doubles with smaller significands are formatted with an extra digit of precision.
+    private static final long DOUBLE_TINY_SIGNIFICAND = 3;
+    // Amount of bits of the significand of a float, including the hidden bit.
+    private static final int FLOAT_PRECISION = 24;
+    // The least binary exponent of a float.
+    private static final int FLOAT_MIN_EXPONENT = -149;
+    // The hidden bit of the significand of a normal float.
+    private static final int FLOAT_HIDDEN_BIT = 1 << 23;
+    // Subnormal floats with smaller significands are formatted with an extra digit of precision.
+    private static final int FLOAT_TINY_SIGNIFICAND = 8;
+    // The least power of ten in the table of approximations.
+    private static final int MIN_POWER = -324;
+    // The greatest power of ten in the table of approximations.
+    private static final int MAX_POWER = 292;
+    // Mask of the lower 63 bits of a long.
+    private static final long MASK_63 = (1L << 63) - 1;
+    // Mask of the lower 32 bits of a long.
+    private static final long MASK_32 = (1L << 32) - 1;
+    // Powers of ten that fit in a long.
+    private static final long[] POWERS_OF_TEN = new long[19];
+    // Upper 63 bits of the 126-bit approximations (rounded up) of 10^-k.
+    private static final long[] POWERS_OF_TEN_HIGH;
+    // Lower 63 bits of the 126-bit approximations (rounded up) of 10^-k.
+    private static final long[] POWERS_OF_TEN_LOW;
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; ++i) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+
+        POWERS_OF_TEN_HIGH = new long[MAX_POWER - MIN_POWER + 1];
+        POWERS_OF_TEN_LOW = new long[MAX_POWER - MIN_POWER + 1];
+
+        for (int k = MIN_POWER; k <= MAX_POWER; ++k) {
+            BigInteger power = BigInteger.TEN.pow(Math.abs(k));
+            BigInteger approximation;
+
+            if (k <= 0) {
+                int shift = power.bitLength() - 126;
+                approximation = shift >= 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+            } else {
+                // 2^(bitLength + 125) / 10^k lies between 2^125 and 2^126.
+                approximation = BigInteger.ONE.shiftLeft(power.bitLength() + 125).divide(power);
+            }
+
+            approximation = approximation.add(BigInteger.ONE);
+            POWERS_OF_TEN_HIGH[k - MIN_POWER] = approximation.shiftRight(63).longValue();
+            POWERS_OF_TEN_LOW[k - MIN_POWER] = approximation.longValue() & MASK_63;
+        }
+    }
+
+    /**
+     * The class is not instantiated.
+     */
+    private DoubleFormatter() { }
+
+    /**
+     * Returns the shortest decimal text of the specified value.
+     *
+     * @param value the value.
+     * @return text of the value.
+     */
+    public static String toString(double value) {
+        byte[] buffer = new byte[MAX_LENGTH];
+        return new String(buffer, 0, write(value, buffer, 0), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the shortest decimal text of the specified value.
+     *
+     * @param value the value.
+     * @return text of the value.
+     */
+    public static String toString(float value) {
+        byte[] buffer = new byte[MAX_LENGTH];
+        return new String(buffer, 0, write(value, buffer, 0), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes the shortest decimal text of the specified value as ASCII characters.
+     * <p>
+     * Non-finite values are written as {@code NaN}, {@code Infinity} and {@code -Infinity}.
+     *
+     * @param value the value.
+     * @param buffer buffer with at least {@link #MAX_LENGTH} bytes available from the {@code offset}.
+     * @param offset index the text is written at.
+     * @return index that follows the last written character.
+     */
+    public static int write(double value, byte[] buffer, int offset) {
+        long bits = Double.doubleToRawLongBits(value);
+        long significand = bits & (DOUBLE_HIDDEN_BIT - 1);
+        int biasedExponent = (int) (bits >>> 52) & 0x7FF;
+
+        if (biasedExponent == 0x7FF) {
+            return writeNonFinite(significand != 0, bits < 0, buffer, offset);
+        }
+
+        if (bits < 0) {
+            buffer[offset++] = '-';
+        }
+
+        if (biasedExponent != 0) {
+            int negatedExponent = -DOUBLE_MIN_EXPONENT + 1 - biasedExponent;
+            significand |= DOUBLE_HIDDEN_BIT;
+
+            // Integers below 2^53 are formatted exactly.
+            if (negatedExponent > 0 && negatedExponent < DOUBLE_PRECISION) {
+                long integer = significand >> negatedExponent;
+                if (integer << negatedExponent == significand) {
+                    return writeDecimal(integer, 0, buffer, offset);
+                }
+            }
+
+            return writeDouble(-negatedExponent, significand, 0, buffer, offset);
+        }
+
+        if (significand != 0) {
+            return significand < DOUBLE_TINY_SIGNIFICAND
+                    ? writeDouble(DOUBLE_MIN_EXPONENT, 10 * significand, -1, buffer, offset)
+                    : writeDouble(DOUBLE_MIN_EXPONENT, significand, 0, buffer, offset);
+        }
+
+        return writeZero(buffer, offset);
+    }
+
+    /**
+     * Writes the shortest decimal text of the specified value as ASCII characters.
+     * <p>
+     * Non-finite values are written as {@code NaN}, {@code Infinity} and {@code -Infinity}.
+     *
+     * @param value the value.
+     * @param buffer buffer with at least {@link #MAX_LENGTH} bytes available from the {@code offset}.
+     * @param offset index the text is written at.
+     * @return index that follows the last written character.
+     */
+    public static int write(float value, byte[] buffer, int offset) {
+        int bits = Float.floatToRawIntBits(value);
+        int significand = bits & (FLOAT_HIDDEN_BIT - 1);
+        int biasedExponent = (bits >>> 23) & 0xFF;
+
+        if (biasedExponent == 0xFF) {
+            return writeNonFinite(significand != 0, bits < 0, buffer, offset);
+        }
+
+        if (bits < 0) {
+            buffer[offset++] = '-';
+        }
+
+        if (biasedExponent != 0) {
+            int negatedExponent = -FLOAT_MIN_EXPONENT + 1 - biasedExponent;
+            significand |= FLOAT_HIDDEN_BIT;
+
+            // Integers below 2^24 are formatted exactly.
+            if (negatedExponent > 0 && negatedExponent < FLOAT_PRECISION) {
+                int integer = significand >> negatedExponent;
+                if (integer << negatedExponent == significand) {
+                    return writeDecimal(integer, 0, buffer, offset);
+                }
+            }
+
+            return writeFloat(-negatedExponent, significand, 0, buffer, offset);
+        }
+
+        if (significand != 0) {
+            return significand < FLOAT_TINY_SIGNIFICAND
+                    ? writeFloat(FLOAT_MIN_EXPONENT, 10 * significand, -1, buffer, offset)
+                    : writeFloat(FLOAT_MIN_EXPONENT, significand, 0, buffer, offset);
+        }
+
+        return writeZero(buffer, offset);
+    }
+
+    /**
+     * Finds and writes the shortest decimal in the rounding interval of a finite non-zero
+     *   double value {@code significand * 2^exponent}.
+     *
+     * @param exponent binary exponent of the value.
+     * @param significand binary significand of the value.
+     * @param extraExponent adjustment of the decimal exponent for the extra digit of tiny values.
+     * @param buffer the buffer.
+     * @param offset index the decimal is written at.
+     * @return index that follows the last written character.
+     */
+    private static int writeDouble(int exponent, long significand, int extraExponent, byte[] buffer, int offset) {
+        int odd = (int) significand & 1;
+        // The value and the bounds of its rounding interval, multiplied by four.
+        long scaled = significand << 2;
+        long scaledUpper = scaled + 2;
+        long scaledLower;
+        int k;
+
+        // The interval is asymmetric for powers of two, as the gap below them is twice smaller.
+        if (significand != DOUBLE_HIDDEN_BIT || exponent == DOUBLE_MIN_EXPONENT) {
+            scaledLower = scaled - 2;
+            k = floorLog10Pow2(exponent);
+        } else {
+            scaledLower = scaled - 1;
+            k = floorLog10ThreeQuartersPow2(exponent);
+        }
+
+        int shift = exponent + floorLog2Pow10(-k) + 2;
+        long high = POWERS_OF_TEN_HIGH[k - MIN_POWER];
+        long low = POWERS_OF_TEN_LOW[k - MIN_POWER];
+        long value = roundToOdd(high, low, scaled << shift);
+        long lower = roundToOdd(high, low, scaledLower << shift);
+        long upper = roundToOdd(high, low, scaledUpper << shift);
+        long decimal = value >> 2;
+
+        // A decimal with one digit less, if the interval contains one.
+        if (decimal >= 100) {
+            long shorter = 10 * Math.multiplyHigh(decimal, 115_292_150_460_684_698L << 4);
+            long shorterNext = shorter + 10;
+            boolean shorterIn = lower + odd <= shorter << 2;
+            boolean shorterNextIn = (shorterNext << 2) + odd <= upper;
+            if (shorterIn != shorterNextIn) {
+                return writeDecimal(shorterIn ? shorter : shorterNext, k, buffer, offset);
+            }
+        }
+
+        long next = decimal + 1;
+        boolean decimalIn = lower + odd <= decimal << 2;
+        boolean nextIn = (next << 2) + odd <= upper;
+        if (decimalIn != nextIn) {
+            return writeDecimal(decimalIn ? decimal : next, k + extraExponent, buffer, offset);
+        }
+
+        // Both candidates are in the interval: the closest one is chosen, ties to even.
+        long difference = value - (decimal + next << 1);
+        return writeDecimal(difference < 0 || difference == 0 && (decimal & 1) == 0 ? decimal : next,
+                k + extraExponent, buffer, offset);
+    }
+
+    /**
+     * Finds and writes the shortest decimal in the rounding interval of a finite non-zero
+     *   float value {@code significand * 2^exponent}.
+     *
+     * @param exponent binary exponent of the value.
+     * @param significand binary significand of the value.
+     * @param extraExponent adjustment of the decimal exponent for the extra digit of tiny values.
+     * @param buffer the buffer.
+     * @param offset index the decimal is written at.
+     * @return index that follows the last written character.
+     */
+    private static int writeFloat(int exponent, int significand, int extraExponent, byte[] buffer, int offset) {
+        int odd = significand & 1;
+        // The value and the bounds of its rounding interval, multiplied by four.
+        long scaled = (long) significand << 2;
+        long scaledUpper = scaled + 2;
+        long scaledLower;
+        int k;
+
+        // The interval is asymmetric for powers of two, as the gap below them is twice smaller.
+        if (significand != FLOAT_HIDDEN_BIT || exponent == FLOAT_MIN_EXPONENT) {
+            scaledLower = scaled - 2;
+            k = floorLog10Pow2(exponent);
+        } else {
+            scaledLower = scaled - 1;
+            k = floorLog10ThreeQuartersPow2(exponent);
+        }
+
+        int shift = exponent + floorLog2Pow10(-k) + 33;
+        long power = POWERS_OF_TEN_HIGH[k - MIN_POWER] + 1;
+        int value = roundToOdd(power, scaled << shift);
+        int lower = roundToOdd(power, scaledLower << shift);
+        int upper = roundToOdd(power, scaledUpper << shift);
+        int decimal = value >> 2;
+
+        // A decimal with one digit less, if the interval contains one.
+        if (decimal >= 100) {
+            int shorter = 10 * (int) (decimal * 1_717_986_919L >>> 34);
+            int shorterNext = shorter + 10;
+            boolean shorterIn = lower + odd <= shorter << 2;
+            boolean shorterNextIn = (shorterNext << 2) + odd <= upper;
+            if (shorterIn != shorterNextIn) {
+                return writeDecimal(shorterIn ? shorter : shorterNext, k, buffer, offset);
+            }
+        }
+
+        int next = decimal + 1;
+        boolean decimalIn = lower + odd <= decimal << 2;
+        boolean nextIn = (next << 2) + odd <= upper;
+        if (decimalIn != nextIn) {
+            return writeDecimal(decimalIn ? decimal : next, k + extraExponent, buffer, offset);
+        }
+
+        // Both candidates are in the interval: the closest one is chosen, ties to even.
+        int difference = value - (decimal + next << 1);
+        return writeDecimal(difference < 0 || difference == 0 && (decimal & 1) == 0 ? decimal : next,
+                k + extraExponent, buffer, offset);
+    }
+
+    /**
+     * Multiplies a scaled bound by a 126-bit power of ten, rounding the product to odd.
+     *
+     * @param high upper 63 bits of the power.
+     * @param low lower 63 bits of the power.
+     * @param scaled the scaled bound.
+     * @return the rounded product.
+     */
+    private static long roundToOdd(long high, long low, long scaled) {
+        long lowProduct = Math.multiplyHigh(low, scaled);
+        long middle = (high * scaled >>> 1) + lowProduct;
+        long highProduct = Math.multiplyHigh(high, scaled) + (middle >>> 63);
+        return highProduct | (middle & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Multiplies a scaled bound by a 63-bit power of ten, rounding the product to odd.
+     *
+     * @param power the power.
+     * @param scaled the scaled bound.
+     * @return the rounded product.
+     */
+    private static int roundToOdd(long power, long scaled) {
+        long product = Math.multiplyHigh(power, scaled);
+        return (int) (product >>> 31 | (product & MASK_32) + MASK_32 >>> 32);
+    }
+
+    /**
+     * Writes the decimal {@code significand * 10^exponent}.
+     *
+     * @param significand positive decimal significand with at most 18 digits.
+     * @param exponent the decimal exponent.
+     * @param buffer the buffer.
+     * @param offset index the decimal is written at.
+     * @return index that follows the last written character.
+     */
+    private static int writeDecimal(long significand, int exponent, byte[] buffer, int offset) {
+        while (significand % 10 == 0) {
+            significand /= 10;
+            exponent++;
+        }
+
+        int length = 1;
+        while (length < POWERS_OF_TEN.length && significand >= POWERS_OF_TEN[length]) {
+            length++;
+        }
+
+        // The value is 0.digits * 10^pointPosition.
+        int pointPosition = exponent + length;
+
+        if (pointPosition > 0 && pointPosition <= 7) {
+            if (length <= pointPosition) {
+                writeDigits(significand, buffer, offset + length);
+                offset += length;
+                for (int i = length; i < pointPosition; ++i) {
+                    buffer[offset++] = '0';
+                }
+                buffer[offset++] = '.';
+                buffer[offset++] = '0';
+                return offset;
+            }
+
+            writeDigits(significand, buffer, offset + length + 1);
+            System.arraycopy(buffer, offset + 1, buffer, offset, pointPosition);
+            buffer[offset + pointPosition] = '.';
+            return offset + length + 1;
+        }
+
+        if (pointPosition > -3 && pointPosition <= 0) {
+            buffer[offset++] = '0';
+            buffer[offset++] = '.';
+            for (int i = pointPosition; i < 0; ++i) {
+                buffer[offset++] = '0';
+            }
+            writeDigits(significand, buffer, offset + length);
+            return offset + length;
+        }
+
+        writeDigits(significand, buffer, offset + length + 1);
+        buffer[offset] = buffer[offset + 1];
+        buffer[offset + 1] = '.';
+        offset += length + 1;
+        if (length == 1) {
+            buffer[offset++] = '0';
+        }
+
+        buffer[offset++] = 'E';
+        int scientificExponent = pointPosition - 1;
+        if (scientificExponent < 0) {
+            buffer[offset++] = '-';
+            scientificExponent = -scientificExponent;
+        }
+        if (scientificExponent >= 100) {
+            buffer[offset++] = (byte) ('0' + scientificExponent / 100);
+        }
+        if (scientificExponent >= 10) {
+            buffer[offset++] = (byte) ('0' + scientificExponent / 10 % 10);
+        }
+        buffer[offset++] = (byte) ('0' + scientificExponent % 10);
+
+        return offset;
+    }
+
+    /**
+     * Writes the digits of a positive value so that the last digit precedes the specified index.
+     *
+     * @param value the value.
+     * @param buffer the buffer.
+     * @param end index that follows the last digit.
+     */
+    private static void writeDigits(long value, byte[] buffer, int end) {
+        do {
+            buffer[--end] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+    }
+
+    /**
+     * Writes a zero value; the sign is written by the caller.
+     *
+     * @param buffer the buffer.
+     * @param offset index the value is written at.
+     * @return index that follows the last written character.
+     */
+    private static int writeZero(byte[] buffer, int offset) {
+        buffer[offset++] = '0';
+        buffer[offset++] = '.';
+        buffer[offset++] = '0';
+        return offset;
+    }
+
+    /**
+     * Writes a non-finite value.
+     *
+     * @param nan flag that denotes if the value is not a number.
+     * @param negative flag that denotes if the value is negative.
+     * @param buffer the buffer.
+     * @param offset index the value is written at.
+     * @return index that follows the last written character.
+     */
+    private static int writeNonFinite(boolean nan, boolean negative, byte[] buffer, int offset) {
+        String text = nan ? "NaN" : negative ? "-Infinity" : "Infinity";
+        for (int i = 0; i < text.length(); ++i) {
+            buffer[offset++] = (byte) text.charAt(i);
+        }
+
+        return offset;
+    }
+
+    /**
+     * Returns {@code floor(log10(2^exponent))}.
+     *
+     * @param exponent the exponent.
+     * @return the logarithm.
+     */
+    private static int floorLog10Pow2(int exponent) {
+        return (int) (exponent * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * Returns {@code floor(log10(3/4 * 2^exponent))}.
+     *
+     * @param exponent the exponent.
+     * @return the logarithm.
+     */
+    private static int floorLog10ThreeQuartersPow2(int exponent) {
+        return (int) (exponent * 661_971_961_083L - 274_743_187_321L >> 41);
+    }
+
+    /**
+     * Returns {@code floor(log2(10^exponent))}.
+     *
+     * @param exponent the exponent.
+     * @return the logarithm.
+     */
+    private static int floorLog2Pow10(int exponent) {
+        return (int) (exponent * 913_124_641_741L >> 38);
+    }
+}
@@ -0,0 +1,282 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Correctly rounded conversion of decimal numbers to {@code double} values.
+ * <p>
+ * A number is split into a decimal significand of up to 19 digits and a power of ten.
+ *   Exact cases are converted with a single floating-point multiplication or division
+ *   (Clinger's fast path); other cases are converted with the Eisel-Lemire algorithm,
+ *   which multiplies the significand by a 128-bit approximation of the power of ten.
+ *   Numbers with longer significands and the rare cases the algorithm cannot decide
+ *   are converted exactly by {@link Double#parseDouble(String)}.
+ * <p>
+ * Usage example:
+ * <pre>
+ * char[] text = "-1.5e-7".toCharArray();
+ * double value = DoubleParser.parse(text, 0, text.length);
+ * </pre>
+ */
+public final class DoubleParser {
+    // The least power of ten in the table of approximations.
+    private static final int MIN_EXPONENT = -348;
+    // The greatest power of ten in the table of approximations.
+    private static final int MAX_EXPONENT = 347;
+    // The greatest amount of decimal digits that always fits in a long.
+    private static final int MAX_SIGNIFICAND_DIGITS = 19;
+    // The greatest significand that is represented by a double exactly.
+    private static final long MAX_EXACT_SIGNIFICAND = 1L << 53;
+    // Powers of ten that are represented by a double exactly.
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    // Upper 64 bits of the 128-bit approximations (rounded down) of the powers of ten.
+    private static final long[] POWERS_OF_TEN_HIGH;
+    // Lower 64 bits of the 128-bit approximations (rounded down) of the powers of ten.
+    private static final long[] POWERS_OF_TEN_LOW;
+
+    static {
+        POWERS_OF_TEN_HIGH = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+        POWERS_OF_TEN_LOW = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+
+        for (int exponent = MIN_EXPONENT; exponent <= MAX_EXPONENT; ++exponent) {
+            BigInteger power = BigInteger.TEN.pow(Math.abs(exponent));
+            BigInteger approximation;
+
+            if (exponent >= 0) {
+                int shift = power.bitLength() - 128;
+                approximation = shift >= 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+            } else {
+                // 2^(bitLength + 127) / 10^-exponent lies between 2^127 and 2^128.
+                approximation = BigInteger.ONE.shiftLeft(power.bitLength() + 127).divide(power);
+            }
+
+            POWERS_OF_TEN_HIGH[exponent - MIN_EXPONENT] = approximation.shiftRight(64).longValue();
+            POWERS_OF_TEN_LOW[exponent - MIN_EXPONENT] = approximation.longValue();
+        }
+    }
+
+    /**
+     * The class is not instantiated.
+     */
+    private DoubleParser() { }
+
+    /**
+     * Converts the decimal number stored in the specified range of an array to the closest {@code double}.
+     * <p>
+     * The number consists of an optional minus sign, integer digits, an optional fraction
+     *   and an optional exponent; other text is passed to {@link Double#parseDouble(String)}.
+     *
+     * @param text array that stores the number.
+     * @param offset index of the first character of the number.
+     * @param length amount of characters of the number.
+     * @return the closest {@code double} value.
+     * @throws NumberFormatException if the characters do not form a number.
+     */
+    public static double parse(char[] text, int offset, int length) throws NumberFormatException {
+        int end = offset + length;
+        int index = offset;
+        boolean negative = index < end && text[index] == '-';
+        if (negative) {
+            index++;
+        }
+
+        long significand = 0;
+        // Amount of significant digits, leading zeros are skipped.
+        int digitCount = 0;
+        // Power of ten the significand is multiplied by.
+        long exponent = 0;
+        int digitsStart = index;
+
+        while (index < end && text[index] >= '0' && text[index] <= '9') {
+            if (significand != 0 || text[index] != '0') {
+                significand = significand * 10 + (text[index] - '0');
+                digitCount++;
+            }
+            index++;
+        }
+        boolean hasDigits = index > digitsStart;
+
+        if (index < end && text[index] == '.') {
+            index++;
+            int fractionStart = index;
+
+            while (index < end && text[index] >= '0' && text[index] <= '9') {
+                if (significand != 0 || text[index] != '0') {
+                    significand = significand * 10 + (text[index] - '0');
+                    digitCount++;
+                }
+                exponent--;
+                index++;
+            }
+            hasDigits &= index > fractionStart;
+        }
+
+        if (hasDigits && index < end && (text[index] == 'e' || text[index] == 'E')) {
+            index++;
+            boolean negativeExponent = index < end && text[index] == '-';
+            if (index < end && (text[index] == '-' || text[index] == '+')) {
+                index++;
+            }
+
+            int exponentStart = index;
+            long explicitExponent = 0;
+            while (index < end && text[index] >= '0' && text[index] <= '9') {
+                // Larger exponents do not change the result, as it is zero or infinity then.
+                if (explicitExponent < 100000) {
+                    explicitExponent = explicitExponent * 10 + (text[index] - '0');
+                }
+                index++;
+            }
+
+            hasDigits = index > exponentStart;
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (!hasDigits || index != end || digitCount > MAX_SIGNIFICAND_DIGITS) {
+            return Double.parseDouble(new String(text, offset, length));
+        }
+
+        double value = toDouble(significand, exponent, negative);
+        if (Double.isNaN(value)) {
+            return Double.parseDouble(new String(text, offset, length));
+        }
+
+        return value;
+    }
+
+    /**
+     * Converts the specified decimal value to the closest {@code double}.
+     *
+     * @param value the decimal value.
+     * @return the closest {@code double} value.
+     */
+    public static double parse(BigDecimal value) {
+        BigInteger unscaled = value.unscaledValue();
+
+        if (unscaled.bitLength() < 64) {
+            long significand = unscaled.longValue();
+            double result = toDouble(Math.abs(significand), -(long) value.scale(), significand < 0);
+            if (!Double.isNaN(result)) {
+                return result;
+            }
+        }
+
+        return value.doubleValue();
+    }
+
+    /**
+     * Converts a decimal significand multiplied by a power of ten to the closest {@code double}.
+     *
+     * @param significand unsigned decimal significand.
+     * @param exponent the power of ten.
+     * @param negative flag that denotes if the value is negative.
+     * @return the closest {@code double} value or {@code NaN} if it could not be determined.
+     */
+    private static double toDouble(long significand, long exponent, boolean negative) {
+        if (significand == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+
+        // Clinger's fast path: both operands and the result are exact before rounding.
+        if (significand > 0 && significand <= MAX_EXACT_SIGNIFICAND
+                && exponent >= -22 && exponent <= 22) {
+            double value = exponent >= 0
+                    ? (double) significand * EXACT_POWERS_OF_TEN[(int) exponent]
+                    : (double) significand / EXACT_POWERS_OF_TEN[(int) -exponent];
+            return negative ? -value : value;
+        }
+
+        if (exponent < MIN_EXPONENT) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (exponent > MAX_EXPONENT) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+
+        return eiselLemire(significand, (int) exponent, negative);
+    }
+
+    /**
+     * Converts a decimal significand multiplied by a power of ten to the closest {@code double}
+     *   with the Eisel-Lemire algorithm.
+     *
+     * @param significand non-zero unsigned decimal significand.
+     * @param exponent the power of ten within the range of the table.
+     * @param negative flag that denotes if the value is negative.
+     * @return the closest {@code double} value or {@code NaN} if it could not be determined.
+     */
+    private static double eiselLemire(long significand, int exponent, boolean negative) {
+        // Normalization: the most significant bit of the significand is set.
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        significand <<= leadingZeros;
+        // floor(log2(10^exponent)) is computed as (217706 * exponent) >> 16.
+        long binaryExponent = ((217706L * exponent) >> 16) + 64 + 1023 - leadingZeros;
+
+        // Multiplication by the upper half of the approximation.
+        long powerHigh = POWERS_OF_TEN_HIGH[exponent - MIN_EXPONENT];
+        long productHigh = unsignedMultiplyHigh(significand, powerHigh);
+        long productLow = significand * powerHigh;
+
+        // The lower bits are inexact: a wider approximation is used if they may carry into the result.
+        if ((productHigh & 0x1FF) == 0x1FF && Long.compareUnsigned(productLow + significand, significand) < 0) {
+            long powerLow = POWERS_OF_TEN_LOW[exponent - MIN_EXPONENT];
+            long lowHigh = unsignedMultiplyHigh(significand, powerLow);
+            long lowLow = significand * powerLow;
+            long mergedLow = productLow + lowHigh;
+            long mergedHigh = Long.compareUnsigned(mergedLow, productLow) < 0 ? productHigh + 1 : productHigh;
+
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow + 1 == 0
+                    && Long.compareUnsigned(lowLow + significand, significand) < 0) {
+                return Double.NaN;
+            }
+
+            productHigh = mergedHigh;
+            productLow = mergedLow;
+        }
+
+        // Shifting the product to 54 bits.
+        long upperBit = productHigh >>> 63;
+        long mantissa = productHigh >>> (upperBit + 9);
+        binaryExponent -= 1 ^ upperBit;
+
+        // The product is too close to a halfway point between two doubles.
+        if (productLow == 0 && (productHigh & 0x1FF) == 0 && (mantissa & 3) == 1) {
+            return Double.NaN;
+        }
+
+        // Rounding to 53 bits: to nearest, ties to even.
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >>> 53 > 0) {
+            mantissa >>>= 1;
+            binaryExponent++;
+        }
+
+        // Subnormal values, infinities and values out of range are left to the exact conversion.
+        if (binaryExponent <= 0 || binaryExponent >= 0x7FF) {
+            return Double.NaN;
+        }
+
+        long bits = binaryExponent << 52 | mantissa & 0x000FFFFFFFFFFFFFL;
+        if (negative) {
+            bits |= 0x8000000000000000L;
+        }
+
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Returns the upper 64 bits of the unsigned 128-bit product of two unsigned values.
+     *
+     * @param x the first value.
+     * @param y the second value.
+     * @return the upper 64 bits of the product.
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text that is encoded once and then written many times, such as the keys of an object.
+ * <p>
+ * Both the characters and the UTF-8 bytes of the text are kept,
+ *   so every {@link JsonWriter} implementation copies the form it stores in bulk
+ *   instead of encoding the text character by character.
+ * <p>
+ * Usage example:
+ * <pre>
+ * EncodedText key = new EncodedText("\"name\":");
+ * writer.write(key);
+ * </pre>
+ */
+public final class EncodedText {
+    // The text.
+    private final String text;
+    // Characters of the text.
+    private final char[] chars;
+    // UTF-8 bytes of the text.
+    private final byte[] bytes;
+
+    /**
+     * Initializes a new {@link EncodedText} instance with the specified text.
+     *
+     * @param text the text; unpaired surrogates are encoded as {@code '?'}.
+     */
+    public EncodedText(String text) {
+        this.text = text;
+        chars = text.toCharArray();
+        bytes = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the characters of the text; the array must not be modified.
+     *
+     * @return the characters.
+     */
+    char[] chars() {
+        return chars;
+    }
+
+    /**
+     * Returns the UTF-8 bytes of the text; the array must not be modified.
+     *
+     * @return the bytes.
+     */
+    byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the text.
+     *
+     * @return the text.
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+}
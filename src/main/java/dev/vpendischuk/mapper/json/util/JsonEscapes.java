@@ -0,0 +1,103 @@
+package dev.vpendischuk.mapper.json.util;
+
+/**
+ * Lookup table of the escape sequences of the ASCII characters in JSON strings, shared by the writers,
+ *   and helpers that resolve unicode escapes, shared by the readers.
+ * <p>
+ * As required by RFC 8259, the quotation mark, the reverse solidus and the control characters
+ *   are escaped: the characters that have a short escape sequence (such as {@code \n}) are written
+ *   with it, the other control characters are written as unicode escapes with four hexadecimal digits.
+ *   Other characters, including non-ASCII ones, are written as they are.
+ * <p>
+ * Readers that collect UTF-8 bytes write a high surrogate read from a unicode escape as {@code '?'}
+ *   and replace it with the encoded pair if the next escape is a low surrogate,
+ *   so unpaired surrogates are decoded as by {@link String#getBytes(java.nio.charset.Charset)}.
+ */
+final class JsonEscapes {
+    // Character that marks the characters written as a six-character unicode escape in the table.
+    static final char UNICODE = 'u';
+
+    // Hexadecimal digits of the unicode escapes.
+    static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    // Characters that follow the backslash in the escape sequences of the ASCII characters (0 if not escaped).
+    private static final char[] TABLE = new char[128];
+
+    static {
+        for (int i = 0; i < 0x20; ++i) {
+            TABLE[i] = UNICODE;
+        }
+
+        TABLE['\"'] = '\"';
+        TABLE['\\'] = '\\';
+        TABLE['\b'] = 'b';
+        TABLE['\f'] = 'f';
+        TABLE['\n'] = 'n';
+        TABLE['\r'] = 'r';
+        TABLE['\t'] = 't';
+    }
+
+    /**
+     * Prevents the class from being instantiated.
+     */
+    private JsonEscapes() { }
+
+    /**
+     * Returns the character that follows the backslash in the escape sequence of the specified character.
+     *
+     * @param character the character.
+     * @return the escape character, {@link #UNICODE} for a unicode escape or {@code 0} if it is not escaped.
+     */
+    static char escapeOf(char character) {
+        return character < 0x80 ? TABLE[character] : 0;
+    }
+
+    /**
+     * Returns the value of the specified hexadecimal digit.
+     *
+     * @param character the digit.
+     * @return the value or {@code -1} if the character is not a hexadecimal digit.
+     */
+    static int hexValue(int character) {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        }
+
+        int lowerCase = character | 0x20;
+        if (lowerCase >= 'a' && lowerCase <= 'f') {
+            return lowerCase - 'a' + 10;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Writes the UTF-8 encoding of the specified code point to an array; requires four free bytes.
+     *
+     * @param codePoint the code point; surrogates are written as {@code '?'}.
+     * @param array the array.
+     * @param offset index of the first written byte.
+     * @return index that follows the last written byte.
+     */
+    static int encodeUtf8(int codePoint, byte[] array, int offset) {
+        if (codePoint < 0x80) {
+            array[offset++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            array[offset++] = (byte) (0xC0 | codePoint >> 6);
+            array[offset++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            array[offset++] = '?';
+        } else if (codePoint < 0x10000) {
+            array[offset++] = (byte) (0xE0 | codePoint >> 12);
+            array[offset++] = (byte) (0x80 | (codePoint >> 6 & 0x3F));
+            array[offset++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            array[offset++] = (byte) (0xF0 | codePoint >> 18);
+            array[offset++] = (byte) (0x80 | (codePoint >> 12 & 0x3F));
+            array[offset++] = (byte) (0x80 | (codePoint >> 6 & 0x3F));
+            array[offset++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+
+        return offset;
+    }
+}
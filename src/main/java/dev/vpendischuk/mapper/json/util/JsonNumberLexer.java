@@ -0,0 +1,241 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Reusable lexer of JSON numbers that receives the characters of a number one by one.
+ * <p>
+ * Digits of an integer are accumulated straight into a {@code long} with overflow detection,
+ *   so integers are obtained without creating strings or decimals. The characters are also
+ *   kept in an internal buffer, from which fractions, exponents and out of range values
+ *   are parsed when they are requested ({@code double} values by the {@link DoubleParser}).
+ * <p>
+ * Usage example:
+ * <pre>
+ * JsonNumberLexer lexer = new JsonNumberLexer();
+ * lexer.start();
+ * for (char digit : "-42".toCharArray()) {
+ *     lexer.append(digit);
+ * }
+ * long value = lexer.isLong() ? lexer.longValue() : lexer.decimalValue().longValue();
+ * </pre>
+ */
+public final class JsonNumberLexer {
+    // Initial capacity of the buffer that stores the characters of a number.
+    private static final int INITIAL_BUFFER_SIZE = 32;
+
+    // Characters of the current number.
+    private char[] buffer;
+    // Amount of characters of the current number.
+    private int length;
+    // Negated value of the digits read so far (negative values reach Long.MIN_VALUE).
+    private long negatedValue;
+    // Amount of digits read so far.
+    private int digitCount;
+    // Flag that denotes if the number starts with a minus sign.
+    private boolean negative;
+    // Flag that denotes if the number is still an integer that fits in a long.
+    private boolean integral;
+
+    /**
+     * Initializes a new {@link JsonNumberLexer} instance.
+     */
+    public JsonNumberLexer() {
+        buffer = new char[INITIAL_BUFFER_SIZE];
+        start();
+    }
+
+    /**
+     * Checks if the specified character starts a number.
+     *
+     * @param readChar the character.
+     * @return {@code true} if the character is a digit or a minus sign.
+     */
+    public static boolean isNumberStart(char readChar) {
+        return (readChar >= '0' && readChar <= '9') || readChar == '-';
+    }
+
+    /**
+     * Starts lexing a new number, discarding the previous one.
+     */
+    public void start() {
+        length = 0;
+        negatedValue = 0;
+        digitCount = 0;
+        negative = false;
+        integral = true;
+    }
+
+    /**
+     * Lexes the specified text as a new number, discarding the previous one.
+     *
+     * @param text text of the number.
+     * @return the lexer.
+     */
+    public JsonNumberLexer lex(CharSequence text) {
+        start();
+        for (int i = 0; i < text.length(); ++i) {
+            append(text.charAt(i));
+        }
+
+        return this;
+    }
+
+    /**
+     * Appends the next character of the number.
+     *
+     * @param readChar the character.
+     */
+    public void append(char readChar) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, length * 2);
+        }
+        buffer[length++] = readChar;
+
+        if (!integral) {
+            return;
+        }
+
+        if (readChar >= '0' && readChar <= '9') {
+            int digit = readChar - '0';
+            long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+
+            // The same overflow checks as in Long.parseLong.
+            if (negatedValue < limit / 10 || negatedValue * 10 < limit + digit) {
+                integral = false;
+                return;
+            }
+
+            negatedValue = negatedValue * 10 - digit;
+            digitCount++;
+        } else if (readChar == '-' && length == 1) {
+            negative = true;
+        } else {
+            // Fractions, exponents and invalid characters are left to the exact parsing.
+            integral = false;
+        }
+    }
+
+    /**
+     * Checks if the number is an integer that fits in a {@code long}.
+     *
+     * @return {@code true} if the value is available via {@link #longValue()} without exact parsing.
+     */
+    public boolean isLong() {
+        return integral && digitCount > 0;
+    }
+
+    /**
+     * Returns the value of an integer number.
+     *
+     * @return the value; only meaningful if {@link #isLong()} returns {@code true}.
+     */
+    public long longValue() {
+        return negative ? negatedValue : -negatedValue;
+    }
+
+    /**
+     * Returns the closest {@code double} to the value of the number.
+     *
+     * @return the value.
+     * @throws NumberFormatException if the characters do not form a number.
+     */
+    public double doubleValue() throws NumberFormatException {
+        if (isLong()) {
+            // The conversion of a long is correctly rounded; only the sign of zero is lost by it.
+            return negative && negatedValue == 0 ? -0.0 : longValue();
+        }
+
+        checkNumber();
+        return DoubleParser.parse(buffer, 0, length);
+    }
+
+    /**
+     * Returns the exact value of the number.
+     *
+     * @return the value.
+     * @throws NumberFormatException if the characters do not form a number.
+     */
+    public BigDecimal decimalValue() throws NumberFormatException {
+        if (isLong()) {
+            return BigDecimal.valueOf(longValue());
+        }
+
+        return new BigDecimal(buffer, 0, length);
+    }
+
+    /**
+     * Returns the amount of significant digits of the number: digits before the exponent
+     *   that follow the leading zeros.
+     *
+     * @return the amount of digits.
+     */
+    public int significantDigits() {
+        int count = 0;
+        for (int i = 0; i < length; ++i) {
+            char readChar = buffer[i];
+            if (readChar == 'e' || readChar == 'E') {
+                break;
+            }
+            if ((readChar > '0' && readChar <= '9') || (readChar == '0' && count > 0)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Checks if the number is written as {@link Double#toString(double)} writes values
+     *   from {@code 1e-3} to {@code 1e7}: in plain notation without leading zeros and with a fraction
+     *   that has no trailing zeros, unless it is a single zero.
+     *
+     * @return {@code true} if the number is written in plain notation without redundant zeros.
+     */
+    public boolean isPlainDecimal() {
+        int start = length > 0 && buffer[0] == '-' ? 1 : 0;
+        int point = -1;
+
+        for (int i = start; i < length; ++i) {
+            char readChar = buffer[i];
+            if (readChar == '.' && point < 0) {
+                point = i;
+            } else if (readChar < '0' || readChar > '9') {
+                return false;
+            }
+        }
+
+        if (point <= start || point == length - 1 || (buffer[start] == '0' && point != start + 1)) {
+            return false;
+        }
+
+        return buffer[length - 1] != '0' || point == length - 2;
+    }
+
+    /**
+     * Returns the characters of the number.
+     *
+     * @return the text of the number.
+     */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Checks that the characters contain only those allowed in numbers, as
+     *   {@link Double#parseDouble(String)} also accepts words such as {@code Infinity}.
+     *
+     * @throws NumberFormatException if the characters do not form a number.
+     */
+    private void checkNumber() throws NumberFormatException {
+        for (int i = 0; i < length; ++i) {
+            char readChar = buffer[i];
+            if ((readChar < '0' || readChar > '9') && readChar != '-' && readChar != '+'
+                    && readChar != '.' && readChar != 'e' && readChar != 'E') {
+                throw new NumberFormatException("Invalid number " + this + ".");
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents a common interface for JSON pull parsers -
+ *   classes that read JSON as a sequence of tokens
+ *   without constructing a JSON object model.
+ * <p>
+ * Usage example:
+ * <pre>
+ * JsonParser parser = new DefaultJsonParser(new DefaultJsonReader("{\"id\":42}", false));
+ * JsonToken token;
+ * while ((token = parser.nextToken()) != null) {
+ *     if (token == JsonToken.VALUE_NUMBER &amp;&amp; "id".equals(parser.getCurrentName())) {
+ *         long id = parser.getLong();
+ *     }
+ * }
+ * </pre>
+ */
+public interface JsonParser {
+    /**
+     * Reads the next token from the JSON.
+     *
+     * @return the next token or {@code null} if the end of data was reached.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    JsonToken nextToken() throws JsonReadException;
+
+    /**
+     * Returns the token that was read last.
+     *
+     * @return the current token or {@code null} if no token was read or the end of data was reached.
+     */
+    JsonToken currentToken();
+
+    /**
+     * Returns the name of the field that the current token belongs to.
+     * <p>
+     * For a {@code FIELD_NAME} token it is the name itself, for values and
+     *   objects\arrays it is the name of the field that holds them.
+     *
+     * @return the field name or {@code null} if the current token is not inside an object.
+     */
+    String getCurrentName();
+
+    /**
+     * Returns the amount of objects and arrays that are currently open.
+     *
+     * @return the nesting depth of the current token.
+     */
+    int getDepth();
+
+    /**
+     * Returns the text of the current token: the contents of a string,
+     *   the name of a field or the literal text of a number, boolean or null value.
+     *
+     * @return the text of the current token or {@code null} if there is no current token.
+     */
+    String getText();
+
+    /**
+     * Returns the value of the current {@code VALUE_NUMBER} token as a {@code long}.
+     * <p>
+     * Fractional values are truncated.
+     *
+     * @return the numeric value.
+     * @throws JsonReadException if the current token is not a valid number.
+     */
+    long getLong() throws JsonReadException;
+
+    /**
+     * Returns the value of the current {@code VALUE_NUMBER} token as an {@code int}.
+     * <p>
+     * Fractional values are truncated.
+     *
+     * @return the numeric value.
+     * @throws JsonReadException if the current token is not a valid number or does not fit in an {@code int}.
+     */
+    int getInt() throws JsonReadException;
+
+    /**
+     * Returns the value of the current {@code VALUE_NUMBER} token as a {@code double}.
+     *
+     * @return the numeric value.
+     * @throws JsonReadException if the current token is not a valid number.
+     */
+    double getDouble() throws JsonReadException;
+
+    /**
+     * Returns the exact value of the current {@code VALUE_NUMBER} token.
+     *
+     * @return the numeric value.
+     * @throws JsonReadException if the current token is not a valid number.
+     */
+    BigDecimal getDecimal() throws JsonReadException;
+
+    /**
+     * Returns the value of the current {@code VALUE_TRUE} or {@code VALUE_FALSE} token.
+     *
+     * @return the boolean value.
+     * @throws JsonReadException if the current token is not a boolean literal.
+     */
+    boolean getBoolean() throws JsonReadException;
+
+    /**
+     * Skips all tokens of the object or array that was opened by the current token,
+     *   so that the current token becomes the matching {@code END_OBJECT} or {@code END_ARRAY}.
+     * <p>
+     * Does nothing if the current token does not open an object or an array.
+     *
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    void skipChildren() throws JsonReadException;
+
+    /**
+     * Skips the value of the current {@code FIELD_NAME} token without reading its tokens,
+     *   so that the next call of {@link #nextToken()} returns the token that follows the value.
+     * <p>
+     * The value is skipped structurally by the reader: brackets are matched and strings
+     *   are passed over, but no strings or numbers are created.
+     *
+     * @throws JsonReadException if the current token is not a field name or the value is invalid.
+     */
+    void skipValue() throws JsonReadException;
+
+    /**
+     * Returns the table used to canonicalize field names.
+     * <p>
+     * Names added to the table before reading are returned as the same instances
+     *   whenever they are read as field names.
+     *
+     * @return the symbol table.
+     */
+    SymbolTable getSymbolTable();
+
+    /**
+     * Creates an exception that reports a syntax error at the current read position.
+     *
+     * @param message the message text.
+     * @return the exception with the position of the error.
+     */
+    JsonReadException syntaxError(String message);
+}
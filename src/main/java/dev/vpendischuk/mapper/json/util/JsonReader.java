@@ -16,6 +16,40 @@ public interface JsonReader {
      */
     char nextCharacterTrimmed();
 
+    /**
+     * Obtains the next character in the JSON.
+     *
+     * @return the next character in the JSON or {@code 0} if the end of data was reached.
+     * @throws JsonReadException if the data could not be read from the source.
+     */
+    char nextCharacter() throws JsonReadException;
+
+    /**
+     * Reads the contents of the string that starts at the current read position,
+     *   resolving the escape sequences and consuming the closing quote.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @return the string contents.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    String nextStringContent(char quote) throws JsonReadException;
+
+    /**
+     * Reads the contents of the string that starts at the current read position
+     *   and returns their canonical instance from the specified symbol table.
+     * <p>
+     * Used to read field names: implementations match the contents against the table
+     *   in place, so a known name does not allocate a new string.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @param symbols table of canonical field names.
+     * @return the canonical string contents.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    default String nextStringContent(char quote, SymbolTable symbols) throws JsonReadException {
+        return symbols.add(nextStringContent(quote));
+    }
+
     /**
      * Returns the next value parsed from a JSON.
      *
@@ -23,6 +57,15 @@ public interface JsonReader {
      */
     JsonValue nextValue();
 
+    /**
+     * Skips the next value without parsing it: brackets are matched and strings
+     *   are passed over, but no values are created.
+     *
+     * @throws JsonReadException if the value is missing, its brackets do not match
+     *                           or the end of data was reached inside of it.
+     */
+    void skipValue() throws JsonReadException;
+
     /**
      * Returns the character that was previously read from JSON.
      *
@@ -38,6 +81,27 @@ public interface JsonReader {
      */
     void moveBack() throws JsonReadException;
 
+    /**
+     * Returns the offset of the next character to be read from the start of the data.
+     * <p>
+     * The offset is counted in the units of the source: in characters for character
+     *   readers and in bytes for UTF-8 readers.
+     *
+     * @return the read offset.
+     */
+    long getReadOffset();
+
+    /**
+     * Creates an exception that reports a syntax error at the current read position.
+     * <p>
+     * The line and column of the position are computed only when the exception is created,
+     *   so reading does not keep track of them.
+     *
+     * @param message the message text.
+     * @return the exception with the position of the error.
+     */
+    JsonReadException syntaxError(String message);
+
     /**
      * Returns the reference resolver registered for used by the reader.
      *
@@ -0,0 +1,19 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+
+/**
+ * Represents a common interface for listeners that receive
+ *   the tokens read by a {@link NonBlockingJsonParser}.
+ */
+@FunctionalInterface
+public interface JsonTokenListener {
+    /**
+     * Called when a token was read completely.
+     *
+     * @param token the read token.
+     * @param text contents of a string, name of a field or literal text of a number,
+     *             boolean or null value; {@code null} for object and array delimiters.
+     */
+    void onToken(JsonToken token, String text);
+}
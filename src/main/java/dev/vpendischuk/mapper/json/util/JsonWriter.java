@@ -0,0 +1,98 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Represents a common interface for JSON writers -
+ *   classes responsible for writing JSON text to sinks such as streams and writers.
+ * <p>
+ * Writers are buffered: the text is passed to the sink in blocks of the buffer size,
+ *   so the memory used by a writer does not depend on the size of the document.
+ *   The text is only guaranteed to reach the sink after {@link #flush()} or {@link #close()}.
+ * <p>
+ * Writers do not validate the structure of the written JSON: delimiters and separators
+ *   are written by the caller.
+ */
+public interface JsonWriter extends Closeable, Flushable {
+    /**
+     * Writes the specified character.
+     *
+     * @param character the character; surrogates are only written as parts of strings.
+     * @throws IOException if the data could not be written to the sink.
+     */
+    void write(char character) throws IOException;
+
+    /**
+     * Writes the specified text as it is, without quotes or escaping.
+     *
+     * @param text the text.
+     * @throws IOException if the data could not be written to the sink.
+     */
+    void write(String text) throws IOException;
+
+    /**
+     * Writes the specified text as a quoted JSON string, escaping the characters
+     *   that cannot be written as they are according to RFC 8259.
+     *
+     * @param text the text.
+     * @throws IOException if the data could not be written to the sink.
+     */
+    void writeString(String text) throws IOException;
+
+    /**
+     * Writes the specified pre-encoded text as it is, without quotes or escaping.
+     * <p>
+     * The default implementation writes the text as a string;
+     *   implementations copy the encoded form of the text into their buffers instead.
+     *
+     * @param text the text.
+     * @throws IOException if the data could not be written to the sink.
+     */
+    default void write(EncodedText text) throws IOException {
+        write(text.toString());
+    }
+
+    /**
+     * Writes the decimal representation of the specified integer.
+     *
+     * @param value the value.
+     * @throws IOException if the data could not be written to the sink.
+     */
+    void writeNumber(long value) throws IOException;
+
+    /**
+     * Writes the shortest decimal that is parsed back to the specified value.
+     *
+     * @param value the value.
+     * @throws IOException if the data could not be written to the sink.
+     * @see DoubleFormatter
+     */
+    void writeNumber(double value) throws IOException;
+
+    /**
+     * Writes the shortest decimal that is parsed back to the specified value.
+     *
+     * @param value the value.
+     * @throws IOException if the data could not be written to the sink.
+     * @see DoubleFormatter
+     */
+    void writeNumber(float value) throws IOException;
+
+    /**
+     * Passes the buffered text to the sink and flushes the sink.
+     *
+     * @throws IOException if the data could not be written to the sink.
+     */
+    @Override
+    void flush() throws IOException;
+
+    /**
+     * Passes the buffered text to the sink and closes the sink.
+     *
+     * @throws IOException if the data could not be written to the sink or the sink could not be closed.
+     */
+    @Override
+    void close() throws IOException;
+}
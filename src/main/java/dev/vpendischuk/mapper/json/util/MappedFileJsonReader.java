@@ -0,0 +1,184 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Implementation of the {@link JsonReader} interface that reads UTF-8 encoded
+ *   JSON data from a file mapped into memory.
+ * <p>
+ * The data is parsed directly from the mapped regions without copying it to the heap.
+ *   A file is mapped in consecutive regions of limited size, so files larger
+ *   than 2 GB are read by moving from one mapping to the next.
+ * <p>
+ * The reader owns the file channel and must be closed after use:
+ * <pre>
+ * try (MappedFileJsonReader reader = new MappedFileJsonReader(new File("/dir/file"), false)) {
+ *     JsonObject model = new JsonObject(reader);
+ * }
+ * </pre>
+ */
+public class MappedFileJsonReader extends Utf8JsonReader implements Closeable {
+    // Default size of a single mapped region.
+    public static final int DEFAULT_MAPPING_SIZE = 1 << 30;
+    // Minimal size of a single mapped region - it must hold the character carried over for stepping back.
+    private static final int MIN_MAPPING_SIZE = 8;
+
+    // Channel of the mapped file.
+    private final FileChannel channel;
+    // Size of the mapped file.
+    private final long fileSize;
+    // Size of a single mapped region.
+    private final int mappingSize;
+
+    /**
+     * Initializes a new {@link MappedFileJsonReader} instance with specified parameters.
+     *
+     * @param file file that contains UTF-8 encoded JSON data.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @throws IOException if the file could not be opened or mapped.
+     */
+    public MappedFileJsonReader(File file, boolean retainIdentity) throws IOException {
+        this(file, retainIdentity, DEFAULT_MAPPING_SIZE);
+    }
+
+    /**
+     * Initializes a new {@link MappedFileJsonReader} instance with specified parameters.
+     *
+     * @param file file that contains UTF-8 encoded JSON data.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @param mappingSize size of a single mapped region of the file.
+     * @throws IOException if the file could not be opened or mapped.
+     */
+    public MappedFileJsonReader(File file, boolean retainIdentity, int mappingSize) throws IOException {
+        this(FileChannel.open(file.toPath(), StandardOpenOption.READ), retainIdentity,
+                Math.max(mappingSize, MIN_MAPPING_SIZE));
+    }
+
+    /**
+     * Initializes a new {@link MappedFileJsonReader} instance that owns the specified channel.
+     *
+     * @param channel channel of the file; it is closed if the reader could not be initialized.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @param mappingSize size of a single mapped region of the file.
+     * @throws IOException if the file size could not be obtained or the file could not be mapped.
+     */
+    private MappedFileJsonReader(FileChannel channel, boolean retainIdentity, int mappingSize) throws IOException {
+        this(channel, sizeOf(channel), retainIdentity, mappingSize);
+    }
+
+    /**
+     * Initializes a new {@link MappedFileJsonReader} instance with the first region of the channel mapped.
+     *
+     * @param channel channel of the file.
+     * @param fileSize size of the file.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @param mappingSize size of a single mapped region of the file.
+     * @throws IOException if the file could not be mapped.
+     */
+    private MappedFileJsonReader(FileChannel channel, long fileSize, boolean retainIdentity, int mappingSize)
+            throws IOException {
+        this(channel, fileSize, mapRegion(channel, 0, Math.min(mappingSize, fileSize)), retainIdentity, mappingSize);
+    }
+
+    /**
+     * Initializes a new {@link MappedFileJsonReader} instance with specified first mapped region.
+     *
+     * @param channel channel of the file.
+     * @param fileSize size of the file.
+     * @param region the first mapped region of the file.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @param mappingSize size of a single mapped region of the file.
+     */
+    private MappedFileJsonReader(FileChannel channel, long fileSize, ByteBuffer region, boolean retainIdentity,
+                                 int mappingSize) {
+        super(null, region, region.limit(), retainIdentity);
+        this.channel = channel;
+        this.fileSize = fileSize;
+        this.mappingSize = mappingSize;
+    }
+
+    /**
+     * Returns the size of the file of the channel, closing the channel if the size could not be obtained.
+     *
+     * @param channel channel of the file.
+     * @return the size of the file.
+     * @throws IOException if the size could not be obtained.
+     */
+    private static long sizeOf(FileChannel channel) throws IOException {
+        try {
+            return channel.size();
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Maps a region of the channel, closing the channel if the region could not be mapped.
+     *
+     * @param channel channel of the file.
+     * @param offset offset of the region in the file.
+     * @param size size of the region.
+     * @return the mapped region.
+     * @throws IOException if the region could not be mapped.
+     */
+    private static ByteBuffer mapRegion(FileChannel channel, long offset, long size) throws IOException {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Moves the window to the next mapped region of the file.
+     * <p>
+     * The next region starts at the first byte of the previously read character,
+     *   so that it is still possible to step back after the move.
+     *
+     * @return {@code true} if the next region was mapped, {@code false} if the end of file was reached.
+     * @throws JsonReadException if the next region could not be mapped.
+     */
+    @Override
+    protected boolean fillBuffer() throws JsonReadException {
+        if (windowOffset + limit >= fileSize) {
+            return false;
+        }
+
+        int keepFrom = charStart >= 0 ? Math.min(charStart, position) : position;
+        long regionOffset = windowOffset + keepFrom;
+
+        discard(keepFrom);
+        try {
+            window = mapRegion(channel, regionOffset, Math.min(mappingSize, fileSize - regionOffset));
+        } catch (IOException ex) {
+            throw new JsonReadException("[JSON Reader Error] Could not map file region.", ex);
+        }
+
+        windowOffset = regionOffset;
+        position -= keepFrom;
+        if (charStart >= 0) {
+            charStart -= keepFrom;
+        }
+        limit = window.limit();
+        return true;
+    }
+
+    /**
+     * Closes the channel of the mapped file.
+     *
+     * @throws IOException if an input/output error has occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
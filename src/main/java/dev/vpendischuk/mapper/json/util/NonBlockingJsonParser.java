@@ -0,0 +1,579 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Push parser that reads UTF-8 encoded JSON from chunks of bytes
+ *   supplied by the caller and reports tokens to a {@link JsonTokenListener}
+ *   as soon as they are complete.
+ * <p>
+ * The parser never blocks: it is a state machine that consumes every chunk
+ *   completely and resumes in the middle of a string, a literal or a UTF-8 sequence
+ *   when the next chunk arrives. Only the contents of the current string or literal
+ *   are buffered. A sequence of top-level values (for example, newline-delimited JSON)
+ *   can be read by a single parser.
+ * <p>
+ * Accepts the same syntax as the {@link DefaultJsonParser}.
+ * <p>
+ * Usage example:
+ * <pre>
+ * NonBlockingJsonParser parser = new NonBlockingJsonParser((token, text) -&gt; System.out.println(token));
+ * while (channel.read(buffer) &gt; 0) {
+ *     buffer.flip();
+ *     parser.feed(buffer);
+ *     buffer.clear();
+ * }
+ * parser.endOfInput();
+ * </pre>
+ */
+public class NonBlockingJsonParser {
+    // Initial capacity of the container stack.
+    private static final int INITIAL_STACK_SIZE = 16;
+    // Initial capacity of the text buffer.
+    private static final int INITIAL_TEXT_BUFFER_SIZE = 64;
+    // Characters that terminate an unquoted literal value.
+    private static final String LITERAL_TERMINATORS = ",:]}/\\\"[{;=#";
+
+    /**
+     * States of the byte scanner.
+     */
+    private enum State {
+        // Between tokens.
+        IDLE,
+        // Inside of a quoted string.
+        STRING,
+        // Right after a backslash inside of a quoted string.
+        STRING_ESCAPE,
+        // Inside of the hexadecimal digits of a unicode escape.
+        STRING_UNICODE,
+        // Inside of an unquoted literal.
+        LITERAL
+    }
+
+    // Listener that receives the read tokens.
+    private final JsonTokenListener listener;
+    // Current state of the scanner.
+    private State state;
+    // Buffer that stores the bytes of the current string or literal.
+    private byte[] textBuffer;
+    // Amount of bytes stored in the text buffer.
+    private int textLength;
+    // Quote character of the current string.
+    private byte quote;
+    // Value of the digits of the current unicode escape read so far.
+    private int escapeValue;
+    // Amount of the digits of the current unicode escape read so far.
+    private int escapeDigits;
+    // High surrogate read from the last unicode escape.
+    private char highSurrogate;
+    // Length of the text right after the high surrogate was written (-1 if none).
+    private int surrogateEnd;
+    // Flag that denotes if the current string or literal is a field name.
+    private boolean readingName;
+    // Types of the open containers: true for objects, false for arrays.
+    private boolean[] objectStack;
+    // Amount of open containers.
+    private int depth;
+    // Flag that denotes if a value was read in the current container.
+    private boolean valueRead;
+    // Flag that denotes if a comma was read after the last value of the current container.
+    private boolean commaRead;
+    // Flag that denotes if a field name was read and the colon is expected.
+    private boolean colonExpected;
+    // Flag that denotes if a field name and a colon were read and the value is expected.
+    private boolean nameRead;
+    // Flag that denotes if the end of input was reported.
+    private boolean inputEnded;
+    // Amount of bytes consumed before the current chunk.
+    private long consumedBytes;
+    // Offset of the first byte of the last reported token in the input.
+    private long tokenOffset;
+    // Offset of the first byte of the current string or literal in the input.
+    private long textOffset;
+    // Offset of the byte that is currently processed in the input (-1 if none was processed).
+    private long byteOffset;
+    // Amount of line breaks before the current byte.
+    private long lineBreaks;
+    // Offset of the first byte of the line of the current byte in the input.
+    private long lineStart;
+
+    /**
+     * Initializes a new {@link NonBlockingJsonParser} instance that reports tokens to specified listener.
+     *
+     * @param listener listener that receives the read tokens.
+     */
+    public NonBlockingJsonParser(JsonTokenListener listener) {
+        this.listener = listener;
+        state = State.IDLE;
+        textBuffer = new byte[INITIAL_TEXT_BUFFER_SIZE];
+        textLength = 0;
+        escapeValue = 0;
+        escapeDigits = 0;
+        highSurrogate = 0;
+        surrogateEnd = -1;
+        objectStack = new boolean[INITIAL_STACK_SIZE];
+        depth = 0;
+        valueRead = false;
+        commaRead = false;
+        colonExpected = false;
+        nameRead = false;
+        inputEnded = false;
+        consumedBytes = 0;
+        tokenOffset = -1;
+        textOffset = -1;
+        byteOffset = -1;
+        lineBreaks = 0;
+        lineStart = 0;
+    }
+
+    /**
+     * Consumes all remaining bytes of the specified chunk, reporting every token completed by them.
+     * <p>
+     * The position of the chunk is moved to its limit.
+     *
+     * @param chunk next chunk of the input.
+     * @throws JsonReadException if a syntax error was detected or the end of input was already reported.
+     */
+    public void feed(ByteBuffer chunk) throws JsonReadException {
+        if (inputEnded) {
+            throw new JsonReadException("[JSON Parser Error] Input was already ended.");
+        }
+
+        int start = chunk.position();
+        int limit = chunk.limit();
+
+        for (int i = start; i < limit; ++i) {
+            byte readByte = chunk.get(i);
+            long offset = consumedBytes + (i - start);
+            byteOffset = offset;
+
+            switch (state) {
+                case IDLE -> processStructural(readByte, offset);
+                case STRING -> processString(readByte);
+                case STRING_ESCAPE -> processEscape(readByte);
+                case STRING_UNICODE -> processUnicodeEscape(readByte);
+                case LITERAL -> {
+                    if (isLiteralByte(readByte)) {
+                        appendText(readByte);
+                    } else {
+                        finishLiteral();
+                        processStructural(readByte, offset);
+                    }
+                }
+            }
+
+            if (readByte == '\n') {
+                ++lineBreaks;
+                lineStart = offset + 1;
+            }
+        }
+
+        consumedBytes += limit - start;
+        chunk.position(limit);
+    }
+
+    /**
+     * Consumes all bytes of the specified array.
+     *
+     * @param data next chunk of the input.
+     * @throws JsonReadException if a syntax error was detected or the end of input was already reported.
+     */
+    public void feed(byte[] data) throws JsonReadException {
+        feed(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Reports the end of input, completing a pending top-level literal.
+     *
+     * @throws JsonReadException if the input ended inside of a value.
+     */
+    public void endOfInput() throws JsonReadException {
+        if (inputEnded) {
+            return;
+        }
+
+        if (state == State.LITERAL && depth == 0) {
+            finishLiteral();
+        }
+
+        inputEnded = true;
+
+        if (state != State.IDLE || depth != 0) {
+            throw syntaxError("[JSON Parser Error] Syntax error: unexpected end of file.");
+        }
+    }
+
+    /**
+     * Returns the amount of objects and arrays that are currently open.
+     *
+     * @return the nesting depth after the last reported token.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the offset of the first byte of the last reported token in the input.
+     *
+     * @return the token offset or {@code -1} if no token was reported.
+     */
+    public long getTokenOffset() {
+        return tokenOffset;
+    }
+
+    /**
+     * Creates an exception that reports a syntax error at the byte that is currently processed.
+     * <p>
+     * As with the readers, the offset follows the erroneous byte,
+     *   while the line and the column are those of the byte itself.
+     *
+     * @param message the message text.
+     * @return the exception with the position of the error.
+     */
+    public JsonReadException syntaxError(String message) {
+        return new JsonReadException(message, byteOffset + 1, lineBreaks + 1, byteOffset - lineStart + 1);
+    }
+
+    /**
+     * Processes a byte read between tokens.
+     *
+     * @param readByte the byte.
+     * @param offset offset of the byte in the input.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    private void processStructural(byte readByte, long offset) throws JsonReadException {
+        // Whitespaces and control characters are skipped.
+        if (readByte >= 0 && readByte <= ' ') {
+            return;
+        }
+
+        if (depth == 0) {
+            startValue(readByte, offset);
+        } else if (objectStack[depth - 1]) {
+            processInObject(readByte, offset);
+        } else {
+            processInArray(readByte, offset);
+        }
+    }
+
+    /**
+     * Processes a byte read between tokens inside of an object.
+     *
+     * @param readByte the byte.
+     * @param offset offset of the byte in the input.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    private void processInObject(byte readByte, long offset) throws JsonReadException {
+        if (colonExpected) {
+            if (readByte != ':') {
+                throw syntaxError("[JSON Parser Error] " +
+                        "Syntax error: no expected ':' after the key.");
+            }
+
+            colonExpected = false;
+            nameRead = true;
+        } else if (nameRead) {
+            startValue(readByte, offset);
+        } else if (valueRead && !commaRead) {
+            if (readByte == '}') {
+                endContainer(JsonToken.END_OBJECT, offset);
+            } else if (readByte == ',') {
+                commaRead = true;
+            } else {
+                throw syntaxError("[JSON Parser Error] Syntax error: expected a '}' or a comma.");
+            }
+        } else if (readByte == '}') {
+            endContainer(JsonToken.END_OBJECT, offset);
+        } else {
+            readingName = true;
+            startText(readByte, offset);
+        }
+    }
+
+    /**
+     * Processes a byte read between tokens inside of an array.
+     *
+     * @param readByte the byte.
+     * @param offset offset of the byte in the input.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    private void processInArray(byte readByte, long offset) throws JsonReadException {
+        if (valueRead && !commaRead) {
+            if (readByte == ']') {
+                endContainer(JsonToken.END_ARRAY, offset);
+            } else if (readByte == ',') {
+                commaRead = true;
+            } else {
+                throw syntaxError("[JSON Parser Error] Syntax error: expected ']' or a comma.");
+            }
+        } else if (readByte == ']') {
+            endContainer(JsonToken.END_ARRAY, offset);
+        } else if (readByte == ',') {
+            throw syntaxError("[JSON Parser Error] Syntax error: no value provided.");
+        } else {
+            startValue(readByte, offset);
+        }
+    }
+
+    /**
+     * Starts reading a value.
+     *
+     * @param readByte the first byte of the value.
+     * @param offset offset of the byte in the input.
+     * @throws JsonReadException if the byte cannot start a value.
+     */
+    private void startValue(byte readByte, long offset) throws JsonReadException {
+        if (readByte == '{' || readByte == '[') {
+            nameRead = false;
+            commaRead = false;
+
+            if (depth == objectStack.length) {
+                objectStack = Arrays.copyOf(objectStack, depth * 2);
+            }
+
+            objectStack[depth++] = readByte == '{';
+            valueRead = false;
+            report(readByte == '{' ? JsonToken.START_OBJECT : JsonToken.START_ARRAY, null, offset);
+            return;
+        }
+
+        readingName = false;
+        startText(readByte, offset);
+    }
+
+    /**
+     * Starts reading a string or a literal.
+     *
+     * @param readByte the first byte.
+     * @param offset offset of the byte in the input.
+     * @throws JsonReadException if the byte cannot start a string or a literal.
+     */
+    private void startText(byte readByte, long offset) throws JsonReadException {
+        textLength = 0;
+        surrogateEnd = -1;
+        textOffset = offset;
+
+        if (readByte == '\"' || readByte == '\'') {
+            quote = readByte;
+            state = State.STRING;
+        } else if (isLiteralByte(readByte)) {
+            appendText(readByte);
+            state = State.LITERAL;
+        } else {
+            throw syntaxError("[JSON Parser Error] Syntax error: missing value.");
+        }
+    }
+
+    /**
+     * Processes a byte of a quoted string.
+     *
+     * @param readByte the byte.
+     * @throws JsonReadException if the string is not terminated on its line.
+     */
+    private void processString(byte readByte) throws JsonReadException {
+        if (readByte == quote) {
+            state = State.IDLE;
+            String text = new String(textBuffer, 0, textLength, StandardCharsets.UTF_8);
+
+            if (readingName) {
+                finishName(text);
+            } else {
+                finishValue(JsonToken.VALUE_STRING, text);
+            }
+        } else if (readByte == '\\') {
+            state = State.STRING_ESCAPE;
+        } else if (readByte == '\n' || readByte == '\r') {
+            throw syntaxError("[JSON Parser Error] Syntax error: no string terminator.");
+        } else {
+            appendText(readByte);
+        }
+    }
+
+    /**
+     * Processes the byte that follows a backslash inside of a quoted string.
+     *
+     * @param readByte the byte.
+     * @throws JsonReadException if the escape sequence is illegal.
+     */
+    private void processEscape(byte readByte) throws JsonReadException {
+        if (readByte == 'u') {
+            escapeValue = 0;
+            escapeDigits = 0;
+            state = State.STRING_UNICODE;
+            return;
+        }
+
+        byte resolved = switch (readByte) {
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 'f' -> '\f';
+            case 'b' -> '\b';
+            case 't' -> '\t';
+            case '"', '\'', '\\', '/' -> readByte;
+            default -> throw syntaxError("[JSON Parser Error] Syntax error: illegal escape.");
+        };
+
+        appendText(resolved);
+        state = State.STRING;
+    }
+
+    /**
+     * Processes a hexadecimal digit of a unicode escape, appending the escaped character after the last digit.
+     *
+     * @param readByte the byte.
+     * @throws JsonReadException if the byte is not a hexadecimal digit.
+     */
+    private void processUnicodeEscape(byte readByte) throws JsonReadException {
+        int digit = JsonEscapes.hexValue(readByte);
+        if (digit < 0) {
+            throw syntaxError("[JSON Parser Error] Syntax error: illegal unicode escape.");
+        }
+
+        escapeValue = escapeValue << 4 | digit;
+        if (++escapeDigits < 4) {
+            return;
+        }
+
+        char codeUnit = (char) escapeValue;
+        if (textLength + 4 > textBuffer.length) {
+            textBuffer = Arrays.copyOf(textBuffer, Math.max(textLength + 4, textBuffer.length * 2));
+        }
+
+        if (textLength == surrogateEnd && Character.isLowSurrogate(codeUnit)) {
+            // The '?' written for the preceding high surrogate is replaced with the pair.
+            textLength = JsonEscapes.encodeUtf8(Character.toCodePoint(highSurrogate, codeUnit),
+                    textBuffer, textLength - 1);
+            surrogateEnd = -1;
+        } else {
+            textLength = JsonEscapes.encodeUtf8(codeUnit, textBuffer, textLength);
+            highSurrogate = codeUnit;
+            surrogateEnd = Character.isHighSurrogate(codeUnit) ? textLength : -1;
+        }
+
+        state = State.STRING;
+    }
+
+    /**
+     * Completes the current literal and reports it.
+     *
+     * @throws JsonReadException if a literal field name is not a string.
+     */
+    private void finishLiteral() throws JsonReadException {
+        state = State.IDLE;
+        String text = new String(textBuffer, 0, textLength, StandardCharsets.UTF_8);
+        JsonToken token = classifyLiteral(text);
+
+        if (readingName) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw syntaxError("[JSON Parser Error] Syntax error: invalid key type.");
+            }
+            finishName(text);
+        } else {
+            finishValue(token, text);
+        }
+    }
+
+    /**
+     * Determines the token type of a literal.
+     *
+     * @param text the literal text.
+     * @return the token type.
+     */
+    private static JsonToken classifyLiteral(String text) {
+        if (text.equalsIgnoreCase("true")) {
+            return JsonToken.VALUE_TRUE;
+        } else if (text.equalsIgnoreCase("false")) {
+            return JsonToken.VALUE_FALSE;
+        } else if (text.equalsIgnoreCase("null")) {
+            return JsonToken.VALUE_NULL;
+        }
+
+        char firstChar = text.charAt(0);
+        if ((firstChar >= '0' && firstChar <= '9') || firstChar == '-') {
+            return JsonToken.VALUE_NUMBER;
+        }
+
+        return JsonToken.VALUE_STRING;
+    }
+
+    /**
+     * Reports a completed field name.
+     *
+     * @param name the name.
+     */
+    private void finishName(String name) {
+        colonExpected = true;
+        commaRead = false;
+        valueRead = false;
+        report(JsonToken.FIELD_NAME, name, textOffset);
+    }
+
+    /**
+     * Reports a completed scalar value.
+     *
+     * @param token the value token.
+     * @param text the value text.
+     */
+    private void finishValue(JsonToken token, String text) {
+        valueRead = true;
+        commaRead = false;
+        nameRead = false;
+        report(token, text, textOffset);
+    }
+
+    /**
+     * Closes the current container and reports its closing token.
+     *
+     * @param token the closing token.
+     * @param offset offset of the closing byte in the input.
+     */
+    private void endContainer(JsonToken token, long offset) {
+        depth--;
+        valueRead = true;
+        commaRead = false;
+        nameRead = false;
+        report(token, null, offset);
+    }
+
+    /**
+     * Reports a token to the listener.
+     *
+     * @param token the token.
+     * @param text the token text.
+     * @param offset offset of the first byte of the token in the input.
+     */
+    private void report(JsonToken token, String text, long offset) {
+        tokenOffset = offset;
+        listener.onToken(token, text);
+    }
+
+    /**
+     * Checks if the byte can be a part of an unquoted literal.
+     * <p>
+     * Bytes of multibyte UTF-8 sequences are always accepted.
+     *
+     * @param readByte the byte.
+     * @return {@code true} if the byte continues a literal.
+     */
+    private static boolean isLiteralByte(byte readByte) {
+        return readByte < 0 || (readByte >= ' ' && LITERAL_TERMINATORS.indexOf(readByte) < 0);
+    }
+
+    /**
+     * Appends a byte to the text buffer.
+     *
+     * @param readByte the byte.
+     */
+    private void appendText(byte readByte) {
+        if (textLength == textBuffer.length) {
+            textBuffer = Arrays.copyOf(textBuffer, textLength * 2);
+        }
+
+        textBuffer[textLength++] = readByte;
+    }
+}
@@ -0,0 +1,85 @@
+package dev.vpendischuk.mapper.json.util;
+
+/**
+ * {@link StructuralScanner} that classifies blocks with a table lookup per byte.
+ * <p>
+ * The classes of eight bytes are packed into a long, so that the bitmaps are extracted
+ *   from it with a few bitwise operations rather than byte by byte.
+ * <p>
+ * Used when the {@code jdk.incubator.vector} module is not available.
+ */
+final class ScalarStructuralScanner extends StructuralScanner {
+    // Long with a single one in every byte.
+    private static final long ONES = 0x0101010101010101L;
+    // Multiplier that gathers the lowest bits of the bytes into the highest byte.
+    private static final long GATHER = 0x0102040810204080L;
+    // Classes of every byte value: the bit {@code k} is set if the value belongs to the bitmap {@code k}.
+    private static final byte[] CLASSES = new byte[256];
+
+    static {
+        for (int i = 1; i <= ' '; ++i) {
+            CLASSES[i] = 1 << WHITESPACES;
+        }
+
+        CLASSES['"'] = 1 << QUOTES;
+        CLASSES['\\'] = 1 << BACKSLASHES;
+        CLASSES['\n'] = 1 << LINE_BREAKS | 1 << WHITESPACES;
+        CLASSES['\r'] = 1 << LINE_BREAKS | 1 << WHITESPACES;
+        for (char operator : new char[] {'{', '}', '[', ']', ':', ','}) {
+            CLASSES[operator] = 1 << OPERATORS;
+        }
+        CLASSES['\''] = 1 << SINGLE_QUOTES;
+        CLASSES[0] = 1 << ZEROS;
+    }
+
+    /**
+     * Computes the bitmaps of the block of {@value #BLOCK_SIZE} bytes that starts at specified offset.
+     *
+     * @param data array that stores the block.
+     * @param offset index of the first byte of the block.
+     * @param bitmaps array the bitmaps are written to, indexed by the bitmap constants.
+     */
+    @Override
+    void classifyBlock(byte[] data, int offset, long[] bitmaps) {
+        long quotes = 0;
+        long backslashes = 0;
+        long lineBreaks = 0;
+        long operators = 0;
+        long singleQuotes = 0;
+        long whitespaces = 0;
+        long zeros = 0;
+
+        for (int i = 0; i < BLOCK_SIZE; i += Long.BYTES) {
+            long classes = 0;
+            for (int j = 0; j < Long.BYTES; ++j) {
+                classes |= (long) CLASSES[data[offset + i + j] & 0xFF] << (j * Byte.SIZE);
+            }
+
+            quotes |= toBitmap(classes >>> QUOTES) << i;
+            backslashes |= toBitmap(classes >>> BACKSLASHES) << i;
+            lineBreaks |= toBitmap(classes >>> LINE_BREAKS) << i;
+            operators |= toBitmap(classes >>> OPERATORS) << i;
+            singleQuotes |= toBitmap(classes >>> SINGLE_QUOTES) << i;
+            whitespaces |= toBitmap(classes >>> WHITESPACES) << i;
+            zeros |= toBitmap(classes >>> ZEROS) << i;
+        }
+
+        bitmaps[QUOTES] = quotes;
+        bitmaps[BACKSLASHES] = backslashes;
+        bitmaps[LINE_BREAKS] = lineBreaks;
+        bitmaps[OPERATORS] = operators;
+        bitmaps[SINGLE_QUOTES] = singleQuotes;
+        bitmaps[WHITESPACES] = whitespaces;
+        bitmaps[ZEROS] = zeros;
+    }
+
+    /**
+     * Packs the lowest bits of the bytes of a long into a byte.
+     *
+     * @param bytes eight bytes.
+     * @return bitmap, the bit {@code i} of which is set if the lowest bit of the byte {@code i} is set.
+     */
+    private static long toBitmap(long bytes) {
+        return (bytes & ONES) * GATHER >>> 56;
+    }
+}
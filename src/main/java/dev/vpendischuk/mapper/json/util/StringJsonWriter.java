@@ -0,0 +1,256 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of the {@link JsonWriter} interface that collects the JSON text in memory.
+ * <p>
+ * The text is written into a character buffer borrowed from the {@link BufferPool},
+ *   which grows as needed and is returned to the pool when the writer is closed,
+ *   so a thread that writes documents of similar sizes reuses the same buffer.
+ * <p>
+ * Usage example:
+ * <pre>
+ * StringJsonWriter writer = new StringJsonWriter();
+ * try {
+ *     jsonValue.writeTo(writer);
+ *     return writer.toString();
+ * } finally {
+ *     writer.close();
+ * }
+ * </pre>
+ */
+public class StringJsonWriter implements JsonWriter {
+    // Buffer that stores the written text (null after the writer is closed).
+    private char[] buffer;
+    // Buffer used to format floating-point numbers.
+    private final byte[] numberBuffer;
+    // Amount of characters stored in the buffer.
+    private int position;
+
+    /**
+     * Initializes a new {@link StringJsonWriter} instance with a pooled buffer.
+     */
+    public StringJsonWriter() {
+        buffer = BufferPool.borrowChars();
+        numberBuffer = new byte[DoubleFormatter.MAX_LENGTH];
+        position = 0;
+    }
+
+    /**
+     * Writes the specified character.
+     *
+     * @param character the character.
+     */
+    @Override
+    public void write(char character) {
+        if (position == buffer.length) {
+            grow(1);
+        }
+
+        buffer[position++] = character;
+    }
+
+    /**
+     * Writes the specified text as it is, without quotes or escaping.
+     *
+     * @param text the text.
+     */
+    @Override
+    public void write(String text) {
+        int length = text.length();
+
+        if (length > buffer.length - position) {
+            grow(length);
+        }
+
+        text.getChars(0, length, buffer, position);
+        position += length;
+    }
+
+    /**
+     * Writes the specified text as a quoted JSON string, escaping the characters
+     *   that cannot be written as they are according to RFC 8259.
+     * <p>
+     * Runs of characters that are not escaped are copied in bulk.
+     *
+     * @param text the text.
+     */
+    @Override
+    public void writeString(String text) {
+        int length = text.length();
+
+        // Room for the quotes and the text if nothing is escaped.
+        if (length + 2 > buffer.length - position) {
+            grow(length + 2);
+        }
+
+        buffer[position++] = '\"';
+
+        int start = 0;
+        for (int i = 0; i < length; ++i) {
+            char escape = JsonEscapes.escapeOf(text.charAt(i));
+            if (escape == 0) {
+                continue;
+            }
+
+            text.getChars(start, i, buffer, position);
+            position += i - start;
+            start = i + 1;
+
+            // Room for the escape sequence, the rest of the text and the closing quote.
+            if (6 + length - start + 1 > buffer.length - position) {
+                grow(6 + length - start + 1);
+            }
+            writeEscape(text.charAt(i), escape);
+        }
+
+        text.getChars(start, length, buffer, position);
+        position += length - start;
+
+        buffer[position++] = '\"';
+    }
+
+    /**
+     * Writes the specified pre-encoded text as it is, without quotes or escaping.
+     *
+     * @param text the text.
+     */
+    @Override
+    public void write(EncodedText text) {
+        char[] chars = text.chars();
+
+        if (chars.length > buffer.length - position) {
+            grow(chars.length);
+        }
+
+        System.arraycopy(chars, 0, buffer, position, chars.length);
+        position += chars.length;
+    }
+
+    /**
+     * Writes the decimal representation of the specified integer.
+     *
+     * @param value the value.
+     */
+    @Override
+    public void writeNumber(long value) {
+        if (buffer.length - position < 20) {
+            grow(20);
+        }
+
+        if (value < 0) {
+            buffer[position++] = '-';
+        } else {
+            // Digits are produced from the negated value, which also covers Long.MIN_VALUE.
+            value = -value;
+        }
+
+        int length = 1;
+        for (long bound = -10; length < 19 && value <= bound; bound *= 10) {
+            length++;
+        }
+
+        int index = position + length;
+        do {
+            buffer[--index] = (char) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+
+        position += length;
+    }
+
+    /**
+     * Writes the shortest decimal that is parsed back to the specified value.
+     *
+     * @param value the value.
+     */
+    @Override
+    public void writeNumber(double value) {
+        writeNumberBuffer(DoubleFormatter.write(value, numberBuffer, 0));
+    }
+
+    /**
+     * Writes the shortest decimal that is parsed back to the specified value.
+     *
+     * @param value the value.
+     */
+    @Override
+    public void writeNumber(float value) {
+        writeNumberBuffer(DoubleFormatter.write(value, numberBuffer, 0));
+    }
+
+    /**
+     * Does nothing, as the text is not passed to a sink.
+     */
+    @Override
+    public void flush() { }
+
+    /**
+     * Returns the buffer to the pool; the writer must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            BufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    /**
+     * Returns the written text.
+     *
+     * @return the text.
+     */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, position);
+    }
+
+    /**
+     * Writes the specified amount of first ASCII characters of the number buffer.
+     *
+     * @param length the amount of characters.
+     */
+    private void writeNumberBuffer(int length) {
+        if (length > buffer.length - position) {
+            grow(length);
+        }
+
+        for (int i = 0; i < length; ++i) {
+            buffer[position++] = (char) numberBuffer[i];
+        }
+    }
+
+    /**
+     * Writes the escape sequence of the specified character; requires six free characters.
+     *
+     * @param character the character.
+     * @param escape the character that follows the backslash or {@link JsonEscapes#UNICODE}.
+     */
+    private void writeEscape(char character, char escape) {
+        buffer[position++] = '\\';
+        buffer[position++] = escape;
+
+        if (escape == JsonEscapes.UNICODE) {
+            buffer[position++] = '0';
+            buffer[position++] = '0';
+            buffer[position++] = JsonEscapes.HEX_DIGITS[character >> 4];
+            buffer[position++] = JsonEscapes.HEX_DIGITS[character & 0xF];
+        }
+    }
+
+    /**
+     * Replaces the buffer with a larger copy that has at least the specified amount of free characters.
+     *
+     * @param length the amount of characters.
+     */
+    private void grow(int length) {
+        int required = position + length;
+        if (required < 0) {
+            throw new OutOfMemoryError("[JSON Writer Error] Text is too large to be written to a string.");
+        }
+
+        buffer = Arrays.copyOf(buffer, Math.max(required, (int) Math.min(buffer.length * 2L, Integer.MAX_VALUE - 8)));
+    }
+}
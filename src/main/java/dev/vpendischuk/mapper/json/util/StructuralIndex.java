@@ -0,0 +1,166 @@
+package dev.vpendischuk.mapper.json.util;
+
+/**
+ * Index of the structural characters of UTF-8 encoded JSON data: brackets, colons
+ *   and commas that are not inside of strings, the quotes that delimit strings
+ *   and the first bytes of literals. Every non-whitespace byte that follows
+ *   a bracket, a colon, a comma or a string is therefore indexed.
+ * <p>
+ * The index is built in a single pass over the data in wide blocks, using
+ *   the {@code jdk.incubator.vector} API when the library was built with
+ *   the {@code vector} profile and the module is added at runtime, and a scalar
+ *   scanner otherwise. Besides the positions of the structural characters,
+ *   it stores a bitmap of backslashes and line breaks, so that a reader
+ *   is able to tell if a string needs any processing before extracting it.
+ * <p>
+ * Usage example:
+ * <pre>
+ * StructuralIndex index = StructuralIndex.build(data, 0, data.length);
+ * for (int i = 0; i &lt; index.size(); ++i) {
+ *     System.out.println((char) data[index.position(i)]);
+ * }
+ * </pre>
+ */
+public final class StructuralIndex {
+    // Name of the scanner class that uses the Vector API.
+    private static final String VECTOR_SCANNER_NAME = "dev.vpendischuk.mapper.json.util.VectorStructuralScanner";
+    // Scanner used to build the indexes.
+    private static final StructuralScanner SCANNER = loadScanner();
+
+    // Positions of the structural characters relative to the start of the data, in ascending order.
+    private final int[] positions;
+    // Amount of indexed structural characters.
+    private final int size;
+    // Bitmap of backslashes and line breaks, a long per block.
+    private final long[] specialBits;
+    // Bitmap of line breaks inside of strings and zero bytes outside of them, a long per block.
+    private final long[] suspectBits;
+
+    /**
+     * Initializes a new {@link StructuralIndex} instance with specified contents.
+     *
+     * @param positions positions of the structural characters in ascending order.
+     * @param size amount of valid positions.
+     * @param specialBits bitmap of backslashes and line breaks.
+     * @param suspectBits bitmap of line breaks inside of strings and zero bytes outside of them.
+     */
+    StructuralIndex(int[] positions, int size, long[] specialBits, long[] suspectBits) {
+        this.positions = positions;
+        this.size = size;
+        this.specialBits = specialBits;
+        this.suspectBits = suspectBits;
+    }
+
+    /**
+     * Builds the structural index of specified UTF-8 encoded JSON data.
+     *
+     * @param data array that stores the data.
+     * @param offset index of the first byte of the data.
+     * @param length amount of data bytes.
+     * @return the index or {@code null} if the data contains single-quoted strings, which are not indexed.
+     */
+    public static StructuralIndex build(byte[] data, int offset, int length) {
+        return SCANNER.scan(data, offset, length);
+    }
+
+    /**
+     * Checks if the indexes are built with the {@code jdk.incubator.vector} API.
+     *
+     * @return {@code true} if the Vector API is used, {@code false} if the scalar fallback is used.
+     */
+    public static boolean isVectorized() {
+        return !(SCANNER instanceof ScalarStructuralScanner);
+    }
+
+    /**
+     * Loads the scanner that uses the Vector API, falling back to the scalar one
+     *   if the incubator module is not present at runtime.
+     *
+     * @return the scanner.
+     */
+    private static StructuralScanner loadScanner() {
+        try {
+            return (StructuralScanner) Class.forName(VECTOR_SCANNER_NAME).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return new ScalarStructuralScanner();
+        }
+    }
+
+    /**
+     * Returns the amount of indexed structural characters.
+     *
+     * @return the amount of structural characters.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the structural character with specified number.
+     *
+     * @param number number of the structural character, from {@code 0} to {@code size() - 1}.
+     * @return position of the character relative to the start of the data.
+     */
+    public int position(int number) {
+        return positions[number];
+    }
+
+    /**
+     * Checks if there are backslashes or line breaks in the specified range of the data.
+     *
+     * @param from start of the range, inclusive.
+     * @param to end of the range, exclusive.
+     * @return {@code true} if the range contains a backslash or a line break.
+     */
+    public boolean hasSpecialCharacters(int from, int to) {
+        return hasBits(specialBits, from, to);
+    }
+
+    /**
+     * Checks if there are line breaks inside of strings or zero bytes outside of them
+     *   in the specified range of the data - the bytes that make a value invalid,
+     *   but are not visible among the structural characters.
+     *
+     * @param from start of the range, inclusive.
+     * @param to end of the range, exclusive.
+     * @return {@code true} if the range contains such a byte.
+     */
+    public boolean hasSuspectCharacters(int from, int to) {
+        return hasBits(suspectBits, from, to);
+    }
+
+    /**
+     * Checks if any bit of the specified range of a bitmap is set.
+     *
+     * @param bits the bitmap, a long per block.
+     * @param from start of the range, inclusive.
+     * @param to end of the range, exclusive.
+     * @return {@code true} if a bit of the range is set.
+     */
+    private static boolean hasBits(long[] bits, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+
+        int fromBlock = from >>> 6;
+        int toBlock = (to - 1) >>> 6;
+        long fromMask = -1L << from;
+        long toMask = -1L >>> (63 - ((to - 1) & 63));
+
+        if (fromBlock == toBlock) {
+            return (bits[fromBlock] & fromMask & toMask) != 0;
+        }
+
+        if ((bits[fromBlock] & fromMask) != 0 || (bits[toBlock] & toMask) != 0) {
+            return true;
+        }
+
+        for (int block = fromBlock + 1; block < toBlock; ++block) {
+            if (bits[block] != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
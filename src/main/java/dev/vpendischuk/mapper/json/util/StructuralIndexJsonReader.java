@@ -0,0 +1,506 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Implementation of the {@link JsonReader} interface that reads UTF-8 encoded
+ *   JSON data in two stages.
+ * <p>
+ * On initialization, a {@link StructuralIndex} of the whole data is built.
+ *   While reading, the index is walked along with the read position:
+ * <ul>
+ *     <li>after a bracket, a colon, a comma or a string, the read position jumps
+ *     to the next indexed position, which holds the next structural character,
+ *     quote or the first byte of a literal, without scanning the whitespaces;</li>
+ *     <li>the limits of double-quoted strings are taken from the index, and strings
+ *     without escapes or line breaks are created directly from the data without scanning
+ *     their contents byte by byte;</li>
+ *     <li>skipped strings, objects and arrays are passed by matching the brackets
+ *     among the indexed positions only.</li>
+ * </ul>
+ *   Literals and strings with escapes are read as by {@link Utf8JsonReader}.
+ * <p>
+ * If the data contains single-quoted strings, it is not indexed, and the reader
+ *   behaves exactly like a {@link Utf8JsonReader}.
+ * <p>
+ * Initialization example:
+ * <pre>
+ * byte[] data = Files.readAllBytes(Path.of("/dir/file"));
+ * JsonReader reader = new StructuralIndexJsonReader(data, false);
+ * </pre>
+ */
+public class StructuralIndexJsonReader extends Utf8JsonReader {
+    // Initial capacity of the stack of the containers being skipped.
+    private static final int INITIAL_SKIP_STACK_SIZE = 16;
+    // Key that holds the ID of a referenced object.
+    private static final String REFERENCE_KEY = "$ref";
+    // Key that holds the ID of an object in other writers.
+    private static final String ID_KEY = "$id";
+
+    // Array that stores the data.
+    private final byte[] data;
+    // Index of the first byte of the data in the array.
+    private final int offset;
+    // Structural index of the data (null if the data could not be indexed).
+    private final StructuralIndex index;
+    // Number of the first structural character that was not passed yet.
+    private int cursor;
+    // Position of the closing quote of the string that was read last (-1 if none was read).
+    private int stringEnd;
+    // Types of the containers being skipped: true for objects, false for arrays.
+    private boolean[] skipStack;
+
+    /**
+     * Initializes a new {@link StructuralIndexJsonReader} instance with specified parameters.
+     *
+     * @param data array that stores UTF-8 encoded JSON data.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    public StructuralIndexJsonReader(byte[] data, boolean retainIdentity) {
+        this(data, 0, data.length, retainIdentity);
+    }
+
+    /**
+     * Initializes a new {@link StructuralIndexJsonReader} instance with specified parameters.
+     *
+     * @param data array that stores UTF-8 encoded JSON data.
+     * @param offset index of the first byte of the data in the array.
+     * @param length amount of data bytes.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    public StructuralIndexJsonReader(byte[] data, int offset, int length, boolean retainIdentity) {
+        super(data, offset, length, retainIdentity);
+        this.data = data;
+        this.offset = offset;
+        index = StructuralIndex.build(data, offset, length);
+        cursor = 0;
+        stringEnd = -1;
+        skipStack = null;
+    }
+
+    /**
+     * Obtains the next character in the JSON, disregarding the whitespaces.
+     * <p>
+     * If the previously read character is a structural one or the closing quote of a string,
+     *   only whitespaces precede the next indexed position, so the read position jumps there
+     *   once a whitespace is found at the read position.
+     *
+     * @return the next character in the JSON, disregarding the whitespaces.
+     */
+    @Override
+    public char nextCharacterTrimmed() {
+        if (index != null && position < limit && data[offset + position] > 0 && data[offset + position] <= ' '
+                && (position == 0 || position - 1 == stringEnd || isIndexedOperator(position - 1))) {
+            seek(position);
+            position = cursor < index.size() ? index.position(cursor) : limit;
+        }
+
+        return super.nextCharacterTrimmed();
+    }
+
+    /**
+     * Skips the next value without parsing it.
+     * <p>
+     * The closing quote of a string or the closing bracket of a container is found among
+     *   the indexed positions. Values that contain line breaks inside of strings or zero bytes,
+     *   as well as literals, are skipped by scanning their bytes.
+     *
+     * @throws JsonReadException if the value is missing, its brackets do not match
+     *                           or the end of data was reached inside of it.
+     */
+    @Override
+    public void skipValue() throws JsonReadException {
+        if (index == null) {
+            super.skipValue();
+            return;
+        }
+
+        char readChar = nextCharacterTrimmed();
+        if (readChar == 0) {
+            throw syntaxError("[JSON Reader Error] Syntax error: missing value.");
+        }
+
+        if (readChar == '"' || readChar == '{' || readChar == '[') {
+            int opening = position - 1;
+            seek(opening);
+
+            int closing = -1;
+            if (cursor < index.size() && index.position(cursor) == opening) {
+                closing = readChar == '"' ? indexedStringEnd() : indexedContainerEnd();
+            }
+
+            if (closing >= 0 && !index.hasSuspectCharacters(opening, closing)) {
+                moveAfter(closing, (char) data[offset + closing]);
+                return;
+            }
+
+            if (readChar == '"') {
+                super.skipStringContent(readChar);
+                return;
+            }
+        }
+
+        moveBack();
+        super.skipValue();
+    }
+
+    /**
+     * Reads the contents of the string that starts at the current read position,
+     *   resolving the escape sequences and consuming the closing quote.
+     * <p>
+     * The closing quote of a double-quoted string is looked up in the index.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @return the string contents.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    @Override
+    public String nextStringContent(char quote) throws JsonReadException {
+        int closing = indexedClosingQuote(quote);
+
+        if (closing < 0) {
+            return super.nextStringContent(quote);
+        }
+
+        int opening = position - 1;
+        cursor += 2;
+        String content = new String(data, offset + opening + 1, closing - opening - 1, StandardCharsets.UTF_8);
+        completeString(closing, quote);
+        return content;
+    }
+
+    /**
+     * Skips the contents of the string that starts at the current read position,
+     *   consuming the closing quote.
+     * <p>
+     * The closing quote of a double-quoted string is looked up in the index.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @throws JsonReadException if the string is not terminated.
+     */
+    @Override
+    protected void skipStringContent(char quote) throws JsonReadException {
+        int closing = indexedClosingQuote(quote);
+
+        if (closing < 0) {
+            super.skipStringContent(quote);
+            return;
+        }
+
+        cursor += 2;
+        completeString(closing, quote);
+    }
+
+    /**
+     * Finds the separators of the elements of the array, the opening bracket of which
+     *   was read last, in the index and moves the read position to the closing bracket.
+     * <p>
+     * Only the brackets and commas are located, so the elements themselves are not validated:
+     *   every range between two neighbouring separators is expected to hold a single element,
+     *   except for the last one, which is empty if the array is empty or ends with a comma.
+     * <p>
+     * Elements that reference each other cannot be bound apart, so an array that contains
+     *   a {@code $ref} or {@code $id} key is not split. Values are not checked, as only keys
+     *   mark references.
+     *
+     * @return offsets of the opening bracket, the commas that separate the elements and
+     *         the closing bracket relative to the start of the data, or {@code null} if
+     *         the array could not be found in the index or may contain references
+     *         (the read position is not moved then).
+     * @throws JsonReadException if the brackets of the array do not match.
+     */
+    public int[] findArraySeparators() throws JsonReadException {
+        int opening = position - 1;
+        if (index == null || opening < 0 || data[offset + opening] != '[') {
+            return null;
+        }
+
+        seek(opening);
+        if (cursor >= index.size() || index.position(cursor) != opening) {
+            return null;
+        }
+
+        int[] separators = new int[16];
+        separators[0] = opening;
+        int count = 1;
+        int depth = 0;
+        // Flag that denotes if the next quote opens a string.
+        boolean isOpeningQuote = true;
+        // Position of the opening quote of the current string.
+        int stringStart = -1;
+
+        for (int i = cursor; i < index.size(); ++i) {
+            int structural = index.position(i);
+
+            switch (data[offset + structural]) {
+                case '"' -> {
+                    if (isOpeningQuote) {
+                        stringStart = structural;
+                    } else if (isKey(i) && isReferenceKey(stringStart + 1, structural)) {
+                        return null;
+                    }
+                    isOpeningQuote = !isOpeningQuote;
+                }
+                case '[', '{' -> depth++;
+                case ']', '}' -> {
+                    if (--depth == 0) {
+                        if (data[offset + structural] != ']') {
+                            throw syntaxError("[JSON Reader Error] Syntax error: mismatched bracket.");
+                        }
+
+                        separators = Arrays.copyOf(separators, count + 1);
+                        separators[count] = structural;
+
+                        cursor = i;
+                        position = structural;
+                        charStart = -1;
+                        return separators;
+                    }
+                }
+                case ',' -> {
+                    if (depth == 1) {
+                        if (count + 1 >= separators.length) {
+                            separators = Arrays.copyOf(separators, separators.length * 2);
+                        }
+                        separators[count++] = structural;
+                    }
+                }
+                default -> {
+                    // The first byte of a literal, which is an unquoted key if a colon follows it.
+                    if (isKey(i) && isReferenceKey(structural, trimEnd(structural, index.position(i + 1)))) {
+                        return null;
+                    }
+                }
+            }
+        }
+
+        throw syntaxError("[JSON Reader Error] Syntax error: unexpected end of file.");
+    }
+
+    /**
+     * Checks if the string or the literal that ends at the specified index entry is a key.
+     *
+     * @param entry the index entry of the closing quote of a string or of the first byte of a literal.
+     * @return {@code true} if the next index entry is a colon.
+     */
+    private boolean isKey(int entry) {
+        return entry + 1 < index.size() && data[offset + index.position(entry + 1)] == ':';
+    }
+
+    /**
+     * Skips the whitespace that precedes the specified position.
+     *
+     * @param from position of the first byte of the text relative to the start of the data.
+     * @param to position after the text relative to the start of the data.
+     * @return position after the last byte of the text that is not whitespace.
+     */
+    private int trimEnd(int from, int to) {
+        while (to > from && (data[offset + to - 1] & 0xff) <= ' ') {
+            to--;
+        }
+
+        return to;
+    }
+
+    /**
+     * Checks if the key text between the specified positions is {@code $ref} or {@code $id} once unescaped.
+     *
+     * @param from position of the first byte of the text relative to the start of the data.
+     * @param to position after the text relative to the start of the data.
+     * @return {@code true} if the key marks a reference.
+     */
+    private boolean isReferenceKey(int from, int to) {
+        if (!index.hasSpecialCharacters(from, to)) {
+            return matches(from, to, REFERENCE_KEY) || matches(from, to, ID_KEY);
+        }
+
+        // Keys with escapes are rare, so they are decoded only as far as a reference key could go.
+        StringBuilder key = new StringBuilder();
+        for (int i = from; i < to && key.length() <= REFERENCE_KEY.length(); ++i) {
+            char readChar = (char) (data[offset + i] & 0xff);
+
+            if (readChar == '\\' && i + 1 < to) {
+                readChar = (char) (data[offset + ++i] & 0xff);
+                if (readChar == 'u') {
+                    if (i + 4 >= to) {
+                        return false;
+                    }
+                    readChar = (char) ((Character.digit(data[offset + i + 1], 16) << 12)
+                            | (Character.digit(data[offset + i + 2], 16) << 8)
+                            | (Character.digit(data[offset + i + 3], 16) << 4)
+                            | Character.digit(data[offset + i + 4], 16));
+                    i += 4;
+                } else if (readChar != '"' && readChar != '\\' && readChar != '/' && readChar != '\'') {
+                    // Other escapes denote control characters, which reference keys do not contain.
+                    return false;
+                }
+            }
+
+            key.append(readChar);
+        }
+
+        return key.toString().equals(REFERENCE_KEY) || key.toString().equals(ID_KEY);
+    }
+
+    /**
+     * Checks if the bytes between the specified positions are the specified ASCII text.
+     *
+     * @param from position of the first byte relative to the start of the data.
+     * @param to position after the last byte relative to the start of the data.
+     * @param text the text.
+     * @return {@code true} if the bytes match the text.
+     */
+    private boolean matches(int from, int to, String text) {
+        if (to - from != text.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < text.length(); ++i) {
+            if (data[offset + from + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a reader of the part of the data between the specified offsets.
+     * <p>
+     * The reader reports read offsets and positions of syntax errors relative to the start of the data.
+     *
+     * @param start offset of the first byte of the part relative to the start of the data.
+     * @param end offset of the end of the part relative to the start of the data.
+     * @return the reader.
+     */
+    public JsonReader createPartReader(int start, int end) {
+        return new Utf8JsonReader(data, offset, end, start, getIdentityRetainFlag());
+    }
+
+    /**
+     * Finds the closing quote of the double-quoted string that starts at the current read position
+     *   in the index, if the string contains neither escapes nor line breaks.
+     *
+     * @param quote character used to denote a quote.
+     * @return position of the closing quote or {@code -1} if the string has to be read byte by byte.
+     */
+    private int indexedClosingQuote(char quote) {
+        if (index == null || quote != '"') {
+            return -1;
+        }
+
+        int opening = position - 1;
+        seek(opening);
+
+        if (cursor + 1 >= index.size() || index.position(cursor) != opening) {
+            return -1;
+        }
+
+        int closing = index.position(cursor + 1);
+        if (data[offset + closing] != '"' || index.hasSpecialCharacters(opening + 1, closing)) {
+            return -1;
+        }
+
+        return closing;
+    }
+
+    /**
+     * Moves the read position past the closing quote of a string and remembers the quote,
+     *   so that the whitespaces after it are not scanned.
+     *
+     * @param closingQuote index of the closing quote.
+     * @param quote character used to denote a quote.
+     */
+    @Override
+    protected void completeString(int closingQuote, char quote) {
+        super.completeString(closingQuote, quote);
+        stringEnd = closingQuote;
+    }
+
+    /**
+     * Moves the cursor to the first structural character at or after the specified position.
+     *
+     * @param target position relative to the start of the data.
+     */
+    private void seek(int target) {
+        while (cursor > 0 && index.position(cursor - 1) >= target) {
+            cursor--;
+        }
+
+        while (cursor < index.size() && index.position(cursor) < target) {
+            cursor++;
+        }
+    }
+
+    /**
+     * Checks if there is a bracket, a colon or a comma outside of strings at specified position.
+     *
+     * @param at position relative to the start of the data.
+     * @return {@code true} if the position holds an indexed operator.
+     */
+    private boolean isIndexedOperator(int at) {
+        switch (data[offset + at]) {
+            case '{', '}', '[', ']', ':', ',' -> {
+                seek(at);
+                return cursor < index.size() && index.position(cursor) == at;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Finds the closing quote of the string, the opening quote of which is at the cursor.
+     *
+     * @return position of the closing quote or {@code -1} if the string is not terminated.
+     */
+    private int indexedStringEnd() {
+        if (cursor + 1 >= index.size() || data[offset + index.position(cursor + 1)] != '"') {
+            return -1;
+        }
+
+        return index.position(++cursor);
+    }
+
+    /**
+     * Finds the bracket that closes the container, the opening bracket of which is at the cursor.
+     *
+     * @return position of the closing bracket or {@code -1} if the brackets do not match.
+     */
+    private int indexedContainerEnd() {
+        if (skipStack == null) {
+            skipStack = new boolean[INITIAL_SKIP_STACK_SIZE];
+        }
+
+        int depth = 0;
+        for (int i = cursor; i < index.size(); ++i) {
+            int structural = index.position(i);
+
+            switch (data[offset + structural]) {
+                case '{', '[' -> {
+                    if (depth == skipStack.length) {
+                        skipStack = Arrays.copyOf(skipStack, depth * 2);
+                    }
+                    skipStack[depth++] = data[offset + structural] == '{';
+                }
+                case '}', ']' -> {
+                    if (skipStack[--depth] != (data[offset + structural] == '}')) {
+                        return -1;
+                    }
+
+                    if (depth == 0) {
+                        cursor = i;
+                        return structural;
+                    }
+                }
+                default -> { }
+            }
+        }
+
+        return -1;
+    }
+}
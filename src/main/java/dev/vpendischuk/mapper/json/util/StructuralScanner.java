@@ -0,0 +1,137 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.util.Arrays;
+
+/**
+ * Base class of the first stage of structural indexing: the input is classified
+ *   in blocks of {@value #BLOCK_SIZE} bytes, each block yielding bitmaps in which
+ *   the bit {@code i} corresponds to the byte {@code i} of the block.
+ * <p>
+ * Implementations only differ in the way the bitmaps of a block are computed;
+ *   resolving escaped quotes, masking the contents of strings, finding the first
+ *   bytes of literals and flattening the bitmaps into a {@link StructuralIndex} is shared.
+ */
+abstract class StructuralScanner {
+    // Amount of bytes classified at once.
+    static final int BLOCK_SIZE = 64;
+    // Index of the bitmap of double quotes.
+    static final int QUOTES = 0;
+    // Index of the bitmap of backslashes.
+    static final int BACKSLASHES = 1;
+    // Index of the bitmap of line breaks.
+    static final int LINE_BREAKS = 2;
+    // Index of the bitmap of brackets, colons and commas.
+    static final int OPERATORS = 3;
+    // Index of the bitmap of single quotes.
+    static final int SINGLE_QUOTES = 4;
+    // Index of the bitmap of whitespaces: the bytes from 0x01 to 0x20.
+    static final int WHITESPACES = 5;
+    // Index of the bitmap of zero bytes, which terminate the data for the readers.
+    static final int ZEROS = 6;
+    // Amount of bitmaps computed for a block.
+    static final int BITMAP_COUNT = 7;
+
+    /**
+     * Computes the bitmaps of the block of {@value #BLOCK_SIZE} bytes that starts at specified offset.
+     *
+     * @param data array that stores the block.
+     * @param offset index of the first byte of the block.
+     * @param bitmaps array the bitmaps are written to, indexed by the bitmap constants.
+     */
+    abstract void classifyBlock(byte[] data, int offset, long[] bitmaps);
+
+    /**
+     * Builds the structural index of specified UTF-8 encoded JSON data.
+     *
+     * @param data array that stores the data.
+     * @param offset index of the first byte of the data.
+     * @param length amount of data bytes.
+     * @return the index or {@code null} if the data contains single-quoted strings, which are not indexed.
+     */
+    StructuralIndex scan(byte[] data, int offset, int length) {
+        int blockCount = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        long[] bitmaps = new long[BITMAP_COUNT];
+        long[] specialBits = new long[blockCount];
+        long[] suspectBits = new long[blockCount];
+        int[] positions = new int[Math.max(16, length >>> 3)];
+        int count = 0;
+
+        byte[] tail = null;
+        // Flag that denotes if the first byte of the block is escaped by the previous block.
+        boolean escapeCarried = false;
+        // All ones if the previous block ended inside of a string, zero otherwise.
+        long inStringCarried = 0;
+        // One if the last byte of the previous block belongs to a literal, zero otherwise.
+        long literalCarried = 0;
+
+        for (int block = 0; block < blockCount; ++block) {
+            int blockStart = block * BLOCK_SIZE;
+
+            if (blockStart + BLOCK_SIZE <= length) {
+                classifyBlock(data, offset + blockStart, bitmaps);
+            } else {
+                // The last block is padded with spaces, which are not classified.
+                if (tail == null) {
+                    tail = new byte[BLOCK_SIZE];
+                }
+                Arrays.fill(tail, (byte) ' ');
+                System.arraycopy(data, offset + blockStart, tail, 0, length - blockStart);
+                classifyBlock(tail, 0, bitmaps);
+            }
+
+            // Finding the characters escaped by backslashes that are not escaped themselves.
+            long backslashes = bitmaps[BACKSLASHES];
+            long escaped = escapeCarried ? 1L : 0L;
+            escapeCarried = false;
+            while (backslashes != 0) {
+                int bit = Long.numberOfTrailingZeros(backslashes);
+                backslashes &= backslashes - 1;
+
+                if ((escaped & (1L << bit)) == 0) {
+                    if (bit == BLOCK_SIZE - 1) {
+                        escapeCarried = true;
+                    } else {
+                        escaped |= 1L << (bit + 1);
+                    }
+                }
+            }
+
+            long quotes = bitmaps[QUOTES] & ~escaped;
+            // Every unescaped quote toggles the state, so the prefix XOR marks the string contents.
+            long inString = quotes;
+            inString ^= inString << 1;
+            inString ^= inString << 2;
+            inString ^= inString << 4;
+            inString ^= inString << 8;
+            inString ^= inString << 16;
+            inString ^= inString << 32;
+            inString ^= inStringCarried;
+            inStringCarried = inString >> 63;
+
+            if ((bitmaps[SINGLE_QUOTES] & ~inString) != 0) {
+                return null;
+            }
+
+            specialBits[block] = bitmaps[BACKSLASHES] | bitmaps[LINE_BREAKS];
+            suspectBits[block] = (bitmaps[LINE_BREAKS] & inString) | (bitmaps[ZEROS] & ~inString);
+
+            // Bytes of literals, the first of which follows neither another literal byte nor a string.
+            long literals = ~(bitmaps[OPERATORS] | bitmaps[WHITESPACES] | bitmaps[QUOTES]);
+            long literalStarts = literals & ~(literals << 1 | literalCarried) & ~inString;
+            literalCarried = literals >>> 63;
+
+            long structurals = (bitmaps[OPERATORS] & ~inString) | quotes | literalStarts;
+            int structuralCount = Long.bitCount(structurals);
+            if (count + structuralCount > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(count + structuralCount, positions.length * 2));
+            }
+
+            while (structurals != 0) {
+                positions[count++] = blockStart + Long.numberOfTrailingZeros(structurals);
+                structurals &= structurals - 1;
+            }
+        }
+
+        return new StructuralIndex(positions, count, specialBits, suspectBits);
+    }
+}
@@ -0,0 +1,280 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Canonicalizing table of field names used by a single reader.
+ * <p>
+ * Field names are matched against the table directly in the character or
+ *   UTF-8 byte window of a reader, so a name that is already known is returned
+ *   as its canonical {@link String} instance without allocating a new one.
+ * <p>
+ * The table is seeded with the property names of the bound classes and
+ *   remembers the other names as they are read, up to a limited amount of symbols,
+ *   so that documents with arbitrary keys do not make it grow without bounds.
+ * <p>
+ * Usage example:
+ * <pre>
+ * SymbolTable symbols = new SymbolTable();
+ * String name = symbols.add("name");
+ * char[] chars = {'"', 'n', 'a', 'm', 'e', '"'};
+ * assert symbols.lookup(chars, 1, 4) == name;
+ * </pre>
+ */
+public final class SymbolTable {
+    // Default maximal amount of stored symbols.
+    public static final int DEFAULT_MAX_SIZE = 1024;
+    // Maximal length of a stored symbol.
+    private static final int MAX_SYMBOL_LENGTH = 256;
+    // Initial amount of slots of the hash tables.
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Maximal amount of stored symbols.
+    private final int maxSize;
+    // Symbols indexed by the hash of their characters.
+    private String[] charSlots;
+    // Symbols indexed by the hash of their UTF-8 bytes.
+    private String[] byteSlots;
+    // UTF-8 representations of the symbols in byteSlots.
+    private byte[][] byteSlotData;
+    // Amount of stored symbols.
+    private int size;
+
+    /**
+     * Initializes a new {@link SymbolTable} instance that stores up to {@value #DEFAULT_MAX_SIZE} symbols.
+     */
+    public SymbolTable() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Initializes a new {@link SymbolTable} instance with specified limit.
+     *
+     * @param maxSize maximal amount of stored symbols; {@code 0} disables canonicalization.
+     */
+    public SymbolTable(int maxSize) {
+        this.maxSize = maxSize;
+        charSlots = new String[INITIAL_CAPACITY];
+        byteSlots = new String[INITIAL_CAPACITY];
+        byteSlotData = new byte[INITIAL_CAPACITY][];
+        size = 0;
+    }
+
+    /**
+     * Returns the amount of stored symbols.
+     *
+     * @return the amount of symbols.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the canonical instance of the specified symbol, storing the symbol
+     *   if it is not known yet and the table is not full.
+     *
+     * @param symbol the symbol.
+     * @return the canonical instance equal to the {@code symbol}.
+     */
+    public String add(String symbol) {
+        int charSlot = charSlot(symbol);
+        if (charSlots[charSlot] != null) {
+            return charSlots[charSlot];
+        }
+
+        if (size >= maxSize || symbol.length() > MAX_SYMBOL_LENGTH) {
+            return symbol;
+        }
+
+        if ((size + 1) * 2 > charSlots.length) {
+            rehash(charSlots.length * 2);
+            charSlot = charSlot(symbol);
+        }
+
+        byte[] bytes = symbol.getBytes(StandardCharsets.UTF_8);
+        int byteSlot = byteSlot(bytes, 0, bytes.length);
+        charSlots[charSlot] = symbol;
+        byteSlots[byteSlot] = symbol;
+        byteSlotData[byteSlot] = bytes;
+        size++;
+
+        return symbol;
+    }
+
+    /**
+     * Returns the stored symbol that consists of specified characters.
+     *
+     * @param chars array that stores the characters.
+     * @param offset index of the first character.
+     * @param length amount of characters.
+     * @return the canonical symbol or {@code null} if it is not stored.
+     */
+    public String lookup(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; ++i) {
+            hash = 31 * hash + chars[i];
+        }
+
+        int mask = charSlots.length - 1;
+        for (int slot = spread(hash) & mask; charSlots[slot] != null; slot = (slot + 1) & mask) {
+            String symbol = charSlots[slot];
+            if (symbol.length() == length && matches(symbol, chars, offset)) {
+                return symbol;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the stored symbol that is encoded by specified UTF-8 bytes.
+     *
+     * @param bytes array that stores the bytes.
+     * @param offset index of the first byte.
+     * @param length amount of bytes.
+     * @return the canonical symbol or {@code null} if it is not stored.
+     */
+    public String lookup(byte[] bytes, int offset, int length) {
+        return byteSlots[byteSlot(bytes, offset, length)];
+    }
+
+    /**
+     * Returns the stored symbol that is encoded by specified UTF-8 bytes of a buffer,
+     *   which may be a direct buffer without an accessible array.
+     *
+     * @param buffer buffer that stores the bytes.
+     * @param offset index of the first byte in the buffer.
+     * @param length amount of bytes.
+     * @return the canonical symbol or {@code null} if it is not stored.
+     */
+    public String lookup(ByteBuffer buffer, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; ++i) {
+            hash = 31 * hash + (buffer.get(i) & 0xFF);
+        }
+
+        int mask = byteSlots.length - 1;
+        for (int slot = spread(hash) & mask; byteSlots[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(byteSlotData[slot], buffer, offset, length)) {
+                return byteSlots[slot];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if the bytes of a symbol are equal to the bytes of a buffer that start at specified offset.
+     *
+     * @param bytes UTF-8 bytes of the symbol.
+     * @param buffer the buffer.
+     * @param offset index of the first byte in the buffer.
+     * @param length amount of bytes in the buffer.
+     * @return {@code true} if all bytes match.
+     */
+    private static boolean matches(byte[] bytes, ByteBuffer buffer, int offset, int length) {
+        if (bytes.length != length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; ++i) {
+            if (bytes[i] != buffer.get(offset + i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if the symbol consists of the characters that start at specified offset.
+     *
+     * @param symbol the symbol.
+     * @param chars array that stores the characters.
+     * @param offset index of the first character.
+     * @return {@code true} if all characters of the symbol match.
+     */
+    private static boolean matches(String symbol, char[] chars, int offset) {
+        for (int i = 0; i < symbol.length(); ++i) {
+            if (symbol.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the slot of the character table that stores the symbol or is free for it.
+     *
+     * @param symbol the symbol.
+     * @return index of the slot.
+     */
+    private int charSlot(String symbol) {
+        int mask = charSlots.length - 1;
+        int slot = spread(symbol.hashCode()) & mask;
+        while (charSlots[slot] != null && !charSlots[slot].equals(symbol)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Finds the slot of the byte table that stores specified bytes or is free for them.
+     *
+     * @param bytes array that stores the bytes.
+     * @param offset index of the first byte.
+     * @param length amount of bytes.
+     * @return index of the slot.
+     */
+    private int byteSlot(byte[] bytes, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; ++i) {
+            hash = 31 * hash + (bytes[i] & 0xFF);
+        }
+
+        int mask = byteSlots.length - 1;
+        int slot = spread(hash) & mask;
+        while (byteSlots[slot] != null
+                && !Arrays.equals(byteSlotData[slot], 0, byteSlotData[slot].length, bytes, offset, offset + length)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Mixes the high bits of a hash into the low ones, which select the slot.
+     *
+     * @param hash the hash.
+     * @return the spread hash.
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Grows the hash tables and stores the symbols again.
+     *
+     * @param capacity new amount of slots.
+     */
+    private void rehash(int capacity) {
+        String[] symbols = charSlots;
+        charSlots = new String[capacity];
+        byteSlots = new String[capacity];
+        byteSlotData = new byte[capacity][];
+
+        for (final String symbol : symbols) {
+            if (symbol != null) {
+                byte[] bytes = symbol.getBytes(StandardCharsets.UTF_8);
+                int byteSlot = byteSlot(bytes, 0, bytes.length);
+                charSlots[charSlot(symbol)] = symbol;
+                byteSlots[byteSlot] = symbol;
+                byteSlotData[byteSlot] = bytes;
+            }
+        }
+    }
+}
@@ -0,0 +1,726 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Implementation of the {@link JsonReader} interface that reads
+ *   UTF-8 encoded JSON data directly from bytes.
+ * <p>
+ * Structural characters, numbers and literals are read byte by byte without decoding;
+ *   only the contents of string values are decoded, and strings that consist
+ *   of ASCII characters only are copied without running the UTF-8 decoder.
+ * <p>
+ * Only the offset of the window in the input is tracked while reading; the line and
+ *   column of a syntax error are computed from the window when the error is raised.
+ *   Line breaks of the data that leaves the window are counted once per refill.
+ *   Like the offset, columns are counted in bytes.
+ * <p>
+ * Initialization examples:
+ * <pre>
+ * byte[] data = "{\"name\":\"Jason\"}".getBytes(StandardCharsets.UTF_8);
+ * // From byte array, retains identity
+ * JsonReader reader = new Utf8JsonReader(data, true);
+ *
+ * // From file, does not retain identity
+ * JsonReader reader = new Utf8JsonReader(new FileInputStream("/dir/file"), false);
+ * </pre>
+ */
+public class Utf8JsonReader extends AbstractJsonReader {
+    // Default size of the byte window.
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    // Minimal size of the byte window - it must hold the longest UTF-8 sequence being stepped back over.
+    private static final int MIN_BUFFER_SIZE = 8;
+    // Initial size of the buffer used to collect string contents.
+    private static final int INITIAL_STRING_BUFFER_SIZE = 64;
+
+    // Stream used to get data (null if the whole input is stored in the window).
+    private final InputStream inputStream;
+    // Window of bytes obtained from the input.
+    protected ByteBuffer window;
+    // Index of the next byte to be read from the window.
+    protected int position;
+    // Amount of valid bytes stored in the window.
+    protected int limit;
+    // Offset of the first byte of the window in the input.
+    protected long windowOffset;
+    // Amount of line breaks in the input before the window.
+    private long discardedLines;
+    // Amount of bytes after the last line break in the input before the window.
+    private long discardedColumn;
+    // Index of the first byte of the previously read character in the window (-1 if none was read).
+    protected int charStart;
+    // Flag that denotes if the previous character has to be returned next.
+    private boolean steppedBack;
+    // Previously read character.
+    private char previousChar;
+    // Buffer used to collect the bytes of string contents.
+    private byte[] stringBuffer;
+
+    /**
+     * Initializes a new {@link Utf8JsonReader} instance with specified parameters.
+     *
+     * @param inputStream stream used to obtain UTF-8 encoded data.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    public Utf8JsonReader(InputStream inputStream, boolean retainIdentity) {
+        this(inputStream, retainIdentity, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Initializes a new {@link Utf8JsonReader} instance with specified parameters.
+     *
+     * @param inputStream stream used to obtain UTF-8 encoded data.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @param bufferSize size of the byte window refilled from the {@code inputStream}.
+     */
+    public Utf8JsonReader(InputStream inputStream, boolean retainIdentity, int bufferSize) {
+        this(inputStream, ByteBuffer.allocate(Math.max(bufferSize, MIN_BUFFER_SIZE)), 0, retainIdentity);
+    }
+
+    /**
+     * Initializes a new {@link Utf8JsonReader} instance with specified parameters.
+     *
+     * @param data array that stores UTF-8 encoded JSON data.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    public Utf8JsonReader(byte[] data, boolean retainIdentity) {
+        this(data, 0, data.length, retainIdentity);
+    }
+
+    /**
+     * Initializes a new {@link Utf8JsonReader} instance with specified parameters.
+     *
+     * @param data array that stores UTF-8 encoded JSON data.
+     * @param offset index of the first byte of the data in the array.
+     * @param length amount of data bytes.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    public Utf8JsonReader(byte[] data, int offset, int length, boolean retainIdentity) {
+        this(ByteBuffer.wrap(data, offset, length), retainIdentity);
+    }
+
+    /**
+     * Initializes a new {@link Utf8JsonReader} instance that reads a part of the data stored in specified array.
+     * <p>
+     * Reading starts from the specified index and ends with the data, while read offsets
+     *   and positions of syntax errors are counted from the start of the data.
+     *
+     * @param data array that stores UTF-8 encoded JSON data.
+     * @param offset index of the first byte of the data in the array.
+     * @param length amount of data bytes.
+     * @param start index of the first read byte relative to the start of the data.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    public Utf8JsonReader(byte[] data, int offset, int length, int start, boolean retainIdentity) {
+        this(null, ByteBuffer.wrap(data, offset, length).slice(), length, retainIdentity);
+        position = start;
+    }
+
+    /**
+     * Initializes a new {@link Utf8JsonReader} instance that reads the remaining bytes
+     *   of specified buffer without copying them.
+     *
+     * @param data buffer that stores UTF-8 encoded JSON data between its position and limit.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    public Utf8JsonReader(ByteBuffer data, boolean retainIdentity) {
+        this(null, data.slice(), data.remaining(), retainIdentity);
+    }
+
+    /**
+     * Initializes a new {@link Utf8JsonReader} instance with specified window.
+     *
+     * @param inputStream stream used to refill the window or {@code null} if the window holds all data.
+     * @param window the byte window; its indexes start from zero.
+     * @param limit amount of valid bytes initially stored in the window.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     */
+    protected Utf8JsonReader(InputStream inputStream, ByteBuffer window, int limit, boolean retainIdentity) {
+        super(retainIdentity);
+        this.inputStream = inputStream;
+        this.window = window;
+        this.limit = limit;
+        position = 0;
+        windowOffset = 0;
+        discardedLines = 0;
+        discardedColumn = 0;
+        charStart = -1;
+        steppedBack = false;
+        previousChar = 0;
+        stringBuffer = new byte[INITIAL_STRING_BUFFER_SIZE];
+    }
+
+    /**
+     * Creates a {@link Utf8JsonReader} instance that reads a part of a longer input
+     *   which starts at the beginning of a line.
+     * <p>
+     * Read offsets and positions of syntax errors are counted from the start of the input.
+     *
+     * @param data array that stores the UTF-8 encoded part of the input.
+     * @param inputOffset offset of the first byte of the part in the input.
+     * @param inputLines amount of line breaks in the input before the part.
+     * @param retainIdentity flag that denotes if reference equality is maintained.
+     * @return the reader.
+     */
+    public static Utf8JsonReader continuing(byte[] data, long inputOffset, long inputLines, boolean retainIdentity) {
+        Utf8JsonReader reader = new Utf8JsonReader(data, retainIdentity);
+        reader.windowOffset = inputOffset;
+        reader.discardedLines = inputLines;
+
+        return reader;
+    }
+
+    /**
+     * Obtains the next character in the JSON.
+     * <p>
+     * Multibyte UTF-8 sequences outside of strings are decoded into a single character.
+     *
+     * @return the next character in the JSON or {@code 0} if the end of data was reached.
+     * @throws JsonReadException if the data could not be read or is not valid UTF-8.
+     */
+    @Override
+    public char nextCharacter() throws JsonReadException {
+        if (position >= limit && !fillBuffer()) {
+            eofReached = true;
+            return 0;
+        }
+
+        charStart = position;
+        steppedBack = false;
+        int readByte = window.get(position++);
+
+        if (readByte == 0) {
+            eofReached = true;
+            return 0;
+        }
+
+        previousChar = readByte > 0 ? (char) readByte : decodeCharacter(readByte);
+        return previousChar;
+    }
+
+    /**
+     * Decodes a multibyte UTF-8 sequence that starts with the specified byte.
+     *
+     * @param leadingByte the first byte of the sequence.
+     * @return decoded character.
+     * @throws JsonReadException if the sequence is not valid or encodes a supplementary character.
+     */
+    private char decodeCharacter(int leadingByte) throws JsonReadException {
+        int codePoint;
+        int continuationCount;
+
+        if ((leadingByte & 0xE0) == 0xC0) {
+            codePoint = leadingByte & 0x1F;
+            continuationCount = 1;
+        } else if ((leadingByte & 0xF0) == 0xE0) {
+            codePoint = leadingByte & 0x0F;
+            continuationCount = 2;
+        } else {
+            throw syntaxError("[JSON Reader Error] Syntax error: unexpected character.");
+        }
+
+        for (int i = 0; i < continuationCount; ++i) {
+            if (position >= limit && !fillBuffer()) {
+                throw syntaxError("[JSON Reader Error] Syntax error: unexpected end of file.");
+            }
+
+            int continuation = window.get(position++);
+            if ((continuation & 0xC0) != 0x80) {
+                throw syntaxError("[JSON Reader Error] Syntax error: invalid UTF-8 sequence.");
+            }
+
+            codePoint = (codePoint << 6) | (continuation & 0x3F);
+        }
+
+        return (char) codePoint;
+    }
+
+    /**
+     * Refills the byte window with the next block of data from the input.
+     * <p>
+     * Bytes of the previously read character are moved to the start of the window,
+     *   so that it is still possible to step back after the refill.
+     *
+     * @return {@code true} if any bytes were read, {@code false} if the end of data was reached.
+     * @throws JsonReadException if the data could not be read from the input.
+     */
+    protected boolean fillBuffer() throws JsonReadException {
+        if (inputStream == null) {
+            return false;
+        }
+
+        int keepFrom = charStart >= 0 ? Math.min(charStart, position) : position;
+        byte[] array = window.array();
+        int kept = limit - keepFrom;
+
+        discard(keepFrom);
+        System.arraycopy(array, keepFrom, array, 0, kept);
+        windowOffset += keepFrom;
+        position -= keepFrom;
+        if (charStart >= 0) {
+            charStart -= keepFrom;
+        }
+        limit = kept;
+
+        int readCount;
+        try {
+            do {
+                readCount = inputStream.read(array, limit, array.length - limit);
+            } while (readCount == 0);
+        } catch (IOException ex) {
+            throw new JsonReadException("[JSON Reader Error] Could not read from source.", ex);
+        }
+
+        if (readCount < 0) {
+            return false;
+        }
+
+        limit += readCount;
+        return true;
+    }
+
+    /**
+     * Counts the line breaks among the specified amount of first bytes of the window,
+     *   which are removed from it when the window is moved.
+     *
+     * @param length amount of the removed bytes.
+     */
+    protected void discard(int length) {
+        int lineBreaks = 0;
+        int lastBreak = -1;
+
+        for (int i = 0; i < length; ++i) {
+            if (window.get(i) == '\n') {
+                lineBreaks++;
+                lastBreak = i;
+            }
+        }
+
+        discardedLines += lineBreaks;
+        discardedColumn = lastBreak < 0 ? discardedColumn + length : length - lastBreak - 1;
+    }
+
+    /**
+     * Reads the contents of the string that starts at the current read position,
+     *   resolving the escape sequences and consuming the closing quote.
+     * <p>
+     * A string without escapes that is stored in a heap window is decoded from the window
+     *   directly. Otherwise, runs of bytes without escapes are copied in bulk, and the collected
+     *   bytes are decoded once the string is complete.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @return the string contents.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    @Override
+    public String nextStringContent(char quote) throws JsonReadException {
+        int length = 0;
+        // Accumulates the high bits of all bytes to detect non-ASCII contents.
+        int highBits = 0;
+        // High surrogate read from the last unicode escape.
+        char highSurrogate = 0;
+        // Length of the contents right after the high surrogate was written (-1 if none).
+        int surrogateEnd = -1;
+
+        for (;;) {
+            if (position >= limit) {
+                charStart = position;
+                if (!fillBuffer()) {
+                    throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
+                }
+            }
+
+            // Finding a run of bytes that do not need special handling.
+            int runStart = position;
+            byte readByte = 0;
+            while (position < limit) {
+                readByte = window.get(position);
+                if (readByte == quote || readByte == '\\' || readByte == '\n' || readByte == '\r') {
+                    break;
+                }
+                highBits |= readByte;
+                position++;
+            }
+
+            int runLength = position - runStart;
+            if (length == 0 && position < limit && readByte == quote) {
+                String content = decodeWindow(runStart, runLength, highBits);
+                completeString(position, quote);
+                return content;
+            }
+
+            if (runLength > 0) {
+                stringBuffer = ensureCapacity(stringBuffer, length + runLength);
+                window.get(runStart, stringBuffer, length, runLength);
+                length += runLength;
+            }
+
+            if (position >= limit) {
+                continue;
+            }
+
+            position++;
+            if (readByte == quote) {
+                // On string end.
+                break;
+            }
+
+            if (readByte != '\\') {
+                throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
+            }
+
+            // Writing escape sequences to string.
+            if (position >= limit) {
+                charStart = position;
+                if (!fillBuffer()) {
+                    throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
+                }
+            }
+
+            byte escaped = window.get(position++);
+            if (escaped == 'u') {
+                char codeUnit = nextUnicodeEscape();
+                stringBuffer = ensureCapacity(stringBuffer, length + 4);
+
+                if (length == surrogateEnd && Character.isLowSurrogate(codeUnit)) {
+                    // The '?' written for the preceding high surrogate is replaced with the pair.
+                    length = JsonEscapes.encodeUtf8(Character.toCodePoint(highSurrogate, codeUnit),
+                            stringBuffer, length - 1);
+                    surrogateEnd = -1;
+                } else {
+                    length = JsonEscapes.encodeUtf8(codeUnit, stringBuffer, length);
+                    highSurrogate = codeUnit;
+                    surrogateEnd = Character.isHighSurrogate(codeUnit) ? length : -1;
+                }
+
+                if (codeUnit >= 0x80) {
+                    highBits = -1;
+                }
+                continue;
+            }
+
+            byte resolved = switch (escaped) {
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 'f' -> '\f';
+                case 'b' -> '\b';
+                case 't' -> '\t';
+                case '"', '\'', '\\', '/' -> escaped;
+                default -> throw syntaxError("[JSON Reader Error] Syntax error: illegal escape.");
+            };
+
+            stringBuffer = ensureCapacity(stringBuffer, length + 1);
+            stringBuffer[length++] = resolved;
+        }
+
+        completeString(position - 1, quote);
+
+        return decode(stringBuffer, 0, length, highBits);
+    }
+
+    /**
+     * Reads the four hexadecimal digits of a unicode escape sequence.
+     *
+     * @return the escaped UTF-16 code unit.
+     * @throws JsonReadException if a digit is invalid or missing.
+     */
+    private char nextUnicodeEscape() throws JsonReadException {
+        int value = 0;
+
+        for (int i = 0; i < 4; ++i) {
+            if (position >= limit) {
+                charStart = position;
+                if (!fillBuffer()) {
+                    throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
+                }
+            }
+
+            int digit = JsonEscapes.hexValue(window.get(position++));
+            if (digit < 0) {
+                throw syntaxError("[JSON Reader Error] Syntax error: illegal unicode escape.");
+            }
+
+            value = value << 4 | digit;
+        }
+
+        return (char) value;
+    }
+
+    /**
+     * Decodes the string contents stored in the specified range of the window.
+     * <p>
+     * The contents of a heap window are decoded in place; the contents of a direct window,
+     *   such as a mapped file region, are copied to the string buffer in bulk first.
+     *
+     * @param start index of the first byte of the contents in the window.
+     * @param length amount of bytes of the contents.
+     * @param highBits accumulated high bits of the bytes, negative if any byte is not ASCII.
+     * @return the decoded string.
+     */
+    private String decodeWindow(int start, int length, int highBits) {
+        if (window.hasArray()) {
+            return decode(window.array(), window.arrayOffset() + start, length, highBits);
+        }
+
+        stringBuffer = ensureCapacity(stringBuffer, length);
+        window.get(start, stringBuffer, 0, length);
+        return decode(stringBuffer, 0, length, highBits);
+    }
+
+    /**
+     * Decodes the string contents stored in the specified range of an array.
+     *
+     * @param array the array.
+     * @param offset index of the first byte of the contents.
+     * @param length amount of bytes of the contents.
+     * @param highBits accumulated high bits of the bytes, negative if any byte is not ASCII.
+     * @return the decoded string.
+     */
+    private static String decode(byte[] array, int offset, int length, int highBits) {
+        return highBits < 0
+                ? new String(array, offset, length, StandardCharsets.UTF_8)
+                : new String(array, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Reads the contents of the string that starts at the current read position
+     *   and returns their canonical instance from the specified symbol table.
+     * <p>
+     * A string that is stored in the window and contains no escapes is matched
+     *   against the table by its bytes; other strings are read as usual.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @param symbols table of canonical field names.
+     * @return the canonical string contents.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    @Override
+    public String nextStringContent(char quote, SymbolTable symbols) throws JsonReadException {
+        if (!window.hasArray()) {
+            return nextBufferedStringContent(quote, symbols);
+        }
+
+        byte[] array = window.array();
+        int arrayOffset = window.arrayOffset();
+        int start = position;
+        int end = start;
+
+        while (end < limit) {
+            byte readByte = array[arrayOffset + end];
+            if (readByte == quote || readByte == '\\' || readByte == '\n' || readByte == '\r') {
+                break;
+            }
+            end++;
+        }
+
+        if (end >= limit || array[arrayOffset + end] != quote) {
+            return symbols.add(nextStringContent(quote));
+        }
+
+        int length = end - start;
+        String symbol = symbols.lookup(array, arrayOffset + start, length);
+        if (symbol == null) {
+            symbol = symbols.add(new String(array, arrayOffset + start, length, StandardCharsets.UTF_8));
+        }
+
+        completeString(end, quote);
+        return symbol;
+    }
+
+    /**
+     * Reads the contents of the string that starts at the current read position
+     *   of a direct window and returns their canonical instance from the specified symbol table.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @param symbols table of canonical field names.
+     * @return the canonical string contents.
+     * @throws JsonReadException if a syntax error was detected.
+     */
+    private String nextBufferedStringContent(char quote, SymbolTable symbols) throws JsonReadException {
+        int start = position;
+        int end = start;
+        int highBits = 0;
+
+        while (end < limit) {
+            byte readByte = window.get(end);
+            if (readByte == quote || readByte == '\\' || readByte == '\n' || readByte == '\r') {
+                break;
+            }
+            highBits |= readByte;
+            end++;
+        }
+
+        if (end >= limit || window.get(end) != quote) {
+            return symbols.add(nextStringContent(quote));
+        }
+
+        int length = end - start;
+        String symbol = symbols.lookup(window, start, length);
+        if (symbol == null) {
+            symbol = symbols.add(decodeWindow(start, length, highBits));
+        }
+
+        completeString(end, quote);
+        return symbol;
+    }
+
+    /**
+     * Skips the contents of the string that starts at the current read position,
+     *   consuming the closing quote.
+     * <p>
+     * The bytes of the string are not decoded.
+     *
+     * @param quote character used to denote a quote - limits of the string value.
+     * @throws JsonReadException if the string is not terminated.
+     */
+    @Override
+    protected void skipStringContent(char quote) throws JsonReadException {
+        for (;;) {
+            if (position >= limit) {
+                charStart = position;
+                if (!fillBuffer()) {
+                    throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
+                }
+            }
+
+            byte readByte = window.get(position++);
+            if (readByte == quote) {
+                completeString(position - 1, quote);
+                return;
+            }
+
+            if (readByte == '\n' || readByte == '\r') {
+                throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
+            }
+
+            if (readByte == '\\') {
+                if (position >= limit) {
+                    charStart = position;
+                    if (!fillBuffer()) {
+                        throw syntaxError("[JSON Reader Error] Syntax error: no string terminator.");
+                    }
+                }
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Moves the read position past the closing quote of a string
+     *   and makes the quote the previously read character.
+     *
+     * @param closingQuote index of the closing quote in the window.
+     * @param quote character used to denote a quote.
+     */
+    protected void completeString(int closingQuote, char quote) {
+        moveAfter(closingQuote, quote);
+    }
+
+    /**
+     * Moves the read position past the specified byte of the window
+     *   and makes it the previously read character.
+     *
+     * @param index index of the byte in the window.
+     * @param character character encoded by the byte.
+     */
+    protected void moveAfter(int index, char character) {
+        position = index + 1;
+        charStart = index;
+        previousChar = character;
+        steppedBack = false;
+    }
+
+    /**
+     * Returns an array that is able to hold at least {@code capacity} bytes
+     *   and contains the data of the specified array.
+     *
+     * @param array the array.
+     * @param capacity required capacity.
+     * @return the array itself or its grown copy.
+     */
+    private static byte[] ensureCapacity(byte[] array, int capacity) {
+        if (capacity <= array.length) {
+            return array;
+        }
+
+        return Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+    }
+
+    /**
+     * Returns the character that was previously read from JSON.
+     *
+     * @return the previously read character.
+     */
+    @Override
+    public char previousCharacter() {
+        return previousChar;
+    }
+
+    /**
+     * Moves a character back in the JSON reading process.
+     *
+     * @throws JsonReadException if the method was used twice without moving forward once -
+     *                           stepping back can be used only for a single character.
+     */
+    @Override
+    public void moveBack() throws JsonReadException {
+        if (steppedBack || charStart < 0) {
+            throw new JsonReadException("[JSON Reader Error] Unable to move back.");
+        }
+
+        position = charStart;
+        steppedBack = true;
+        eofReached = false;
+    }
+
+    /**
+     * Returns the offset of the next byte to be read from the start of the data.
+     *
+     * @return the read offset in bytes.
+     */
+    @Override
+    public long getReadOffset() {
+        return windowOffset + position;
+    }
+
+    /**
+     * Computes the number of the line of the previously read character.
+     *
+     * @return the line number, counted from one.
+     */
+    @Override
+    protected long currentLine() {
+        long lines = discardedLines;
+
+        for (int i = 0; i < position - 1; ++i) {
+            if (window.get(i) == '\n') {
+                lines++;
+            }
+        }
+
+        return lines + 1;
+    }
+
+    /**
+     * Computes the number of the column of the previously read character,
+     *   counted in bytes like the read offset.
+     *
+     * @return the column number, counted from one ({@code 0} if no character was read).
+     */
+    @Override
+    protected long currentColumn() {
+        for (int i = position - 2; i >= 0; --i) {
+            if (window.get(i) == '\n') {
+                return position - 1 - i;
+            }
+        }
+
+        return discardedColumn + position;
+    }
+}
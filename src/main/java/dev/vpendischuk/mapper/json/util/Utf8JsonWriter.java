@@ -0,0 +1,336 @@
+package dev.vpendischuk.mapper.json.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Implementation of the {@link JsonWriter} interface that writes UTF-8 encoded JSON to an {@link OutputStream}.
+ * <p>
+ * Characters are encoded straight into an internal buffer, which is written to the stream when it is full.
+ *   Unpaired surrogates are encoded as {@code '?'}, as by {@link String#getBytes(java.nio.charset.Charset)}.
+ * <p>
+ * Usage example:
+ * <pre>
+ * try (JsonWriter writer = new Utf8JsonWriter(outputStream)) {
+ *     jsonValue.writeTo(writer);
+ * }
+ * </pre>
+ */
+public class Utf8JsonWriter implements JsonWriter {
+    // Stream the data is written to.
+    private final OutputStream outputStream;
+    // Flag that denotes if the buffer is borrowed from the buffer pool.
+    private final boolean isPooled;
+    // Buffer that stores the data that was not written to the stream yet (null after the writer is closed).
+    private byte[] buffer;
+    // Amount of bytes stored in the buffer.
+    private int position;
+
+    /**
+     * Initializes a new {@link Utf8JsonWriter} instance that writes to the specified stream
+     *   with a buffer borrowed from the {@link BufferPool}, which is returned when the writer is closed.
+     *
+     * @param outputStream the stream.
+     */
+    public Utf8JsonWriter(OutputStream outputStream) {
+        this(outputStream, BufferPool.borrowBytes(), true);
+    }
+
+    /**
+     * Initializes a new {@link Utf8JsonWriter} instance that writes to the specified stream
+     *   with a buffer of the specified size.
+     *
+     * @param outputStream the stream.
+     * @param bufferSize size of the buffer, at least {@link DoubleFormatter#MAX_LENGTH} bytes.
+     */
+    public Utf8JsonWriter(OutputStream outputStream, int bufferSize) {
+        this(outputStream, new byte[Math.max(bufferSize, DoubleFormatter.MAX_LENGTH)], false);
+    }
+
+    /**
+     * Initializes a new {@link Utf8JsonWriter} instance with specified parameters.
+     *
+     * @param outputStream the stream.
+     * @param buffer the buffer.
+     * @param isPooled flag that denotes if the buffer is borrowed from the buffer pool.
+     */
+    private Utf8JsonWriter(OutputStream outputStream, byte[] buffer, boolean isPooled) {
+        this.outputStream = outputStream;
+        this.buffer = buffer;
+        this.isPooled = isPooled;
+        position = 0;
+    }
+
+    /**
+     * Writes the specified character.
+     *
+     * @param character the character; surrogates are only written as parts of strings.
+     * @throws IOException if the data could not be written to the stream.
+     */
+    @Override
+    public void write(char character) throws IOException {
+        ensureCapacity(3);
+
+        if (character < 0x80) {
+            buffer[position++] = (byte) character;
+        } else {
+            encode(character);
+        }
+    }
+
+    /**
+     * Writes the specified text as it is, without quotes or escaping.
+     *
+     * @param text the text.
+     * @throws IOException if the data could not be written to the stream.
+     */
+    @Override
+    public void write(String text) throws IOException {
+        encode(text, false);
+    }
+
+    /**
+     * Writes the specified text as a quoted JSON string, escaping the characters
+     *   that cannot be written as they are according to RFC 8259.
+     *
+     * @param text the text.
+     * @throws IOException if the data could not be written to the stream.
+     */
+    @Override
+    public void writeString(String text) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = '\"';
+
+        encode(text, true);
+
+        ensureCapacity(1);
+        buffer[position++] = '\"';
+    }
+
+    /**
+     * Writes the specified pre-encoded text as it is, without quotes or escaping.
+     * <p>
+     * Text that does not fit in the buffer is written to the stream directly.
+     *
+     * @param text the text.
+     * @throws IOException if the data could not be written to the stream.
+     */
+    @Override
+    public void write(EncodedText text) throws IOException {
+        byte[] bytes = text.bytes();
+
+        if (bytes.length > buffer.length - position) {
+            flushBuffer();
+
+            if (bytes.length > buffer.length) {
+                outputStream.write(bytes);
+                return;
+            }
+        }
+
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Writes the decimal representation of the specified integer.
+     *
+     * @param value the value.
+     * @throws IOException if the data could not be written to the stream.
+     */
+    @Override
+    public void writeNumber(long value) throws IOException {
+        ensureCapacity(20);
+
+        if (value < 0) {
+            buffer[position++] = '-';
+        } else {
+            // Digits are produced from the negated value, which also covers Long.MIN_VALUE.
+            value = -value;
+        }
+
+        int length = 1;
+        for (long bound = -10; length < 19 && value <= bound; bound *= 10) {
+            length++;
+        }
+
+        int index = position + length;
+        do {
+            buffer[--index] = (byte) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+
+        position += length;
+    }
+
+    /**
+     * Writes the shortest decimal that is parsed back to the specified value.
+     *
+     * @param value the value.
+     * @throws IOException if the data could not be written to the stream.
+     */
+    @Override
+    public void writeNumber(double value) throws IOException {
+        ensureCapacity(DoubleFormatter.MAX_LENGTH);
+        position = DoubleFormatter.write(value, buffer, position);
+    }
+
+    /**
+     * Writes the shortest decimal that is parsed back to the specified value.
+     *
+     * @param value the value.
+     * @throws IOException if the data could not be written to the stream.
+     */
+    @Override
+    public void writeNumber(float value) throws IOException {
+        ensureCapacity(DoubleFormatter.MAX_LENGTH);
+        position = DoubleFormatter.write(value, buffer, position);
+    }
+
+    /**
+     * Writes the buffered data to the stream and flushes the stream.
+     *
+     * @throws IOException if the data could not be written to the stream.
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        outputStream.flush();
+    }
+
+    /**
+     * Writes the buffered data to the stream and closes the stream;
+     *   a pooled buffer is returned to the pool, and the writer must not be used afterwards.
+     *
+     * @throws IOException if the data could not be written or the stream could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+
+        try {
+            flushBuffer();
+        } finally {
+            if (isPooled) {
+                BufferPool.release(buffer);
+            }
+            buffer = null;
+            outputStream.close();
+        }
+    }
+
+    /**
+     * Encodes the specified text, escaping the characters that are not written as they are if requested.
+     *
+     * @param text the text.
+     * @param isEscaped flag that denotes if the characters are escaped as in JSON strings.
+     * @throws IOException if the data could not be written to the stream.
+     */
+    private void encode(String text, boolean isEscaped) throws IOException {
+        int length = text.length();
+        int index = 0;
+
+        while (index < length) {
+            // An escape sequence takes six bytes, a surrogate pair takes four bytes.
+            if (buffer.length - position < 6) {
+                flushBuffer();
+            }
+
+            // ASCII characters that are not escaped are copied in a tight loop,
+            //   leaving room for the next encoded character.
+            int limit = Math.min(length, index + buffer.length - position - 5);
+            char character;
+            if (isEscaped) {
+                while (index < limit && JsonEscapes.escapeOf(character = text.charAt(index)) == 0
+                        && character < 0x80) {
+                    buffer[position++] = (byte) character;
+                    index++;
+                }
+            } else {
+                while (index < limit && (character = text.charAt(index)) < 0x80) {
+                    buffer[position++] = (byte) character;
+                    index++;
+                }
+            }
+
+            if (index < limit) {
+                character = text.charAt(index++);
+
+                if (character < 0x80) {
+                    writeEscape(character, JsonEscapes.escapeOf(character));
+                } else if (Character.isHighSurrogate(character) && index < length
+                        && Character.isLowSurrogate(text.charAt(index))) {
+                    int codePoint = Character.toCodePoint(character, text.charAt(index++));
+                    buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+                    buffer[position++] = (byte) (0x80 | (codePoint >> 12 & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint >> 6 & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    encode(character);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the escape sequence of the specified ASCII character; requires six free bytes.
+     *
+     * @param character the character.
+     * @param escape the character that follows the backslash or {@link JsonEscapes#UNICODE}.
+     */
+    private void writeEscape(char character, char escape) {
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) escape;
+
+        if (escape == JsonEscapes.UNICODE) {
+            buffer[position++] = '0';
+            buffer[position++] = '0';
+            buffer[position++] = (byte) JsonEscapes.HEX_DIGITS[character >> 4];
+            buffer[position++] = (byte) JsonEscapes.HEX_DIGITS[character & 0xF];
+        }
+    }
+
+    /**
+     * Encodes a non-ASCII character that is not a part of a surrogate pair; requires three free bytes.
+     *
+     * @param character the character.
+     */
+    private void encode(char character) {
+        if (character < 0x800) {
+            buffer[position++] = (byte) (0xC0 | character >> 6);
+            buffer[position++] = (byte) (0x80 | (character & 0x3F));
+        } else if (Character.isSurrogate(character)) {
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xE0 | character >> 12);
+            buffer[position++] = (byte) (0x80 | (character >> 6 & 0x3F));
+            buffer[position++] = (byte) (0x80 | (character & 0x3F));
+        }
+    }
+
+    /**
+     * Makes sure that the buffer has the specified amount of free bytes, writing it to the stream if needed.
+     *
+     * @param length the amount of bytes.
+     * @throws IOException if the data could not be written to the stream.
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer.length - position < length) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Writes the buffered data to the stream.
+     *
+     * @throws IOException if the data could not be written to the stream.
+     */
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
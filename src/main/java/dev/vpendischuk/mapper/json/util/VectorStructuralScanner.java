@@ -0,0 +1,101 @@
+package dev.vpendischuk.mapper.json.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link StructuralScanner} that classifies blocks with SIMD comparisons
+ *   of the {@code jdk.incubator.vector} API.
+ * <p>
+ * The class is only loaded reflectively by {@link StructuralIndex}, so that
+ *   the absence of the incubator module results in the scalar fallback. It is only
+ *   compiled by the {@code vector} build profile, which adds the incubator module.
+ */
+final class VectorStructuralScanner extends StructuralScanner {
+    // The widest byte vector shape supported by the platform.
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    // Mask that maps square brackets to curly ones when applied with a bitwise or.
+    private static final byte BRACKET_FOLD = 0x20;
+    // Long vector shape of the same size as the byte one.
+    private static final VectorSpecies<Long> LONG_SPECIES = VectorSpecies.of(long.class, SPECIES.vectorShape());
+    // Byte lanes that hold the weight of their bit within a group of eight lanes.
+    private static final ByteVector BIT_WEIGHTS;
+    // Long lanes that hold the offset of their group of bits within a mask.
+    private static final LongVector GROUP_SHIFTS;
+
+    static {
+        byte[] weights = new byte[SPECIES.length()];
+        for (int i = 0; i < weights.length; ++i) {
+            weights[i] = (byte) (1 << (i & 7));
+        }
+        BIT_WEIGHTS = ByteVector.fromArray(SPECIES, weights, 0);
+
+        long[] shifts = new long[LONG_SPECIES.length()];
+        for (int i = 0; i < shifts.length; ++i) {
+            shifts[i] = 8L * i;
+        }
+        GROUP_SHIFTS = LongVector.fromArray(LONG_SPECIES, shifts, 0);
+    }
+
+    /**
+     * Packs a lane mask into a bitmap without leaving vector registers.
+     * <p>
+     * Equivalent to {@link VectorMask#toLong()}, which is not intrinsic in JDK 17: every group of eight
+     *   selected bit weights is summed into a byte by a multiplication, and the bytes are shifted into place.
+     *
+     * @param mask the lane mask.
+     * @return bitmap, the bit {@code i} of which is set if the lane {@code i} is set.
+     */
+    private static long toBitmap(VectorMask<Byte> mask) {
+        LongVector groups = ByteVector.zero(SPECIES).blend(BIT_WEIGHTS, mask).reinterpretAsLongs();
+
+        return groups.lanewise(VectorOperators.MUL, 0x0101010101010101L)
+                .lanewise(VectorOperators.LSHR, 56)
+                .lanewise(VectorOperators.LSHL, GROUP_SHIFTS)
+                .reduceLanes(VectorOperators.OR);
+    }
+
+    /**
+     * Computes the bitmaps of the block of {@value #BLOCK_SIZE} bytes that starts at specified offset.
+     *
+     * @param data array that stores the block.
+     * @param offset index of the first byte of the block.
+     * @param bitmaps array the bitmaps are written to, indexed by the bitmap constants.
+     */
+    @Override
+    void classifyBlock(byte[] data, int offset, long[] bitmaps) {
+        long quotes = 0;
+        long backslashes = 0;
+        long lineBreaks = 0;
+        long operators = 0;
+        long singleQuotes = 0;
+        long whitespaces = 0;
+        long zeros = 0;
+
+        for (int i = 0; i < BLOCK_SIZE; i += SPECIES.length()) {
+            ByteVector bytes = ByteVector.fromArray(SPECIES, data, offset + i);
+            ByteVector folded = bytes.or(BRACKET_FOLD);
+
+            quotes |= toBitmap(bytes.eq((byte) '"')) << i;
+            backslashes |= toBitmap(bytes.eq((byte) '\\')) << i;
+            lineBreaks |= toBitmap(bytes.eq((byte) '\n').or(bytes.eq((byte) '\r'))) << i;
+            operators |= toBitmap(folded.eq((byte) '{').or(folded.eq((byte) '}'))
+                    .or(bytes.eq((byte) ':')).or(bytes.eq((byte) ','))) << i;
+            singleQuotes |= toBitmap(bytes.eq((byte) '\'')) << i;
+            whitespaces |= toBitmap(bytes.compare(VectorOperators.GT, (byte) 0)
+                    .and(bytes.compare(VectorOperators.LE, (byte) ' '))) << i;
+            zeros |= toBitmap(bytes.eq((byte) 0)) << i;
+        }
+
+        bitmaps[QUOTES] = quotes;
+        bitmaps[BACKSLASHES] = backslashes;
+        bitmaps[LINE_BREAKS] = lineBreaks;
+        bitmaps[OPERATORS] = operators;
+        bitmaps[SINGLE_QUOTES] = singleQuotes;
+        bitmaps[WHITESPACES] = whitespaces;
+        bitmaps[ZEROS] = zeros;
+    }
+}
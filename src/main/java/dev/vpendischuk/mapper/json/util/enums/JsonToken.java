@@ -0,0 +1,29 @@
+package dev.vpendischuk.mapper.json.util.enums;
+
+/**
+ * Enumeration of tokens returned by a {@code JsonParser}:
+ * <ul>
+ *     <li>{@code START_OBJECT} - opening brace of an object;</li>
+ *     <li>{@code END_OBJECT} - closing brace of an object;</li>
+ *     <li>{@code START_ARRAY} - opening bracket of an array;</li>
+ *     <li>{@code END_ARRAY} - closing bracket of an array;</li>
+ *     <li>{@code FIELD_NAME} - name of an object field;</li>
+ *     <li>{@code VALUE_STRING} - string value;</li>
+ *     <li>{@code VALUE_NUMBER} - numeric value;</li>
+ *     <li>{@code VALUE_TRUE} - {@code true} literal;</li>
+ *     <li>{@code VALUE_FALSE} - {@code false} literal;</li>
+ *     <li>{@code VALUE_NULL} - {@code null} literal.</li>
+ * </ul>
+ */
+public enum JsonToken {
+    START_OBJECT,
+    END_OBJECT,
+    START_ARRAY,
+    END_ARRAY,
+    FIELD_NAME,
+    VALUE_STRING,
+    VALUE_NUMBER,
+    VALUE_TRUE,
+    VALUE_FALSE,
+    VALUE_NULL
+}
@@ -4,20 +4,30 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.binding.JsonArrayIterator;
 import dev.vpendischuk.mapper.json.annotations.PropertyName;
 import dev.vpendischuk.mapper.json.annotations.enums.NullHandling;
 import dev.vpendischuk.mapper.json.annotations.enums.UnknownPropertiesPolicy;
+import dev.vpendischuk.mapper.json.enums.MapperFeature;
+import dev.vpendischuk.mapper.json.util.JsonParser;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+import dev.vpendischuk.mapper.json.exceptions.CyclicReferenceException;
 import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -108,6 +118,29 @@ class JsonMapperTest {
         }
     }
 
+    /**
+     * Class used for marshalling tests of floating-point values.
+     */
+    @Exported
+    static record FloatingPointRecord(double ratio, float share, Double mean, List<Float> samples) { }
+
+    /**
+     * Class used for marshalling tests of strings that need escaping.
+     */
+    @Exported
+    static record TextRecord(@PropertyName("te\"xt") String text, List<String> lines, char symbol) { }
+
+    /**
+     * Class used for marshalling tests of reference cycles.
+     */
+    @Exported
+    static class CyclicTestClass {
+        public List<String> items;
+        public CyclicTestClass next;
+
+        public CyclicTestClass() { }
+    }
+
     /**
      * Tests if the {@link JsonMapper} class instance is able to correctly
      *   unmarshal an object from its string JSON representation via
@@ -316,6 +349,198 @@ class JsonMapperTest {
         }
     }
 
+    /**
+     * Tests if the {@link JsonMapper} class instance is able to correctly
+     *   unmarshal an object from its JSON representation in a file via
+     *   the {@code read} method with memory-mapped file reading enabled.
+     */
+    @Test
+    @DisplayName("Reads object data from a memory-mapped file")
+    void readsFromMappedFile() {
+        JsonMapper jsonMapper = new JsonMapper(true, MapperFeature.MEMORY_MAPPED_FILES);
+
+        URL fileToRead = JsonMapperTest.class.getResource("testIdentityJson.json");
+
+        if (fileToRead == null) {
+            throw new IllegalStateException("File testIdentityJson not found.");
+        }
+
+        try {
+            File jsonFile = new File(fileToRead.toURI());
+
+            Assertions.assertAll(
+                    () -> assertDoesNotThrow(() -> jsonMapper.read(MapperTestClass.class, jsonFile)),
+                    () -> assertEquals(jsonMapper.read(MapperTestClass.class, jsonFile).getRef1().name, "ref"),
+                    () -> {
+                        MapperTestClass readObj = jsonMapper.read(MapperTestClass.class, jsonFile);
+                        assertSame(readObj.ref1, readObj.ref2);
+                    }
+            );
+        } catch (URISyntaxException ex) {
+            throw new IllegalStateException("File testIdentityJson not found.", ex);
+        }
+    }
+
+    /**
+     * Tests if the {@link JsonMapper} class instance is able to
+     *   unmarshal an object from its JSON representation in a file and a string
+     *   with structural indexing enabled.
+     */
+    @Test
+    @DisplayName("Reads object data with structural indexing")
+    void readsWithStructuralIndex() {
+        JsonMapper jsonMapper = new JsonMapper(true, MapperFeature.STRUCTURAL_INDEX);
+
+        URL fileToRead = JsonMapperTest.class.getResource("testIdentityJson.json");
+
+        if (fileToRead == null) {
+            throw new IllegalStateException("File testIdentityJson not found.");
+        }
+
+        try {
+            File jsonFile = new File(fileToRead.toURI());
+
+            Assertions.assertAll(
+                    () -> {
+                        MapperTestClass readObj = jsonMapper.read(MapperTestClass.class, jsonFile);
+                        assertEquals("ref", readObj.getRef1().name);
+                        assertSame(readObj.ref1, readObj.ref2);
+                    },
+                    () -> {
+                        String json = new String(Files.readAllBytes(jsonFile.toPath()), StandardCharsets.UTF_8);
+                        MapperTestClass readObj = jsonMapper.readFromString(MapperTestClass.class, json);
+                        assertSame(readObj.ref1, readObj.ref2);
+                    }
+            );
+        } catch (URISyntaxException ex) {
+            throw new IllegalStateException("File testIdentityJson not found.", ex);
+        }
+    }
+
+    /**
+     * Tests if the {@link JsonMapper} class instance reads arrays of objects
+     *   with parallel array binding enabled.
+     */
+    @Test
+    @DisplayName("Reads arrays of objects in parallel")
+    void readsArraysInParallel() {
+        JsonMapper jsonMapper = new JsonMapper(false, MapperFeature.PARALLEL_ARRAYS);
+        byte[] json = "[{\"name\": \"first\"}, {\"name\": \"second\"}, null]".getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertAll(
+                () -> {
+                    List<RefEqualityTestClass> read = jsonMapper.readArray(RefEqualityTestClass.class,
+                            new ByteArrayInputStream(json));
+                    assertEquals(3, read.size());
+                    assertEquals("first", read.get(0).name);
+                    assertEquals("second", read.get(1).name);
+                    assertNull(read.get(2));
+                },
+                () -> {
+                    List<RefEqualityTestClass> read = new JsonMapper(false).readArray(RefEqualityTestClass.class,
+                            new ByteArrayInputStream(json));
+                    assertEquals("second", read.get(1).name);
+                }
+        );
+    }
+
+    /**
+     * Tests if the {@link JsonMapper} class instance reads objects from newline-delimited JSON.
+     */
+    @Test
+    @DisplayName("Reads objects from newline-delimited JSON")
+    void readsLines() {
+        JsonMapper jsonMapper = new JsonMapper(false);
+        byte[] json = "{\"name\": \"first\"}\n{\"name\": \"second\"}\n".getBytes(StandardCharsets.UTF_8);
+
+        try (Stream<RefEqualityTestClass> read = jsonMapper.readLines(RefEqualityTestClass.class,
+                new ByteArrayInputStream(json))) {
+            assertEquals(List.of("first", "second"), read.map(object -> object.name).toList());
+        }
+    }
+
+    /**
+     * Tests if the {@link JsonMapper} class instance iterates over the elements of a root-level array.
+     */
+    @Test
+    @DisplayName("Iterates over the elements of a root-level array")
+    void iteratesArrays() throws IOException {
+        JsonMapper jsonMapper = new JsonMapper(false);
+        byte[] json = "[{\"name\": \"first\"}, {\"name\": \"second\"}]".getBytes(StandardCharsets.UTF_8);
+
+        try (JsonArrayIterator<RefEqualityTestClass> read = jsonMapper.iterate(RefEqualityTestClass.class,
+                new ByteArrayInputStream(json))) {
+            assertAll(
+                    () -> assertEquals("first", read.next().name),
+                    () -> assertEquals("second", read.next().name),
+                    () -> assertFalse(read.hasNext())
+            );
+        }
+    }
+
+    /**
+     * Tests if the {@link JsonMapper} class instance reads only the requested properties
+     *   and stops reading the stream as soon as they were read.
+     */
+    @Test
+    @DisplayName("Reads projected properties and stops reading early")
+    void readsProjectedProperties() {
+        JsonMapper jsonMapper = new JsonMapper(false);
+        byte[] header = "{\"ref2\": {\"name\": \"second\"}, \"skipped\": [1, {}], \"ref0\": {\"name\": \"first\"}, "
+                .getBytes(StandardCharsets.UTF_8);
+        InputStream failingStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("The stream was read after the requested properties.");
+            }
+        };
+
+        Assertions.assertAll(
+                () -> {
+                    MapperTestClass read = jsonMapper.readProjected(MapperTestClass.class,
+                            new SequenceInputStream(new ByteArrayInputStream(header), failingStream),
+                            Set.of("ref0", "ref2"));
+                    assertEquals("first", read.getRef1().name);
+                    assertEquals("second", read.getRef2().name);
+                },
+                () -> {
+                    MapperTestClass read = jsonMapper.readProjected(MapperTestClass.class,
+                            new SequenceInputStream(new ByteArrayInputStream(header), failingStream),
+                            Set.of("ref2"));
+                    assertNull(read.getRef1());
+                    assertEquals("second", read.getRef2().name);
+                },
+                () -> assertThrows(JsonMappingException.class, () -> jsonMapper.readProjected(MapperTestClass.class,
+                        new ByteArrayInputStream(header), Set.of("ref1")))
+        );
+    }
+
+    /**
+     * Tests if the {@link JsonMapper} class instance creates pull parsers
+     *   that read the same tokens from strings and streams.
+     */
+    @Test
+    @DisplayName("Creates pull parsers for strings and streams")
+    void createsParsers() {
+        JsonMapper jsonMapper = new JsonMapper(false);
+        String json = "{\"ids\":[1, 2, 3]}";
+
+        JsonParser stringParser = jsonMapper.createParser(json);
+        JsonParser streamParser = jsonMapper.createParser(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        long stringSum = 0;
+        for (JsonToken token = stringParser.nextToken(); token != null; token = stringParser.nextToken()) {
+            assertEquals(token, streamParser.nextToken());
+            if (token == JsonToken.VALUE_NUMBER) {
+                stringSum += stringParser.getLong();
+            }
+        }
+
+        assertEquals(6, stringSum);
+        assertNull(streamParser.nextToken());
+    }
+
     /**
      * Tests if a {@link JsonMapper} class instance is able to marshall
      *   an object to a valid JSON format string representation and write
@@ -339,6 +564,69 @@ class JsonMapperTest {
         Assertions.assertEquals(testString, jsonString);
     }
 
+    /**
+     * Tests if a {@link JsonMapper} class instance writes floating-point values
+     *   as the shortest decimals that are parsed back to the same values.
+     */
+    @Test
+    @DisplayName("Writes floating-point values as the shortest round-trip decimals")
+    void writesFloatingPointValues() {
+        JsonMapper jsonMapper = new JsonMapper(false);
+
+        String jsonString = jsonMapper.writeToString(
+                new FloatingPointRecord(0.1 + 0.2, 0.1f, 1.0E-4, List.of(1.5f, 0.3f)));
+        String testString = "{\"mean\":1.0E-4,\"ratio\":0.30000000000000004,\"samples\":[1.5,0.3],\"share\":0.1}";
+
+        Assertions.assertEquals(testString, jsonString);
+    }
+
+    /**
+     * Tests if a {@link JsonMapper} class instance writes strings as valid JSON,
+     *   escaping quotes, backslashes and control characters, and reads them back.
+     *
+     * @throws IOException if an output error has occurred.
+     */
+    @Test
+    @DisplayName("Writes strings with escaped special characters and reads them back")
+    void writesEscapedStrings() throws IOException {
+        JsonMapper jsonMapper = new JsonMapper(false);
+        TextRecord record = new TextRecord("say \"hi\"\\\n\u0001\u00e9", List.of("null", "'single'", ""), '"');
+
+        String jsonString = jsonMapper.writeToString(record);
+        String testString = "{\"lines\":[\"null\",\"'single'\",\"\"],\"symbol\":\"\\\"\","
+                + "\"te\\\"xt\":\"say \\\"hi\\\"\\\\\\n\\u0001\u00e9\"}";
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        jsonMapper.write(record, outputStream);
+
+        assertAll(
+                () -> assertEquals(testString, jsonString),
+                () -> assertEquals(testString, outputStream.toString(StandardCharsets.UTF_8)),
+                () -> assertEquals(record, jsonMapper.readFromString(TextRecord.class, jsonString)),
+                () -> assertEquals(record, jsonMapper.read(TextRecord.class,
+                        new ByteArrayInputStream(outputStream.toByteArray())))
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonMapper} class instance with the {@code DECLARATION_ORDER} feature
+     *   writes properties in declaration order and reads the JSON back.
+     */
+    @Test
+    @DisplayName("Writes properties in declaration order")
+    void writesPropertiesInDeclarationOrder() {
+        JsonMapper jsonMapper = new JsonMapper(false, MapperFeature.DECLARATION_ORDER);
+        FloatingPointRecord record = new FloatingPointRecord(0.5, 0.25f, 2.0, List.of(1.5f));
+
+        String jsonString = jsonMapper.writeToString(record);
+        String testString = "{\"ratio\":0.5,\"share\":0.25,\"mean\":2.0,\"samples\":[1.5]}";
+
+        assertAll(
+                () -> assertEquals(testString, jsonString),
+                () -> assertEquals(record, jsonMapper.readFromString(FloatingPointRecord.class, jsonString))
+        );
+    }
+
     /**
      * Tests if a {@link JsonMapper} class instance is able to marshall
      *   an object to a valid JSON format string representation and write
@@ -388,6 +676,25 @@ class JsonMapperTest {
         Assertions.assertEquals(testString, jsonString);
     }
 
+    /**
+     * Tests if a {@link JsonMapper} class instance streams a document larger than
+     *   the writer buffer as the UTF-8 encoding of the string representation.
+     */
+    @Test
+    @DisplayName("Writes a large non-ASCII document to stream as UTF-8")
+    void writesLargeDocumentToStream() throws IOException {
+        JsonMapper jsonMapper = new JsonMapper(false);
+
+        NullIncludeUnknownIgnoreRecord obj = new NullIncludeUnknownIgnoreRecord(null,
+                "\u0436\u0443\u0440\u043d\u0430\u043b \ud83d\ude00 ".repeat(5_000));
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        jsonMapper.write(obj, byteArrayOutputStream);
+
+        Assertions.assertArrayEquals(jsonMapper.writeToString(obj).getBytes(StandardCharsets.UTF_8),
+                byteArrayOutputStream.toByteArray());
+    }
+
     /**
      * Tests if a {@link JsonMapper} class instance is able to marshall
      *   an object to a valid JSON format string representation and write
@@ -584,4 +891,45 @@ class JsonMapperTest {
                 )
         );
     }
+
+    /**
+     * Tests if a {@link JsonMapper} class instance leaves the text written before a mapping error
+     *   in the output stream, as the object graph is written while it is walked.
+     */
+    @Test
+    @DisplayName("Leaves the text written before a mapping error in the stream")
+    void leavesPartialOutputOnMappingError() {
+        JsonMapper jsonMapper = new JsonMapper(false);
+        CyclicTestClass obj = new CyclicTestClass();
+        obj.items = Stream.generate(() -> "item").limit(10000).toList();
+        obj.next = obj;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertThrows(CyclicReferenceException.class, () -> jsonMapper.write(obj, outputStream));
+        assertTrue(outputStream.toString(StandardCharsets.UTF_8).startsWith("{\"items\":[\"item\",\"item\","));
+    }
+
+    /**
+     * Tests if a {@link JsonMapper} class instance closes the output stream
+     *   when the object cannot be marshalled.
+     */
+    @Test
+    @DisplayName("Closes the output stream on a mapping error")
+    void closesStreamOnMappingError() {
+        JsonMapper jsonMapper = new JsonMapper(false);
+        CyclicTestClass obj = new CyclicTestClass();
+        obj.next = obj;
+        boolean[] closed = new boolean[1];
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        assertAll(
+                () -> assertThrows(CyclicReferenceException.class, () -> jsonMapper.write(obj, outputStream)),
+                () -> assertTrue(closed[0])
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.annotations.enums.UnknownPropertiesPolicy;
+
+import java.util.List;
+
+/**
+ * Class that generates synthetic JSON documents used as benchmark inputs.
+ */
+final class BenchmarkPayloads {
+    private BenchmarkPayloads() { }
+
+    /**
+     * {@link Exported} record that represents an element of the {@code items} array.
+     */
+    @Exported
+    record Item(boolean active, long id, String name, List<String> tags, double value) { }
+
+    /**
+     * {@link Exported} class that represents a document generated by {@link #recordArrayDocument(int)}.
+     */
+    @Exported
+    public static class Catalog {
+        public List<Item> items;
+
+        public Catalog() { }
+    }
+
+    /**
+     * {@link Exported} record that maps two properties of an element generated by
+     *   {@link #mostlyIgnoredDocument(int)} and ignores the rest.
+     */
+    @Exported(unknownPropertiesPolicy = UnknownPropertiesPolicy.IGNORE)
+    record Summary(long id, String name) { }
+
+    /**
+     * {@link Exported} class that represents a document generated by {@link #mostlyIgnoredDocument(int)}.
+     */
+    @Exported(unknownPropertiesPolicy = UnknownPropertiesPolicy.IGNORE)
+    public static class SummaryList {
+        public List<Summary> items;
+
+        public SummaryList() { }
+    }
+
+    /**
+     * {@link Exported} record that maps the header properties of a document generated by
+     *   {@link #envelopeDocument(int)} and ignores its body.
+     */
+    @Exported(unknownPropertiesPolicy = UnknownPropertiesPolicy.IGNORE)
+    record Envelope(String route, long id) { }
+
+    /**
+     * Generates a JSON object that holds an array of {@code count} records under the {@code items} key;
+     *   about 90% of every record is a nested {@code payload} blob that is not mapped by {@link Summary}.
+     *
+     * @param count amount of records in the array.
+     * @return JSON document text.
+     */
+    static String mostlyIgnoredDocument(int count) {
+        StringBuilder builder = new StringBuilder(count * 400);
+        builder.append("{\"items\":[");
+
+        for (int i = 0; i < count; ++i) {
+            if (i != 0) {
+                builder.append(',');
+            }
+
+            builder.append("{\"id\":").append(i)
+                    .append(",\"name\":\"item").append(i).append('\"')
+                    .append(",\"payload\":{\"history\":[");
+            for (int j = 0; j < 8; ++j) {
+                if (j != 0) {
+                    builder.append(',');
+                }
+                builder.append("{\"at\":").append(1_600_000_000L + j)
+                        .append(",\"note\":\"changed by \\\"user").append(j).append("\\\"\"}");
+            }
+            builder.append("],\"ratio\":").append(i * 0.125).append(",\"flags\":[true,false,null]}}");
+        }
+
+        builder.append("]}");
+        return builder.toString();
+    }
+
+    /**
+     * Generates a JSON object that holds an array of {@code count} flat records
+     *   under the {@code items} key.
+     *
+     * @param count amount of records in the array.
+     * @return JSON document text.
+     */
+    static String recordArrayDocument(int count) {
+        StringBuilder builder = new StringBuilder(count * 96);
+        builder.append("{\"items\":[");
+
+        for (int i = 0; i < count; ++i) {
+            if (i != 0) {
+                builder.append(',');
+            }
+
+            builder.append("{\"active\":").append(i % 2 == 0)
+                    .append(",\"id\":").append(i)
+                    .append(",\"name\":\"item").append(i).append('\"')
+                    .append(",\"tags\":[\"alpha\",\"beta\"]")
+                    .append(",\"value\":").append(i * 0.25)
+                    .append('}');
+        }
+
+        builder.append("]}");
+        return builder.toString();
+    }
+
+    /**
+     * Generates a JSON object with two header properties and a {@code body} property
+     *   that holds a document generated by {@link #recordArrayDocument(int)}.
+     *
+     * @param count amount of records in the body.
+     * @return JSON document text.
+     */
+    static String envelopeDocument(int count) {
+        return "{\"route\":\"orders\",\"id\":42,\"body\":" + recordArrayDocument(count) + "}";
+    }
+}
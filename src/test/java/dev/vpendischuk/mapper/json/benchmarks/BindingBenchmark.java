@@ -0,0 +1,59 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.binding.JsonBinder;
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.util.DefaultJsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading objects through a {@link JsonObject} model with binding them
+ *   directly from tokens via the {@link JsonBinder}.
+ * <p>
+ * Run with {@code -prof gc} to compare the amount of memory allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BindingBenchmark {
+    @Param({"10000"})
+    public int recordCount;
+
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        payload = BenchmarkPayloads.recordArrayDocument(recordCount);
+    }
+
+    /**
+     * Parses the payload into an object model and converts the model into objects.
+     *
+     * @return the read catalog.
+     */
+    @Benchmark
+    public BenchmarkPayloads.Catalog readThroughModel() {
+        return new JsonObject(new DefaultJsonReader(payload, false)).toValue(BenchmarkPayloads.Catalog.class);
+    }
+
+    /**
+     * Binds the payload directly to objects.
+     *
+     * @return the read catalog.
+     */
+    @Benchmark
+    public BenchmarkPayloads.Catalog bindDirectly() {
+        return new JsonBinder(new DefaultJsonReader(payload, false)).readObject(BenchmarkPayloads.Catalog.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BindingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,69 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.util.DefaultJsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the {@link DefaultJsonReader} for different character window sizes.
+ * <p>
+ * A window of two characters makes the reader call the source reader once per character,
+ *   which reproduces the behaviour of the reader before block buffering was introduced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultJsonReaderBenchmark {
+    @Param({"2", "8192"})
+    public int bufferSize;
+
+    @Param({"10000"})
+    public int recordCount;
+
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        payload = BenchmarkPayloads.recordArrayDocument(recordCount);
+    }
+
+    /**
+     * Reads every character of the payload through the reader.
+     *
+     * @return the last character read.
+     */
+    @Benchmark
+    public char drainCharacters() {
+        DefaultJsonReader reader = new DefaultJsonReader(new StringReader(payload), false, bufferSize);
+
+        char last = 0;
+        for (char readChar = reader.nextCharacterTrimmed(); readChar != 0; readChar = reader.nextCharacterTrimmed()) {
+            last = readChar;
+        }
+
+        return last;
+    }
+
+    /**
+     * Parses the payload into a JSON object model.
+     *
+     * @return the parsed model.
+     */
+    @Benchmark
+    public JsonObject parseObjectModel() {
+        return new JsonObject(new DefaultJsonReader(new StringReader(payload), false, bufferSize));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DefaultJsonReaderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.util.DoubleFormatter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link DoubleFormatter} with formatting {@code double} values through {@link BigDecimal},
+ *   which was used by the object model before, and with {@link Double#toString(double)}.
+ * <p>
+ * The values resemble telemetry samples: short fractions ({@code "short"})
+ *   or random doubles of full precision ({@code "full"}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoubleFormattingBenchmark {
+    @Param({"short", "full"})
+    public String numbers;
+
+    @Param({"10000"})
+    public int numberCount;
+
+    private double[] values;
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new double[numberCount];
+        buffer = new byte[DoubleFormatter.MAX_LENGTH];
+
+        for (int i = 0; i < numberCount; ++i) {
+            values[i] = numbers.equals("short")
+                    ? Math.round((random.nextDouble() - 0.5) * 20_000_000) / 10_000.0
+                    : random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+        }
+    }
+
+    /**
+     * Formats the values through {@link BigDecimal#valueOf(double)} and {@link BigDecimal#toString()}.
+     *
+     * @return total length of the text.
+     */
+    @Benchmark
+    public long decimal() {
+        long length = 0;
+        for (double value : values) {
+            length += BigDecimal.valueOf(value).toString().length();
+        }
+
+        return length;
+    }
+
+    /**
+     * Formats the values with {@link Double#toString(double)}.
+     *
+     * @return total length of the text.
+     */
+    @Benchmark
+    public long doubleToString() {
+        long length = 0;
+        for (double value : values) {
+            length += Double.toString(value).length();
+        }
+
+        return length;
+    }
+
+    /**
+     * Writes the values into a buffer with the {@link DoubleFormatter}.
+     *
+     * @return total length of the text.
+     */
+    @Benchmark
+    public long formatter() {
+        long length = 0;
+        for (double value : values) {
+            length += DoubleFormatter.write(value, buffer, 0);
+        }
+
+        return length;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DoubleFormattingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,111 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.util.DoubleParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link DoubleParser} with the JDK conversions of decimal text to {@code double} values.
+ * <p>
+ * The numbers resemble telemetry samples: short fractions ({@code "short"})
+ *   or the shortest representations of random doubles ({@code "full"}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoubleParsingBenchmark {
+    @Param({"short", "full"})
+    public String numbers;
+
+    @Param({"10000"})
+    public int numberCount;
+
+    private char[][] texts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        texts = new char[numberCount][];
+
+        for (int i = 0; i < numberCount; ++i) {
+            String text = numbers.equals("short")
+                    ? String.format(Locale.ROOT, "%.4f", (random.nextDouble() - 0.5) * 2000)
+                    : Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+            texts[i] = text.toCharArray();
+        }
+    }
+
+    /**
+     * Parses the numbers with {@link Double#parseDouble(String)}.
+     *
+     * @return sum of the numbers.
+     */
+    @Benchmark
+    public double parseDouble() {
+        double sum = 0;
+        for (char[] text : texts) {
+            sum += Double.parseDouble(new String(text));
+        }
+
+        return sum;
+    }
+
+    /**
+     * Parses the numbers into {@link BigDecimal} values and converts them with {@link BigDecimal#doubleValue()}.
+     *
+     * @return sum of the numbers.
+     */
+    @Benchmark
+    public double decimal() {
+        double sum = 0;
+        for (char[] text : texts) {
+            sum += new BigDecimal(text).doubleValue();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Parses the numbers into {@link BigDecimal} values and converts them with the {@link DoubleParser}.
+     *
+     * @return sum of the numbers.
+     */
+    @Benchmark
+    public double decimalFastPath() {
+        double sum = 0;
+        for (char[] text : texts) {
+            sum += DoubleParser.parse(new BigDecimal(text));
+        }
+
+        return sum;
+    }
+
+    /**
+     * Parses the numbers with the {@link DoubleParser}.
+     *
+     * @return sum of the numbers.
+     */
+    @Benchmark
+    public double fastPath() {
+        double sum = 0;
+        for (char[] text : texts) {
+            sum += DoubleParser.parse(text, 0, text.length);
+        }
+
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DoubleParsingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,106 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.util.JsonWriter;
+import dev.vpendischuk.mapper.json.util.StringJsonWriter;
+import dev.vpendischuk.mapper.json.util.Utf8JsonWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing strings with the table-driven escaping of the writers
+ *   with escaping them by chained {@code String.replace} calls, which was used by the model before,
+ *   on a corpus of plain ASCII strings and on a corpus of strings with many characters that are escaped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EscapingBenchmark {
+    @Param({"ascii", "escapes"})
+    public String corpus;
+
+    private String[] strings;
+
+    @Setup
+    public void setUp() {
+        String alphabet = corpus.equals("ascii")
+                ? "abcdefghijklmnopqrstuvwxyz ABCDEFGHIJKLMNOPQRSTUVWXYZ 0123456789 .,;-"
+                : "abcdefghij \"quoted\" back\\slash\nline\ttab\r\u0001";
+        Random random = new Random(42);
+
+        strings = new String[1000];
+        for (int i = 0; i < strings.length; ++i) {
+            char[] characters = new char[16 + random.nextInt(112)];
+            for (int j = 0; j < characters.length; ++j) {
+                characters[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            strings[i] = new String(characters);
+        }
+    }
+
+    /**
+     * Writes the strings as UTF-8 to a stream that discards the data.
+     *
+     * @throws IOException never.
+     */
+    @Benchmark
+    public void writeUtf8() throws IOException {
+        try (JsonWriter writer = new Utf8JsonWriter(OutputStream.nullOutputStream())) {
+            for (final String string : strings) {
+                writer.writeString(string);
+            }
+        }
+    }
+
+    /**
+     * Writes the strings to a string.
+     *
+     * @return the written text.
+     */
+    @Benchmark
+    public String writeChars() {
+        StringJsonWriter writer = new StringJsonWriter();
+        try {
+            for (final String string : strings) {
+                writer.writeString(string);
+            }
+            return writer.toString();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Escapes the strings by chained replacements and writes them as UTF-8 to a stream that discards the data.
+     *
+     * @throws IOException never.
+     */
+    @Benchmark
+    public void writeReplaceChain() throws IOException {
+        try (JsonWriter writer = new Utf8JsonWriter(OutputStream.nullOutputStream())) {
+            for (final String string : strings) {
+                writer.write('"');
+                writer.write(string
+                        .replace("\\", "\\\\")
+                        .replace("\"", "\\\"")
+                        .replace("\n", "\\n")
+                        .replace("\t", "\\t")
+                        .replace("\r", "\\r"));
+                writer.write('"');
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EscapingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,109 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.binding.JsonBinder;
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.util.DefaultJsonParser;
+import dev.vpendischuk.mapper.json.util.DefaultJsonReader;
+import dev.vpendischuk.mapper.json.util.JsonParser;
+import dev.vpendischuk.mapper.json.util.StructuralIndexJsonReader;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding of documents, 90% of which are values of unknown keys.
+ * <p>
+ * {@code tokenizeAll} reads every token of the document, which is the amount of work
+ *   spent on unknown values before they were skipped structurally.
+ *   Run with {@code -prof gc} to compare the amount of memory allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IgnoredContentBenchmark {
+    @Param({"10000"})
+    public int recordCount;
+
+    private String payload;
+    private byte[] data;
+
+    @Setup
+    public void setUp() {
+        payload = BenchmarkPayloads.mostlyIgnoredDocument(recordCount);
+        data = payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Binds the payload string, skipping the unknown values.
+     *
+     * @return the read list.
+     */
+    @Benchmark
+    public BenchmarkPayloads.SummaryList bindChars() {
+        return new JsonBinder(new DefaultJsonReader(payload, false)).readObject(BenchmarkPayloads.SummaryList.class);
+    }
+
+    /**
+     * Binds the payload bytes, skipping the unknown values.
+     *
+     * @return the read list.
+     */
+    @Benchmark
+    public BenchmarkPayloads.SummaryList bindBytes() {
+        return new JsonBinder(new Utf8JsonReader(data, false)).readObject(BenchmarkPayloads.SummaryList.class);
+    }
+
+    /**
+     * Binds the payload bytes with a {@link StructuralIndexJsonReader}, which skips
+     *   the unknown values by matching the indexed brackets.
+     *
+     * @return the read list.
+     */
+    @Benchmark
+    public BenchmarkPayloads.SummaryList bindIndexed() {
+        return new JsonBinder(new StructuralIndexJsonReader(data, false))
+                .readObject(BenchmarkPayloads.SummaryList.class);
+    }
+
+    /**
+     * Reads every token of the payload string, materializing the strings.
+     *
+     * @return the amount of read tokens.
+     */
+    @Benchmark
+    public int tokenizeAll() {
+        JsonParser parser = new DefaultJsonParser(new DefaultJsonReader(payload, false));
+
+        int count = 0;
+        for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+            if (token == JsonToken.VALUE_STRING && parser.getText() != null) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Parses the payload into an object model and converts the model into objects.
+     *
+     * @return the read list.
+     */
+    @Benchmark
+    public BenchmarkPayloads.SummaryList readThroughModel() {
+        return new JsonObject(new DefaultJsonReader(payload, false)).toValue(BenchmarkPayloads.SummaryList.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IgnoredContentBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,58 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.types.LazyJsonObject;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares eager and lazy object models on documents, only the header properties of which are converted.
+ *   Run with {@code -prof gc} to compare the amount of memory allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyJsonObjectBenchmark {
+    @Param({"10000"})
+    public int recordCount;
+
+    private byte[] data;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkPayloads.envelopeDocument(recordCount).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the whole payload into an object model and converts the header.
+     *
+     * @return the read header.
+     */
+    @Benchmark
+    public BenchmarkPayloads.Envelope eagerModel() {
+        return new JsonObject(new Utf8JsonReader(data, false)).toValue(BenchmarkPayloads.Envelope.class);
+    }
+
+    /**
+     * Reads the payload into a lazy object model and converts the header.
+     *
+     * @return the read header.
+     */
+    @Benchmark
+    public BenchmarkPayloads.Envelope lazyModel() {
+        return new LazyJsonObject(data, false).toValue(BenchmarkPayloads.Envelope.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LazyJsonObjectBenchmark.class.getSimpleName()).build()).run();
+    }
+}
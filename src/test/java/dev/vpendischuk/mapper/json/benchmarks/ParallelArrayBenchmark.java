@@ -0,0 +1,73 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.binding.JsonBinder;
+import dev.vpendischuk.mapper.json.util.StructuralIndexJsonReader;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential binding of a large array of records with parallel binding
+ *   on pools of different sizes.
+ * <p>
+ * Scaling depends on the amount of available cores: the structural index and
+ *   the element limits are found by a single thread before the chunks are bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ParallelArrayBenchmark {
+    @Param({"1", "4", "32"})
+    public int parallelism;
+
+    @Param({"100000"})
+    public int recordCount;
+
+    private byte[] data;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkPayloads.recordArrayDocument(recordCount).getBytes(StandardCharsets.UTF_8);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Binds the payload bytes by a single thread.
+     *
+     * @return the read catalog.
+     */
+    @Benchmark
+    public BenchmarkPayloads.Catalog sequential() {
+        return new JsonBinder(new Utf8JsonReader(data, false)).readObject(BenchmarkPayloads.Catalog.class);
+    }
+
+    /**
+     * Binds the chunks of the records array of the payload bytes on the pool.
+     *
+     * @return the read catalog.
+     */
+    @Benchmark
+    public BenchmarkPayloads.Catalog parallel() {
+        return new JsonBinder(new StructuralIndexJsonReader(data, false), pool)
+                .readObject(BenchmarkPayloads.Catalog.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ParallelArrayBenchmark.class.getSimpleName()).build()).run();
+    }
+}
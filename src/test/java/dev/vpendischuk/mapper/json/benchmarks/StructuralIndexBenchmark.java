@@ -0,0 +1,100 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.util.DefaultJsonReader;
+import dev.vpendischuk.mapper.json.util.StructuralIndex;
+import dev.vpendischuk.mapper.json.util.StructuralIndexJsonReader;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two-stage {@link StructuralIndexJsonReader} with the {@link DefaultJsonReader}
+ *   and the {@link Utf8JsonReader} on a document of the test corpus and on a large synthetic document.
+ * <p>
+ * The {@code buildIndex} benchmark measures the first stage alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class StructuralIndexBenchmark {
+    @Param({"corpus", "synthetic"})
+    public String document;
+
+    @Param({"100000"})
+    public int recordCount;
+
+    private String payload;
+    private byte[] data;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (document.equals("corpus")) {
+            try (InputStream stream = StructuralIndexBenchmark.class.getResourceAsStream(
+                    "/dev/vpendischuk/mapper/json/testIdentityJson.json")) {
+                if (stream == null) {
+                    throw new IllegalStateException("File testIdentityJson not found.");
+                }
+                data = stream.readAllBytes();
+            }
+            payload = new String(data, StandardCharsets.UTF_8);
+        } else {
+            payload = BenchmarkPayloads.recordArrayDocument(recordCount);
+            data = payload.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Parses the payload string into a JSON object model with a {@link DefaultJsonReader}.
+     *
+     * @return the parsed model.
+     */
+    @Benchmark
+    public JsonObject defaultReader() {
+        return new JsonObject(new DefaultJsonReader(payload, false));
+    }
+
+    /**
+     * Parses the payload bytes into a JSON object model with a {@link Utf8JsonReader}.
+     *
+     * @return the parsed model.
+     */
+    @Benchmark
+    public JsonObject utf8Reader() {
+        return new JsonObject(new Utf8JsonReader(data, false));
+    }
+
+    /**
+     * Parses the payload bytes into a JSON object model with a {@link StructuralIndexJsonReader}.
+     *
+     * @return the parsed model.
+     */
+    @Benchmark
+    public JsonObject structuralIndexReader() {
+        return new JsonObject(new StructuralIndexJsonReader(data, false));
+    }
+
+    /**
+     * Builds the structural index of the payload bytes.
+     *
+     * @return the index.
+     */
+    @Benchmark
+    public StructuralIndex buildIndex() {
+        return StructuralIndex.build(data, 0, data.length);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StructuralIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.binding.JsonBinder;
+import dev.vpendischuk.mapper.json.util.DefaultJsonParser;
+import dev.vpendischuk.mapper.json.util.DefaultJsonReader;
+import dev.vpendischuk.mapper.json.util.JsonReader;
+import dev.vpendischuk.mapper.json.util.SymbolTable;
+import dev.vpendischuk.mapper.json.util.Utf8JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the effect of the {@link SymbolTable} on binding an array of objects with repeated keys.
+ * <p>
+ * A table limited to zero symbols reproduces allocating every field name.
+ *   Run with {@code -prof gc} to compare the amount of memory allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SymbolTableBenchmark {
+    @Param({"0", "1024"})
+    public int symbolTableSize;
+
+    @Param({"chars", "bytes"})
+    public String input;
+
+    @Param({"10000"})
+    public int recordCount;
+
+    private String payload;
+    private byte[] data;
+
+    @Setup
+    public void setUp() {
+        payload = BenchmarkPayloads.recordArrayDocument(recordCount);
+        data = payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Binds the payload directly to objects.
+     *
+     * @return the read catalog.
+     */
+    @Benchmark
+    public BenchmarkPayloads.Catalog bind() {
+        JsonReader reader = input.equals("chars")
+                ? new DefaultJsonReader(payload, false)
+                : new Utf8JsonReader(data, false);
+        DefaultJsonParser parser = new DefaultJsonParser(reader, new SymbolTable(symbolTableSize));
+
+        return new JsonBinder(parser, reader.getReferenceResolver()).readObject(BenchmarkPayloads.Catalog.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SymbolTableBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,133 @@
+package dev.vpendischuk.mapper.json.benchmarks;
+
+import dev.vpendischuk.mapper.json.JsonMapper;
+import dev.vpendischuk.mapper.json.enums.MapperFeature;
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
+import dev.vpendischuk.mapper.json.util.Utf8JsonWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing objects to a stream through the streaming {@link dev.vpendischuk.mapper.json.util.JsonWriter}
+ *   with encoding the whole JSON text, and writing objects directly with writing them
+ *   through a {@link JsonObject} model, which was used by {@link JsonMapper} before,
+ *   and writing properties sorted by keys with writing them in declaration order.
+ * <p>
+ * Run with {@code -prof gc} to compare the amount of memory allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WritingBenchmark {
+    @Param({"100", "10000"})
+    public int recordCount;
+
+    private JsonMapper jsonMapper;
+    private JsonMapper declarationOrderMapper;
+    private BenchmarkPayloads.Catalog catalog;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = new JsonMapper(false);
+        declarationOrderMapper = new JsonMapper(false, MapperFeature.DECLARATION_ORDER);
+        catalog = jsonMapper.readFromString(BenchmarkPayloads.Catalog.class,
+                BenchmarkPayloads.recordArrayDocument(recordCount));
+    }
+
+    /**
+     * Writes the catalog to a string and encodes the string to UTF-8.
+     *
+     * @return the encoded JSON.
+     */
+    @Benchmark
+    public byte[] encodeString() {
+        return jsonMapper.writeToString(catalog).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the catalog to a string.
+     *
+     * @return the JSON text.
+     */
+    @Benchmark
+    public String writeString() {
+        return jsonMapper.writeToString(catalog);
+    }
+
+    /**
+     * Writes the catalog to a stream that only counts the bytes.
+     *
+     * @return amount of bytes written.
+     * @throws IOException never.
+     */
+    @Benchmark
+    public long writeToStream() throws IOException {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        jsonMapper.write(catalog, outputStream);
+
+        return outputStream.count;
+    }
+
+    /**
+     * Writes the catalog with properties in declaration order to a stream that only counts the bytes.
+     *
+     * @return amount of bytes written.
+     * @throws IOException never.
+     */
+    @Benchmark
+    public long writeToStreamInDeclarationOrder() throws IOException {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        declarationOrderMapper.write(catalog, outputStream);
+
+        return outputStream.count;
+    }
+
+    /**
+     * Builds an object model of the catalog and writes the model to a stream that only counts the bytes.
+     *
+     * @return amount of bytes written.
+     * @throws IOException never.
+     */
+    @Benchmark
+    public long writeThroughModel() throws IOException {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        try (JsonWriter writer = new Utf8JsonWriter(outputStream)) {
+            new JsonObject(catalog, false).writeTo(writer);
+        }
+
+        return outputStream.count;
+    }
+
+    /**
+     * Output stream that discards the data and counts the written bytes.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        // Amount of bytes written to the stream.
+        private long count;
+
+        @Override
+        public void write(int value) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) {
+            count += length;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WritingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
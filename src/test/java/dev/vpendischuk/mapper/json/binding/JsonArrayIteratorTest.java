@@ -0,0 +1,171 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link JsonArrayIterator} class.
+ */
+class JsonArrayIteratorTest {
+    /**
+     * {@link Exported} record that is used in tests for unmarshalling.
+     */
+    @Exported
+    record Event(long id, String text) { }
+
+    /**
+     * Reads all elements of the specified array.
+     *
+     * @param json the array.
+     * @return list of the elements.
+     */
+    private static List<Event> readEvents(String json) {
+        JsonArrayIterator<Event> iterator = new JsonArrayIterator<>(Event.class,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), false);
+        List<Event> events = new ArrayList<>();
+        iterator.forEachRemaining(events::add);
+
+        return events;
+    }
+
+    /**
+     * Tests if a {@link JsonArrayIterator} instance binds the elements of arrays in their order.
+     */
+    @Test
+    @DisplayName("Binds the elements of arrays in their order")
+    void readsElements() {
+        assertAll(
+                () -> assertEquals(List.of(new Event(1, "a"), new Event(2, "b")),
+                        readEvents(" [ {\"id\":1,\"text\":\"a\"}, {\"text\":\"b\",\"id\":2} ] ")),
+                () -> assertEquals(Arrays.asList(new Event(1, "a"), null),
+                        readEvents("[{\"id\":1,\"text\":\"a\"}, [1, [2]], null]")),
+                () -> assertEquals(List.of(), readEvents("[]"))
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonArrayIterator} instance reads the stream incrementally.
+     */
+    @Test
+    @DisplayName("Reads the stream incrementally")
+    void readsIncrementally() {
+        int count = 200000;
+        InputStream stream = new InputStream() {
+            // Index of the next generated element.
+            private int index = -1;
+            // Bytes of the current element.
+            private byte[] element = "[".getBytes(StandardCharsets.UTF_8);
+            // Position in the bytes of the current element.
+            private int position = 0;
+
+            @Override
+            public int read() {
+                if (position == element.length) {
+                    if (++index > count) {
+                        return -1;
+                    }
+                    String text = index == count ? "]" : (index == 0 ? "" : ",")
+                            + "{\"id\":" + index + ",\"text\":\"event\"}";
+                    element = text.getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+                return element[position++];
+            }
+        };
+
+        JsonArrayIterator<Event> iterator = new JsonArrayIterator<>(Event.class, stream, false);
+        long[] sums = {0, 0};
+        while (iterator.hasNext()) {
+            sums[0] += iterator.next().id();
+            ++sums[1];
+        }
+
+        assertAll(
+                () -> assertEquals((long) count * (count - 1) / 2, sums[0]),
+                () -> assertEquals(count, sums[1]),
+                () -> assertThrows(NoSuchElementException.class, iterator::next)
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonArrayIterator} instance hands out the elements read
+     *   before a syntax error and then throws a {@link JsonReadException}.
+     *
+     * @param json invalid array.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"[{\"id\":1,\"text\":\"a\"} {\"id\":2,\"text\":\"b\"}]",
+            "[{\"id\":1,\"text\":\"a\"}, ", "[{\"id\":1,\"text\":\"a\"}] {}"})
+    @DisplayName("Throws an exception on invalid arrays after the valid elements")
+    void failsOnInvalidArrays(String json) {
+        JsonArrayIterator<Event> iterator = new JsonArrayIterator<>(Event.class,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), false);
+
+        assertAll(
+                () -> assertEquals(new Event(1, "a"), iterator.next()),
+                () -> assertThrows(JsonReadException.class, iterator::hasNext)
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonArrayIterator} instance reports the position of a syntax error in the array.
+     */
+    @Test
+    @DisplayName("Reports the position of a syntax error")
+    void reportsErrorPosition() {
+        JsonReadException exception = assertThrows(JsonReadException.class,
+                () -> readEvents("[{\"id\":1,\"text\":\"a\"},\n {\"id\":2,\"text\":\"b\"} {}]"));
+
+        assertAll(
+                () -> assertEquals(44, exception.getOffset()),
+                () -> assertEquals(2, exception.getLine()),
+                () -> assertEquals(22, exception.getColumn())
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonArrayIterator} instance throws a {@link JsonReadException}
+     *   if the root value is not an array.
+     */
+    @Test
+    @DisplayName("Throws an exception if the root value is not an array")
+    void failsOnObjects() {
+        assertThrows(JsonReadException.class, () -> readEvents("{\"id\":1,\"text\":\"a\"}"));
+    }
+
+    /**
+     * Tests if a {@link JsonArrayIterator} instance closes the stream it reads.
+     */
+    @Test
+    @DisplayName("Closes the stream")
+    void closesStream() throws IOException {
+        boolean[] closed = {false};
+        InputStream stream = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        try (JsonArrayIterator<Event> iterator = new JsonArrayIterator<>(Event.class, stream, false)) {
+            assertFalse(iterator.hasNext());
+        }
+
+        assertTrue(closed[0]);
+    }
+}
@@ -0,0 +1,328 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.DateFormat;
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.annotations.PropertyName;
+import dev.vpendischuk.mapper.json.annotations.enums.UnknownPropertiesPolicy;
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.util.DefaultJsonReader;
+import dev.vpendischuk.mapper.json.util.StructuralIndexJsonReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link JsonBinder} class.
+ */
+class JsonBinderTest {
+    /**
+     * Enum used as a test value type.
+     */
+    enum TestEnum {
+        FIRST,
+        SECOND
+    }
+
+    /**
+     * {@link Exported} record that is used in tests for unmarshalling.
+     */
+    @Exported
+    record TestRecord(@PropertyName("nameVal") String name, double value, List<Integer> numbers) { }
+
+    /**
+     * {@link Exported} class that is used in tests for unmarshalling.
+     */
+    @Exported
+    static class TestClass {
+        @PropertyName("title")
+        String name;
+        int count;
+        Float ratio;
+        char letter;
+        TestEnum kind;
+        @DateFormat("dd.MM.yyyy")
+        LocalDate date;
+        Set<String> tags;
+        TestRecord record;
+        TestClass child;
+
+        public TestClass() { }
+    }
+
+    /**
+     * {@link Exported} class that tolerates missing properties.
+     */
+    @Exported(unknownPropertiesPolicy = UnknownPropertiesPolicy.IGNORE)
+    static class TolerantClass {
+        String name = "default";
+        TolerantClass reference1;
+        TolerantClass reference2;
+
+        public TolerantClass() { }
+    }
+
+    /**
+     * {@link Exported} class that holds a list of records.
+     */
+    @Exported
+    static class RecordList {
+        List<TestRecord> records;
+
+        public RecordList() { }
+    }
+
+    // JSON representation of a TestClass instance.
+    private static final String TEST_JSON = "{\"title\":\"line1\\nline2\",\"count\":7,\"ratio\":0.5,\"letter\":'x'," +
+            "\"kind\":\"SECOND\",\"date\":\"01.02.2023\",\"tags\":[\"a\",\"b\",\"a\"],\"unknown\":{\"a\":[1,{}]}," +
+            "\"record\":{\"nameVal\":\"rec\",\"value\":2.5,\"numbers\":[1,2,[3]]},\"child\":null}";
+
+    /**
+     * Tests if a {@link JsonBinder} instance binds all supported property types of a class and a record.
+     */
+    @Test
+    @DisplayName("Binds properties of classes and records")
+    void bindsProperties() {
+        TestClass read = new JsonBinder(new DefaultJsonReader(TEST_JSON, false)).readObject(TestClass.class);
+
+        assertAll(
+                () -> assertEquals("line1\nline2", read.name),
+                () -> assertEquals(7, read.count),
+                () -> assertEquals(0.5f, read.ratio),
+                () -> assertEquals('x', read.letter),
+                () -> assertEquals(TestEnum.SECOND, read.kind),
+                () -> assertEquals(LocalDate.of(2023, 2, 1), read.date),
+                () -> assertEquals(Set.of("a", "b"), read.tags),
+                () -> assertEquals(new TestRecord("rec", 2.5, List.of(1, 2)), read.record),
+                () -> assertNull(read.child)
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance produces the same objects as the {@link JsonObject} model.
+     */
+    @Test
+    @DisplayName("Produces the same record as the object model")
+    void matchesObjectModel() {
+        String json = "{\"value\":1.25,\"nameVal\":\"name\",\"numbers\":[3,4]}";
+
+        TestRecord expected = new JsonObject(new DefaultJsonReader(json, false)).toValue(TestRecord.class);
+        TestRecord read = new JsonBinder(new DefaultJsonReader(json, false)).readObject(TestRecord.class);
+
+        assertEquals(expected, read);
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance restores object references.
+     */
+    @Test
+    @DisplayName("Restores object references")
+    void restoresReferences() {
+        String json = "{\"name\":\"root\",\"reference1\":{\"$ref\":\"id\",\"name\":\"shared\"}," +
+                "\"reference2\":{\"$ref\":\"id\",\"name\":\"shared\"}}";
+
+        TolerantClass read = new JsonBinder(new DefaultJsonReader(json, true)).readObject(TolerantClass.class);
+
+        assertAll(
+                () -> assertEquals("shared", read.reference1.name),
+                () -> assertSame(read.reference1, read.reference2)
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance follows the unknown properties policy for missing values.
+     */
+    @Test
+    @DisplayName("Follows the unknown properties policy for missing values")
+    void followsUnknownPropertiesPolicy() {
+        TolerantClass tolerant = new JsonBinder(new DefaultJsonReader("{}", false)).readObject(TolerantClass.class);
+
+        assertAll(
+                () -> assertEquals("default", tolerant.name),
+                () -> assertThrows(JsonMappingException.class, () -> new JsonBinder(
+                        new DefaultJsonReader("{\"count\":1}", false)).readObject(TestClass.class)),
+                () -> assertThrows(JsonMappingException.class, () -> new JsonBinder(
+                        new DefaultJsonReader("{\"nameVal\":\"a\",\"value\":1}", false)).readObject(TestRecord.class))
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance throws on invalid documents.
+     *
+     * @param json invalid JSON.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"[]", "", "{\"nameVal\":\"a\",\"nameVal\":\"b\"}", "{\"nameVal\":\"a\""})
+    @DisplayName("Throws on syntax errors")
+    void throwsOnSyntaxErrors(String json) {
+        JsonBinder binder = new JsonBinder(new DefaultJsonReader(json, false));
+
+        assertThrows(JsonReadException.class, () -> binder.readObject(TestRecord.class));
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance rejects invalid number text bound to a {@code float} property.
+     *
+     * @param number invalid number text.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"-Infinity", "1.5f", "0x1p3", "1.2.3"})
+    @DisplayName("Throws on invalid float numbers")
+    void failsOnInvalidFloats(String number) {
+        JsonBinder binder = new JsonBinder(new DefaultJsonReader("{\"ratio\":" + number + "}", false));
+
+        assertThrows(JsonReadException.class, () -> binder.readObject(TestClass.class));
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance skips the values of unknown keys.
+     */
+    @Test
+    @DisplayName("Skips values of unknown keys")
+    void skipsUnknownValues() {
+        String json = "{\"blob\":{\"list\":[1,{\"name\":\"}\"}],\"text\":'it\\'s'},\"name\":\"kept\"," +
+                "\"numbers\":[1,2,3]}";
+
+        TolerantClass read = new JsonBinder(new DefaultJsonReader(json, false)).readObject(TolerantClass.class);
+
+        assertEquals("kept", read.name);
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance binds only the requested properties of a record
+     *   and does not read the rest of the JSON.
+     */
+    @Test
+    @DisplayName("Binds projected properties of a record")
+    void bindsProjectedRecord() {
+        // The JSON is invalid after the requested properties.
+        String json = "{\"numbers\":[1,2],\"value\":2.5,\"nameVal\":\"x\",\"value\" 1 2 ]";
+
+        TestRecord read = new JsonBinder(new DefaultJsonReader(json, false))
+                .readProjected(TestRecord.class, Set.of("value", "numbers"));
+
+        assertEquals(new TestRecord(null, 2.5, List.of(1, 2)), read);
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance with a pool binds large root and nested arrays
+     *   to the same elements in the same order as a sequential binder.
+     */
+    @Test
+    @DisplayName("Binds arrays in parallel keeping the order of the elements")
+    void bindsArraysInParallel() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 20000; ++i) {
+            builder.append(i == 0 ? "" : ",\n").append("{\"nameVal\":\"record ").append(i)
+                    .append("\",\"value\":").append(i * 0.5).append(",\"numbers\":[").append(i).append("]}");
+        }
+        String array = builder.append("]").toString();
+        byte[] document = ("{\"records\":" + array + "}").getBytes(StandardCharsets.UTF_8);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            List<TestRecord> expected = new JsonBinder(new DefaultJsonReader(array, false)).readArray(TestRecord.class);
+
+            assertAll(
+                    () -> assertEquals(expected, new JsonBinder(new StructuralIndexJsonReader(
+                            array.getBytes(StandardCharsets.UTF_8), false), pool).readArray(TestRecord.class)),
+                    () -> assertEquals(expected, new JsonBinder(new StructuralIndexJsonReader(document, false), pool)
+                            .readObject(RecordList.class).records)
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance with a pool resolves references between
+     *   the elements of a large array like a sequential binder.
+     */
+    @Test
+    @DisplayName("Resolves references between elements of arrays bound in parallel")
+    void resolvesReferencesInParallelArrays() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 20002; ++i) {
+            builder.append(i == 0 ? "" : ",").append("{")
+                    .append(i == 0 || i == 20001 ? "\"$ref\":\"abc\"," : "")
+                    .append("\"nameVal\":\"record\",\"value\":").append(i).append(",\"numbers\":[]}");
+        }
+        byte[] data = builder.append("]").toString().getBytes(StandardCharsets.UTF_8);
+
+        List<TestRecord> records = new JsonBinder(new StructuralIndexJsonReader(data, false), ForkJoinPool.commonPool())
+                .readArray(TestRecord.class);
+
+        assertAll(
+                () -> assertEquals(20002, records.size()),
+                () -> assertSame(records.get(0), records.get(20001))
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance with a pool binds arrays with empty, null,
+     *   nested and trailing elements.
+     *
+     * @param json JSON array.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"[]", "[ ]", "[{\"nameVal\":\"a\",\"value\":1,\"numbers\":[]},]",
+            "[null, [{}], {\"nameVal\":\"]\",\"value\":2,\"numbers\":[1, 2]}]"})
+    @DisplayName("Binds short arrays in parallel")
+    void bindsShortArraysInParallel(String json) {
+        List<TestRecord> expected = new JsonBinder(new DefaultJsonReader(json, false)).readArray(TestRecord.class);
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(expected, new JsonBinder(new StructuralIndexJsonReader(data, false), ForkJoinPool.commonPool())
+                .readArray(TestRecord.class));
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance with a pool throws on invalid arrays.
+     *
+     * @param json invalid JSON array.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"[,]", "[{\"nameVal\":\"a\",\"value\":1,\"numbers\":[]} {}]", "[{}, {]", "[{}"})
+    @DisplayName("Throws on invalid arrays bound in parallel")
+    void failsOnInvalidParallelArrays(String json) {
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        JsonBinder binder = new JsonBinder(new StructuralIndexJsonReader(data, false), ForkJoinPool.commonPool());
+
+        assertThrows(JsonReadException.class, () -> binder.readArray(TestRecord.class));
+    }
+
+    /**
+     * Tests if a {@link JsonBinder} instance with a pool reports the position of a syntax error
+     *   in the whole array rather than in the chunk of the elements that holds it.
+     */
+    @Test
+    @DisplayName("Reports the position of a syntax error in arrays bound in parallel")
+    void reportsErrorPositionInParallelArrays() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 20000; ++i) {
+            builder.append("{\"nameVal\":\"record\",\"value\":").append(i).append(",\"numbers\":[]},\n");
+        }
+        int lineStart = builder.length();
+        String json = builder.append("{\"nameVal\":\"a\",\"value\":1,\"numbers\":[]} {}]").toString();
+        int brace = json.lastIndexOf('{');
+        JsonBinder binder = new JsonBinder(new StructuralIndexJsonReader(json.getBytes(StandardCharsets.UTF_8), false),
+                ForkJoinPool.commonPool());
+
+        JsonReadException exception = assertThrows(JsonReadException.class, () -> binder.readArray(TestRecord.class));
+        assertAll(
+                () -> assertEquals(brace + 1, exception.getOffset()),
+                () -> assertEquals(20001, exception.getLine()),
+                () -> assertEquals(brace - lineStart + 1, exception.getColumn())
+        );
+    }
+}
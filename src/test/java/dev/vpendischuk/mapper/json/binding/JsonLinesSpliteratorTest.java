@@ -0,0 +1,156 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link JsonLinesSpliterator} class.
+ */
+class JsonLinesSpliteratorTest {
+    /**
+     * {@link Exported} record that is used in tests for unmarshalling.
+     */
+    @Exported
+    record Event(long id, String text) { }
+
+    /**
+     * Generates newline-delimited JSON of the specified amount of events.
+     *
+     * @param count amount of events.
+     * @param textLength length of the text of every event.
+     * @return the lines.
+     */
+    private static String eventLines(int count, int textLength) {
+        StringBuilder builder = new StringBuilder();
+        String text = "x".repeat(textLength);
+
+        for (int i = 0; i < count; ++i) {
+            builder.append("{\"id\":").append(i).append(",\"text\":\"").append(text).append("\"}\n");
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Reads all events of the specified lines.
+     *
+     * @param lines the lines.
+     * @param parallel flag that denotes if the events are read by a parallel stream.
+     * @return list of the events.
+     */
+    private static List<Event> readEvents(String lines, boolean parallel) {
+        JsonLinesSpliterator<Event> spliterator = new JsonLinesSpliterator<>(Event.class,
+                new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)), false);
+
+        return StreamSupport.stream(spliterator, parallel).toList();
+    }
+
+    /**
+     * Tests if a {@link JsonLinesSpliterator} instance reads lines separated by different line breaks,
+     *   skipping blank lines.
+     *
+     * @param lines the lines.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"id\":1,\"text\":\"a\"}\n{\"id\":2,\"text\":\"b\"}\n",
+            "{\"id\":1,\"text\":\"a\"}\r\n\r\n{\"id\":2,\"text\":\"b\"}",
+            "\n  {\"id\":1,\"text\":\"a\"}\n{\"text\":\"b\",\"id\":2}\n\n"})
+    @DisplayName("Reads lines separated by line breaks")
+    void readsLines(String lines) {
+        assertEquals(List.of(new Event(1, "a"), new Event(2, "b")), readEvents(lines, false));
+    }
+
+    /**
+     * Tests if a {@link JsonLinesSpliterator} instance read by a parallel stream binds
+     *   the same objects in the same order as a sequential one.
+     *
+     * @param textLength length of the text of every event.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100, 100000})
+    @DisplayName("Binds lines in parallel keeping their order")
+    void readsLinesInParallel(int textLength) {
+        String lines = eventLines(textLength > 1000 ? 20 : 30000, textLength);
+        List<Event> sequential = readEvents(lines, false);
+
+        assertAll(
+                () -> assertEquals(textLength > 1000 ? 20 : 30000, sequential.size()),
+                () -> assertEquals(sequential, readEvents(lines, true))
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonLinesSpliterator} instance reads the stream incrementally.
+     */
+    @Test
+    @DisplayName("Reads the stream incrementally")
+    void readsIncrementally() {
+        byte[] data = eventLines(100000, 10).getBytes(StandardCharsets.UTF_8);
+        List<Long> readCounts = new ArrayList<>();
+        InputStream stream = new FilterInputStream(new ByteArrayInputStream(data)) {
+            private long readCount = 0;
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                int count = super.read(bytes, offset, length);
+                readCount += Math.max(count, 0);
+                readCounts.add(readCount);
+                return count;
+            }
+        };
+
+        JsonLinesSpliterator<Event> spliterator = new JsonLinesSpliterator<>(Event.class, stream, false);
+        Event first = StreamSupport.stream(spliterator, false).findFirst().orElseThrow();
+
+        assertAll(
+                () -> assertEquals(new Event(0, "xxxxxxxxxx"), first),
+                () -> assertTrue(readCounts.get(readCounts.size() - 1) < data.length / 10)
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonLinesSpliterator} instance throws a {@link JsonReadException} on invalid lines.
+     *
+     * @param lines invalid lines.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"id\":1,\"text\":\"a\"}\n[1]\n", "{\"id\":1,\"text\":\"a\"\n}",
+            "{\"id\":1,\"text\":\"a}\n", "{\"id\":1,\"text\":\"a\"} {\"id\":2,\"text\":\"b\"}\n"})
+    @DisplayName("Throws an exception on invalid lines")
+    void failsOnInvalidLines(String lines) {
+        assertThrows(JsonReadException.class, () -> readEvents(lines, false));
+    }
+
+    /**
+     * Tests if a {@link JsonLinesSpliterator} instance reports the position of an invalid line
+     *   in the whole stream rather than in its batch.
+     */
+    @Test
+    @DisplayName("Reports the position of an invalid line in the stream")
+    void reportsErrorPosition() {
+        String validLines = eventLines(10000, 10);
+        JsonReadException exception = assertThrows(JsonReadException.class,
+                () -> readEvents(validLines + "{\"id\":1,\"text\":\"a\"} x\n", false));
+
+        assertAll(
+                () -> assertEquals(validLines.length() + 21, exception.getOffset()),
+                () -> assertEquals(10001, exception.getLine()),
+                () -> assertEquals(21, exception.getColumn())
+        );
+    }
+}
@@ -0,0 +1,333 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.DateFormat;
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.annotations.Ignored;
+import dev.vpendischuk.mapper.json.annotations.PropertyName;
+import dev.vpendischuk.mapper.json.annotations.enums.NullHandling;
+import dev.vpendischuk.mapper.json.exceptions.CyclicReferenceException;
+import dev.vpendischuk.mapper.json.exceptions.InvalidTimeFormatException;
+import dev.vpendischuk.mapper.json.exceptions.JsonMappingException;
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.util.DefaultJsonWriter;
+import dev.vpendischuk.mapper.json.util.JsonWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link JsonSerializer} class.
+ */
+class JsonSerializerTest {
+    // Pattern of the unique IDs written under the reference key.
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile("\"\\$ref\":\"([0-9a-f-]{36})\"");
+
+    /**
+     * Enum used as a test value type.
+     */
+    enum TestEnum {
+        FIRST,
+        SECOND
+    }
+
+    /**
+     * {@link Exported} record that is written as a nested object.
+     */
+    @Exported(nullHandling = NullHandling.EXCLUDE)
+    record Leaf(@PropertyName("label") String name, Double weight, @Ignored String secret) { }
+
+    /**
+     * {@link Exported} class that holds properties of every supported type.
+     */
+    @Exported(nullHandling = NullHandling.INCLUDE)
+    static class Node {
+        String name;
+        @PropertyName("#first")
+        int order;
+        long big;
+        Float ratio;
+        BigDecimal exact;
+        BigInteger huge;
+        char letter;
+        Character quote;
+        boolean flag;
+        TestEnum kind;
+        @DateFormat("dd.MM.yyyy")
+        LocalDate date;
+        LocalTime time;
+        @DateFormat("yyyy-MM-dd HH:mm")
+        LocalDateTime moment;
+        List<Object> mixed;
+        Set<String> tags;
+        Leaf leaf;
+        Leaf missing;
+        Node child;
+        Map<String, String> unsupported;
+        Object untyped;
+        @Ignored
+        String ignored;
+        static String shared = "static";
+
+        public Node() { }
+    }
+
+    /**
+     * {@link Exported} class that holds shared references.
+     */
+    @Exported
+    static class Holder {
+        Leaf first;
+        Leaf second;
+        List<Leaf> leaves;
+        Holder inner;
+
+        public Holder() { }
+    }
+
+    /**
+     * {@link Exported} class, the properties of which are not declared in key order.
+     */
+    @Exported
+    static class Unsorted {
+        String zeta = "z";
+        @PropertyName("shared")
+        String first = "1";
+        int alpha = 1;
+        @PropertyName("shared")
+        String second;
+        Leaf leaf;
+
+        public Unsorted() { }
+    }
+
+    /**
+     * {@link Exported} class that holds a non-finite value.
+     */
+    @Exported
+    static class InvalidNumber {
+        double value = Double.NaN;
+
+        public InvalidNumber() { }
+    }
+
+    /**
+     * {@link Exported} class with a date format that does not match the value type.
+     */
+    @Exported
+    static class InvalidFormat {
+        @DateFormat("HH:mm")
+        LocalDate date = LocalDate.of(2024, 1, 1);
+
+        public InvalidFormat() { }
+    }
+
+    /**
+     * Creates a graph of nodes that covers every supported type.
+     *
+     * @return the root node.
+     */
+    private static Node createNode() {
+        Node node = new Node();
+        node.name = "line\nbreak\ttab";
+        node.order = 7;
+        node.big = Long.MIN_VALUE;
+        node.ratio = 0.1f;
+        node.exact = new BigDecimal("12345678901234567890.123456789");
+        node.huge = BigInteger.TWO.pow(70);
+        node.letter = 'x';
+        node.quote = '"';
+        node.flag = true;
+        node.kind = TestEnum.SECOND;
+        node.date = LocalDate.of(2024, 2, 29);
+        node.time = LocalTime.of(12, 30, 15);
+        node.moment = LocalDateTime.of(2024, 3, 1, 8, 5);
+        node.mixed = new ArrayList<>(Arrays.asList(1, null, "say \"hi\"", 2.5, new HashMap<>(), List.of('c', true),
+                new Leaf("in list", null, "hidden"), LocalDate.of(2020, 1, 2), TestEnum.FIRST, "null"));
+        node.tags = new TreeSet<>(Set.of("b", "a"));
+        node.leaf = new Leaf(null, 1.0E-4, "hidden");
+        node.unsupported = Map.of("key", "value");
+        node.untyped = "text";
+        node.ignored = "ignored";
+
+        Node child = new Node();
+        child.name = "child";
+        child.mixed = List.of();
+        node.child = child;
+
+        return node;
+    }
+
+    /**
+     * Writes the object with a {@link JsonSerializer}.
+     *
+     * @param object the object.
+     * @param retainIdentity flag that denotes if reference equality should be maintained.
+     * @return the JSON text.
+     */
+    private static String serialize(Object object, boolean retainIdentity) {
+        return serialize(object, retainIdentity, false);
+    }
+
+    /**
+     * Writes the object with a {@link JsonSerializer} with the properties in the specified order.
+     *
+     * @param object the object.
+     * @param retainIdentity flag that denotes if reference equality should be maintained.
+     * @param inDeclarationOrder flag that denotes if properties are written in declaration order.
+     * @return the JSON text.
+     */
+    private static String serialize(Object object, boolean retainIdentity, boolean inDeclarationOrder) {
+        StringWriter output = new StringWriter();
+
+        try (JsonWriter writer = new DefaultJsonWriter(output)) {
+            new JsonSerializer(writer, retainIdentity, inDeclarationOrder).writeObject(object);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return output.toString();
+    }
+
+    /**
+     * Replaces the unique IDs in the text with their indexes in order of appearance.
+     *
+     * @param json the JSON text.
+     * @return the text with normalized IDs.
+     */
+    private static String normalizeReferences(String json) {
+        Map<String, Integer> indexes = new HashMap<>();
+        Matcher matcher = REFERENCE_PATTERN.matcher(json);
+        StringBuilder result = new StringBuilder();
+
+        while (matcher.find()) {
+            int index = indexes.computeIfAbsent(matcher.group(1), id -> indexes.size());
+            matcher.appendReplacement(result, "\"\\$ref\":\"" + index + "\"");
+        }
+        matcher.appendTail(result);
+
+        return result.toString();
+    }
+
+    /**
+     * Tests that the serializer writes the same text as the object model.
+     *
+     * @param retainIdentity flag that denotes if reference equality should be maintained.
+     */
+    @ParameterizedTest
+    @DisplayName("JsonSerializer - writes the same text as the object model")
+    @ValueSource(booleans = {false, true})
+    void writesSameTextAsModel(boolean retainIdentity) {
+        Node node = createNode();
+
+        assertEquals(new JsonObject(node, retainIdentity).toString(), serialize(node, retainIdentity));
+    }
+
+    /**
+     * Tests that the objects written more than once are marked with the same unique ID.
+     */
+    @Test
+    @DisplayName("JsonSerializer - marks shared objects with references")
+    void writesReferences() {
+        Leaf shared = new Leaf("shared", 2.0, null);
+        Leaf single = new Leaf("single", null, null);
+
+        Holder inner = new Holder();
+        inner.first = shared;
+
+        Holder holder = new Holder();
+        holder.first = shared;
+        holder.second = single;
+        holder.leaves = List.of(shared, single, shared);
+        holder.inner = inner;
+
+        String json = serialize(holder, true);
+
+        assertAll(
+                () -> assertEquals(normalizeReferences(new JsonObject(holder, true).toString()),
+                        normalizeReferences(json)),
+                () -> assertEquals("{\"first\":{\"$ref\":\"0\",\"label\":\"shared\",\"weight\":2.0}," +
+                        "\"inner\":{\"first\":{\"$ref\":\"0\",\"label\":\"shared\",\"weight\":2.0}}," +
+                        "\"leaves\":[{\"$ref\":\"0\",\"label\":\"shared\",\"weight\":2.0}," +
+                        "{\"$ref\":\"1\",\"label\":\"single\"},{\"$ref\":\"0\",\"label\":\"shared\",\"weight\":2.0}]," +
+                        "\"second\":{\"$ref\":\"1\",\"label\":\"single\"}}", normalizeReferences(json)),
+                () -> assertFalse(serialize(holder, false).contains("$ref"))
+        );
+    }
+
+    /**
+     * Tests that properties are written in declaration order when requested,
+     *   with the reference key first and shared keys at the position of their first declaration.
+     */
+    @Test
+    @DisplayName("JsonSerializer - writes properties in declaration order")
+    void writesInDeclarationOrder() {
+        Leaf leaf = new Leaf("leaf", 1.5, null);
+        Unsorted unsorted = new Unsorted();
+        unsorted.leaf = leaf;
+
+        Holder holder = new Holder();
+        holder.second = leaf;
+        holder.first = leaf;
+
+        Unsorted overridden = new Unsorted();
+        overridden.second = "2";
+
+        assertAll(
+                () -> assertEquals("{\"alpha\":1,\"leaf\":{\"label\":\"leaf\",\"weight\":1.5},\"shared\":\"1\",\"zeta\":\"z\"}",
+                        serialize(unsorted, false)),
+                () -> assertEquals("{\"zeta\":\"z\",\"shared\":\"1\",\"alpha\":1,\"leaf\":{\"label\":\"leaf\",\"weight\":1.5}}",
+                        serialize(unsorted, false, true)),
+                () -> assertEquals("{\"zeta\":\"z\",\"shared\":\"2\",\"alpha\":1}",
+                        serialize(overridden, false, true)),
+                () -> assertEquals("{\"first\":{\"$ref\":\"0\",\"label\":\"leaf\",\"weight\":1.5}," +
+                        "\"second\":{\"$ref\":\"0\",\"label\":\"leaf\",\"weight\":1.5}}",
+                        normalizeReferences(serialize(holder, true, true)))
+        );
+    }
+
+    /**
+     * Tests that reference cycles are detected with and without identity retention.
+     *
+     * @param retainIdentity flag that denotes if reference equality should be maintained.
+     */
+    @ParameterizedTest
+    @DisplayName("JsonSerializer - detects reference cycles")
+    @ValueSource(booleans = {false, true})
+    void detectsCycles(boolean retainIdentity) {
+        Holder holder = new Holder();
+        Holder inner = new Holder();
+        holder.inner = inner;
+        inner.inner = holder;
+
+        assertThrows(CyclicReferenceException.class, () -> serialize(holder, retainIdentity));
+    }
+
+    /**
+     * Tests that invalid objects and values cause the same errors as the object model.
+     */
+    @Test
+    @DisplayName("JsonSerializer - reports invalid objects and values")
+    void reportsErrors() {
+        assertAll(
+                () -> assertThrows(JsonMappingException.class, () -> serialize(null, false)),
+                () -> assertThrows(JsonMappingException.class, () -> serialize("text", false)),
+                () -> assertThrows(JsonMappingException.class, () -> serialize(new InvalidNumber(), false)),
+                () -> assertThrows(InvalidTimeFormatException.class, () -> serialize(new InvalidFormat(), false))
+        );
+    }
+}
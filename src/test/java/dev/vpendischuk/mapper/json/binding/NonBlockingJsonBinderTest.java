@@ -0,0 +1,133 @@
+package dev.vpendischuk.mapper.json.binding;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link NonBlockingJsonBinder} class.
+ */
+class NonBlockingJsonBinderTest {
+    /**
+     * {@link Exported} record that is used in tests for unmarshalling.
+     */
+    @Exported
+    record Message(long id, String text, List<String> tags) { }
+
+    // Sequence of JSON messages used as an input in the tests.
+    private static final String TEST_JSON = "{\"id\":1,\"text\":\"\u043f\u0440\u0438\u0432\u0435\u0442\",\"tags\":[]}\n" +
+            "{\"tags\":[\"a\",\"}\"],\"id\":2,\"text\":\"{\\\"nested\\\"}\"}  {\"id\":3,\"text\":\"\",\"tags\":[\"b\"]}";
+
+    // Messages represented by the test JSON.
+    private static final List<Message> EXPECTED = List.of(
+            new Message(1, "\u043f\u0440\u0438\u0432\u0435\u0442", List.of()),
+            new Message(2, "{\"nested\"}", List.of("a", "}")),
+            new Message(3, "", List.of("b")));
+
+    /**
+     * Tests if a {@link NonBlockingJsonBinder} instance binds every object
+     *   regardless of how the input is split into chunks.
+     *
+     * @param chunkSize size of a chunk.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5, 16, 1024})
+    @DisplayName("Binds objects regardless of chunk boundaries")
+    void bindsObjectsAcrossChunks(int chunkSize) {
+        List<Message> messages = new ArrayList<>();
+        NonBlockingJsonBinder<Message> binder = new NonBlockingJsonBinder<>(Message.class, false, messages::add);
+
+        byte[] data = TEST_JSON.getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < data.length; offset += chunkSize) {
+            binder.feed(ByteBuffer.wrap(data, offset, Math.min(chunkSize, data.length - offset)));
+        }
+        binder.endOfInput();
+
+        assertEquals(EXPECTED, messages);
+    }
+
+    /**
+     * Tests if a {@link NonBlockingJsonBinder} instance passes an object to the consumer
+     *   as soon as its last byte is fed.
+     */
+    @Test
+    @DisplayName("Passes objects to the consumer as soon as they are complete")
+    void passesObjectsEagerly() {
+        List<Message> messages = new ArrayList<>();
+        NonBlockingJsonBinder<Message> binder = new NonBlockingJsonBinder<>(Message.class, false, messages::add);
+
+        binder.feed("{\"id\":1,\"text\":\"a\",\"tags\":[]".getBytes(StandardCharsets.UTF_8));
+        assertTrue(messages.isEmpty());
+
+        binder.feed("}{\"id\":2,".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of(new Message(1, "a", List.of())), messages);
+    }
+
+    /**
+     * Tests if a {@link NonBlockingJsonBinder} instance throws on top-level values that are not objects
+     *   and on incomplete objects.
+     */
+    @Test
+    @DisplayName("Throws on top-level values that are not objects and incomplete input")
+    void throwsOnInvalidInput() {
+        assertAll(
+                () -> assertThrows(JsonReadException.class, () ->
+                        new NonBlockingJsonBinder<>(Message.class, false, x -> { })
+                                .feed("[{\"id\":1}]".getBytes(StandardCharsets.UTF_8))),
+                () -> assertThrows(JsonReadException.class, () -> {
+                    NonBlockingJsonBinder<Message> binder = new NonBlockingJsonBinder<>(Message.class, false, x -> { });
+                    binder.feed("{\"id\":1".getBytes(StandardCharsets.UTF_8));
+                    binder.endOfInput();
+                })
+        );
+    }
+
+    /**
+     * Tests if a {@link NonBlockingJsonBinder} instance stays usable after the consumer throws
+     *   and delivers the remaining objects on the next call.
+     */
+    @Test
+    @DisplayName("Delivers the remaining objects after the consumer throws")
+    void recoversFromConsumerFailure() {
+        List<Message> messages = new ArrayList<>();
+        NonBlockingJsonBinder<Message> binder = new NonBlockingJsonBinder<>(Message.class, false, message -> {
+            if (message.id() == 1) {
+                throw new IllegalStateException();
+            }
+            messages.add(message);
+        });
+
+        assertThrows(IllegalStateException.class, () -> binder.feed(TEST_JSON.getBytes(StandardCharsets.UTF_8)));
+        assertTrue(messages.isEmpty());
+
+        binder.endOfInput();
+        assertEquals(EXPECTED.subList(1, 3), messages);
+    }
+
+    /**
+     * Tests if a {@link NonBlockingJsonBinder} instance rejects all calls after a syntax error.
+     */
+    @Test
+    @DisplayName("Rejects further input after a syntax error")
+    void rejectsInputAfterSyntaxError() {
+        NonBlockingJsonBinder<Message> binder = new NonBlockingJsonBinder<>(Message.class, false, x -> { });
+
+        assertAll(
+                () -> assertThrows(JsonReadException.class, () ->
+                        binder.feed("{\"id\":1,]".getBytes(StandardCharsets.UTF_8))),
+                () -> assertThrows(JsonReadException.class, () ->
+                        binder.feed("{\"id\":2}".getBytes(StandardCharsets.UTF_8))),
+                () -> assertThrows(JsonReadException.class, binder::endOfInput)
+        );
+    }
+}
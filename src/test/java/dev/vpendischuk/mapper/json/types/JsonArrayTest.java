@@ -11,6 +11,8 @@ import dev.vpendischuk.mapper.json.util.DefaultJsonMapReferenceResolver;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -83,6 +85,24 @@ class JsonArrayTest {
         assertEquals(testString, jsonArray.toString());
     }
 
+    /**
+     * Tests if a {@link JsonArray} class instance writes numbers of any numerical class
+     *   and converts them back.
+     */
+    @Test
+    @DisplayName("Successfully converts numbers of any numerical class")
+    void convertsNumbers() {
+        JsonArray integers = new JsonArray(List.of(1, -2, 300), new DefaultJsonMapReferenceResolver(), true, false);
+        JsonArray mixed = new JsonArray(List.of((short) 7, 2.5f, new BigDecimal("0.12345678901234567890"),
+                BigInteger.TEN.pow(20)), new DefaultJsonMapReferenceResolver(), true, false);
+
+        Assertions.assertAll(
+                () -> assertEquals("[1,-2,300]", integers.toString()),
+                () -> assertEquals(List.of(1, -2, 300), integers.toValue(Integer.class)),
+                () -> assertEquals("[7,2.5,0.12345678901234567890,100000000000000000000]", mixed.toString())
+        );
+    }
+
     /**
      * Tests if a {@link JsonArray} class instance is successfully converted
      *   into a collection it models.
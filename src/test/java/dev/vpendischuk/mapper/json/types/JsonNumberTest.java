@@ -1,6 +1,7 @@
 package dev.vpendischuk.mapper.json.types;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -11,7 +12,7 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Class that wraps unit tests for the {@link JsonBoolean} class.
+ * Class that wraps unit tests for the {@link JsonNumber} class.
  */
 class JsonNumberTest {
     /**
@@ -27,6 +28,7 @@ class JsonNumberTest {
                 Arguments.of(new JsonNumber(257L), Float.class, false),
                 Arguments.of(new JsonNumber(36L), Byte.class, false),
                 Arguments.of(new JsonNumber(75L), Long.class, false),
+                Arguments.of(new JsonNumber(0.1f), double.class, false),
                 Arguments.of(new JsonNumber(2.5), String.class, true)
         );
     }
@@ -41,7 +43,19 @@ class JsonNumberTest {
                 Arguments.of(new JsonNumber(2.5), "2.5"),
                 Arguments.of(new JsonNumber(3L), "3"),
                 Arguments.of(new JsonNumber(7L), "7"),
-                Arguments.of(new JsonNumber(257L), "257")
+                Arguments.of(new JsonNumber(257L), "257"),
+                Arguments.of(new JsonNumber(0.1 + 0.2), "0.30000000000000004"),
+                Arguments.of(new JsonNumber(1.0E-4), "1.0E-4"),
+                Arguments.of(new JsonNumber(0.1f), "0.1"),
+                Arguments.of(new JsonNumber("-0.5e-3"), "-0.0005"),
+                Arguments.of(new JsonNumber("123.45"), "123.45"),
+                Arguments.of(new JsonNumber("123.4500"), "123.4500"),
+                Arguments.of(new JsonNumber("0.10"), "0.10"),
+                Arguments.of(new JsonNumber("1e2"), "1E+2"),
+                Arguments.of(new JsonNumber("100.0"), "100.0"),
+                Arguments.of(new JsonNumber("12345678901234567890"), "12345678901234567890"),
+                Arguments.of(new JsonNumber("0.1234567890123456789"), "0.1234567890123456789"),
+                Arguments.of(new JsonNumber("1e-320"), "1E-320")
         );
     }
 
@@ -78,4 +92,38 @@ class JsonNumberTest {
     void convertsToString(JsonNumber jsonNumber, String expectedOutput) {
         assertEquals(expectedOutput, jsonNumber.toString());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if a {@link JsonNumber} instance cannot wrap values that are not representable in JSON.
+     */
+    @Test
+    @DisplayName("Throws an exception on non-finite values")
+    void failsOnNonFiniteValues() {
+        assertAll(
+                () -> assertThrows(JsonMappingException.class, () -> new JsonNumber(Double.NaN)),
+                () -> assertThrows(JsonMappingException.class, () -> new JsonNumber(Float.POSITIVE_INFINITY)),
+                () -> assertEquals("null", new JsonNumber((Double) null).toString())
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonNumber} instance returns its value through typed accessors
+     *   regardless of the kind of the wrapped value.
+     */
+    @Test
+    @DisplayName("Returns values through typed accessors")
+    void returnsTypedValues() {
+        assertAll(
+                () -> assertEquals(42L, new JsonNumber("42").longValue()),
+                () -> assertEquals(42.0, new JsonNumber("42").doubleValue()),
+                () -> assertEquals(2L, new JsonNumber(2.75).longValue()),
+                () -> assertEquals(0.1, new JsonNumber("0.1").doubleValue()),
+                () -> assertEquals(0.1, new JsonNumber("0.10000000000000000000001").doubleValue()),
+                () -> assertEquals(Long.MAX_VALUE, new JsonNumber("9223372036854775807").longValue()),
+                () -> assertEquals(0.1f, new JsonNumber("0.1").toValue(float.class)),
+                () -> assertEquals(16777217f, new JsonNumber(16777217L).toValue(Float.class)),
+                () -> assertEquals(300, JsonNumber.valueOf(300).toValue(int.class)),
+                () -> assertThrows(JsonMappingException.class, () -> new JsonNumber((Long) null).longValue())
+        );
+    }
+}
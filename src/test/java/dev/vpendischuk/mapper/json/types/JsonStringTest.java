@@ -22,9 +22,9 @@ class JsonStringTest {
     static Stream<Arguments> contentRetrievalTestArgs() {
         return Stream.of(
                 Arguments.of(new JsonString("string"), "string"),
-                Arguments.of(new JsonString("string\nstring"), "string\\nstring"),
-                Arguments.of(new JsonString("string\rs"), "string\\rs"),
-                Arguments.of(new JsonString("string\ts"), "string\\ts"),
+                Arguments.of(new JsonString("string\nstring"), "string\nstring"),
+                Arguments.of(new JsonString("string\rs"), "string\rs"),
+                Arguments.of(new JsonString("string\ts"), "string\ts"),
                 Arguments.of(new JsonString('c'), "c")
         );
     }
@@ -41,7 +41,11 @@ class JsonStringTest {
                 Arguments.of(new JsonString("string\rs"), "\"string\\rs\""),
                 Arguments.of(new JsonString("string\ts"), "\"string\\ts\""),
                 Arguments.of(new JsonString('c'), "\"c\""),
-                Arguments.of(new JsonString("\"quotes\""), "'\"quotes\"'")
+                Arguments.of(new JsonString("\"quotes\""), "\"\\\"quotes\\\"\""),
+                Arguments.of(new JsonString("back\\slash"), "\"back\\\\slash\""),
+                Arguments.of(new JsonString("\b\f\u0000\u001f\u007f"), "\"\\b\\f\\u0000\\u001F\u007f\""),
+                Arguments.of(new JsonString("\u00e9\u2028/"), "\"\u00e9\u2028/\""),
+                Arguments.of(new JsonString("null"), "\"null\"")
         );
     }
 
@@ -53,7 +57,7 @@ class JsonStringTest {
     static Stream<Arguments> valueConversionTestArgs() {
         return Stream.of(
                 Arguments.of(new JsonString("string"), String.class, "string", false),
-                Arguments.of(new JsonString("string\nstring"), String.class, "string\\nstring", false),
+                Arguments.of(new JsonString("string\nstring"), String.class, "string\nstring", false),
                 Arguments.of(new JsonString("string\rs"), Character.class, 's', false),
                 Arguments.of(new JsonString("string\ts"), Integer.class, null, true),
                 Arguments.of(new JsonString('c'), char.class, 'c', false)
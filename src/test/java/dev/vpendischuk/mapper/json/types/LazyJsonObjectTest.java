@@ -0,0 +1,98 @@
+package dev.vpendischuk.mapper.json.types;
+
+import dev.vpendischuk.mapper.json.annotations.Exported;
+import dev.vpendischuk.mapper.json.annotations.enums.UnknownPropertiesPolicy;
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.DefaultJsonReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link LazyJsonObject} class.
+ */
+class LazyJsonObjectTest {
+    /**
+     * {@link Exported} record that is used in tests for unmarshalling.
+     */
+    @Exported(unknownPropertiesPolicy = UnknownPropertiesPolicy.IGNORE)
+    record Header(String route, Long id, Inner inner) { }
+
+    /**
+     * {@link Exported} record that is used as a nested value in tests for unmarshalling.
+     */
+    @Exported
+    record Inner(List<String> tags) { }
+
+    /**
+     * Tests if a {@link LazyJsonObject} instance has the same representation as an eagerly read model
+     *   when read from a string and from UTF-8 encoded bytes.
+     *
+     * @param json JSON used as an input.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{ \"list\" : [\"str1\", \"\u0441\u0442\u04402\"], \"name\":\"na\u00efve \\\"\u20ac\\\"\",\n\"value\":2.4}",
+            "{\"a\":{\"b\":[true, null, {'c' : 'x\\\\'}]}, \"c\":\"\", \"d\":-1.5e3,}",
+            "{}",
+            "{ \"nested\" : { \"deeper\" : { \"value\" : false } } }"
+    })
+    @DisplayName("Has the same representation as an eagerly read model")
+    void readsSameModel(String json) {
+        String expected = new JsonObject(new DefaultJsonReader(json, false)).toString();
+
+        assertAll(
+                () -> assertEquals(expected, new LazyJsonObject(json, false).toString()),
+                () -> assertEquals(expected,
+                        new LazyJsonObject(json.getBytes(StandardCharsets.UTF_8), false).toString()),
+                () -> assertEquals(expected, new LazyJsonObject(json, true).toString())
+        );
+    }
+
+    /**
+     * Tests if a {@link LazyJsonObject} instance is converted to a value,
+     *   leaving the values of unknown properties unparsed.
+     */
+    @Test
+    @DisplayName("Converts to a value without parsing the values of unknown properties")
+    void convertsToValue() {
+        String json = "{\"route\":\"orders\", \"body\":{\"broken\" 1 2}, \"id\":7, \"inner\":{\"tags\":[\"a\",\"b\"]}}";
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(new Header("orders", 7L, new Inner(List.of("a", "b"))),
+                new LazyJsonObject(data, false).toValue(Header.class));
+    }
+
+    /**
+     * Tests if a {@link LazyJsonObject} instance only reports syntax errors inside of a value
+     *   when the value is requested.
+     */
+    @Test
+    @DisplayName("Throws an exception on invalid values when they are requested")
+    void failsOnRequestedInvalidValues() {
+        byte[] data = "{\"valid\":1, \"invalid\":{\"key\" 1}}".getBytes(StandardCharsets.UTF_8);
+        JsonObject model = new LazyJsonObject(data, false);
+
+        assertAll(
+                () -> assertEquals("1", model.getValue("valid").toString()),
+                () -> assertNull(model.getValue("missing")),
+                () -> assertThrows(JsonReadException.class, () -> model.getValue("invalid"))
+        );
+    }
+
+    /**
+     * Tests if a {@link LazyJsonObject} instance throws a {@link JsonReadException}
+     *   if the brackets of a value do not match.
+     */
+    @Test
+    @DisplayName("Throws an exception on mismatched brackets")
+    void failsOnMismatchedBrackets() {
+        assertThrows(JsonReadException.class, () -> new LazyJsonObject("{\"a\":[1, 2}, \"b\":3}", false));
+    }
+}
@@ -0,0 +1,77 @@
+package dev.vpendischuk.mapper.json.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link BufferPool} and {@link StringJsonWriter} classes.
+ */
+class BufferPoolTest {
+    /**
+     * Tests that a returned buffer is borrowed again and that a borrowed buffer is not shared.
+     */
+    @Test
+    @DisplayName("BufferPool - returned buffers are reused by the thread")
+    void reusesBuffers() {
+        char[] chars = BufferPool.borrowChars();
+        char[] nestedChars = BufferPool.borrowChars();
+        BufferPool.release(nestedChars);
+        BufferPool.release(chars);
+
+        byte[] bytes = BufferPool.borrowBytes();
+        BufferPool.release(bytes);
+
+        assertAll(
+                () -> assertNotSame(chars, nestedChars),
+                () -> assertSame(chars, BufferPool.borrowChars()),
+                () -> assertSame(bytes, BufferPool.borrowBytes())
+        );
+    }
+
+    /**
+     * Tests that oversized buffers are dropped instead of being returned to the pool.
+     */
+    @Test
+    @DisplayName("BufferPool - oversized buffers are dropped")
+    void dropsOversizedBuffers() {
+        BufferPool.borrowChars();
+        BufferPool.release(new char[BufferPool.MAX_RETAINED_SIZE + 1]);
+
+        assertEquals(BufferPool.DEFAULT_SIZE, BufferPool.borrowChars().length);
+    }
+
+    /**
+     * Tests that a string writer grows past its pooled buffer and returns the buffer when it is closed.
+     */
+    @Test
+    @DisplayName("StringJsonWriter - text larger than the buffer is collected")
+    void collectsLargeText() {
+        char[] filler = new char[BufferPool.DEFAULT_SIZE / 3];
+        Arrays.fill(filler, 'a');
+        String part = new String(filler);
+
+        StringJsonWriter writer = new StringJsonWriter();
+        for (int i = 0; i < 5; ++i) {
+            writer.write(part);
+            writer.write(',');
+            writer.writeNumber(Long.MIN_VALUE);
+            writer.write(',');
+            writer.writeNumber(0.1 + 0.2);
+            writer.write(',');
+            writer.writeNumber(2.5f);
+        }
+        String text = writer.toString();
+        writer.close();
+
+        String expected = (part + ",-9223372036854775808,0.30000000000000004,2.5").repeat(5);
+
+        assertAll(
+                () -> assertEquals(expected, text),
+                () -> assertTrue(BufferPool.borrowChars().length > BufferPool.DEFAULT_SIZE)
+        );
+    }
+}
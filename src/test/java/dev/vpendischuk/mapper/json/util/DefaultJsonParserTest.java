@@ -0,0 +1,262 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.vpendischuk.mapper.json.util.enums.JsonToken.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link DefaultJsonParser} class.
+ */
+class DefaultJsonParserTest {
+    // JSON used as an input in the tests.
+    private static final String TEST_JSON = "{\"id\": 42, \"name\": 'Jason', \"tags\": [\"a\", true, null,],"
+            + " \"nested\": {\"value\": -2.5e3, \"flag\": FALSE}, \"empty\": {}}";
+
+    /**
+     * Reads all tokens of the specified parser.
+     *
+     * @param parser the parser.
+     * @return list of the read tokens.
+     */
+    private static List<JsonToken> readTokens(JsonParser parser) {
+        List<JsonToken> tokens = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonParser} instance returns the tokens of a document in order.
+     */
+    @Test
+    @DisplayName("Returns the tokens of a document in order")
+    void returnsTokensInOrder() {
+        JsonParser parser = new DefaultJsonParser(new DefaultJsonReader(TEST_JSON, false));
+
+        assertEquals(List.of(START_OBJECT,
+                FIELD_NAME, VALUE_NUMBER,
+                FIELD_NAME, VALUE_STRING,
+                FIELD_NAME, START_ARRAY, VALUE_STRING, VALUE_TRUE, VALUE_NULL, END_ARRAY,
+                FIELD_NAME, START_OBJECT, FIELD_NAME, VALUE_NUMBER, FIELD_NAME, VALUE_FALSE, END_OBJECT,
+                FIELD_NAME, START_OBJECT, END_OBJECT,
+                END_OBJECT), readTokens(parser));
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonParser} instance reads the same tokens from a byte stream
+     *   regardless of the size of the reader's window.
+     *
+     * @param bufferSize size of the byte window.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 13, Utf8JsonReader.DEFAULT_BUFFER_SIZE})
+    @DisplayName("Reads the same tokens from a byte stream")
+    void readsTokensFromStream(int bufferSize) {
+        JsonParser expected = new DefaultJsonParser(new DefaultJsonReader(TEST_JSON, false));
+        JsonParser parser = new DefaultJsonParser(new Utf8JsonReader(
+                new ByteArrayInputStream(TEST_JSON.getBytes(StandardCharsets.UTF_8)), false, bufferSize));
+
+        assertEquals(readTokens(expected), readTokens(parser));
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonParser} instance provides the field names and typed values of tokens.
+     */
+    @Test
+    @DisplayName("Provides field names and typed values")
+    void providesNamesAndValues() {
+        JsonParser parser = new DefaultJsonParser(new DefaultJsonReader(TEST_JSON, false));
+
+        assertAll(
+                () -> assertEquals(START_OBJECT, parser.nextToken()),
+                () -> assertNull(parser.getCurrentName()),
+                () -> assertEquals(FIELD_NAME, parser.nextToken()),
+                () -> assertEquals("id", parser.getText()),
+                () -> assertEquals(VALUE_NUMBER, parser.nextToken()),
+                () -> assertEquals("id", parser.getCurrentName()),
+                () -> assertEquals(42L, parser.getLong()),
+                () -> assertEquals(42, parser.getInt()),
+                () -> assertEquals(42.0, parser.getDouble()),
+                () -> assertEquals(FIELD_NAME, parser.nextToken()),
+                () -> assertEquals(VALUE_STRING, parser.nextToken()),
+                () -> assertEquals("Jason", parser.getText()),
+                () -> assertEquals(FIELD_NAME, parser.nextToken()),
+                () -> assertEquals(START_ARRAY, parser.nextToken()),
+                () -> assertEquals("tags", parser.getCurrentName()),
+                () -> assertEquals(2, parser.getDepth()),
+                () -> assertEquals(VALUE_STRING, parser.nextToken()),
+                () -> assertNull(parser.getCurrentName()),
+                () -> assertEquals(VALUE_TRUE, parser.nextToken()),
+                () -> assertTrue(parser.getBoolean()),
+                () -> assertEquals(VALUE_NULL, parser.nextToken()),
+                () -> assertEquals(END_ARRAY, parser.nextToken()),
+                () -> assertEquals("tags", parser.getCurrentName()),
+                () -> assertEquals(FIELD_NAME, parser.nextToken()),
+                () -> assertEquals(START_OBJECT, parser.nextToken()),
+                () -> assertEquals(FIELD_NAME, parser.nextToken()),
+                () -> assertEquals(VALUE_NUMBER, parser.nextToken()),
+                () -> assertEquals("value", parser.getCurrentName()),
+                () -> assertEquals(-2500.0, parser.getDouble()),
+                () -> assertEquals(-2500L, parser.getLong()),
+                () -> assertEquals(new BigDecimal("-2.5e3"), parser.getDecimal()),
+                () -> assertThrows(JsonReadException.class, parser::getBoolean)
+        );
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonParser} instance skips the children of an object or an array.
+     */
+    @Test
+    @DisplayName("Skips children of objects and arrays")
+    void skipsChildren() {
+        JsonParser parser = new DefaultJsonParser(new DefaultJsonReader(TEST_JSON, false));
+        List<String> names = new ArrayList<>();
+
+        parser.nextToken();
+        while (parser.nextToken() == FIELD_NAME) {
+            names.add(parser.getText());
+            parser.nextToken();
+            parser.skipChildren();
+        }
+
+        assertAll(
+                () -> assertEquals(List.of("id", "name", "tags", "nested", "empty"), names),
+                () -> assertEquals(END_OBJECT, parser.currentToken()),
+                () -> assertNull(parser.nextToken())
+        );
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonParser} instance throws on invalid documents.
+     *
+     * @param json invalid JSON.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\" 1}", "{\"a\":1 \"b\":2}", "[\"a\" \"b\"]", "[,1]", "{\"a\":[1,2}", "{\"a\":", "{1:2}"})
+    @DisplayName("Throws on syntax errors")
+    void throwsOnSyntaxErrors(String json) {
+        JsonParser parser = new DefaultJsonParser(new DefaultJsonReader(json, false));
+
+        assertThrows(JsonReadException.class, () -> readTokens(parser));
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonParser} instance returns the canonical instances of field names
+     *   that were added to its symbol table.
+     *
+     * @param readerType type of the reader used by the parser.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"chars", "bytes", "stream"})
+    @DisplayName("Returns canonical instances of field names")
+    void canonicalizesFieldNames(String readerType) {
+        String json = "[{\"name\": 1, \"other\": 2}, {\"name\": 3, \"other\": 4, \"esc\\/aped\": 5}]";
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        JsonReader reader = switch (readerType) {
+            case "chars" -> new DefaultJsonReader(json, false);
+            case "bytes" -> new Utf8JsonReader(data, false);
+            default -> new Utf8JsonReader(new ByteArrayInputStream(data), false, 9);
+        };
+
+        JsonParser parser = new DefaultJsonParser(reader);
+        String name = new String(new char[] {'n', 'a', 'm', 'e'});
+        parser.getSymbolTable().add(name);
+
+        List<String> names = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+            if (token == FIELD_NAME) {
+                names.add(parser.getText());
+            }
+        }
+
+        assertAll(
+                () -> assertEquals(List.of("name", "other", "name", "other", "esc/aped"), names),
+                () -> assertSame(name, names.get(0)),
+                () -> assertSame(name, names.get(2)),
+                () -> assertSame(names.get(1), names.get(3))
+        );
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonParser} instance skips field values structurally.
+     *
+     * @param readerType type of the reader used by the parser.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"chars", "bytes", "stream", "indexed"})
+    @DisplayName("Skips field values without reading their tokens")
+    void skipsFieldValues(String readerType) {
+        String json = "{\"skip\": {\"a\": [1, \"x]}\\\"\", 'y\\'s', {\"b\": it's}], \"c\": \"\"}, \"keep\": 1,"
+                + " \"skip2\": \"str\", \"skip3\": 12.5 , \"last\": [true]}";
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        JsonReader reader = switch (readerType) {
+            case "chars" -> new DefaultJsonReader(json, false);
+            case "bytes" -> new Utf8JsonReader(data, false);
+            case "indexed" -> new StructuralIndexJsonReader(data, false);
+            default -> new Utf8JsonReader(new ByteArrayInputStream(data), false, 9);
+        };
+
+        JsonParser parser = new DefaultJsonParser(reader);
+        List<JsonToken> tokens = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+            tokens.add(token);
+            if (token == FIELD_NAME && parser.getText().startsWith("skip")) {
+                parser.skipValue();
+            }
+        }
+
+        assertEquals(List.of(START_OBJECT, FIELD_NAME, FIELD_NAME, VALUE_NUMBER, FIELD_NAME, FIELD_NAME,
+                FIELD_NAME, START_ARRAY, VALUE_TRUE, END_ARRAY, END_OBJECT), tokens);
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonParser} instance throws when a skipped value is invalid.
+     *
+     * @param json JSON with an invalid value of the first field.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\": [1}", "{\"a\": {\"b\": \"c}", "{\"a\": }", "{\"a\": [[]"})
+    @DisplayName("Throws an exception when a skipped value is invalid")
+    void failsOnInvalidSkippedValues(String json) {
+        JsonParser parser = new DefaultJsonParser(new DefaultJsonReader(json, false));
+        parser.nextToken();
+        parser.nextToken();
+
+        assertThrows(JsonReadException.class, parser::skipValue);
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonParser} instance reports the position of an invalid number
+     *   and keeps the cause of the error.
+     */
+    @Test
+    @DisplayName("Reports the position of an invalid number")
+    void reportsInvalidNumberPosition() {
+        JsonParser parser = new DefaultJsonParser(new DefaultJsonReader("{\"s\":\"x\",\n \"d\":1.2.3}", false));
+        for (int i = 0; i < 5; ++i) {
+            parser.nextToken();
+        }
+
+        JsonReadException exception = assertThrows(JsonReadException.class, parser::getDouble);
+        assertAll(
+                () -> assertEquals(20, exception.getOffset()),
+                () -> assertEquals(2, exception.getLine()),
+                () -> assertEquals(10, exception.getColumn()),
+                () -> assertInstanceOf(NumberFormatException.class, exception.getCause()),
+                () -> assertThrows(JsonReadException.class, parser::getBoolean)
+        );
+    }
+}
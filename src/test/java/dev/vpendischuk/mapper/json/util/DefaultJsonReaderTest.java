@@ -0,0 +1,123 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link DefaultJsonReader} class.
+ */
+class DefaultJsonReaderTest {
+    // JSON used as an input in the tests.
+    private static final String TEST_JSON = "{ \"list\" : [\"str1\", \"str2\"], \"nameVal\":\"name1\",\n\"value\":2.4}";
+
+    /**
+     * Tests if a {@link DefaultJsonReader} instance reads the same model
+     *   regardless of the size of its character window.
+     *
+     * @param bufferSize size of the character window.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 64, DefaultJsonReader.DEFAULT_BUFFER_SIZE})
+    @DisplayName("Reads a model correctly when values span several window refills")
+    void readsAcrossWindowRefills(int bufferSize) {
+        JsonObject expected = new JsonObject(new DefaultJsonReader(TEST_JSON, false));
+        JsonObject read = new JsonObject(new DefaultJsonReader(new StringReader(TEST_JSON), false, bufferSize));
+
+        assertEquals(expected.toString(), read.toString());
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonReader} instance steps back over a window refill
+     *   and returns the same character again.
+     */
+    @Test
+    @DisplayName("Steps back over a window refill")
+    void movesBackAcrossWindowRefill() {
+        DefaultJsonReader reader = new DefaultJsonReader(new StringReader("ab"), false, 2);
+
+        assertAll(
+                () -> assertEquals('a', reader.nextCharacterTrimmed()),
+                () -> assertEquals('b', reader.nextCharacterTrimmed()),
+                () -> assertDoesNotThrow(reader::moveBack),
+                () -> assertEquals('b', reader.nextCharacterTrimmed()),
+                () -> assertEquals(0, reader.nextCharacterTrimmed())
+        );
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonReader} instance throws a {@link JsonReadException}
+     *   when stepping back twice in a row.
+     */
+    @Test
+    @DisplayName("Throws an exception when stepping back twice")
+    void doesNotMoveBackTwice() {
+        DefaultJsonReader reader = new DefaultJsonReader("abc", false);
+
+        reader.nextCharacterTrimmed();
+        reader.nextCharacterTrimmed();
+        reader.moveBack();
+
+        assertThrows(JsonReadException.class, reader::moveBack);
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonReader} instance reports the position of a syntax error
+     *   regardless of the size of its character window.
+     *
+     * @param bufferSize size of the character window.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 7, DefaultJsonReader.DEFAULT_BUFFER_SIZE})
+    @DisplayName("Reports the position of a syntax error")
+    void reportsErrorPosition(int bufferSize) {
+        String json = "{\"a\":1,\n \"b\":\"x\\q\"}";
+        JsonReadException exception = assertThrows(JsonReadException.class,
+                () -> new JsonObject(new DefaultJsonReader(new StringReader(json), false, bufferSize)));
+
+        assertAll(
+                () -> assertEquals(17, exception.getOffset()),
+                () -> assertEquals(2, exception.getLine()),
+                () -> assertEquals(9, exception.getColumn()),
+                () -> assertEquals("[JSON Reader Error] Syntax error: illegal escape at line 2, column 9 (offset 17).",
+                        exception.getMessage())
+        );
+    }
+
+    /**
+     * Tests if a {@link DefaultJsonReader} instance reads strings with and without escapes
+     *   regardless of the size of its character window.
+     *
+     * @param bufferSize size of the character window.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 5, DefaultJsonReader.DEFAULT_BUFFER_SIZE})
+    @DisplayName("Reads strings with and without escapes")
+    void readsStrings(int bufferSize) {
+        DefaultJsonReader reader = new DefaultJsonReader(
+                new StringReader("\"ab\\\"c\\\\d\\ne\" 'plain \"text\"' \"\" \"\\u0041\\u00e9\\ud83d\\ude00\\u001F\" \"open"),
+                false, bufferSize);
+
+        assertAll(
+                () -> assertEquals('"', reader.nextCharacterTrimmed()),
+                () -> assertEquals("ab\"c\\d\ne", reader.nextStringContent('"')),
+                () -> assertEquals('\'', reader.nextCharacterTrimmed()),
+                () -> assertEquals("plain \"text\"", reader.nextStringContent('\'')),
+                () -> assertEquals('"', reader.nextCharacterTrimmed()),
+                () -> assertEquals("", reader.nextStringContent('"')),
+                () -> assertEquals('"', reader.nextCharacterTrimmed()),
+                () -> assertEquals("A\u00e9\ud83d\ude00\u001f", reader.nextStringContent('"')),
+                () -> assertEquals('"', reader.nextCharacterTrimmed()),
+                () -> assertThrows(JsonReadException.class, () -> reader.nextStringContent('"')),
+                () -> assertThrows(JsonReadException.class, () -> new DefaultJsonReader(
+                        new StringReader("\\u00g0\""), false, bufferSize).nextStringContent('"'))
+        );
+    }
+}
@@ -0,0 +1,192 @@
+package dev.vpendischuk.mapper.json.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link DoubleFormatter} class.
+ */
+class DoubleFormatterTest {
+    // Amount of randomized values checked by every test.
+    private static final int SAMPLE_COUNT = 200_000;
+
+    /**
+     * Provides arguments for the {@code formatsDoubles} test.
+     *
+     * @return arguments for the {@code formatsDoubles} test.
+     */
+    static Stream<Arguments> doubleFormattingTestArgs() {
+        return Stream.of(
+                Arguments.of(0.0, "0.0"),
+                Arguments.of(-0.0, "-0.0"),
+                Arguments.of(5.0, "5.0"),
+                Arguments.of(-2.5, "-2.5"),
+                Arguments.of(0.001, "0.001"),
+                Arguments.of(1.0E-4, "1.0E-4"),
+                Arguments.of(1234567.0, "1234567.0"),
+                Arguments.of(1.0E7, "1.0E7"),
+                Arguments.of(0.1 + 0.2, "0.30000000000000004"),
+                Arguments.of(2.0E23, "2.0E23"),
+                Arguments.of(1.0E23, "1.0E23"),
+                Arguments.of(123.456, "123.456"),
+                Arguments.of(Double.MIN_VALUE, "4.9E-324"),
+                Arguments.of(Double.MIN_NORMAL, "2.2250738585072014E-308"),
+                Arguments.of(Double.MAX_VALUE, "1.7976931348623157E308"),
+                Arguments.of(Double.NaN, "NaN"),
+                Arguments.of(Double.NEGATIVE_INFINITY, "-Infinity")
+        );
+    }
+
+    /**
+     * Provides arguments for the {@code formatsFloats} test.
+     *
+     * @return arguments for the {@code formatsFloats} test.
+     */
+    static Stream<Arguments> floatFormattingTestArgs() {
+        return Stream.of(
+                Arguments.of(0.1f, "0.1"),
+                Arguments.of(-1.5f, "-1.5"),
+                Arguments.of(16777216f, "1.6777216E7"),
+                Arguments.of(1.0E10f, "1.0E10"),
+                Arguments.of(Float.MIN_VALUE, "1.4E-45"),
+                Arguments.of(Float.MAX_VALUE, "3.4028235E38")
+        );
+    }
+
+    /**
+     * Returns the least amount of significant digits that represents the specified value exactly.
+     *
+     * @param exact exact value.
+     * @param isValue predicate that checks if a rounded decimal is parsed to the value.
+     * @return the amount of digits.
+     */
+    private static int shortestLength(BigDecimal exact, Predicate<BigDecimal> isValue) {
+        for (int digits = 1; ; ++digits) {
+            if (isValue.test(exact.round(new MathContext(digits, RoundingMode.HALF_EVEN)))
+                    || isValue.test(exact.round(new MathContext(digits, RoundingMode.UP)))
+                    || isValue.test(exact.round(new MathContext(digits, RoundingMode.DOWN)))) {
+                return digits;
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of significant digits of the specified text.
+     *
+     * @param text text of a number.
+     * @return the amount of digits.
+     */
+    private static int significantDigits(String text) {
+        return new BigDecimal(text).stripTrailingZeros().precision();
+    }
+
+    /**
+     * Tests if the {@link DoubleFormatter} lays out {@code double} values as {@link Double#toString(double)}.
+     *
+     * @param value the value.
+     * @param expectedOutput expected text.
+     */
+    @ParameterizedTest
+    @MethodSource("doubleFormattingTestArgs")
+    @DisplayName("Formats doubles")
+    void formatsDoubles(double value, String expectedOutput) {
+        assertEquals(expectedOutput, DoubleFormatter.toString(value));
+    }
+
+    /**
+     * Tests if the {@link DoubleFormatter} lays out {@code float} values as {@link Float#toString(float)}.
+     *
+     * @param value the value.
+     * @param expectedOutput expected text.
+     */
+    @ParameterizedTest
+    @MethodSource("floatFormattingTestArgs")
+    @DisplayName("Formats floats")
+    void formatsFloats(float value, String expectedOutput) {
+        assertEquals(expectedOutput, DoubleFormatter.toString(value));
+    }
+
+    /**
+     * Tests if the {@link DoubleFormatter} writes random doubles as the shortest text that is parsed
+     *   back to the same value.
+     */
+    @Test
+    @DisplayName("Writes the shortest round-trip text of random doubles")
+    void roundTripsDoubles() {
+        Random random = new Random(42);
+        byte[] buffer = new byte[DoubleFormatter.MAX_LENGTH + 1];
+
+        for (int i = 0; i < SAMPLE_COUNT; ++i) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isFinite(value)) {
+                continue;
+            }
+
+            int end = DoubleFormatter.write(value, buffer, 1);
+            String text = new String(buffer, 1, end - 1);
+            if (Double.doubleToRawLongBits(Double.parseDouble(text)) != Double.doubleToRawLongBits(value)) {
+                fail("Formatted " + Double.toString(value) + " as " + text + ".");
+            }
+
+            if (i % 20 == 0 && value != 0) {
+                int shortest = shortestLength(new BigDecimal(value), decimal -> decimal.doubleValue() == value);
+                assertEquals(shortest, significantDigits(text), text);
+            }
+        }
+    }
+
+    /**
+     * Tests if the {@link DoubleFormatter} writes random floats as the shortest text that is parsed
+     *   back to the same value.
+     */
+    @Test
+    @DisplayName("Writes the shortest round-trip text of random floats")
+    void roundTripsFloats() {
+        Random random = new Random(17);
+
+        for (int i = 0; i < SAMPLE_COUNT; ++i) {
+            float value = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isFinite(value)) {
+                continue;
+            }
+
+            String text = DoubleFormatter.toString(value);
+            if (Float.floatToRawIntBits(Float.parseFloat(text)) != Float.floatToRawIntBits(value)) {
+                fail("Formatted " + Float.toString(value) + " as " + text + ".");
+            }
+
+            if (i % 20 == 0 && value != 0) {
+                int shortest = shortestLength(new BigDecimal(value), decimal -> decimal.floatValue() == value);
+                assertEquals(shortest, significantDigits(text), text);
+            }
+        }
+    }
+
+    /**
+     * Tests if the {@link DoubleFormatter} writes integers and decimal fractions of telemetry-like values exactly.
+     */
+    @Test
+    @DisplayName("Writes short decimals exactly")
+    void writesShortDecimals() {
+        Random random = new Random(7);
+
+        for (int i = 0; i < SAMPLE_COUNT; ++i) {
+            BigDecimal decimal = BigDecimal.valueOf(random.nextInt(), random.nextInt(12));
+            double value = decimal.doubleValue();
+
+            assertEquals(0, decimal.compareTo(new BigDecimal(DoubleFormatter.toString(value))), decimal::toString);
+        }
+    }
+}
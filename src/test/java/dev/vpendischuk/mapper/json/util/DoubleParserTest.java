@@ -0,0 +1,129 @@
+package dev.vpendischuk.mapper.json.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link DoubleParser} class.
+ */
+class DoubleParserTest {
+    // Amount of randomized numbers checked by every test.
+    private static final int SAMPLE_COUNT = 200_000;
+
+    /**
+     * Parses the specified text with the {@link DoubleParser} and checks that the result
+     *   is identical to the one of {@link Double#parseDouble(String)}.
+     *
+     * @param text text of a number.
+     */
+    private static void assertParsed(String text) {
+        double expected = Double.parseDouble(text);
+        double actual = DoubleParser.parse(text.toCharArray(), 0, text.length());
+
+        if (Double.doubleToRawLongBits(expected) != Double.doubleToRawLongBits(actual)) {
+            fail("Parsed " + text + " as " + actual + " instead of " + expected + ".");
+        }
+    }
+
+    /**
+     * Tests if the {@link DoubleParser} parses edge cases exactly as {@link Double#parseDouble(String)}.
+     *
+     * @param text text of a number.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "0.0", "-0.0e10", "1", "-1", "0.1", "0.3", "2.5", "-1.5E-7", "1e22", "1e23",
+            "9007199254740993", "9007199254740992.5", "18446744073709551615", "9999999999999999999",
+            "1.7976931348623157e308", "1.7976931348623159e308", "2e308", "4.9e-324", "2.4703282292062328e-324",
+            "2.2250738585072014E-308", "2.2250738585072011e-308", "1e-400", "1e400", "123456789012345678901234567890",
+            "0.000000000000000000000000000001", "7.038531e-26", "1e+5", "12345.6789e-3"})
+    @DisplayName("Parses edge cases exactly")
+    void parsesEdgeCases(String text) {
+        assertParsed(text);
+    }
+
+    /**
+     * Tests if the {@link DoubleParser} parses the shortest representations of random doubles exactly.
+     */
+    @Test
+    @DisplayName("Parses random doubles exactly")
+    void parsesRandomDoubles() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < SAMPLE_COUNT; ++i) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(value)) {
+                assertParsed(Double.toString(value));
+            }
+        }
+    }
+
+    /**
+     * Tests if the {@link DoubleParser} parses random decimal numbers with up to 19 digits exactly.
+     */
+    @Test
+    @DisplayName("Parses random decimals exactly")
+    void parsesRandomDecimals() {
+        Random random = new Random(17);
+
+        for (int i = 0; i < SAMPLE_COUNT; ++i) {
+            long significand = random.nextLong() >>> random.nextInt(64);
+            String digits = Long.toUnsignedString(significand);
+            int point = random.nextInt(digits.length() + 1);
+            String text = (random.nextBoolean() ? "-" : "") + digits.substring(0, point)
+                    + "." + digits.substring(point) + "e" + (random.nextInt(700) - 350);
+
+            assertParsed(point == 0 ? text.replace(".", "0.") : text.replace(".e", "e"));
+        }
+    }
+
+    /**
+     * Tests if the {@link DoubleParser} parses numbers halfway between two adjacent doubles exactly.
+     */
+    @Test
+    @DisplayName("Parses halfway cases exactly")
+    void parsesHalfwayCases() {
+        Random random = new Random(7);
+
+        for (int i = 0; i < SAMPLE_COUNT / 10; ++i) {
+            double value = Math.abs(Double.longBitsToDouble(random.nextLong()));
+            if (!Double.isFinite(value) || value == Double.MAX_VALUE) {
+                continue;
+            }
+
+            BigDecimal lower = new BigDecimal(value);
+            BigDecimal upper = new BigDecimal(Math.nextUp(value));
+            BigDecimal halfway = lower.add(upper).divide(BigDecimal.valueOf(2));
+
+            assertParsed(halfway.toString());
+            assertParsed(halfway.round(new MathContext(19)).toString());
+        }
+    }
+
+    /**
+     * Tests if the {@link DoubleParser} converts decimal values exactly as {@link BigDecimal#doubleValue()}.
+     */
+    @Test
+    @DisplayName("Converts decimal values exactly")
+    void convertsDecimals() {
+        Random random = new Random(3);
+
+        for (int i = 0; i < SAMPLE_COUNT; ++i) {
+            BigDecimal value = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(700) - 350);
+            assertEquals(value.doubleValue(), DoubleParser.parse(value), value::toString);
+        }
+
+        assertAll(
+                () -> assertEquals(0.0, DoubleParser.parse(new BigDecimal("1e-400"))),
+                () -> assertEquals(0.1, DoubleParser.parse(new BigDecimal("0.1"))),
+                () -> assertEquals(1e40, DoubleParser.parse(new BigDecimal("10000000000000000000000000000000000000000")))
+        );
+    }
+}
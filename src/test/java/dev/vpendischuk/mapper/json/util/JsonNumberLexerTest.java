@@ -0,0 +1,127 @@
+package dev.vpendischuk.mapper.json.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link JsonNumberLexer} class.
+ */
+class JsonNumberLexerTest {
+    /**
+     * Lexes the specified text with the specified lexer.
+     *
+     * @param lexer the lexer.
+     * @param text text of a number.
+     * @return the lexer.
+     */
+    private static JsonNumberLexer lex(JsonNumberLexer lexer, String text) {
+        lexer.start();
+        for (int i = 0; i < text.length(); ++i) {
+            lexer.append(text.charAt(i));
+        }
+
+        return lexer;
+    }
+
+    /**
+     * Tests if a {@link JsonNumberLexer} instance accumulates integers that fit in a {@code long}.
+     *
+     * @param text text of an integer.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "7", "-42", "1234567890123", "9223372036854775807", "-9223372036854775808"})
+    @DisplayName("Accumulates integers that fit in a long")
+    void lexesLongs(String text) {
+        JsonNumberLexer lexer = lex(new JsonNumberLexer(), text);
+
+        assertAll(
+                () -> assertTrue(lexer.isLong()),
+                () -> assertEquals(Long.parseLong(text), lexer.longValue()),
+                () -> assertEquals(Double.parseDouble(text), lexer.doubleValue()),
+                () -> assertEquals(new BigDecimal(text), lexer.decimalValue()),
+                () -> assertEquals(text, lexer.toString())
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonNumberLexer} instance parses fractions, exponents and
+     *   integers out of the {@code long} range exactly.
+     *
+     * @param text text of a number.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"9223372036854775808", "-9223372036854775809", "123456789012345678901234567890",
+            "2.5", "-0.125", "1e3", "-1.5E-7", "0.1"})
+    @DisplayName("Parses fractions, exponents and out of range integers exactly")
+    void lexesDecimals(String text) {
+        JsonNumberLexer lexer = lex(new JsonNumberLexer(), text);
+
+        assertAll(
+                () -> assertFalse(lexer.isLong()),
+                () -> assertEquals(Double.parseDouble(text), lexer.doubleValue()),
+                () -> assertEquals(new BigDecimal(text), lexer.decimalValue())
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonNumberLexer} instance throws a {@link NumberFormatException}
+     *   if the characters do not form a number.
+     *
+     * @param text invalid text.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"-", "1-2", "12abc", "-Infinity", "1.5f"})
+    @DisplayName("Throws an exception on invalid numbers")
+    void failsOnInvalidNumbers(String text) {
+        JsonNumberLexer lexer = lex(new JsonNumberLexer(), text);
+
+        assertAll(
+                () -> assertFalse(lexer.isLong()),
+                () -> assertThrows(NumberFormatException.class, lexer::doubleValue),
+                () -> assertThrows(NumberFormatException.class, lexer::decimalValue)
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonNumberLexer} instance discards the previous number when started again.
+     */
+    @Test
+    @DisplayName("Discards the previous number when started again")
+    void restarts() {
+        JsonNumberLexer lexer = new JsonNumberLexer();
+        lex(lexer, "-1.5e300" + "0".repeat(100));
+
+        assertAll(
+                () -> assertEquals(12, lex(lexer, "12").longValue()),
+                () -> assertTrue(lexer.isLong()),
+                () -> assertEquals("12", lexer.toString())
+        );
+    }
+
+    /**
+     * Tests if a {@link JsonNumberLexer} instance detects numbers written in plain notation
+     *   without redundant zeros.
+     */
+    @Test
+    @DisplayName("Detects numbers in plain notation without redundant zeros")
+    void detectsPlainDecimals() {
+        JsonNumberLexer lexer = new JsonNumberLexer();
+
+        assertAll(
+                () -> assertTrue(lex(lexer, "123.45").isPlainDecimal()),
+                () -> assertTrue(lex(lexer, "-0.5").isPlainDecimal()),
+                () -> assertTrue(lex(lexer, "100.0").isPlainDecimal()),
+                () -> assertFalse(lex(lexer, "0.10").isPlainDecimal()),
+                () -> assertFalse(lex(lexer, "1e2").isPlainDecimal()),
+                () -> assertFalse(lex(lexer, "00.5").isPlainDecimal()),
+                () -> assertFalse(lex(lexer, "5.").isPlainDecimal()),
+                () -> assertFalse(lex(lexer, "42").isPlainDecimal())
+        );
+    }
+}
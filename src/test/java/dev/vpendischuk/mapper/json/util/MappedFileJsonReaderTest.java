@@ -0,0 +1,80 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link MappedFileJsonReader} class.
+ */
+class MappedFileJsonReaderTest {
+    // JSON used as an input in the tests.
+    private static final String TEST_JSON = "{ \"list\" : [\"str1\", \"\u0441\u0442\u04402\"], " +
+            "\"name\":\"na\u00efve \\\"\u20ac\\\"\",\n\"value\":2.4,\"flag\":true}";
+
+    /**
+     * Tests if a {@link MappedFileJsonReader} instance reads the same model as a {@link DefaultJsonReader}
+     *   when the file is split between several mapped regions.
+     *
+     * @param mappingSize size of a single mapped region.
+     * @param directory temporary directory for the test file.
+     * @throws IOException if the test file could not be written or read.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 9, 13, 64, MappedFileJsonReader.DEFAULT_MAPPING_SIZE})
+    @DisplayName("Reads a model correctly when values span several mapped regions")
+    void readsAcrossMappedRegions(int mappingSize, @TempDir Path directory) throws IOException {
+        Path file = directory.resolve("test.json");
+        Files.write(file, TEST_JSON.getBytes(StandardCharsets.UTF_8));
+
+        JsonObject expected = new JsonObject(new DefaultJsonReader(TEST_JSON, false));
+
+        try (MappedFileJsonReader reader = new MappedFileJsonReader(file.toFile(), false, mappingSize)) {
+            assertEquals(expected.toString(), new JsonObject(reader).toString());
+        }
+    }
+
+    /**
+     * Tests if a {@link MappedFileJsonReader} instance reads strings and canonical field names
+     *   from the direct buffers of the mapped regions.
+     *
+     * @param mappingSize size of a single mapped region.
+     * @param directory temporary directory for the test file.
+     * @throws IOException if the test file could not be written or read.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {8, 13, MappedFileJsonReader.DEFAULT_MAPPING_SIZE})
+    @DisplayName("Reads strings and canonical names from mapped regions")
+    void readsStringsFromMappedRegions(int mappingSize, @TempDir Path directory) throws IOException {
+        Path file = directory.resolve("test.json");
+        Files.write(file, "\"na\u00efve\" \"na\u00efve\" \"plain\" \"esc\\\"aped\"".getBytes(StandardCharsets.UTF_8));
+        SymbolTable symbols = new SymbolTable();
+
+        try (MappedFileJsonReader reader = new MappedFileJsonReader(file.toFile(), false, mappingSize)) {
+            reader.nextCharacterTrimmed();
+            String first = reader.nextStringContent('"', symbols);
+            reader.nextCharacterTrimmed();
+            String second = reader.nextStringContent('"', symbols);
+            reader.nextCharacterTrimmed();
+            String plain = reader.nextStringContent('"');
+            reader.nextCharacterTrimmed();
+            String escaped = reader.nextStringContent('"', symbols);
+
+            assertAll(
+                    () -> assertEquals("na\u00efve", first),
+                    () -> assertSame(first, second),
+                    () -> assertEquals("plain", plain),
+                    () -> assertEquals("esc\"aped", escaped)
+            );
+        }
+    }
+}
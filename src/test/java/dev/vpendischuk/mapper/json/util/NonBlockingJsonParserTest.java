@@ -0,0 +1,142 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.util.enums.JsonToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link NonBlockingJsonParser} class.
+ */
+class NonBlockingJsonParserTest {
+    // JSON used as an input in the tests.
+    private static final String TEST_JSON = "{\"id\": 42, \"name\": 'Ja\\\"son', \"tags\": [\"\u0441\u0442\u0440\", true, null,],"
+            + " \"nested\": {\"value\": -2.5e3, unquoted: \u20acuro}, \"empty\": {}, \"list\": [],"
+            + " \"esc\\u0061ped\": \"\\u0041\\u00e9\\u4E2D\\ud83d\\ude00\\u001f\"}";
+
+    /**
+     * Reads the tokens of a document with a pull parser.
+     *
+     * @param json the document.
+     * @return list of descriptions of the tokens.
+     */
+    private static List<String> pullTokens(String json) {
+        JsonParser parser = new DefaultJsonParser(new DefaultJsonReader(json, false));
+        List<String> tokens = new ArrayList<>();
+
+        for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+            boolean isDelimiter = token == JsonToken.START_OBJECT || token == JsonToken.END_OBJECT ||
+                    token == JsonToken.START_ARRAY || token == JsonToken.END_ARRAY;
+            tokens.add(token + " " + (isDelimiter ? null : parser.getText()) + " " + parser.getDepth());
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Feeds a document to a push parser in chunks of specified size.
+     *
+     * @param json the document.
+     * @param chunkSize size of a chunk.
+     * @return list of descriptions of the reported tokens.
+     */
+    private static List<String> pushTokens(String json, int chunkSize) {
+        List<String> tokens = new ArrayList<>();
+        NonBlockingJsonParser[] parser = new NonBlockingJsonParser[1];
+        parser[0] = new NonBlockingJsonParser((token, text) -> tokens.add(token + " " + text + " " + parser[0].getDepth()));
+
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < data.length; offset += chunkSize) {
+            parser[0].feed(ByteBuffer.wrap(data, offset, Math.min(chunkSize, data.length - offset)));
+        }
+        parser[0].endOfInput();
+
+        return tokens;
+    }
+
+    /**
+     * Tests if a {@link NonBlockingJsonParser} instance reports the same tokens as a pull parser
+     *   regardless of how the input is split into chunks.
+     *
+     * @param chunkSize size of a chunk.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 1024})
+    @DisplayName("Reports the same tokens regardless of chunk boundaries")
+    void reportsTokensAcrossChunks(int chunkSize) {
+        assertEquals(pullTokens(TEST_JSON), pushTokens(TEST_JSON, chunkSize));
+    }
+
+    /**
+     * Tests if a {@link NonBlockingJsonParser} instance reads a sequence of top-level values.
+     */
+    @Test
+    @DisplayName("Reads a sequence of top-level values")
+    void readsValueSequence() {
+        String json = "{\"a\":1}\n[2]\n3\n\"four\"\nnull";
+
+        assertEquals(pullTokens(json), pushTokens(json, 2));
+    }
+
+    /**
+     * Tests if a {@link NonBlockingJsonParser} instance reports tokens as soon as they are complete.
+     */
+    @Test
+    @DisplayName("Reports tokens as soon as they are complete")
+    void reportsTokensEagerly() {
+        List<JsonToken> tokens = new ArrayList<>();
+        NonBlockingJsonParser parser = new NonBlockingJsonParser((token, text) -> tokens.add(token));
+
+        parser.feed("{\"key\":".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of(JsonToken.START_OBJECT, JsonToken.FIELD_NAME), tokens);
+
+        parser.feed("\"val".getBytes(StandardCharsets.UTF_8));
+        assertEquals(2, tokens.size());
+
+        parser.feed("ue\"}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of(JsonToken.START_OBJECT, JsonToken.FIELD_NAME,
+                JsonToken.VALUE_STRING, JsonToken.END_OBJECT), tokens);
+    }
+
+    /**
+     * Tests if a {@link NonBlockingJsonParser} instance throws on invalid or incomplete documents.
+     *
+     * @param json invalid JSON.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\" 1}", "[\"a\" \"b\"]", "[,1]", "{\"a\":[1,2}", "{\"a\":", "{1:2}", "\"abc", "[\"\\x\"]",
+            "[\"\\u12g4\"]"})
+    @DisplayName("Throws on syntax errors")
+    void throwsOnSyntaxErrors(String json) {
+        assertThrows(JsonReadException.class, () -> pushTokens(json, 1));
+    }
+
+    /**
+     * Tests if a {@link NonBlockingJsonParser} instance reports the position of a syntax error
+     *   in the whole input regardless of how it is split into chunks.
+     *
+     * @param chunkSize size of a chunk.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 100})
+    @DisplayName("Reports the position of a syntax error")
+    void reportsErrorPosition(int chunkSize) {
+        JsonReadException exception = assertThrows(JsonReadException.class,
+                () -> pushTokens("{\"a\":1,\n \"b\" 2}", chunkSize));
+
+        assertAll(
+                () -> assertEquals(14, exception.getOffset()),
+                () -> assertEquals(2, exception.getLine()),
+                () -> assertEquals(6, exception.getColumn())
+        );
+    }
+}
@@ -0,0 +1,149 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link StructuralIndexJsonReader} class.
+ */
+class StructuralIndexJsonReaderTest {
+    /**
+     * Tests if a {@link StructuralIndexJsonReader} instance reads the same model as a {@link DefaultJsonReader}.
+     *
+     * @param json JSON used as an input.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{ \"list\" : [\"str1\", \"\u0441\u0442\u04402\"], \"name\":\"na\u00efve \\\"\u20ac\\\"\",\n\"value\":2.4}",
+            "{\"a\":{\"b\":[true, null, \"x\\\\\"]}, \"c\":\"\", \"d\":-1.5e3}",
+            "{'single':'quoted', \"double\":\"quoted\"}",
+            "{\"long\":\"0123456789012345678901234567890123456789012345678901234567890123456789\"}",
+            "\n{\n  \"a\" : [ 1,\n -2.5e1,true\n ] ,\n  \"b\" :{ \"c\" : null\t}\n}\n  "
+    })
+    @DisplayName("Reads the same model as the default reader")
+    void readsSameModel(String json) {
+        String expected = new JsonObject(new DefaultJsonReader(json, false)).toString();
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(expected, new JsonObject(new StructuralIndexJsonReader(data, false)).toString());
+    }
+
+    /**
+     * Tests if a {@link StructuralIndexJsonReader} instance reads data that starts at an offset.
+     */
+    @Test
+    @DisplayName("Reads data that starts at an offset")
+    void readsWithOffset() {
+        byte[] data = "xx{\"name\":\"value\"}yy".getBytes(StandardCharsets.UTF_8);
+        String expected = new JsonObject(new DefaultJsonReader("{\"name\":\"value\"}", false)).toString();
+
+        assertEquals(expected, new JsonObject(new StructuralIndexJsonReader(data, 2, 16, false)).toString());
+    }
+
+    /**
+     * Tests if a {@link StructuralIndexJsonReader} instance throws a {@link JsonReadException}
+     *   for strings that are unterminated or contain line breaks.
+     *
+     * @param json invalid JSON.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\":\"abc}", "{\"a\":\"line\nbreak\"}"})
+    @DisplayName("Throws an exception on invalid strings")
+    void failsOnInvalidStrings(String json) {
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(JsonReadException.class, () -> new JsonObject(new StructuralIndexJsonReader(data, false)));
+    }
+
+    /**
+     * Tests if a {@link StructuralIndexJsonReader} instance skips values to the same position
+     *   as a {@link Utf8JsonReader}.
+     *
+     * @param value JSON of the skipped value.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "\"a\\\"b\"",
+            "{\"x\":[1,\"]\",{}],\"y\":\"}\"}",
+            "[[],[[ ]] ]",
+            "123",
+            "null",
+            "\"line\\\nbreak\""
+    })
+    @DisplayName("Skips values to the same position as the UTF-8 reader")
+    void skipsValues(String value) {
+        byte[] data = ("[ " + value + " ,7]").getBytes(StandardCharsets.UTF_8);
+        JsonReader expected = new Utf8JsonReader(data, false);
+        JsonReader actual = new StructuralIndexJsonReader(data, false);
+
+        for (JsonReader reader : new JsonReader[] {expected, actual}) {
+            reader.nextCharacterTrimmed();
+            reader.skipValue();
+        }
+
+        assertAll(
+                () -> assertEquals(expected.getReadOffset(), actual.getReadOffset()),
+                () -> assertEquals(expected.previousCharacter(), actual.previousCharacter()),
+                () -> assertEquals(',', actual.nextCharacterTrimmed())
+        );
+    }
+
+    /**
+     * Tests if a {@link StructuralIndexJsonReader} instance throws a {@link JsonReadException}
+     *   when a skipped value is invalid.
+     *
+     * @param value JSON of the skipped value.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\":\"line\nbreak\"}]", "{\"a\":1]", "[[1,2]", "{\"a\":\"x", "[1,\u0000]]", ""})
+    @DisplayName("Throws an exception when a skipped value is invalid")
+    void failsOnInvalidSkippedValues(String value) {
+        byte[] data = ("[" + value).getBytes(StandardCharsets.UTF_8);
+        JsonReader reader = new StructuralIndexJsonReader(data, false);
+        reader.nextCharacterTrimmed();
+
+        assertThrows(JsonReadException.class, reader::skipValue);
+    }
+
+    /**
+     * Tests if a {@link StructuralIndexJsonReader} instance finds the separators of arrays
+     *   whose values start with a dollar sign or an escape.
+     *
+     * @param json JSON array.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"[{\"price\":\"$12.50\"}, {\"text\":\"\\u0041\"}]",
+            "[{\"$price\":1}, {\"\\u0024\":\"$ref\"}]"})
+    @DisplayName("Splits arrays with values that start with a dollar sign")
+    void findsSeparatorsOfArraysWithDollarValues(String json) {
+        StructuralIndexJsonReader reader = new StructuralIndexJsonReader(json.getBytes(StandardCharsets.UTF_8), false);
+        reader.nextCharacterTrimmed();
+
+        assertArrayEquals(new int[] {0, json.indexOf("}, ") + 1, json.length() - 1}, reader.findArraySeparators());
+    }
+
+    /**
+     * Tests if a {@link StructuralIndexJsonReader} instance does not split arrays
+     *   that contain reference keys, including escaped and unquoted ones.
+     *
+     * @param json JSON array.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"[{\"a\":1}, {\"$ref\":\"x\"}]", "[{\"a\":1}, {\"$id\" : \"x\"}]",
+            "[{\"a\":1}, {\"\\u0024ref\":\"x\"}]", "[{\"a\":1}, {$ref :\"x\"}]"})
+    @DisplayName("Does not split arrays with reference keys")
+    void keepsArraysWithReferencesWhole(String json) {
+        StructuralIndexJsonReader reader = new StructuralIndexJsonReader(json.getBytes(StandardCharsets.UTF_8), false);
+        reader.nextCharacterTrimmed();
+
+        assertNull(reader.findArraySeparators());
+    }
+}
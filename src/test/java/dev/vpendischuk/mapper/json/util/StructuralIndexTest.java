@@ -0,0 +1,142 @@
+package dev.vpendischuk.mapper.json.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Class that wraps unit tests for the {@link StructuralIndex} class and its scanners.
+ */
+class StructuralIndexTest {
+    /**
+     * Returns the positions of the structural characters of an index.
+     *
+     * @param index the index.
+     * @return list of the positions.
+     */
+    private static List<Integer> positions(StructuralIndex index) {
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < index.size(); ++i) {
+            positions.add(index.position(i));
+        }
+
+        return positions;
+    }
+
+    /**
+     * Tests if a {@link StructuralIndex} instance contains the structural characters
+     *   outside of strings, the unescaped quotes and the first bytes of literals.
+     */
+    @Test
+    @DisplayName("Indexes structural characters, string limits and literals")
+    void indexesStructuralCharacters() {
+        byte[] data = "{\"a\\\"[\":[1, \"b,c\\\\\"]}".getBytes(StandardCharsets.UTF_8);
+        StructuralIndex index = new ScalarStructuralScanner().scan(data, 0, data.length);
+
+        byte[] literals = "[12, true ,null,\"x\"x -1]".getBytes(StandardCharsets.UTF_8);
+        StructuralIndex literalIndex = new ScalarStructuralScanner().scan(literals, 0, literals.length);
+
+        assertAll(
+                () -> assertEquals(List.of(0, 1, 6, 7, 8, 9, 10, 12, 18, 19, 20), positions(index)),
+                () -> assertEquals(List.of(0, 1, 3, 5, 10, 11, 15, 16, 18, 19, 21, 23), positions(literalIndex))
+        );
+    }
+
+    /**
+     * Tests if the vector and scalar scanners build the same index
+     *   for strings and escapes that cross block boundaries.
+     *
+     * @param seed seed of the generated document.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5})
+    @DisplayName("Builds the same index with the vector and scalar scanners")
+    void vectorScannerMatchesScalar(int seed) {
+        assumeTrue(StructuralIndex.isVectorized(), "The Vector API scanner is only built by the vector profile.");
+
+        Random random = new Random(seed);
+        String alphabet = "ab \\\"{}[]:,\n\u00e9";
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 1000 + random.nextInt(200); ++i) {
+            json.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+
+        byte[] data = json.toString().getBytes(StandardCharsets.UTF_8);
+        int offset = random.nextInt(10);
+        int length = data.length - offset - random.nextInt(10);
+
+        StructuralIndex scalar = new ScalarStructuralScanner().scan(data, offset, length);
+        StructuralIndex vector = StructuralIndex.build(data, offset, length);
+
+        assertAll(
+                () -> assertEquals(positions(scalar), positions(vector)),
+                () -> assertEquals(scalar.hasSpecialCharacters(0, length / 2),
+                        vector.hasSpecialCharacters(0, length / 2))
+        );
+    }
+
+    /**
+     * Tests if a {@link StructuralIndex} instance detects backslashes and line breaks in ranges.
+     */
+    @Test
+    @DisplayName("Detects backslashes and line breaks in ranges")
+    void detectsSpecialCharacters() {
+        byte[] data = new byte[200];
+        Arrays.fill(data, (byte) 'a');
+        data[70] = '\\';
+        data[150] = '\n';
+        StructuralIndex index = StructuralIndex.build(data, 0, data.length);
+
+        assertAll(
+                () -> assertTrue(index.hasSpecialCharacters(0, 71)),
+                () -> assertFalse(index.hasSpecialCharacters(0, 70)),
+                () -> assertFalse(index.hasSpecialCharacters(71, 150)),
+                () -> assertTrue(index.hasSpecialCharacters(100, 200)),
+                () -> assertTrue(index.hasSpecialCharacters(10, 160)),
+                () -> assertFalse(index.hasSpecialCharacters(151, 200))
+        );
+    }
+
+    /**
+     * Tests if the data with single-quoted strings is not indexed.
+     */
+    @Test
+    @DisplayName("Does not index single-quoted strings")
+    void skipsSingleQuotedStrings() {
+        byte[] quoted = "{\"it's\":1}".getBytes(StandardCharsets.UTF_8);
+        byte[] singleQuoted = "{'a':1}".getBytes(StandardCharsets.UTF_8);
+
+        assertAll(
+                () -> assertNotNull(StructuralIndex.build(quoted, 0, quoted.length)),
+                () -> assertNull(StructuralIndex.build(singleQuoted, 0, singleQuoted.length))
+        );
+    }
+
+    /**
+     * Tests if a {@link StructuralIndex} instance detects line breaks inside of strings
+     *   and zero bytes outside of them.
+     */
+    @Test
+    @DisplayName("Detects line breaks inside of strings and zero bytes outside of them")
+    void detectsSuspectCharacters() {
+        byte[] data = "[\n\"a\nb\", \"\u0000\", \u0000]".getBytes(StandardCharsets.UTF_8);
+        StructuralIndex index = StructuralIndex.build(data, 0, data.length);
+
+        assertAll(
+                () -> assertFalse(index.hasSuspectCharacters(0, 2)),
+                () -> assertTrue(index.hasSuspectCharacters(2, 7)),
+                () -> assertFalse(index.hasSuspectCharacters(7, 13)),
+                () -> assertTrue(index.hasSuspectCharacters(13, data.length))
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package dev.vpendischuk.mapper.json.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link SymbolTable} class.
+ */
+class SymbolTableTest {
+    /**
+     * Tests if a {@link SymbolTable} instance returns the canonical instance of a symbol
+     *   for equal strings, characters and UTF-8 bytes.
+     */
+    @Test
+    @DisplayName("Returns canonical instances of symbols")
+    void returnsCanonicalInstances() {
+        SymbolTable symbols = new SymbolTable();
+        String symbol = symbols.add("na\u00efve");
+        char[] chars = "[na\u00efve]".toCharArray();
+        byte[] bytes = "[na\u00efve]".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+        assertAll(
+                () -> assertSame(symbol, symbols.add(new String(chars, 1, 5))),
+                () -> assertSame(symbol, symbols.lookup(chars, 1, 5)),
+                () -> assertSame(symbol, symbols.lookup(bytes, 1, 6)),
+                () -> assertNull(symbols.lookup(chars, 1, 4)),
+                () -> assertNull(symbols.lookup(bytes, 1, 5)),
+                () -> assertSame(symbol, symbols.lookup(buffer, 1, 6)),
+                () -> assertNull(symbols.lookup(buffer, 1, 5)),
+                () -> assertEquals(1, symbols.size())
+        );
+    }
+
+    /**
+     * Tests if a {@link SymbolTable} instance keeps all symbols when it grows
+     *   and stops storing new ones when its limit is reached.
+     */
+    @Test
+    @DisplayName("Grows up to its limit")
+    void growsUpToLimit() {
+        SymbolTable symbols = new SymbolTable(500);
+        for (int i = 0; i < 600; ++i) {
+            symbols.add("key" + i);
+        }
+
+        byte[] stored = "key499".getBytes(StandardCharsets.UTF_8);
+
+        assertAll(
+                () -> assertEquals(500, symbols.size()),
+                () -> assertEquals("key499", symbols.lookup(stored, 0, stored.length)),
+                () -> assertNull(symbols.lookup("key500".toCharArray(), 0, 6))
+        );
+    }
+
+    /**
+     * Tests if a {@link SymbolTable} instance with a zero limit does not store symbols.
+     */
+    @Test
+    @DisplayName("Does not store symbols when disabled")
+    void disabledTableStoresNothing() {
+        SymbolTable symbols = new SymbolTable(0);
+        String symbol = "key";
+
+        assertAll(
+                () -> assertSame(symbol, symbols.add(symbol)),
+                () -> assertNull(symbols.lookup("key".toCharArray(), 0, 3)),
+                () -> assertEquals(0, symbols.size())
+        );
+    }
+}
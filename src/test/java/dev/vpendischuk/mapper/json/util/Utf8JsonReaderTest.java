@@ -0,0 +1,183 @@
+package dev.vpendischuk.mapper.json.util;
+
+import dev.vpendischuk.mapper.json.exceptions.JsonReadException;
+import dev.vpendischuk.mapper.json.types.JsonObject;
+import dev.vpendischuk.mapper.json.types.JsonString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link Utf8JsonReader} class.
+ */
+class Utf8JsonReaderTest {
+    // JSON used as an input in the tests.
+    private static final String TEST_JSON = "{ \"list\" : [\"str1\", \"\u0441\u0442\u04402\"], \"name\":\"na\u00efve \\\"\u20ac\\\"\",\n" +
+            "\"value\":2.4,\"flag\":true}";
+
+    /**
+     * Tests if a {@link Utf8JsonReader} instance reads the same model as a {@link DefaultJsonReader}
+     *   regardless of the size of its byte window.
+     *
+     * @param bufferSize size of the byte window.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 9, 13, 64, Utf8JsonReader.DEFAULT_BUFFER_SIZE})
+    @DisplayName("Reads a model from a stream correctly when values span several window refills")
+    void readsStreamAcrossWindowRefills(int bufferSize) {
+        JsonObject expected = new JsonObject(new DefaultJsonReader(TEST_JSON, false));
+        JsonObject read = new JsonObject(new Utf8JsonReader(
+                new ByteArrayInputStream(TEST_JSON.getBytes(StandardCharsets.UTF_8)), false, bufferSize));
+
+        assertEquals(expected.toString(), read.toString());
+    }
+
+    /**
+     * Tests if a {@link Utf8JsonReader} instance reads a model from a byte array
+     *   and from heap and direct byte buffers.
+     */
+    @Test
+    @DisplayName("Reads a model from byte arrays and byte buffers")
+    void readsArraysAndBuffers() {
+        byte[] data = TEST_JSON.getBytes(StandardCharsets.UTF_8);
+        String expected = new JsonObject(new DefaultJsonReader(TEST_JSON, false)).toString();
+
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(data.length + 2);
+        directBuffer.put((byte) ' ').put(data).flip();
+        directBuffer.position(1);
+
+        byte[] paddedData = new byte[data.length + 4];
+        System.arraycopy(data, 0, paddedData, 2, data.length);
+
+        assertAll(
+                () -> assertEquals(expected, new JsonObject(new Utf8JsonReader(data, false)).toString()),
+                () -> assertEquals(expected, new JsonObject(new Utf8JsonReader(directBuffer, false)).toString()),
+                () -> assertEquals(expected, new JsonObject(
+                        new Utf8JsonReader(paddedData, 2, data.length, false)).toString())
+        );
+    }
+
+    /**
+     * Tests if a {@link Utf8JsonReader} instance decodes non-ASCII string contents.
+     */
+    @Test
+    @DisplayName("Decodes non-ASCII string contents")
+    void decodesStringContents() {
+        String text = "\"\u041f\u0440\u0438\u0432\u0435\u0442, \u4e16\u754c \ud83d\ude00\"";
+        Utf8JsonReader reader = new Utf8JsonReader(text.getBytes(StandardCharsets.UTF_8), false);
+
+        assertEquals(new JsonString("\u041f\u0440\u0438\u0432\u0435\u0442, \u4e16\u754c \ud83d\ude00").getContent(),
+                ((JsonString) reader.nextValue()).getContent());
+    }
+
+    /**
+     * Tests if a {@link Utf8JsonReader} instance steps back over a multibyte character.
+     */
+    @Test
+    @DisplayName("Steps back over a multibyte character")
+    void movesBackOverMultibyteCharacter() {
+        Utf8JsonReader reader = new Utf8JsonReader(
+                new ByteArrayInputStream("a\u0436".getBytes(StandardCharsets.UTF_8)), false, 1);
+
+        assertAll(
+                () -> assertEquals('a', reader.nextCharacterTrimmed()),
+                () -> assertEquals('\u0436', reader.nextCharacterTrimmed()),
+                () -> assertDoesNotThrow(reader::moveBack),
+                () -> assertEquals('\u0436', reader.nextCharacterTrimmed()),
+                () -> assertEquals(0, reader.nextCharacterTrimmed()),
+                () -> assertThrows(JsonReadException.class, () -> {
+                    reader.moveBack();
+                    reader.moveBack();
+                })
+        );
+    }
+
+    /**
+     * Tests if a {@link Utf8JsonReader} instance throws a {@link JsonReadException}
+     *   for an unterminated string.
+     */
+    @Test
+    @DisplayName("Throws an exception on an unterminated string")
+    void failsOnUnterminatedString() {
+        Utf8JsonReader reader = new Utf8JsonReader("\"abc".getBytes(StandardCharsets.UTF_8), false);
+
+        assertThrows(JsonReadException.class, reader::nextValue);
+    }
+
+    /**
+     * Tests if a {@link Utf8JsonReader} instance reports the position of a syntax error,
+     *   counting the offset and the column in bytes, regardless of the size of its byte window.
+     *
+     * @param bufferSize size of the byte window.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {8, 9, 13, Utf8JsonReader.DEFAULT_BUFFER_SIZE})
+    @DisplayName("Reports the position of a syntax error")
+    void reportsErrorPosition(int bufferSize) {
+        byte[] data = "{\"\u00e9\":1,\n \"b\":\"\u00e9\\q\"}".getBytes(StandardCharsets.UTF_8);
+        JsonReadException exception = assertThrows(JsonReadException.class,
+                () -> new JsonObject(new Utf8JsonReader(new ByteArrayInputStream(data), false, bufferSize)));
+
+        assertAll(
+                () -> assertEquals(19, exception.getOffset()),
+                () -> assertEquals(2, exception.getLine()),
+                () -> assertEquals(10, exception.getColumn())
+        );
+    }
+
+    /**
+     * Tests if a {@link Utf8JsonReader} instance that continues a longer input
+     *   reports the position of a syntax error in the whole input.
+     */
+    @Test
+    @DisplayName("Reports the position of a syntax error in the continued input")
+    void reportsErrorPositionInContinuedInput() {
+        byte[] data = "{\"a\":1,\n \"b\":\"\\q\"}".getBytes(StandardCharsets.UTF_8);
+        JsonReadException exception = assertThrows(JsonReadException.class,
+                () -> new JsonObject(Utf8JsonReader.continuing(data, 100, 4, false)));
+
+        assertAll(
+                () -> assertEquals(116, exception.getOffset()),
+                () -> assertEquals(6, exception.getLine()),
+                () -> assertEquals(8, exception.getColumn())
+        );
+    }
+
+    /**
+     * Tests if a {@link Utf8JsonReader} instance reads strings with and without escapes
+     *   from arrays and streams regardless of the size of its byte window.
+     *
+     * @param bufferSize size of the byte window.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {8, 9, 13, Utf8JsonReader.DEFAULT_BUFFER_SIZE})
+    @DisplayName("Reads strings with and without escapes")
+    void readsStrings(int bufferSize) {
+        byte[] data = ("\"a\u00e9\\\"c\\nd\" 'na\u00efve' \"plain\" "
+                + "\"\\u0041\\u00E9\\u4e2d\\ud83d\\ude00\\u001f\" \"\\ud83d|\\ude00\\ud83d\"").getBytes(StandardCharsets.UTF_8);
+
+        for (Utf8JsonReader reader : new Utf8JsonReader[] {new Utf8JsonReader(data, false),
+                new Utf8JsonReader(new ByteArrayInputStream(data), false, bufferSize)}) {
+            assertAll(
+                    () -> assertEquals('"', reader.nextCharacterTrimmed()),
+                    () -> assertEquals("a\u00e9\"c\nd", reader.nextStringContent('"')),
+                    () -> assertEquals('\'', reader.nextCharacterTrimmed()),
+                    () -> assertEquals("na\u00efve", reader.nextStringContent('\'')),
+                    () -> assertEquals('"', reader.nextCharacterTrimmed()),
+                    () -> assertEquals("plain", reader.nextStringContent('"')),
+                    () -> assertEquals('"', reader.nextCharacterTrimmed()),
+                    () -> assertEquals("A\u00e9\u4e2d\ud83d\ude00\u001f", reader.nextStringContent('"')),
+                    () -> assertEquals('"', reader.nextCharacterTrimmed()),
+                    () -> assertEquals("?|??", reader.nextStringContent('"')),
+                    () -> assertEquals(0, reader.nextCharacterTrimmed())
+            );
+        }
+    }
+}
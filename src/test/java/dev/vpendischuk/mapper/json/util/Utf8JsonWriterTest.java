@@ -0,0 +1,227 @@
+package dev.vpendischuk.mapper.json.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class that wraps unit tests for the {@link Utf8JsonWriter} and {@link DefaultJsonWriter} classes.
+ */
+class Utf8JsonWriterTest {
+    /**
+     * Tests that text is encoded as by {@link String#getBytes(java.nio.charset.Charset)},
+     *   including with buffers that are smaller than the text.
+     *
+     * @param text the text.
+     * @throws IOException never.
+     */
+    @ParameterizedTest
+    @DisplayName("Utf8JsonWriter - text is encoded to UTF-8")
+    @ValueSource(strings = {
+            "plain ascii text",
+            "\u00e9t\u00e9 \u00fcber \u0436\u0443\u0440\u043d\u0430\u043b",
+            "\u4e2d\u6587\u6587\u672c\u4e2d\u6587\u6587\u672c\u4e2d\u6587\u6587\u672c\u4e2d\u6587",
+            "emoji \ud83d\ude00\ud83d\ude01\ud83d\ude02 between ascii",
+            "unpaired \ud83d high and \ude00 low surrogates \ud83d",
+    })
+    void encodesText(String text) throws IOException {
+        String repeated = text.repeat(50);
+
+        for (int bufferSize : new int[] {1, 25, 31, 8192}) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (JsonWriter writer = new Utf8JsonWriter(output, bufferSize)) {
+                writer.write(repeated);
+                writer.write('\u00e9');
+            }
+
+            assertArrayEquals((repeated + '\u00e9').getBytes(StandardCharsets.UTF_8), output.toByteArray(),
+                    "buffer size " + bufferSize);
+        }
+    }
+
+    /**
+     * Escapes the text as required by RFC 8259, character by character.
+     *
+     * @param text the text.
+     * @return the quoted and escaped text.
+     */
+    private static String quote(String text) {
+        StringBuilder builder = new StringBuilder("\"");
+
+        for (final char character : text.toCharArray()) {
+            switch (character) {
+                case '\"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> builder.append(character < 0x20 ? String.format("\\u%04X", (int) character) : character);
+            }
+        }
+
+        return builder.append('\"').toString();
+    }
+
+    /**
+     * Tests that strings are escaped the same way by every writer, including with buffers
+     *   that are smaller than the text.
+     *
+     * @param text the text.
+     * @throws IOException never.
+     */
+    @ParameterizedTest
+    @DisplayName("JsonWriter - strings are quoted and escaped")
+    @ValueSource(strings = {
+            "plain ascii text",
+            "\"quoted\" and back\\slashed",
+            "line\nbreak\ttab\rreturn\bback\fform",
+            "\u0000\u0001\u001f\u007f control",
+            "\u00e9t\u00e9 \"\u4e2d\u6587\"\n\ud83d\ude00\\",
+            "null",
+    })
+    void writesStrings(String text) throws IOException {
+        String repeated = text.repeat(20);
+        String expected = quote(repeated) + "," + quote("");
+
+        for (int bufferSize : new int[] {1, 25, 31, 8192}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            StringWriter chars = new StringWriter();
+            StringJsonWriter string = new StringJsonWriter();
+
+            for (JsonWriter writer : new JsonWriter[] {
+                    new Utf8JsonWriter(bytes, bufferSize), new DefaultJsonWriter(chars, bufferSize), string}) {
+                writer.writeString(repeated);
+                writer.write(',');
+                writer.writeString("");
+                writer.flush();
+            }
+
+            assertAll(
+                    () -> assertEquals(expected, bytes.toString(StandardCharsets.UTF_8), "buffer size " + bufferSize),
+                    () -> assertEquals(expected, chars.toString(), "buffer size " + bufferSize),
+                    () -> assertEquals(expected, string.toString())
+            );
+            string.close();
+        }
+    }
+
+    /**
+     * Tests that pre-encoded text is written by every writer the same way as a string,
+     *   including text that is larger than the buffer.
+     *
+     * @throws IOException never.
+     */
+    @Test
+    @DisplayName("JsonWriter - pre-encoded text is written as a string")
+    void writesEncodedText() throws IOException {
+        EncodedText key = new EncodedText("\"cl\u00e9 \u4e2d\":");
+        EncodedText largeKey = new EncodedText("\"" + "k".repeat(100) + "\":");
+        String expected = ("{" + key + "1," + largeKey + "2}").repeat(3);
+
+        for (int bufferSize : new int[] {25, 8192}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            StringWriter chars = new StringWriter();
+            StringJsonWriter string = new StringJsonWriter();
+
+            for (JsonWriter writer : new JsonWriter[] {
+                    new Utf8JsonWriter(bytes, bufferSize), new DefaultJsonWriter(chars, bufferSize), string}) {
+                for (int i = 0; i < 3; ++i) {
+                    writer.write('{');
+                    writer.write(key);
+                    writer.writeNumber(1);
+                    writer.write(',');
+                    writer.write(largeKey);
+                    writer.writeNumber(2);
+                    writer.write('}');
+                }
+                writer.flush();
+            }
+
+            assertAll(
+                    () -> assertEquals(expected, bytes.toString(StandardCharsets.UTF_8), "buffer size " + bufferSize),
+                    () -> assertEquals(expected, chars.toString(), "buffer size " + bufferSize),
+                    () -> assertEquals(expected, string.toString())
+            );
+            string.close();
+        }
+    }
+
+    /**
+     * Tests that numbers are written as by the model.
+     *
+     * @throws IOException never.
+     */
+    @Test
+    @DisplayName("Utf8JsonWriter - numbers are written in decimal form")
+    void writesNumbers() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (JsonWriter writer = new Utf8JsonWriter(output, 1)) {
+            long[] longs = {0, 7, -7, 10, 1_000_000_007, -999_999_999_999L, Long.MAX_VALUE, Long.MIN_VALUE};
+            for (long value : longs) {
+                writer.writeNumber(value);
+                writer.write(',');
+            }
+
+            writer.writeNumber(0.1 + 0.2);
+            writer.write(',');
+            writer.writeNumber(0.1f);
+        }
+
+        assertEquals("0,7,-7,10,1000000007,-999999999999,9223372036854775807,-9223372036854775808,"
+                + "0.30000000000000004,0.1", output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that the default writer passes the same text to a {@link java.io.Writer}.
+     *
+     * @throws IOException never.
+     */
+    @Test
+    @DisplayName("DefaultJsonWriter - text and numbers are written to a writer")
+    void writesToWriter() throws IOException {
+        String text = "\u4e2d\u6587 \ud83d\ude00 text".repeat(10);
+
+        StringWriter output = new StringWriter();
+        try (JsonWriter writer = new DefaultJsonWriter(output, 16)) {
+            writer.write('[');
+            writer.write(text);
+            writer.write(',');
+            writer.writeNumber(-42);
+            writer.write(',');
+            writer.writeNumber(1.0E-4);
+            writer.write(',');
+            writer.writeNumber(2.5f);
+            writer.write(']');
+        }
+
+        assertEquals('[' + text + ",-42,1.0E-4,2.5]", output.toString());
+    }
+
+    /**
+     * Tests that buffered text only reaches the stream on flush.
+     *
+     * @throws IOException never.
+     */
+    @Test
+    @DisplayName("Utf8JsonWriter - text is buffered until flush")
+    void buffersUntilFlush() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JsonWriter writer = new Utf8JsonWriter(output);
+
+        writer.write("{}");
+        assertEquals(0, output.size());
+
+        writer.flush();
+        assertEquals("{}", output.toString(StandardCharsets.UTF_8));
+    }
+}